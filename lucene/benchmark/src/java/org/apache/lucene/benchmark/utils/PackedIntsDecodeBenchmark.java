@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.benchmark.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.DirectReader;
+import org.apache.lucene.util.packed.DirectWriter;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * Micro-benchmark for the packed integers decoders, on two workloads:
+ * <ul>
+ *   <li><b>postings</b>: bulk decoding of blocks of 128 values with
+ *       {@link PackedInts.Decoder}, like the postings format does,</li>
+ *   <li><b>docvalues</b>: random access to values written with
+ *       {@link DirectWriter}, like numeric doc values do.</li>
+ * </ul>
+ * Each workload is run both with a single number of bits per value, which
+ * keeps call sites monomorphic, and with a mix of numbers of bits per value,
+ * which is what a JVM sees when many fields are searched.
+ * <p>
+ * Each run is also repeated with a <i>legacy</i> dispatch, which wraps every
+ * decoder and reader in a class of its own per number of bits per value, the
+ * way the decoders used to be one class per number of bits per value. The
+ * wrappers only delegate, so the difference between both dispatches shows
+ * the cost of the megamorphic call sites. Since the type profiles of a JVM
+ * accumulate, compare runs of each workload and dispatch in separate JVMs, eg.
+ * <pre class="prettyprint">
+ *   java -cp lucene-core.jar:lucene-benchmark.jar org.apache.lucene.benchmark.utils.PackedIntsDecodeBenchmark postings current
+ *   java -cp lucene-core.jar:lucene-benchmark.jar org.apache.lucene.benchmark.utils.PackedIntsDecodeBenchmark postings legacy
+ * </pre>
+ * Without arguments, all workloads are run with both dispatches in a single JVM.
+ */
+public class PackedIntsDecodeBenchmark {
+
+  private static final int BLOCK_SIZE = 128;
+  private static final int NUM_BLOCKS = 1 << 12;
+  private static final int NUM_VALUES = 1 << 20;
+  private static final int WARMUP_ITERS = 20;
+  private static final int ITERS = 20;
+
+  private static final int[] POSTINGS_BPVS = new int[] { 1, 3, 5, 7, 9, 12, 17, 24 };
+  private static final int[] DOC_VALUES_BPVS = new int[] { 1, 4, 8, 12, 20, 28, 40, 64 };
+
+  /** Sink so that the JIT cannot eliminate the decoding work. */
+  private static long sink;
+
+  public static void main(String[] args) throws IOException {
+    final String workload = args.length > 0 ? args[0] : "all";
+    final boolean[] dispatches;
+    if (args.length > 1) {
+      dispatches = new boolean[] { "legacy".equals(args[1]) };
+    } else {
+      dispatches = new boolean[] { false, true };
+    }
+    if ("all".equals(workload) || "postings".equals(workload)) {
+      runPostings(dispatches);
+    }
+    if ("all".equals(workload) || "docvalues".equals(workload)) {
+      runDocValues(dispatches);
+    }
+    System.out.println("sink=" + sink);
+  }
+
+  private static void runPostings(boolean[] dispatches) {
+    final Random random = new Random(0);
+    for (boolean legacy : dispatches) {
+      for (int bpv : POSTINGS_BPVS) {
+        report("postings", legacy, "bpv=" + bpv, runPostings(random, new int[] { bpv }, legacy), NUM_BLOCKS * BLOCK_SIZE);
+      }
+      report("postings", legacy, "mixed", runPostings(random, POSTINGS_BPVS, legacy), NUM_BLOCKS * BLOCK_SIZE);
+    }
+  }
+
+  private static void runDocValues(boolean[] dispatches) throws IOException {
+    final Random random = new Random(0);
+    Path path = Files.createTempDirectory("packedbench");
+    try (Directory dir = new MMapDirectory(path)) {
+      for (boolean legacy : dispatches) {
+        for (int bpv : DOC_VALUES_BPVS) {
+          report("docvalues", legacy, "bpv=" + bpv, runDocValues(random, dir, new int[] { bpv }, legacy), NUM_VALUES);
+        }
+        report("docvalues", legacy, "mixed", runDocValues(random, dir, DOC_VALUES_BPVS, legacy), NUM_VALUES);
+      }
+    } finally {
+      IOUtils.rm(path);
+    }
+  }
+
+  private static void report(String workload, boolean legacy, String variant, long bestNanos, int numValues) {
+    System.out.println(String.format(Locale.ROOT, "%-10s %-8s %-8s %8.3f ns/value",
+        workload, legacy ? "legacy" : "current", variant, (double) bestNanos / numValues));
+  }
+
+  /** Returns the best time, in nanoseconds, to decode all blocks. */
+  private static long runPostings(Random random, int[] bpvs, boolean legacy) {
+    final PackedInts.Decoder[] decoders = new PackedInts.Decoder[NUM_BLOCKS];
+    final byte[][] blocks = new byte[NUM_BLOCKS][];
+    final long[] values = new long[BLOCK_SIZE];
+    for (int i = 0; i < NUM_BLOCKS; ++i) {
+      final int bpv = bpvs[random.nextInt(bpvs.length)];
+      for (int j = 0; j < BLOCK_SIZE; ++j) {
+        values[j] = random.nextLong() & ((1L << bpv) - 1);
+      }
+      final PackedInts.Encoder encoder = PackedInts.getEncoder(PackedInts.Format.PACKED, PackedInts.VERSION_CURRENT, bpv);
+      final int iterations = BLOCK_SIZE / encoder.byteValueCount();
+      blocks[i] = new byte[iterations * encoder.byteBlockCount()];
+      encoder.encode(values, 0, blocks[i], 0, iterations);
+      decoders[i] = PackedInts.getDecoder(PackedInts.Format.PACKED, PackedInts.VERSION_CURRENT, bpv);
+      if (legacy) {
+        decoders[i] = legacyDecoder(bpv, decoders[i]);
+      }
+    }
+
+    final int[] decoded = new int[BLOCK_SIZE];
+    long best = Long.MAX_VALUE;
+    for (int iter = 0; iter < WARMUP_ITERS + ITERS; ++iter) {
+      final long start = System.nanoTime();
+      long sum = 0;
+      for (int i = 0; i < NUM_BLOCKS; ++i) {
+        final PackedInts.Decoder decoder = decoders[i];
+        decoder.decode(blocks[i], 0, decoded, 0, BLOCK_SIZE / decoder.byteValueCount());
+        sum += decoded[i & (BLOCK_SIZE - 1)];
+      }
+      final long took = System.nanoTime() - start;
+      sink += sum;
+      if (iter >= WARMUP_ITERS) {
+        best = Math.min(best, took);
+      }
+    }
+    return best;
+  }
+
+  /** Returns the best time, in nanoseconds, to randomly access {@link #NUM_VALUES} values. */
+  private static long runDocValues(Random random, Directory dir, int[] bpvs, boolean legacy) throws IOException {
+    final LongValues[] readers = new LongValues[bpvs.length];
+    final IndexInput[] inputs = new IndexInput[bpvs.length];
+    try {
+      for (int i = 0; i < bpvs.length; ++i) {
+        final String name = "dv" + i;
+        try (IndexOutput out = dir.createOutput(name, IOContext.DEFAULT)) {
+          final DirectWriter writer = DirectWriter.getInstance(out, NUM_VALUES, bpvs[i]);
+          final long mask = bpvs[i] == 64 ? -1L : (1L << bpvs[i]) - 1;
+          for (int j = 0; j < NUM_VALUES; ++j) {
+            writer.add(random.nextLong() & mask);
+          }
+          writer.finish();
+        }
+        inputs[i] = dir.openInput(name, IOContext.DEFAULT);
+        readers[i] = DirectReader.getInstance(inputs[i].randomAccessSlice(0, inputs[i].length()), bpvs[i]);
+        if (legacy) {
+          readers[i] = legacyReader(bpvs[i], readers[i]);
+        }
+      }
+
+      final int[] docs = new int[NUM_VALUES];
+      for (int i = 0; i < NUM_VALUES; ++i) {
+        docs[i] = random.nextInt(NUM_VALUES);
+      }
+      long best = Long.MAX_VALUE;
+      for (int iter = 0; iter < WARMUP_ITERS + ITERS; ++iter) {
+        final long start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < NUM_VALUES; ++i) {
+          // switch fields every 64 docs, like a query that sorts or facets on several fields
+          sum += readers[(i >>> 6) % readers.length].get(docs[i]);
+        }
+        final long took = System.nanoTime() - start;
+        sink += sum;
+        if (iter >= WARMUP_ITERS) {
+          best = Math.min(best, took);
+        }
+      }
+      return best;
+    } finally {
+      IOUtils.close(inputs);
+      for (int i = 0; i < bpvs.length; ++i) {
+        dir.deleteFile("dv" + i);
+      }
+    }
+  }
+
+  /** Wraps a decoder in one of several classes depending on the number of bits per value. */
+  private static PackedInts.Decoder legacyDecoder(int bpv, PackedInts.Decoder in) {
+    switch (Arrays.binarySearch(POSTINGS_BPVS, bpv)) {
+      case 0: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 1: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 2: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 3: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 4: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 5: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 6: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      case 7: return new LegacyDecoder(in) {
+        @Override
+        public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+          in.decode(blocks, blocksOffset, values, valuesOffset, iterations);
+        }
+      };
+      default: throw new AssertionError(bpv);
+    }
+  }
+
+  /** Wraps a reader in one of several classes depending on the number of bits per value. */
+  private static LongValues legacyReader(int bpv, LongValues in) {
+    switch (Arrays.binarySearch(DOC_VALUES_BPVS, bpv)) {
+      case 0: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 1: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 2: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 3: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 4: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 5: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 6: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      case 7: return new LongValues() {
+        @Override
+        public long get(long index) {
+          return in.get(index);
+        }
+      };
+      default: throw new AssertionError(bpv);
+    }
+  }
+
+  /** Base class of the legacy decoders, which only decode bytes to ints. */
+  private static abstract class LegacyDecoder implements PackedInts.Decoder {
+    final PackedInts.Decoder in;
+
+    LegacyDecoder(PackedInts.Decoder in) {
+      this.in = in;
+    }
+
+    @Override
+    public int longBlockCount() {
+      return in.longBlockCount();
+    }
+
+    @Override
+    public int longValueCount() {
+      return in.longValueCount();
+    }
+
+    @Override
+    public int byteBlockCount() {
+      return in.byteBlockCount();
+    }
+
+    @Override
+    public int byteValueCount() {
+      return in.byteValueCount();
+    }
+
+    @Override
+    public void decode(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void decode(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void decode(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
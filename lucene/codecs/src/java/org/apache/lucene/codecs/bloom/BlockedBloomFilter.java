@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.bloom;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.StringHelper;
+
+/**
+ * <p>
+ * A Bloom filter split into blocks of {@value #BLOCK_BITS} bits (the size of a
+ * typical CPU cache line). All the bits of a value are set in a single block,
+ * so a membership test costs at most one cache miss regardless of the number
+ * of hash functions.
+ * </p>
+ * <p>
+ * Each value is hashed with two independent 32-bit murmur3 hashes: the first
+ * one selects the block and the combination of both generates the
+ * {@link #getNumHashes() k} bit positions inside the block (double hashing).
+ * Unlike {@link FuzzySet}, the filter is sized up-front from the expected
+ * number of values and is never downsized.
+ * </p>
+ * <p>This class is NOT threadsafe for writes, but concurrent calls to
+ * {@link #mayContain(BytesRef)} are safe once the filter has been built.</p>
+ * @lucene.experimental
+ */
+public final class BlockedBloomFilter implements Accountable {
+
+  private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(BlockedBloomFilter.class);
+
+  static final int VERSION_START = 0;
+  static final int VERSION_CURRENT = VERSION_START;
+
+  /** Number of bits per block. */
+  public static final int BLOCK_BITS = 512;
+  private static final int BLOCK_LONGS = BLOCK_BITS / Long.SIZE;
+  private static final int BLOCK_MASK = BLOCK_BITS - 1;
+
+  /** Maximum number of hash functions. */
+  public static final int MAX_NUM_HASHES = 16;
+
+  private static final int SEED1 = 0x9747b28c;
+  private static final int SEED2 = 0x5bd1e995;
+
+  private final long[] bits;
+  private final int numBlocks;
+  private final int numHashes;
+
+  /**
+   * Creates an empty filter that is sized to hold <code>expectedNumValues</code>
+   * values with <code>bitsPerValue</code> bits each.
+   * @param expectedNumValues the number of unique values that are expected to be added
+   * @param bitsPerValue number of bits to reserve per value, 10 gives a false positive rate of about 1%
+   * @param numHashes number of bits to set per value
+   */
+  public static BlockedBloomFilter create(long expectedNumValues, int bitsPerValue, int numHashes) {
+    if (expectedNumValues < 0) {
+      throw new IllegalArgumentException("expectedNumValues must be >= 0, got " + expectedNumValues);
+    }
+    if (bitsPerValue < 1) {
+      throw new IllegalArgumentException("bitsPerValue must be >= 1, got " + bitsPerValue);
+    }
+    final long numBits = Math.max(1, expectedNumValues) * bitsPerValue;
+    final long numBlocks = (numBits + BLOCK_BITS - 1) / BLOCK_BITS;
+    if (numBlocks * BLOCK_LONGS > Integer.MAX_VALUE - RamUsageEstimator.NUM_BYTES_ARRAY_HEADER) {
+      throw new IllegalArgumentException("Filter would be too large: " + numBits + " bits");
+    }
+    return new BlockedBloomFilter(new long[Math.toIntExact(numBlocks * BLOCK_LONGS)], numHashes);
+  }
+
+  private BlockedBloomFilter(long[] bits, int numHashes) {
+    if (numHashes < 1 || numHashes > MAX_NUM_HASHES) {
+      throw new IllegalArgumentException("numHashes must be in [1, " + MAX_NUM_HASHES + "], got " + numHashes);
+    }
+    assert bits.length % BLOCK_LONGS == 0;
+    this.bits = bits;
+    this.numBlocks = bits.length / BLOCK_LONGS;
+    this.numHashes = numHashes;
+  }
+
+  /** Returns the number of bits that are set per value. */
+  public int getNumHashes() {
+    return numHashes;
+  }
+
+  /** Returns the number of {@value #BLOCK_BITS}-bits blocks of this filter. */
+  public int getNumBlocks() {
+    return numBlocks;
+  }
+
+  /** Records a value in the filter. */
+  public void addValue(BytesRef value) {
+    final int h1 = StringHelper.murmurhash3_x86_32(value, SEED1);
+    final int h2 = StringHelper.murmurhash3_x86_32(value, SEED2);
+    final int blockStart = blockStart(h1);
+    // odd step, so that the k positions are distinct modulo the block size
+    final int step = Integer.rotateLeft(h1, 15) | 1;
+    int h = h2;
+    for (int i = 0; i < numHashes; ++i) {
+      final int bit = h & BLOCK_MASK;
+      bits[blockStart + (bit >>> 6)] |= 1L << bit;
+      h += step;
+    }
+  }
+
+  /**
+   * Returns <code>false</code> if the value has definitely not been added to
+   * this filter, and <code>true</code> if it may have been added.
+   */
+  public boolean mayContain(BytesRef value) {
+    final int h1 = StringHelper.murmurhash3_x86_32(value, SEED1);
+    final int h2 = StringHelper.murmurhash3_x86_32(value, SEED2);
+    final int blockStart = blockStart(h1);
+    final int step = Integer.rotateLeft(h1, 15) | 1;
+    int h = h2;
+    for (int i = 0; i < numHashes; ++i) {
+      final int bit = h & BLOCK_MASK;
+      if ((bits[blockStart + (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+      h += step;
+    }
+    return true;
+  }
+
+  /** Maps a hash uniformly to the index of the first long of a block, without a modulo. */
+  private int blockStart(int hash) {
+    return (int) (((hash & 0xFFFFFFFFL) * numBlocks) >>> 32) * BLOCK_LONGS;
+  }
+
+  /** Returns the ratio of bits that are set, between 0 and 1. */
+  public float getSaturation() {
+    long numBitsSet = 0;
+    for (long word : bits) {
+      numBitsSet += Long.bitCount(word);
+    }
+    return (float) ((double) numBitsSet / ((long) bits.length * Long.SIZE));
+  }
+
+  /**
+   * Serializes the filter using the following format:
+   * <ul>
+   *  <li>BlockedBloomFilter --&gt; Version, NumHashes, NumBlocks, BitSetWord<sup>NumBlocks*8</sup></li>
+   *  <li>Version, NumHashes --&gt; {@link DataOutput#writeVInt VInt}</li>
+   *  <li>NumBlocks --&gt; {@link DataOutput#writeInt Uint32}</li>
+   *  <li>BitSetWord --&gt; {@link DataOutput#writeLong Long}</li>
+   * </ul>
+   * @param out Data output stream
+   * @throws IOException If there is a low-level I/O error
+   */
+  public void serialize(DataOutput out) throws IOException {
+    out.writeVInt(VERSION_CURRENT);
+    out.writeVInt(numHashes);
+    out.writeInt(numBlocks);
+    for (long word : bits) {
+      out.writeLong(word);
+    }
+  }
+
+  /** Reads a filter that has been written with {@link #serialize(DataOutput)}. */
+  public static BlockedBloomFilter deserialize(DataInput in) throws IOException {
+    final int version = in.readVInt();
+    if (version < VERSION_START || version > VERSION_CURRENT) {
+      throw new CorruptIndexException("Unsupported version: " + version, in);
+    }
+    final int numHashes = in.readVInt();
+    if (numHashes < 1 || numHashes > MAX_NUM_HASHES) {
+      throw new CorruptIndexException("Invalid number of hashes: " + numHashes, in);
+    }
+    final int numBlocks = in.readInt();
+    if (numBlocks < 1 || numBlocks > Integer.MAX_VALUE / BLOCK_LONGS) {
+      throw new CorruptIndexException("Invalid number of blocks: " + numBlocks, in);
+    }
+    final long[] bits = new long[numBlocks * BLOCK_LONGS];
+    for (int i = 0; i < bits.length; ++i) {
+      bits[i] = in.readLong();
+    }
+    return new BlockedBloomFilter(bits, numHashes);
+  }
+
+  @Override
+  public long ramBytesUsed() {
+    return BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(bits);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(blocks=" + numBlocks + ",hashes=" + numHashes + ")";
+  }
+}
@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.bloom;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FieldsConsumer;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.codecs.NormsProducer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.blocktree.BlockTreeTermsWriter;
+import org.apache.lucene.codecs.lucene50.Lucene50PostingsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.Fields;
+import org.apache.lucene.index.FilterLeafReader.FilterTerms;
+import org.apache.lucene.index.ImpactsEnum;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * <p>
+ * A {@link PostingsFormat} optimized for primary key fields, ie. fields that
+ * have a single unique term per document, such as the fields used with
+ * {@link org.apache.lucene.index.IndexWriter#updateDocument} or for
+ * real-time get. Terms and postings are written with
+ * {@link Lucene50PostingsFormat} and every field additionally gets a
+ * {@link BlockedBloomFilter} which is stored in a ".pkb" file.
+ * </p>
+ * <p>
+ * {@link TermsEnum#seekExact(BytesRef)} on a field of this format first
+ * checks that the term is within the range of terms of the field, then
+ * checks the bloom filter and only consults the terms index if both checks
+ * pass. With many segments, this means that a lookup by id typically
+ * touches the terms dictionary of a single segment.
+ * </p>
+ * <p>
+ * Filters are sized using the number of documents of the segment, so this
+ * format should only be used on fields that have at most one term per
+ * document, typically via
+ * {@link org.apache.lucene.codecs.perfield.PerFieldPostingsFormat}.
+ * Larger term blocks may be configured in order to make the terms index more
+ * compact, since the bloom filter takes care of most negative lookups.
+ * </p>
+ * <p>
+ * The format of the pkb file is as follows:
+ * </p>
+ * <ul>
+ * <li>PrimaryKey (.pkb) --&gt; Header, NumFields, Filter<sup>NumFields</sup>, Footer</li>
+ * <li>Filter --&gt; FieldNumber, BlockedBloomFilter</li>
+ * <li>BlockedBloomFilter --&gt; See {@link BlockedBloomFilter#serialize(DataOutput)}</li>
+ * <li>Header --&gt; {@link CodecUtil#writeIndexHeader IndexHeader}</li>
+ * <li>NumFields, FieldNumber --&gt; {@link DataOutput#writeVInt VInt}</li>
+ * <li>Footer --&gt; {@link CodecUtil#writeFooter CodecFooter}</li>
+ * </ul>
+ * @lucene.experimental
+ */
+public final class PrimaryKeyPostingsFormat extends PostingsFormat {
+
+  static final String CODEC_NAME = "PrimaryKey";
+  static final int VERSION_START = 0;
+  static final int VERSION_CURRENT = VERSION_START;
+
+  /** Extension of primary key bloom filters file */
+  static final String EXTENSION = "pkb";
+
+  /** Default number of bits per term, which gives a false positive rate of about 1% */
+  public static final int DEFAULT_BITS_PER_VALUE = 10;
+  /** Default number of hash functions */
+  public static final int DEFAULT_NUM_HASHES = 7;
+
+  private final PostingsFormat delegatePostingsFormat;
+  private final int bitsPerValue;
+  private final int numHashes;
+
+  /** Creates a {@code PrimaryKeyPostingsFormat} with default settings. */
+  public PrimaryKeyPostingsFormat() {
+    this(BlockTreeTermsWriter.DEFAULT_MIN_BLOCK_SIZE, BlockTreeTermsWriter.DEFAULT_MAX_BLOCK_SIZE,
+        DEFAULT_BITS_PER_VALUE, DEFAULT_NUM_HASHES);
+  }
+
+  /**
+   * Creates a {@code PrimaryKeyPostingsFormat}.
+   * @param minTermBlockSize minimum number of terms per block of the terms dictionary
+   * @param maxTermBlockSize maximum number of terms per block of the terms dictionary
+   * @param bitsPerValue number of bits of the bloom filter per term
+   * @param numHashes number of hash functions of the bloom filter
+   */
+  public PrimaryKeyPostingsFormat(int minTermBlockSize, int maxTermBlockSize, int bitsPerValue, int numHashes) {
+    super(CODEC_NAME);
+    if (bitsPerValue < 1) {
+      throw new IllegalArgumentException("bitsPerValue must be >= 1, got " + bitsPerValue);
+    }
+    if (numHashes < 1 || numHashes > BlockedBloomFilter.MAX_NUM_HASHES) {
+      throw new IllegalArgumentException("numHashes must be in [1, " + BlockedBloomFilter.MAX_NUM_HASHES + "], got " + numHashes);
+    }
+    this.delegatePostingsFormat = new Lucene50PostingsFormat(minTermBlockSize, maxTermBlockSize);
+    this.bitsPerValue = bitsPerValue;
+    this.numHashes = numHashes;
+  }
+
+  @Override
+  public FieldsConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+    FieldsConsumer delegate = delegatePostingsFormat.fieldsConsumer(state);
+    boolean success = false;
+    try {
+      FieldsConsumer consumer = new PrimaryKeyFieldsConsumer(delegate, state);
+      success = true;
+      return consumer;
+    } finally {
+      if (success == false) {
+        IOUtils.closeWhileHandlingException(delegate);
+      }
+    }
+  }
+
+  @Override
+  public FieldsProducer fieldsProducer(SegmentReadState state) throws IOException {
+    return new PrimaryKeyFieldsProducer(delegatePostingsFormat.fieldsProducer(state), state);
+  }
+
+  @Override
+  public String toString() {
+    return getName() + "(delegate=" + delegatePostingsFormat + ",bitsPerValue=" + bitsPerValue + ",numHashes=" + numHashes + ")";
+  }
+
+  private class PrimaryKeyFieldsConsumer extends FieldsConsumer {
+    private final FieldsConsumer delegateFieldsConsumer;
+    private final SegmentWriteState state;
+    private final Map<FieldInfo,BlockedBloomFilter> filters = new HashMap<>();
+    private boolean closed;
+
+    PrimaryKeyFieldsConsumer(FieldsConsumer delegateFieldsConsumer, SegmentWriteState state) {
+      this.delegateFieldsConsumer = delegateFieldsConsumer;
+      this.state = state;
+    }
+
+    @Override
+    public void write(Fields fields, NormsProducer norms) throws IOException {
+      delegateFieldsConsumer.write(fields, norms);
+
+      for (String field : fields) {
+        Terms terms = fields.terms(field);
+        if (terms == null) {
+          continue;
+        }
+        // primary keys have at most one term per document, and Terms.size()
+        // is not always available at flush time
+        BlockedBloomFilter filter = BlockedBloomFilter.create(state.segmentInfo.maxDoc(), bitsPerValue, numHashes);
+        TermsEnum termsEnum = terms.iterator();
+        PostingsEnum postingsEnum = null;
+        for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+          // Make sure there's at least one doc for this term:
+          postingsEnum = termsEnum.postings(postingsEnum, PostingsEnum.NONE);
+          if (postingsEnum.nextDoc() != PostingsEnum.NO_MORE_DOCS) {
+            filter.addValue(term);
+          }
+        }
+        filters.put(state.fieldInfos.fieldInfo(field), filter);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      delegateFieldsConsumer.close();
+
+      String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+      try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+        CodecUtil.writeIndexHeader(out, CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+        out.writeVInt(filters.size());
+        for (Map.Entry<FieldInfo,BlockedBloomFilter> entry : filters.entrySet()) {
+          out.writeVInt(entry.getKey().number);
+          entry.getValue().serialize(out);
+        }
+        CodecUtil.writeFooter(out);
+      }
+      filters.clear();
+    }
+  }
+
+  private static class PrimaryKeyFieldsProducer extends FieldsProducer {
+    private final FieldsProducer delegateFieldsProducer;
+    private final Map<String,BlockedBloomFilter> filters = new HashMap<>();
+    private final Map<String,PrimaryKeyTerms> terms = new HashMap<>();
+
+    PrimaryKeyFieldsProducer(FieldsProducer delegateFieldsProducer, SegmentReadState state) throws IOException {
+      this.delegateFieldsProducer = delegateFieldsProducer;
+      String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, EXTENSION);
+      boolean success = false;
+      try (ChecksumIndexInput in = state.directory.openChecksumInput(fileName, state.context)) {
+        Throwable priorE = null;
+        try {
+          CodecUtil.checkIndexHeader(in, CODEC_NAME, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+          final int numFields = in.readVInt();
+          for (int i = 0; i < numFields; ++i) {
+            FieldInfo fieldInfo = state.fieldInfos.fieldInfo(in.readVInt());
+            BlockedBloomFilter filter = BlockedBloomFilter.deserialize(in);
+            filters.put(fieldInfo.name, filter);
+            Terms delegateTerms = delegateFieldsProducer.terms(fieldInfo.name);
+            if (delegateTerms != null) {
+              terms.put(fieldInfo.name, new PrimaryKeyTerms(delegateTerms, filter));
+            }
+          }
+        } catch (Throwable exception) {
+          priorE = exception;
+        } finally {
+          CodecUtil.checkFooter(in, priorE);
+        }
+        success = true;
+      } finally {
+        if (success == false) {
+          IOUtils.closeWhileHandlingException(delegateFieldsProducer);
+        }
+      }
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      return delegateFieldsProducer.iterator();
+    }
+
+    @Override
+    public Terms terms(String field) throws IOException {
+      Terms result = terms.get(field);
+      if (result == null) {
+        result = delegateFieldsProducer.terms(field);
+      }
+      return result;
+    }
+
+    @Override
+    public int size() {
+      return delegateFieldsProducer.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegateFieldsProducer.close();
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+      delegateFieldsProducer.checkIntegrity();
+    }
+
+    @Override
+    public long ramBytesUsed() {
+      long sizeInBytes = delegateFieldsProducer.ramBytesUsed();
+      for (Map.Entry<String,BlockedBloomFilter> entry : filters.entrySet()) {
+        sizeInBytes += entry.getKey().length() * Character.BYTES;
+        sizeInBytes += entry.getValue().ramBytesUsed();
+      }
+      return sizeInBytes;
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+      List<Accountable> resources = new ArrayList<>();
+      resources.addAll(Accountables.namedAccountables("field", filters));
+      resources.add(Accountables.namedAccountable("delegate", delegateFieldsProducer));
+      return Collections.unmodifiableList(resources);
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "(fields=" + filters.size() + ",delegate=" + delegateFieldsProducer + ")";
+    }
+  }
+
+  private static class PrimaryKeyTerms extends FilterTerms {
+    private final BlockedBloomFilter filter;
+    private final BytesRef minTerm, maxTerm;
+
+    PrimaryKeyTerms(Terms in, BlockedBloomFilter filter) throws IOException {
+      super(in);
+      this.filter = filter;
+      // the terms dictionary keeps min and max terms in memory
+      this.minTerm = in.getMin();
+      this.maxTerm = in.getMax();
+    }
+
+    @Override
+    public TermsEnum iterator() throws IOException {
+      return new PrimaryKeyTermsEnum(in, filter, minTerm, maxTerm);
+    }
+  }
+
+  private static final class PrimaryKeyTermsEnum extends TermsEnum {
+    private final Terms delegateTerms;
+    private final BlockedBloomFilter filter;
+    private final BytesRef minTerm, maxTerm;
+    private TermsEnum delegateTermsEnum;
+
+    PrimaryKeyTermsEnum(Terms delegateTerms, BlockedBloomFilter filter, BytesRef minTerm, BytesRef maxTerm) {
+      this.delegateTerms = delegateTerms;
+      this.filter = filter;
+      this.minTerm = minTerm;
+      this.maxTerm = maxTerm;
+    }
+
+    private TermsEnum delegate() throws IOException {
+      if (delegateTermsEnum == null) {
+        // pull the iterator lazily, since most lookups are rejected
+        // before needing to access the terms dictionary
+        delegateTermsEnum = delegateTerms.iterator();
+      }
+      return delegateTermsEnum;
+    }
+
+    @Override
+    public boolean seekExact(BytesRef text) throws IOException {
+      if (minTerm != null && (text.compareTo(minTerm) < 0 || text.compareTo(maxTerm) > 0)) {
+        return false;
+      }
+      if (filter.mayContain(text) == false) {
+        return false;
+      }
+      return delegate().seekExact(text);
+    }
+
+    @Override
+    public SeekStatus seekCeil(BytesRef text) throws IOException {
+      return delegate().seekCeil(text);
+    }
+
+    @Override
+    public void seekExact(long ord) throws IOException {
+      delegate().seekExact(ord);
+    }
+
+    @Override
+    public BytesRef next() throws IOException {
+      return delegate().next();
+    }
+
+    @Override
+    public BytesRef term() throws IOException {
+      return delegate().term();
+    }
+
+    @Override
+    public long ord() throws IOException {
+      return delegate().ord();
+    }
+
+    @Override
+    public int docFreq() throws IOException {
+      return delegate().docFreq();
+    }
+
+    @Override
+    public long totalTermFreq() throws IOException {
+      return delegate().totalTermFreq();
+    }
+
+    @Override
+    public PostingsEnum postings(PostingsEnum reuse, int flags) throws IOException {
+      return delegate().postings(reuse, flags);
+    }
+
+    @Override
+    public ImpactsEnum impacts(int flags) throws IOException {
+      return delegate().impacts(flags);
+    }
+  }
+}
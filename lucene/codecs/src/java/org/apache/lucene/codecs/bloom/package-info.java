@@ -18,5 +18,9 @@
 /**
  * Codec PostingsFormat for fast access to low-frequency terms 
  * such as primary key fields.
+ * <p>
+ * {@link org.apache.lucene.codecs.bloom.PrimaryKeyPostingsFormat} is
+ * dedicated to fields that have a single unique term per document and uses a
+ * cache-friendly {@link org.apache.lucene.codecs.bloom.BlockedBloomFilter}.
  */
 package org.apache.lucene.codecs.bloom;
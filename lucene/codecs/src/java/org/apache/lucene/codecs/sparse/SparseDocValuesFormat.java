@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.sparse;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * Doc values format for segments that have many sparse numeric fields.
+ * <p>
+ * Numeric fields that have a value for at most <code>maxDensity * maxDoc</code>
+ * documents are all stored in a single shared block, as a sequence of
+ * (doc delta, value) pairs per field. The per-field metadata is limited to a
+ * field number, a value count and a length, which makes opening segments of
+ * very wide schemas cheaper than with {@link Lucene80DocValuesFormat}, and the
+ * reader keeps it in flat arrays rather than one entry object per field.
+ * Denser numeric fields and all other doc values types are delegated to
+ * {@link Lucene80DocValuesFormat}.
+ * <p>
+ * Values of sparse fields can only be read sequentially, so this format should
+ * only be used for fields that have few values per segment.
+ * <p>
+ * Files:
+ * <ol>
+ *   <li><tt>.sdvd</tt>: Sparse numeric values</li>
+ *   <li><tt>.sdvm</tt>: Sparse numeric metadata</li>
+ * </ol>
+ * <ol>
+ *   <li><a name="sdvm"></a>
+ *   <p>Sparse metadata (.sdvm) --&gt; Header,DataStart,&lt;Entry&gt;<sup>NumFields</sup>,Footer</p>
+ *   <ul>
+ *     <li>Header --&gt; {@link CodecUtil#writeIndexHeader IndexHeader}</li>
+ *     <li>DataStart --&gt; {@link DataOutput#writeVLong VLong}</li>
+ *     <li>Entry --&gt; FieldNumber, NumValues, Length</li>
+ *     <li>FieldNumber --&gt; {@link DataOutput#writeInt Int32}</li>
+ *     <li>NumValues --&gt; {@link DataOutput#writeVInt VInt}</li>
+ *     <li>Length --&gt; {@link DataOutput#writeVLong VLong}</li>
+ *     <li>Footer --&gt; {@link CodecUtil#writeFooter CodecFooter}</li>
+ *   </ul>
+ *   <p>FieldNumber of -1 indicates the end of metadata. Fields are stored
+ *      contiguously in the data file starting at DataStart, in the order of
+ *      their entries.</p>
+ *   <li><a name="sdvd"></a>
+ *   <p>Sparse data (.sdvd) --&gt; Header,&lt;Pair<sup>NumValues</sup>&gt;<sup>NumFields</sup>,Footer</p>
+ *   <ul>
+ *     <li>Header --&gt; {@link CodecUtil#writeIndexHeader IndexHeader}</li>
+ *     <li>Pair --&gt; DocDelta, Value</li>
+ *     <li>DocDelta --&gt; {@link DataOutput#writeVInt VInt}, the difference with the previous doc ID, or doc ID + 1 for the first value</li>
+ *     <li>Value --&gt; {@link DataOutput#writeZLong ZLong}</li>
+ *     <li>Footer --&gt; {@link CodecUtil#writeFooter CodecFooter}</li>
+ *   </ul>
+ * </ol>
+ * @lucene.experimental
+ */
+public final class SparseDocValuesFormat extends DocValuesFormat {
+
+  /** Default maximum ratio of documents that have a value for a field to be stored in the shared block. */
+  public static final float DEFAULT_MAX_DENSITY = 1f / 16;
+
+  static final String DATA_CODEC = "SparseDocValuesData";
+  static final String DATA_EXTENSION = "sdvd";
+  static final String META_CODEC = "SparseDocValuesMetadata";
+  static final String META_EXTENSION = "sdvm";
+
+  private final float maxDensity;
+  private final DocValuesFormat delegate = new Lucene80DocValuesFormat();
+
+  /** Create a new format, which uses {@link #DEFAULT_MAX_DENSITY}. */
+  public SparseDocValuesFormat() {
+    this(DEFAULT_MAX_DENSITY);
+  }
+
+  /**
+   * Create a new format.
+   * @param maxDensity numeric fields that have a value for more than
+   *        <code>maxDensity * maxDoc</code> documents are delegated
+   *        to {@link Lucene80DocValuesFormat}
+   */
+  public SparseDocValuesFormat(float maxDensity) {
+    super("Sparse");
+    if (maxDensity >= 0 == false || maxDensity > 1) {
+      throw new IllegalArgumentException("maxDensity must be in [0, 1], got " + maxDensity);
+    }
+    this.maxDensity = maxDensity;
+  }
+
+  @Override
+  public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+    return new SparseDocValuesConsumer(state, maxDensity, delegate);
+  }
+
+  @Override
+  public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+    return new SparseDocValuesProducer(state, delegate);
+  }
+
+  @Override
+  public String toString() {
+    return getName() + "(maxDensity=" + maxDensity + ")";
+  }
+
+  private static final class SparseDocValuesConsumer extends DocValuesConsumer {
+
+    private final SparseNumericsWriter sparse;
+    private final DocValuesConsumer delegate;
+
+    SparseDocValuesConsumer(SegmentWriteState state, float maxDensity, DocValuesFormat delegateFormat) throws IOException {
+      SparseNumericsWriter sparse = null;
+      boolean success = false;
+      try {
+        sparse = new SparseNumericsWriter(state, maxDensity, DATA_CODEC, DATA_EXTENSION, META_CODEC, META_EXTENSION);
+        delegate = delegateFormat.fieldsConsumer(state);
+        success = true;
+      } finally {
+        if (success == false) {
+          IOUtils.closeWhileHandlingException(sparse);
+        }
+      }
+      this.sparse = sparse;
+    }
+
+    @Override
+    public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+      if (sparse.isSparse(valuesProducer.getNumeric(field))) {
+        sparse.addField(field, valuesProducer.getNumeric(field));
+      } else {
+        delegate.addNumericField(field, valuesProducer);
+      }
+    }
+
+    @Override
+    public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+      delegate.addBinaryField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+      delegate.addSortedField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+      delegate.addSortedNumericField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+      delegate.addSortedSetField(field, valuesProducer);
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOUtils.close(sparse, delegate);
+    }
+  }
+
+  private static final class SparseDocValuesProducer extends DocValuesProducer {
+
+    private final SparseNumericsReader sparse;
+    private final DocValuesProducer delegate;
+
+    SparseDocValuesProducer(SegmentReadState state, DocValuesFormat delegateFormat) throws IOException {
+      SparseNumericsReader sparse = null;
+      boolean success = false;
+      try {
+        sparse = new SparseNumericsReader(state, DATA_CODEC, DATA_EXTENSION, META_CODEC, META_EXTENSION);
+        delegate = delegateFormat.fieldsProducer(state);
+        success = true;
+      } finally {
+        if (success == false) {
+          IOUtils.closeWhileHandlingException(sparse);
+        }
+      }
+      this.sparse = sparse;
+    }
+
+    @Override
+    public NumericDocValues getNumeric(FieldInfo field) throws IOException {
+      NumericDocValues values = sparse.getValues(field);
+      if (values == null) {
+        values = delegate.getNumeric(field);
+      }
+      return values;
+    }
+
+    @Override
+    public BinaryDocValues getBinary(FieldInfo field) throws IOException {
+      return delegate.getBinary(field);
+    }
+
+    @Override
+    public SortedDocValues getSorted(FieldInfo field) throws IOException {
+      return delegate.getSorted(field);
+    }
+
+    @Override
+    public SortedNumericDocValues getSortedNumeric(FieldInfo field) throws IOException {
+      return delegate.getSortedNumeric(field);
+    }
+
+    @Override
+    public SortedSetDocValues getSortedSet(FieldInfo field) throws IOException {
+      return delegate.getSortedSet(field);
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+      sparse.checkIntegrity();
+      delegate.checkIntegrity();
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOUtils.close(sparse, delegate);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+      return sparse.ramBytesUsed() + delegate.ramBytesUsed();
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+      return Arrays.asList(
+          Accountables.namedAccountable("sparse", sparse),
+          Accountables.namedAccountable("delegate", delegate));
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "(sparse=" + sparse + ",delegate=" + delegate + ")";
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.sparse;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.apache.lucene.codecs.NormsConsumer;
+import org.apache.lucene.codecs.NormsFormat;
+import org.apache.lucene.codecs.NormsProducer;
+import org.apache.lucene.codecs.lucene80.Lucene80NormsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * Norms format for segments that have many sparse text fields.
+ * <p>
+ * Norms of fields that are indexed in at most <code>maxDensity * maxDoc</code>
+ * documents are stored in a single shared block, using the same encoding as
+ * the sparse numeric fields of {@link SparseDocValuesFormat}. Norms of denser
+ * fields are delegated to {@link Lucene80NormsFormat}.
+ * <p>
+ * Files:
+ * <ol>
+ *   <li><tt>.snvd</tt>: Sparse norms data, same layout as <tt>.sdvd</tt></li>
+ *   <li><tt>.snvm</tt>: Sparse norms metadata, same layout as <tt>.sdvm</tt></li>
+ * </ol>
+ * @lucene.experimental
+ */
+public final class SparseNormsFormat extends NormsFormat {
+
+  /** Default maximum ratio of documents that have norms for a field to be stored in the shared block. */
+  public static final float DEFAULT_MAX_DENSITY = 1f / 16;
+
+  static final String DATA_CODEC = "SparseNormsData";
+  static final String DATA_EXTENSION = "snvd";
+  static final String META_CODEC = "SparseNormsMetadata";
+  static final String META_EXTENSION = "snvm";
+
+  private final float maxDensity;
+  private final NormsFormat delegate = new Lucene80NormsFormat();
+
+  /** Create a new format, which uses {@link #DEFAULT_MAX_DENSITY}. */
+  public SparseNormsFormat() {
+    this(DEFAULT_MAX_DENSITY);
+  }
+
+  /**
+   * Create a new format.
+   * @param maxDensity fields that have norms for more than
+   *        <code>maxDensity * maxDoc</code> documents are delegated
+   *        to {@link Lucene80NormsFormat}
+   */
+  public SparseNormsFormat(float maxDensity) {
+    if (maxDensity >= 0 == false || maxDensity > 1) {
+      throw new IllegalArgumentException("maxDensity must be in [0, 1], got " + maxDensity);
+    }
+    this.maxDensity = maxDensity;
+  }
+
+  @Override
+  public NormsConsumer normsConsumer(SegmentWriteState state) throws IOException {
+    return new SparseNormsConsumer(state, maxDensity, delegate);
+  }
+
+  @Override
+  public NormsProducer normsProducer(SegmentReadState state) throws IOException {
+    return new SparseNormsProducer(state, delegate);
+  }
+
+  private static final class SparseNormsConsumer extends NormsConsumer {
+
+    private final SparseNumericsWriter sparse;
+    private final NormsConsumer delegate;
+
+    SparseNormsConsumer(SegmentWriteState state, float maxDensity, NormsFormat delegateFormat) throws IOException {
+      SparseNumericsWriter sparse = null;
+      boolean success = false;
+      try {
+        sparse = new SparseNumericsWriter(state, maxDensity, DATA_CODEC, DATA_EXTENSION, META_CODEC, META_EXTENSION);
+        delegate = delegateFormat.normsConsumer(state);
+        success = true;
+      } finally {
+        if (success == false) {
+          IOUtils.closeWhileHandlingException(sparse);
+        }
+      }
+      this.sparse = sparse;
+    }
+
+    @Override
+    public void addNormsField(FieldInfo field, NormsProducer normsProducer) throws IOException {
+      if (sparse.isSparse(normsProducer.getNorms(field))) {
+        sparse.addField(field, normsProducer.getNorms(field));
+      } else {
+        delegate.addNormsField(field, normsProducer);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOUtils.close(sparse, delegate);
+    }
+  }
+
+  private static final class SparseNormsProducer extends NormsProducer {
+
+    private final SparseNumericsReader sparse;
+    private final NormsProducer delegate;
+
+    SparseNormsProducer(SegmentReadState state, NormsFormat delegateFormat) throws IOException {
+      SparseNumericsReader sparse = null;
+      boolean success = false;
+      try {
+        sparse = new SparseNumericsReader(state, DATA_CODEC, DATA_EXTENSION, META_CODEC, META_EXTENSION);
+        delegate = delegateFormat.normsProducer(state);
+        success = true;
+      } finally {
+        if (success == false) {
+          IOUtils.closeWhileHandlingException(sparse);
+        }
+      }
+      this.sparse = sparse;
+    }
+
+    @Override
+    public NumericDocValues getNorms(FieldInfo field) throws IOException {
+      NumericDocValues norms = sparse.getValues(field);
+      if (norms == null) {
+        norms = delegate.getNorms(field);
+      }
+      return norms;
+    }
+
+    @Override
+    public void checkIntegrity() throws IOException {
+      sparse.checkIntegrity();
+      delegate.checkIntegrity();
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOUtils.close(sparse, delegate);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+      return sparse.ramBytesUsed() + delegate.ramBytesUsed();
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+      return Arrays.asList(
+          Accountables.namedAccountable("sparse", sparse),
+          Accountables.namedAccountable("delegate", delegate));
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "(sparse=" + sparse + ",delegate=" + delegate + ")";
+    }
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.sparse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.InPlaceMergeSorter;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import static org.apache.lucene.codecs.sparse.SparseNumericsWriter.VERSION_CURRENT;
+import static org.apache.lucene.codecs.sparse.SparseNumericsWriter.VERSION_START;
+
+/**
+ * Reads the shared block written by {@link SparseNumericsWriter}. Metadata is
+ * kept in a few parallel arrays that are sorted by field number, so that the
+ * heap cost per field is a couple of primitives rather than an entry object.
+ */
+final class SparseNumericsReader implements Closeable, Accountable {
+
+  private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(SparseNumericsReader.class);
+
+  private final int maxDoc;
+  private int[] fieldNumbers;
+  private int[] numValues;
+  private long[] offsets;
+  private long[] lengths;
+  private final IndexInput data;
+
+  SparseNumericsReader(SegmentReadState state,
+      String dataCodec, String dataExtension, String metaCodec, String metaExtension) throws IOException {
+    maxDoc = state.segmentInfo.maxDoc();
+    String metaName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, metaExtension);
+    int version = -1;
+
+    // read in the entries from the metadata file.
+    try (ChecksumIndexInput in = state.directory.openChecksumInput(metaName, state.context)) {
+      Throwable priorE = null;
+      try {
+        version = CodecUtil.checkIndexHeader(in, metaCodec, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+        readFields(in, state.fieldInfos);
+      } catch (Throwable exception) {
+        priorE = exception;
+      } finally {
+        CodecUtil.checkFooter(in, priorE);
+      }
+    }
+
+    String dataName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, dataExtension);
+    data = state.directory.openInput(dataName, state.context);
+    boolean success = false;
+    try {
+      final int version2 = CodecUtil.checkIndexHeader(data, dataCodec, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+      if (version != version2) {
+        throw new CorruptIndexException("Format versions mismatch: meta=" + version + ",data=" + version2, data);
+      }
+
+      // NOTE: data file is too costly to verify checksum against all the bytes on open,
+      // but for now we at least verify proper structure of the checksum footer: which looks
+      // for FOOTER_MAGIC + algorithmID. This is cheap and can detect some forms of corruption
+      // such as file truncation.
+      CodecUtil.retrieveChecksum(data);
+
+      success = true;
+    } finally {
+      if (!success) {
+        IOUtils.closeWhileHandlingException(data);
+      }
+    }
+  }
+
+  private void readFields(IndexInput meta, FieldInfos infos) throws IOException {
+    int numFields = 0;
+    fieldNumbers = new int[0];
+    numValues = new int[0];
+    offsets = new long[0];
+    lengths = new long[0];
+    long offset = meta.readVLong();
+    for (int fieldNumber = meta.readInt(); fieldNumber != -1; fieldNumber = meta.readInt()) {
+      FieldInfo info = infos.fieldInfo(fieldNumber);
+      if (info == null) {
+        throw new CorruptIndexException("Invalid field number: " + fieldNumber, meta);
+      }
+      final int count = meta.readVInt();
+      if (count < 0 || count > maxDoc) {
+        throw new CorruptIndexException("Invalid number of values: " + count + " for field: " + info.name, meta);
+      }
+      final long length = meta.readVLong();
+      if (numFields == fieldNumbers.length) {
+        final int newLength = ArrayUtil.oversize(numFields + 1, Long.BYTES);
+        fieldNumbers = ArrayUtil.growExact(fieldNumbers, newLength);
+        numValues = ArrayUtil.growExact(numValues, newLength);
+        offsets = ArrayUtil.growExact(offsets, newLength);
+        lengths = ArrayUtil.growExact(lengths, newLength);
+      }
+      fieldNumbers[numFields] = fieldNumber;
+      numValues[numFields] = count;
+      offsets[numFields] = offset;
+      lengths[numFields] = length;
+      offset += length;
+      numFields++;
+    }
+
+    fieldNumbers = ArrayUtil.copyOfSubArray(fieldNumbers, 0, numFields);
+    numValues = ArrayUtil.copyOfSubArray(numValues, 0, numFields);
+    offsets = ArrayUtil.copyOfSubArray(offsets, 0, numFields);
+    lengths = ArrayUtil.copyOfSubArray(lengths, 0, numFields);
+    new InPlaceMergeSorter() {
+      @Override
+      protected void swap(int i, int j) {
+        int tmpInt = fieldNumbers[i];
+        fieldNumbers[i] = fieldNumbers[j];
+        fieldNumbers[j] = tmpInt;
+        tmpInt = numValues[i];
+        numValues[i] = numValues[j];
+        numValues[j] = tmpInt;
+        long tmpLong = offsets[i];
+        offsets[i] = offsets[j];
+        offsets[j] = tmpLong;
+        tmpLong = lengths[i];
+        lengths[i] = lengths[j];
+        lengths[j] = tmpLong;
+      }
+
+      @Override
+      protected int compare(int i, int j) {
+        return Integer.compare(fieldNumbers[i], fieldNumbers[j]);
+      }
+    }.sort(0, numFields);
+    for (int i = 1; i < numFields; ++i) {
+      if (fieldNumbers[i - 1] == fieldNumbers[i]) {
+        throw new CorruptIndexException("Duplicate field: " + infos.fieldInfo(fieldNumbers[i]).name, meta);
+      }
+    }
+  }
+
+  /**
+   * Returns the values of the given field, or <code>null</code> if this field
+   * is not stored in the shared block.
+   */
+  NumericDocValues getValues(FieldInfo field) throws IOException {
+    final int index = Arrays.binarySearch(fieldNumbers, field.number);
+    if (index < 0) {
+      return null;
+    }
+    final int count = numValues[index];
+    if (count == 0) {
+      return DocValues.emptyNumeric();
+    }
+    return new SparseNumericDocValues(data.slice("sparse-numerics", offsets[index], lengths[index]), count);
+  }
+
+  void checkIntegrity() throws IOException {
+    CodecUtil.checksumEntireFile(data);
+  }
+
+  @Override
+  public void close() throws IOException {
+    data.close();
+  }
+
+  @Override
+  public long ramBytesUsed() {
+    return BASE_RAM_BYTES_USED
+        + RamUsageEstimator.sizeOf(fieldNumbers)
+        + RamUsageEstimator.sizeOf(numValues)
+        + RamUsageEstimator.sizeOf(offsets)
+        + RamUsageEstimator.sizeOf(lengths);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(fields=" + fieldNumbers.length + ")";
+  }
+
+  /** Decodes (doc delta, value) pairs, the current entry may be ahead of the current doc after advanceExact. */
+  private static final class SparseNumericDocValues extends NumericDocValues {
+
+    private final IndexInput in;
+    private final int count;
+    private int upto;
+    private int doc = -1;
+    private int entryDoc = -1;
+    private long entryValue;
+
+    SparseNumericDocValues(IndexInput in, int count) {
+      this.in = in;
+      this.count = count;
+    }
+
+    private void readEntry() throws IOException {
+      if (upto == count) {
+        entryDoc = NO_MORE_DOCS;
+      } else {
+        entryDoc += in.readVInt();
+        entryValue = in.readZLong();
+        upto++;
+      }
+    }
+
+    @Override
+    public int docID() {
+      return doc;
+    }
+
+    @Override
+    public int nextDoc() throws IOException {
+      if (entryDoc <= doc) {
+        readEntry();
+      }
+      return doc = entryDoc;
+    }
+
+    @Override
+    public int advance(int target) throws IOException {
+      while (entryDoc < target) {
+        readEntry();
+      }
+      return doc = entryDoc;
+    }
+
+    @Override
+    public boolean advanceExact(int target) throws IOException {
+      while (entryDoc < target) {
+        readEntry();
+      }
+      doc = target;
+      return entryDoc == target;
+    }
+
+    @Override
+    public long longValue() {
+      return entryValue;
+    }
+
+    @Override
+    public long cost() {
+      return count;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.sparse;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * Writes the numeric values of all sparse fields of a segment into a single
+ * shared block, see {@link SparseDocValuesFormat} for the file format.
+ */
+final class SparseNumericsWriter implements Closeable {
+
+  static final int VERSION_START = 0;
+  static final int VERSION_CURRENT = VERSION_START;
+
+  private final int maxDoc;
+  private final float maxDensity;
+  private IndexOutput data, meta;
+
+  SparseNumericsWriter(SegmentWriteState state, float maxDensity,
+      String dataCodec, String dataExtension, String metaCodec, String metaExtension) throws IOException {
+    this.maxDoc = state.segmentInfo.maxDoc();
+    this.maxDensity = maxDensity;
+    boolean success = false;
+    try {
+      String dataName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, dataExtension);
+      data = state.directory.createOutput(dataName, state.context);
+      CodecUtil.writeIndexHeader(data, dataCodec, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+      String metaName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, metaExtension);
+      meta = state.directory.createOutput(metaName, state.context);
+      CodecUtil.writeIndexHeader(meta, metaCodec, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+      meta.writeVLong(data.getFilePointer()); // start of the first field
+      success = true;
+    } finally {
+      if (!success) {
+        IOUtils.closeWhileHandlingException(this);
+      }
+    }
+  }
+
+  /**
+   * Consumes the given values and returns whether there are few enough of
+   * them for the field to be stored in the shared block.
+   */
+  boolean isSparse(NumericDocValues values) throws IOException {
+    final long maxNumValues = (long) (maxDensity * maxDoc);
+    long numValues = 0;
+    for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+      if (++numValues > maxNumValues) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Appends the values of a field to the shared block. */
+  void addField(FieldInfo field, NumericDocValues values) throws IOException {
+    final long start = data.getFilePointer();
+    int numValues = 0;
+    int lastDoc = -1;
+    for (int doc = values.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = values.nextDoc()) {
+      data.writeVInt(doc - lastDoc);
+      data.writeZLong(values.longValue());
+      lastDoc = doc;
+      numValues++;
+    }
+    assert numValues <= maxDoc;
+    meta.writeInt(field.number);
+    meta.writeVInt(numValues);
+    meta.writeVLong(data.getFilePointer() - start);
+  }
+
+  @Override
+  public void close() throws IOException {
+    boolean success = false;
+    try {
+      if (meta != null) {
+        meta.writeInt(-1); // write EOF marker
+        CodecUtil.writeFooter(meta); // write checksum
+      }
+      if (data != null) {
+        CodecUtil.writeFooter(data); // write checksum
+      }
+      success = true;
+    } finally {
+      if (success) {
+        IOUtils.close(data, meta);
+      } else {
+        IOUtils.closeWhileHandlingException(data, meta);
+      }
+      meta = data = null;
+    }
+  }
+}
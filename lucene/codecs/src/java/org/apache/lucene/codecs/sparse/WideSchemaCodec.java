@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.sparse;
+
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.NormsFormat;
+import org.apache.lucene.codecs.lucene80.Lucene80Codec;
+import org.apache.lucene.codecs.perfield.PerFieldDocValuesFormat;
+
+/**
+ * Codec for indexes that have thousands of sparse fields, such as dynamic
+ * attributes. It is the default codec, except that norms and numeric doc
+ * values of sparse fields are stored in a shared block using
+ * {@link SparseNormsFormat} and {@link SparseDocValuesFormat}.
+ * @lucene.experimental
+ */
+public final class WideSchemaCodec extends FilterCodec {
+
+  private final NormsFormat normsFormat = new SparseNormsFormat();
+  private final DocValuesFormat sparseDocValuesFormat = new SparseDocValuesFormat();
+  private final DocValuesFormat docValuesFormat = new PerFieldDocValuesFormat() {
+    @Override
+    public DocValuesFormat getDocValuesFormatForField(String field) {
+      return sparseDocValuesFormat;
+    }
+  };
+
+  /** Sole constructor. */
+  public WideSchemaCodec() {
+    super("WideSchema", new Lucene80Codec());
+  }
+
+  @Override
+  public NormsFormat normsFormat() {
+    return normsFormat;
+  }
+
+  @Override
+  public DocValuesFormat docValuesFormat() {
+    return docValuesFormat;
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.bloom;
+
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.BasePostingsFormatTestCase;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.TestUtil;
+
+/**
+ * Basic tests for PrimaryKeyPostingsFormat
+ */
+public class TestPrimaryKeyPostingsFormat extends BasePostingsFormatTestCase {
+  private final Codec codec = TestUtil.alwaysPostingsFormat(new PrimaryKeyPostingsFormat());
+
+  @Override
+  protected Codec getCodec() {
+    return codec;
+  }
+
+  public void testBlockedBloomFilter() throws IOException {
+    final int numValues = atLeast(1000);
+    BlockedBloomFilter filter = BlockedBloomFilter.create(numValues, 10, 7);
+    Set<BytesRef> values = new HashSet<>();
+    while (values.size() < numValues) {
+      BytesRef value = new BytesRef(TestUtil.randomSimpleString(random(), 1, 20));
+      values.add(value);
+      filter.addValue(value);
+    }
+    for (BytesRef value : values) {
+      assertTrue(filter.mayContain(value));
+    }
+
+    ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+    filter.serialize(out);
+    BlockedBloomFilter read = BlockedBloomFilter.deserialize(out.toDataInput());
+    assertEquals(filter.getNumBlocks(), read.getNumBlocks());
+    assertEquals(filter.getNumHashes(), read.getNumHashes());
+
+    int falsePositives = 0;
+    final int numLookups = 10000;
+    for (int i = 0; i < numLookups; ++i) {
+      BytesRef value = new BytesRef("absent_" + i);
+      assertEquals(filter.mayContain(value), read.mayContain(value));
+      if (filter.mayContain(value)) {
+        falsePositives++;
+      }
+    }
+    // ~1% expected, leave room for the randomness of the test
+    assertTrue("falsePositives=" + falsePositives, falsePositives < numLookups / 20);
+  }
+
+  public void testSeekExactOnIds() throws IOException {
+    try (Directory dir = newDirectory()) {
+      IndexWriterConfig iwc = newIndexWriterConfig().setCodec(codec);
+      final int numDocs = atLeast(200);
+      try (IndexWriter w = new IndexWriter(dir, iwc)) {
+        for (int i = 0; i < numDocs; ++i) {
+          Document doc = new Document();
+          doc.add(new StringField("id", Integer.toString(i), Store.NO));
+          w.addDocument(doc);
+          if (random().nextInt(50) == 0) {
+            w.commit();
+          }
+        }
+      }
+      try (DirectoryReader reader = DirectoryReader.open(dir)) {
+        for (int i = 0; i < numDocs * 2; ++i) {
+          BytesRef id = new BytesRef(Integer.toString(i));
+          int found = 0;
+          for (LeafReaderContext ctx : reader.leaves()) {
+            Terms terms = ctx.reader().terms("id");
+            TermsEnum termsEnum = terms.iterator();
+            if (termsEnum.seekExact(id)) {
+              assertEquals(id, termsEnum.term());
+              assertEquals(1, termsEnum.docFreq());
+              found++;
+            }
+          }
+          assertEquals(i < numDocs ? 1 : 0, found);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.codecs.sparse;
+
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.index.BaseNormsFormatTestCase;
+
+/**
+ * Tests SparseNormsFormat
+ */
+public class TestSparseNormsFormat extends BaseNormsFormatTestCase {
+  private final Codec codec = new WideSchemaCodec();
+
+  @Override
+  protected Codec getCodec() {
+    return codec;
+  }
+
+  public void testInvalidMaxDensity() {
+    expectThrows(IllegalArgumentException.class, () -> new SparseNormsFormat(-0.1f));
+    expectThrows(IllegalArgumentException.class, () -> new SparseNormsFormat(1.1f));
+    expectThrows(IllegalArgumentException.class, () -> new SparseNormsFormat(Float.NaN));
+  }
+}
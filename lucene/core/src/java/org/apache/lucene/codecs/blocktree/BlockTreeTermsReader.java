@@ -35,6 +35,7 @@ import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.SegmentReadState;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.ByteBufferIndexInput;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.Accountables;
 import org.apache.lucene.util.BytesRef;
@@ -63,6 +64,11 @@ import org.apache.lucene.util.fst.Outputs;
  *  but with added logic to break up too-large blocks of all
  *  terms sharing a given prefix into smaller ones.</p>
  *
+ *  <p>The terms index of a field is only loaded the first time
+ *  that field is searched, so that opening a segment that has
+ *  many fields stays cheap. It can either be loaded into the heap
+ *  or be read directly from the index file, see {@link FSTLoadMode}.</p>
+ *
  *  <p>Use {@link org.apache.lucene.index.CheckIndex} with the <code>-verbose</code>
  *  option to see summary statistics on the blocks in the
  *  dictionary.
@@ -74,6 +80,22 @@ import org.apache.lucene.util.fst.Outputs;
 
 public final class BlockTreeTermsReader extends FieldsProducer {
 
+  /**
+   * How the terms index of each field should be loaded.
+   */
+  public enum FSTLoadMode {
+    /** Always load the terms index into the heap. */
+    ON_HEAP,
+    /** Always read the terms index from the index file, without loading it
+     *  into the heap. This is only efficient with directories that support
+     *  fast random access, such as {@link org.apache.lucene.store.MMapDirectory}. */
+    OFF_HEAP,
+    /** Keep the terms index off-heap if the index file is backed by
+     *  {@link java.nio.ByteBuffer}s, as with {@link org.apache.lucene.store.MMapDirectory},
+     *  and load it into the heap otherwise. */
+    AUTO
+  }
+
   static final Outputs<BytesRef> FST_OUTPUTS = ByteSequenceOutputs.getSingleton();
   
   static final BytesRef NO_OUTPUT = FST_OUTPUTS.getNoOutput();
@@ -103,6 +125,10 @@ public final class BlockTreeTermsReader extends FieldsProducer {
   // Open input to the main terms dict file (_X.tib)
   final IndexInput termsIn;
 
+  // Open input to the terms index file (_X.tip), per-field terms indexes are
+  // loaded from it on first use
+  final IndexInput indexIn;
+
   //private static final boolean DEBUG = BlockTreeTermsWriter.DEBUG;
 
   // Reads the terms dict entries, to gather state to
@@ -115,8 +141,13 @@ public final class BlockTreeTermsReader extends FieldsProducer {
   
   final int version;
 
-  /** Sole constructor. */
+  /** Create a new reader, which uses {@link FSTLoadMode#AUTO}. */
   public BlockTreeTermsReader(PostingsReaderBase postingsReader, SegmentReadState state) throws IOException {
+    this(postingsReader, state, FSTLoadMode.AUTO);
+  }
+
+  /** Create a new reader, loading the terms index according to the given {@link FSTLoadMode}. */
+  public BlockTreeTermsReader(PostingsReaderBase postingsReader, SegmentReadState state, FSTLoadMode fstLoadMode) throws IOException {
     boolean success = false;
     IndexInput indexIn = null;
     
@@ -139,7 +170,21 @@ public final class BlockTreeTermsReader extends FieldsProducer {
       String indexName = IndexFileNames.segmentFileName(segment, state.segmentSuffix, TERMS_INDEX_EXTENSION);
       indexIn = state.directory.openInput(indexName, state.context);
       CodecUtil.checkIndexHeader(indexIn, TERMS_INDEX_CODEC_NAME, version, version, state.segmentInfo.getId(), state.segmentSuffix);
-      CodecUtil.checksumEntireFile(indexIn);
+
+      final boolean offHeapIndex;
+      switch (fstLoadMode) {
+        case ON_HEAP:
+          offHeapIndex = false;
+          break;
+        case OFF_HEAP:
+          offHeapIndex = true;
+          break;
+        case AUTO:
+          offHeapIndex = indexIn instanceof ByteBufferIndexInput;
+          break;
+        default:
+          throw new AssertionError("unknown FSTLoadMode: " + fstLoadMode);
+      }
 
       // Have PostingsReader init itself
       postingsReader.init(termsIn, state);
@@ -149,6 +194,8 @@ public final class BlockTreeTermsReader extends FieldsProducer {
       // for FOOTER_MAGIC + algorithmID. This is cheap and can detect some forms of corruption
       // such as file truncation.
       CodecUtil.retrieveChecksum(termsIn);
+      // Same for the terms index, which is only read lazily, one field at a time
+      CodecUtil.retrieveChecksum(indexIn);
 
       // Read per-field details
       seekDir(termsIn);
@@ -192,13 +239,12 @@ public final class BlockTreeTermsReader extends FieldsProducer {
         final long indexStartFP = indexIn.readVLong();
         FieldReader previous = fields.put(fieldInfo.name,       
                                           new FieldReader(this, fieldInfo, numTerms, rootCode, sumTotalTermFreq, sumDocFreq, docCount,
-                                                          indexStartFP, longsSize, indexIn, minTerm, maxTerm));
+                                                          indexStartFP, longsSize, offHeapIndex, minTerm, maxTerm));
         if (previous != null) {
           throw new CorruptIndexException("duplicate field: " + fieldInfo.name, termsIn);
         }
       }
-      
-      indexIn.close();
+      this.indexIn = indexIn;
       success = true;
     } finally {
       if (!success) {
@@ -237,7 +283,7 @@ public final class BlockTreeTermsReader extends FieldsProducer {
   @Override
   public void close() throws IOException {
     try {
-      IOUtils.close(termsIn, postingsReader);
+      IOUtils.close(termsIn, indexIn, postingsReader);
     } finally { 
       // Clear so refs to terms index is GCable even if
       // app hangs onto us:
@@ -298,6 +344,9 @@ public final class BlockTreeTermsReader extends FieldsProducer {
   public void checkIntegrity() throws IOException { 
     // term dictionary
     CodecUtil.checksumEntireFile(termsIn);
+
+    // terms index
+    CodecUtil.checksumEntireFile(indexIn);
       
     // postings
     postingsReader.checkIntegrity();
@@ -60,11 +60,14 @@ public final class FieldReader extends Terms implements Accountable {
   final int longsSize;
   final BlockTreeTermsReader parent;
 
-  final FST<BytesRef> index;
+  final boolean offHeapIndex;
+
+  // Lazy init:
+  private volatile FST<BytesRef> index;
   //private boolean DEBUG;
 
   FieldReader(BlockTreeTermsReader parent, FieldInfo fieldInfo, long numTerms, BytesRef rootCode, long sumTotalTermFreq, long sumDocFreq, int docCount,
-              long indexStartFP, int longsSize, IndexInput indexIn, BytesRef minTerm, BytesRef maxTerm) throws IOException {
+              long indexStartFP, int longsSize, boolean offHeapIndex, BytesRef minTerm, BytesRef maxTerm) throws IOException {
     assert numTerms > 0;
     this.fieldInfo = fieldInfo;
     //DEBUG = BlockTreeTermsReader.DEBUG && fieldInfo.name.equals("id");
@@ -84,24 +87,46 @@ public final class FieldReader extends Terms implements Accountable {
 
     rootBlockFP = (new ByteArrayDataInput(rootCode.bytes, rootCode.offset, rootCode.length)).readVLong() >>> BlockTreeTermsReader.OUTPUT_FLAGS_NUM_BITS;
 
-    if (indexIn != null) {
-      final IndexInput clone = indexIn.clone();
-      //System.out.println("start=" + indexStartFP + " field=" + fieldInfo.name);
-      clone.seek(indexStartFP);
-      index = new FST<>(clone, ByteSequenceOutputs.getSingleton());
-        
-      /*
-        if (false) {
-        final String dotFileName = segment + "_" + fieldInfo.name + ".dot";
-        Writer w = new OutputStreamWriter(new FileOutputStream(dotFileName));
-        Util.toDot(index, w, false, false);
-        System.out.println("FST INDEX: SAVED to " + dotFileName);
-        w.close();
+    this.offHeapIndex = offHeapIndex;
+  }
+
+  /** Returns the terms index of this field, loading it on first use. Opening
+   *  a segment only reads the per-field metadata, so fields that are never
+   *  searched never pay for their FST. */
+  FST<BytesRef> getIndex() throws IOException {
+    FST<BytesRef> index = this.index;
+    if (index == null) {
+      synchronized (this) {
+        index = this.index;
+        if (index == null) {
+          final IndexInput clone = parent.indexIn.clone();
+          //System.out.println("start=" + indexStartFP + " field=" + fieldInfo.name);
+          clone.seek(indexStartFP);
+          if (offHeapIndex) {
+            // the FST keeps reading from the clone, which remains valid until the parent reader is closed
+            index = new FST<>(clone, ByteSequenceOutputs.getSingleton(), true);
+          } else {
+            index = new FST<>(clone, ByteSequenceOutputs.getSingleton());
+          }
+          /*
+            if (false) {
+            final String dotFileName = segment + "_" + fieldInfo.name + ".dot";
+            Writer w = new OutputStreamWriter(new FileOutputStream(dotFileName));
+            Util.toDot(index, w, false, false);
+            System.out.println("FST INDEX: SAVED to " + dotFileName);
+            w.close();
+            }
+          */
+          this.index = index;
         }
-      */
-    } else {
-      index = null;
+      }
     }
+    return index;
+  }
+
+  /** Returns true if the terms index of this field has already been loaded. */
+  boolean isIndexLoaded() {
+    return index != null;
   }
 
   @Override
@@ -124,6 +149,12 @@ public final class FieldReader extends Terms implements Accountable {
     }
   }
 
+  /** Returns true if the terms index of this field is read from the index
+   *  file rather than loaded into the heap. */
+  public boolean isFstOffHeap() {
+    return offHeapIndex;
+  }
+
   /** For debugging -- used by CheckIndex too*/
   @Override
   public Stats getStats() throws IOException {
@@ -189,11 +220,13 @@ public final class FieldReader extends Terms implements Accountable {
     
   @Override
   public long ramBytesUsed() {
+    final FST<BytesRef> index = this.index;
     return BASE_RAM_BYTES_USED + ((index!=null)? index.ramBytesUsed() : 0);
   }
 
   @Override
   public Collection<Accountable> getChildResources() {
+    final FST<BytesRef> index = this.index;
     if (index == null) {
       return Collections.emptyList();
     } else {
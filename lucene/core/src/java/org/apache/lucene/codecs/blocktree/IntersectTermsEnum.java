@@ -65,6 +65,7 @@ final class IntersectTermsEnum extends TermsEnum {
   private final BytesRef term = new BytesRef();
 
   private final FST.BytesReader fstReader;
+  private final FST<BytesRef> index;
 
   final FieldReader fr;
 
@@ -74,6 +75,7 @@ final class IntersectTermsEnum extends TermsEnum {
   // regexp foo*bar must be at least length 6 bytes
   public IntersectTermsEnum(FieldReader fr, Automaton automaton, RunAutomaton runAutomaton, BytesRef commonSuffix, BytesRef startTerm) throws IOException {
     this.fr = fr;
+    this.index = fr.getIndex();
 
     assert automaton != null;
     assert runAutomaton != null;
@@ -92,7 +94,7 @@ final class IntersectTermsEnum extends TermsEnum {
     }
 
     
-    fstReader = fr.index.getBytesReader();
+    fstReader = index.getBytesReader();
 
     // TODO: if the automaton is "smallish" we really
     // should use the terms index to seek at least to
@@ -101,7 +103,7 @@ final class IntersectTermsEnum extends TermsEnum {
     // Else the seek cost of loading the frames will be
     // too costly.
 
-    final FST.Arc<BytesRef> arc = fr.index.getFirstArc(arcs[0]);
+    final FST.Arc<BytesRef> arc = index.getFirstArc(arcs[0]);
     // Empty string prefix must have an output in the index!
     assert arc.isFinal();
 
@@ -184,7 +186,7 @@ final class IntersectTermsEnum extends TermsEnum {
       // TODO: we could be more efficient for the next()
       // case by using current arc as starting point,
       // passed to findTargetArc
-      arc = fr.index.findTargetArc(target, arc, getArc(1+idx), fstReader);
+      arc = index.findTargetArc(target, arc, getArc(1+idx), fstReader);
       assert arc != null;
       output = fstOutputs.add(output, arc.output);
       idx++;
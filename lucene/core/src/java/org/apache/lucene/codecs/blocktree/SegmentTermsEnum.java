@@ -62,11 +62,13 @@ final class SegmentTermsEnum extends TermsEnum {
 
   final BytesRefBuilder term = new BytesRefBuilder();
   private final FST.BytesReader fstReader;
+  private final FST<BytesRef> index;
 
   @SuppressWarnings({"rawtypes","unchecked"}) private FST.Arc<BytesRef>[] arcs = new FST.Arc[1];
 
   public SegmentTermsEnum(FieldReader fr) throws IOException {
     this.fr = fr;
+    this.index = fr.getIndex();
 
     // if (DEBUG) {
     //   System.out.println("BTTR.init seg=" + fr.parent.segment);
@@ -76,10 +78,10 @@ final class SegmentTermsEnum extends TermsEnum {
     // Used to hold seek by TermState, or cached seek
     staticFrame = new SegmentTermsEnumFrame(this, -1);
 
-    if (fr.index == null) {
+    if (index == null) {
       fstReader = null;
     } else {
-      fstReader = fr.index.getBytesReader();
+      fstReader = index.getBytesReader();
     }
 
     // Init w/ root block; don't use index since it may
@@ -90,8 +92,8 @@ final class SegmentTermsEnum extends TermsEnum {
 
     currentFrame = staticFrame;
     final FST.Arc<BytesRef> arc;
-    if (fr.index != null) {
-      arc = fr.index.getFirstArc(arcs[0]);
+    if (index != null) {
+      arc = index.getFirstArc(arcs[0]);
       // Empty string prefix must have an output in the index!
       assert arc.isFinal();
     } else {
@@ -121,14 +123,14 @@ final class SegmentTermsEnum extends TermsEnum {
   public Stats computeBlockStats() throws IOException {
 
     Stats stats = new Stats(fr.parent.segment, fr.fieldInfo.name);
-    if (fr.index != null) {
-      stats.indexNumBytes = fr.index.ramBytesUsed();
+    if (index != null) {
+      stats.indexNumBytes = index.ramBytesUsed();
     }
         
     currentFrame = staticFrame;
     FST.Arc<BytesRef> arc;
-    if (fr.index != null) {
-      arc = fr.index.getFirstArc(arcs[0]);
+    if (index != null) {
+      arc = index.getFirstArc(arcs[0]);
       // Empty string prefix must have an output in the index!
       assert arc.isFinal();
     } else {
@@ -189,8 +191,8 @@ final class SegmentTermsEnum extends TermsEnum {
 
     // Put root frame back:
     currentFrame = staticFrame;
-    if (fr.index != null) {
-      arc = fr.index.getFirstArc(arcs[0]);
+    if (index != null) {
+      arc = index.getFirstArc(arcs[0]);
       // Empty string prefix must have an output in the index!
       assert arc.isFinal();
     } else {
@@ -317,7 +319,7 @@ final class SegmentTermsEnum extends TermsEnum {
   @Override
   public boolean seekExact(BytesRef target) throws IOException {
 
-    if (fr.index == null) {
+    if (index == null) {
       throw new IllegalStateException("terms index was not loaded");
     }
 
@@ -450,7 +452,7 @@ final class SegmentTermsEnum extends TermsEnum {
     } else {
 
       targetBeforeCurrentLength = -1;
-      arc = fr.index.getFirstArc(arcs[0]);
+      arc = index.getFirstArc(arcs[0]);
 
       // Empty string prefix must have an output (block) in the index!
       assert arc.isFinal();
@@ -478,7 +480,7 @@ final class SegmentTermsEnum extends TermsEnum {
 
       final int targetLabel = target.bytes[target.offset + targetUpto] & 0xFF;
 
-      final FST.Arc<BytesRef> nextArc = fr.index.findTargetArc(targetLabel, arc, getArc(1+targetUpto), fstReader);
+      final FST.Arc<BytesRef> nextArc = index.findTargetArc(targetLabel, arc, getArc(1+targetUpto), fstReader);
 
       if (nextArc == null) {
 
@@ -574,7 +576,7 @@ final class SegmentTermsEnum extends TermsEnum {
   @Override
   public SeekStatus seekCeil(BytesRef target) throws IOException {
 
-    if (fr.index == null) {
+    if (index == null) {
       throw new IllegalStateException("terms index was not loaded");
     }
 
@@ -707,7 +709,7 @@ final class SegmentTermsEnum extends TermsEnum {
     } else {
 
       targetBeforeCurrentLength = -1;
-      arc = fr.index.getFirstArc(arcs[0]);
+      arc = index.getFirstArc(arcs[0]);
 
       // Empty string prefix must have an output (block) in the index!
       assert arc.isFinal();
@@ -735,7 +737,7 @@ final class SegmentTermsEnum extends TermsEnum {
 
       final int targetLabel = target.bytes[target.offset + targetUpto] & 0xFF;
 
-      final FST.Arc<BytesRef> nextArc = fr.index.findTargetArc(targetLabel, arc, getArc(1+targetUpto), fstReader);
+      final FST.Arc<BytesRef> nextArc = index.findTargetArc(targetLabel, arc, getArc(1+targetUpto), fstReader);
 
       if (nextArc == null) {
 
@@ -842,13 +844,13 @@ final class SegmentTermsEnum extends TermsEnum {
         } else {
           out.println("    frame " + (isSeekFrame ? "(seek, loaded)" : "(next, loaded)") + " ord=" + ord + " fp=" + f.fp + (f.isFloor ? (" (fpOrig=" + f.fpOrig + ")") : "") + " prefixLen=" + f.prefix + " prefix=" + prefix + " nextEnt=" + f.nextEnt + (f.nextEnt == -1 ? "" : (" (of " + f.entCount + ")")) + " hasTerms=" + f.hasTerms + " isFloor=" + f.isFloor + " code=" + ((f.fp<< BlockTreeTermsReader.OUTPUT_FLAGS_NUM_BITS) + (f.hasTerms ? BlockTreeTermsReader.OUTPUT_FLAG_HAS_TERMS:0) + (f.isFloor ? BlockTreeTermsReader.OUTPUT_FLAG_IS_FLOOR:0)) + " lastSubFP=" + f.lastSubFP + " isLastInFloor=" + f.isLastInFloor + " mdUpto=" + f.metaDataUpto + " tbOrd=" + f.getTermBlockOrd());
         }
-        if (fr.index != null) {
+        if (index != null) {
           assert !isSeekFrame || f.arc != null: "isSeekFrame=" + isSeekFrame + " f.arc=" + f.arc;
           if (f.prefix > 0 && isSeekFrame && f.arc.label != (term.byteAt(f.prefix-1)&0xFF)) {
             out.println("      broken seek state: arc.label=" + (char) f.arc.label + " vs term byte=" + (char) (term.byteAt(f.prefix-1)&0xFF));
             throw new RuntimeException("seek state is broken");
           }
-          BytesRef output = Util.get(fr.index, prefix);
+          BytesRef output = Util.get(index, prefix);
           if (output == null) {
             out.println("      broken seek state: prefix is not final in index");
             throw new RuntimeException("seek state is broken");
@@ -881,8 +883,8 @@ final class SegmentTermsEnum extends TermsEnum {
     if (in == null) {
       // Fresh TermsEnum; seek to first term:
       final FST.Arc<BytesRef> arc;
-      if (fr.index != null) {
-        arc = fr.index.getFirstArc(arcs[0]);
+      if (index != null) {
+        arc = index.getFirstArc(arcs[0]);
         // Empty string prefix must have an output in the index!
         assert arc.isFinal();
       } else {
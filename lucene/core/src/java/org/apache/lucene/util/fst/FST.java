@@ -30,6 +30,7 @@ import org.apache.lucene.store.ByteArrayDataOutput;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.DataInput;
 import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.InputStreamDataInput;
 import org.apache.lucene.store.OutputStreamDataOutput;
 import org.apache.lucene.util.Accountable;
@@ -130,6 +131,12 @@ public final class FST<T> implements Accountable {
   /** Used at read time when the FST fits into a single byte[]. */
   final byte[] bytesArray;
 
+  /** Used at read time when the FST is kept off-heap: the FST bytes are
+   *  read directly from this input, starting at {@link #offHeapStart}. */
+  private final IndexInput offHeapIn;
+  private final long offHeapStart;
+  private final long offHeapNumBytes;
+
   private long startNode = -1;
 
   public final Outputs<T> outputs;
@@ -240,6 +247,8 @@ public final class FST<T> implements Accountable {
     version = VERSION_CURRENT;
     bytesArray = null;
     bytes = new BytesStore(bytesPageBits);
+    offHeapIn = null;
+    offHeapStart = offHeapNumBytes = 0;
     // pad: ensure no node gets address 0 which is reserved to mean
     // the stop state w/ no arcs
     bytes.writeByte((byte) 0);
@@ -257,6 +266,20 @@ public final class FST<T> implements Accountable {
   /** Load a previously saved FST; maxBlockBits allows you to
    *  control the size of the byte[] pages used to hold the FST bytes. */
   public FST(DataInput in, Outputs<T> outputs, int maxBlockBits) throws IOException {
+    this(in, outputs, maxBlockBits, false);
+  }
+
+  /** Load a previously saved FST. If <code>offHeap</code> is true, the FST
+   *  bytes are not loaded into the heap but read on demand from
+   *  <code>in</code>, which must then stay open as long as this FST is used.
+   *  This works best with inputs that support efficient random access, such as
+   *  those of {@link org.apache.lucene.store.MMapDirectory}.
+   *  In both cases <code>in</code> is positioned after the FST on return. */
+  public FST(IndexInput in, Outputs<T> outputs, boolean offHeap) throws IOException {
+    this(in, outputs, DEFAULT_MAX_BLOCK_BITS, offHeap);
+  }
+
+  private FST(DataInput in, Outputs<T> outputs, int maxBlockBits, boolean offHeap) throws IOException {
     this.outputs = outputs;
 
     if (maxBlockBits < 1 || maxBlockBits > 30) {
@@ -302,15 +325,27 @@ public final class FST<T> implements Accountable {
     startNode = in.readVLong();
 
     long numBytes = in.readVLong();
-    if (numBytes > 1 << maxBlockBits) {
-      // FST is big: we need multiple pages
-      bytes = new BytesStore(in, numBytes, 1<<maxBlockBits);
+    if (offHeap) {
+      // Only record where the FST bytes are, readers will access them directly
+      offHeapIn = (IndexInput) in;
+      offHeapStart = offHeapIn.getFilePointer();
+      offHeapNumBytes = numBytes;
+      offHeapIn.seek(offHeapStart + numBytes);
+      bytes = null;
       bytesArray = null;
     } else {
-      // FST fits into a single block: use ByteArrayBytesStoreReader for less overhead
-      bytes = null;
-      bytesArray = new byte[(int) numBytes];
-      in.readBytes(bytesArray, 0, bytesArray.length);
+      offHeapIn = null;
+      offHeapStart = offHeapNumBytes = 0;
+      if (numBytes > 1 << maxBlockBits) {
+        // FST is big: we need multiple pages
+        bytes = new BytesStore(in, numBytes, 1<<maxBlockBits);
+        bytesArray = null;
+      } else {
+        // FST fits into a single block: use ByteArrayBytesStoreReader for less overhead
+        bytes = null;
+        bytesArray = new byte[(int) numBytes];
+        in.readBytes(bytesArray, 0, bytesArray.length);
+      }
     }
     
     cacheRootArcs();
@@ -346,7 +381,7 @@ public final class FST<T> implements Accountable {
     long size = BASE_RAM_BYTES_USED;
     if (bytesArray != null) {
       size += bytesArray.length;
-    } else {
+    } else if (bytes != null) {
       size += bytes.ramBytesUsed();
     }
     size += cachedArcsBytesUsed;
@@ -464,10 +499,13 @@ public final class FST<T> implements Accountable {
       long numBytes = bytes.getPosition();
       out.writeVLong(numBytes);
       bytes.writeTo(out);
-    } else {
-      assert bytesArray != null;
+    } else if (bytesArray != null) {
       out.writeVLong(bytesArray.length);
       out.writeBytes(bytesArray, 0, bytesArray.length);
+    } else {
+      assert offHeapIn != null;
+      out.writeVLong(offHeapNumBytes);
+      out.copyBytes(offHeapIn.slice("fst", offHeapStart, offHeapNumBytes), offHeapNumBytes);
     }
   }
   
@@ -1139,11 +1177,24 @@ public final class FST<T> implements Accountable {
   public BytesReader getBytesReader() {
     if (bytesArray != null) {
       return new ReverseBytesReader(bytesArray);
-    } else {
+    } else if (bytes != null) {
       return bytes.getReverseReader();
+    } else {
+      try {
+        // a new slice per reader, since readers are not shared across threads
+        return new ReverseRandomAccessReader(offHeapIn.randomAccessSlice(offHeapStart, offHeapNumBytes));
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
     }
   }
 
+  /** Returns true if the bytes of this FST are read from an
+   *  {@link IndexInput} rather than held in the heap. */
+  public boolean isOffHeap() {
+    return offHeapIn != null;
+  }
+
   /** Reads bytes stored in an FST. */
   public static abstract class BytesReader extends DataInput {
     /** Get current read position. */
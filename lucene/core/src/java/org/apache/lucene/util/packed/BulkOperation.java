@@ -24,30 +24,30 @@ package org.apache.lucene.util.packed;
  */
 abstract class BulkOperation implements PackedInts.Decoder, PackedInts.Encoder {
   private static final BulkOperation[] packedBulkOps = new BulkOperation[] {
-    new BulkOperationPacked1(),
-    new BulkOperationPacked2(),
-    new BulkOperationPacked3(),
-    new BulkOperationPacked4(),
-    new BulkOperationPacked5(),
-    new BulkOperationPacked6(),
-    new BulkOperationPacked7(),
-    new BulkOperationPacked8(),
-    new BulkOperationPacked9(),
-    new BulkOperationPacked10(),
-    new BulkOperationPacked11(),
-    new BulkOperationPacked12(),
-    new BulkOperationPacked13(),
-    new BulkOperationPacked14(),
-    new BulkOperationPacked15(),
-    new BulkOperationPacked16(),
-    new BulkOperationPacked17(),
-    new BulkOperationPacked18(),
-    new BulkOperationPacked19(),
-    new BulkOperationPacked20(),
-    new BulkOperationPacked21(),
-    new BulkOperationPacked22(),
-    new BulkOperationPacked23(),
-    new BulkOperationPacked24(),
+    new BulkOperationPacked(1),
+    new BulkOperationPacked(2),
+    new BulkOperationPacked(3),
+    new BulkOperationPacked(4),
+    new BulkOperationPacked(5),
+    new BulkOperationPacked(6),
+    new BulkOperationPacked(7),
+    new BulkOperationPacked(8),
+    new BulkOperationPacked(9),
+    new BulkOperationPacked(10),
+    new BulkOperationPacked(11),
+    new BulkOperationPacked(12),
+    new BulkOperationPacked(13),
+    new BulkOperationPacked(14),
+    new BulkOperationPacked(15),
+    new BulkOperationPacked(16),
+    new BulkOperationPacked(17),
+    new BulkOperationPacked(18),
+    new BulkOperationPacked(19),
+    new BulkOperationPacked(20),
+    new BulkOperationPacked(21),
+    new BulkOperationPacked(22),
+    new BulkOperationPacked(23),
+    new BulkOperationPacked(24),
     new BulkOperationPacked(25),
     new BulkOperationPacked(26),
     new BulkOperationPacked(27),
@@ -19,11 +19,14 @@ package org.apache.lucene.util.packed;
 
 
 /**
- * Non-specialized {@link BulkOperation} for {@link PackedInts.Format#PACKED}.
+ * {@link BulkOperation} for {@link PackedInts.Format#PACKED}. Decoding
+ * delegates to the loop-unrolled {@link BulkOperationPackedDecoders} for small
+ * numbers of bits per value, and uses a generic loop otherwise.
  */
-class BulkOperationPacked extends BulkOperation {
+final class BulkOperationPacked extends BulkOperation {
 
   private final int bitsPerValue;
+  private final boolean specialized;
   private final int longBlockCount;
   private final int longValueCount;
   private final int byteBlockCount;
@@ -54,6 +57,7 @@ class BulkOperationPacked extends BulkOperation {
       this.mask = (1L << bitsPerValue) - 1;
     }
     this.intMask = (int) mask;
+    this.specialized = bitsPerValue <= BulkOperationPackedDecoders.MAX_SPECIALIZED_BITS_PER_VALUE;
     assert longValueCount * bitsPerValue == 64 * longBlockCount;
   }
 
@@ -80,6 +84,10 @@ class BulkOperationPacked extends BulkOperation {
   @Override
   public void decode(long[] blocks, int blocksOffset, long[] values,
       int valuesOffset, int iterations) {
+    if (specialized) {
+      BulkOperationPackedDecoders.decode(bitsPerValue, blocks, blocksOffset, values, valuesOffset, iterations);
+      return;
+    }
     int bitsLeft = 64;
     for (int i = 0; i < longValueCount * iterations; ++i) {
       bitsLeft -= bitsPerValue;
@@ -97,6 +105,10 @@ class BulkOperationPacked extends BulkOperation {
   @Override
   public void decode(byte[] blocks, int blocksOffset, long[] values,
       int valuesOffset, int iterations) {
+    if (specialized) {
+      BulkOperationPackedDecoders.decode(bitsPerValue, blocks, blocksOffset, values, valuesOffset, iterations);
+      return;
+    }
     long nextValue = 0L;
     int bitsLeft = bitsPerValue;
     for (int i = 0; i < iterations * byteBlockCount; ++i) {
@@ -124,6 +136,10 @@ class BulkOperationPacked extends BulkOperation {
   @Override
   public void decode(long[] blocks, int blocksOffset, int[] values,
       int valuesOffset, int iterations) {
+    if (specialized) {
+      BulkOperationPackedDecoders.decode(bitsPerValue, blocks, blocksOffset, values, valuesOffset, iterations);
+      return;
+    }
     if (bitsPerValue > 32) {
       throw new UnsupportedOperationException("Cannot decode " + bitsPerValue + "-bits values into an int[]");
     }
@@ -144,6 +160,10 @@ class BulkOperationPacked extends BulkOperation {
   @Override
   public void decode(byte[] blocks, int blocksOffset, int[] values,
       int valuesOffset, int iterations) {
+    if (specialized) {
+      BulkOperationPackedDecoders.decode(bitsPerValue, blocks, blocksOffset, values, valuesOffset, iterations);
+      return;
+    }
     int nextValue = 0;
     int bitsLeft = bitsPerValue;
     for (int i = 0; i < iterations * byteBlockCount; ++i) {
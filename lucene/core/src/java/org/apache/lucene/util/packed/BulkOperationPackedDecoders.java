@@ -0,0 +1,3502 @@
+// This file has been automatically generated, DO NOT EDIT
+
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.lucene.util.packed;
+
+/**
+ * Loop-unrolled decoders for {@link BulkOperationPacked}, one per number of
+ * bits per value up to {@value #MAX_SPECIALIZED_BITS_PER_VALUE}. They are
+ * static methods behind a single switch rather than one subclass per number
+ * of bits per value, so that call sites of {@link PackedInts.Decoder} only
+ * ever see one receiver type for the packed format.
+ */
+final class BulkOperationPackedDecoders {
+
+  static final int MAX_SPECIALIZED_BITS_PER_VALUE = 24;
+
+  private BulkOperationPackedDecoders() {}
+
+  static void decode(int bitsPerValue, long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    switch (bitsPerValue) {
+      case 1: decode1(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 2: decode2(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 3: decode3(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 4: decode4(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 5: decode5(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 6: decode6(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 7: decode7(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 8: decode8(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 9: decode9(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 10: decode10(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 11: decode11(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 12: decode12(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 13: decode13(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 14: decode14(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 15: decode15(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 16: decode16(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 17: decode17(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 18: decode18(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 19: decode19(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 20: decode20(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 21: decode21(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 22: decode22(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 23: decode23(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 24: decode24(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      default: throw new AssertionError(bitsPerValue);
+    }
+  }
+
+  static void decode(int bitsPerValue, long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    switch (bitsPerValue) {
+      case 1: decode1(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 2: decode2(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 3: decode3(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 4: decode4(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 5: decode5(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 6: decode6(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 7: decode7(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 8: decode8(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 9: decode9(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 10: decode10(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 11: decode11(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 12: decode12(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 13: decode13(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 14: decode14(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 15: decode15(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 16: decode16(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 17: decode17(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 18: decode18(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 19: decode19(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 20: decode20(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 21: decode21(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 22: decode22(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 23: decode23(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 24: decode24(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      default: throw new AssertionError(bitsPerValue);
+    }
+  }
+
+  static void decode(int bitsPerValue, byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    switch (bitsPerValue) {
+      case 1: decode1(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 2: decode2(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 3: decode3(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 4: decode4(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 5: decode5(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 6: decode6(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 7: decode7(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 8: decode8(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 9: decode9(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 10: decode10(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 11: decode11(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 12: decode12(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 13: decode13(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 14: decode14(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 15: decode15(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 16: decode16(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 17: decode17(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 18: decode18(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 19: decode19(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 20: decode20(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 21: decode21(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 22: decode22(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 23: decode23(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 24: decode24(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      default: throw new AssertionError(bitsPerValue);
+    }
+  }
+
+  static void decode(int bitsPerValue, byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    switch (bitsPerValue) {
+      case 1: decode1(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 2: decode2(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 3: decode3(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 4: decode4(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 5: decode5(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 6: decode6(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 7: decode7(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 8: decode8(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 9: decode9(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 10: decode10(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 11: decode11(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 12: decode12(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 13: decode13(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 14: decode14(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 15: decode15(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 16: decode16(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 17: decode17(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 18: decode18(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 19: decode19(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 20: decode20(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 21: decode21(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 22: decode22(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 23: decode23(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      case 24: decode24(blocks, blocksOffset, values, valuesOffset, iterations); break;
+      default: throw new AssertionError(bitsPerValue);
+    }
+  }
+
+  private static void decode1(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 63; shift >= 0; shift -= 1) {
+        values[valuesOffset++] = (int) ((block >>> shift) & 1);
+      }
+    }
+  }
+
+  private static void decode1(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      final byte block = blocks[blocksOffset++];
+      values[valuesOffset++] = (block >>> 7) & 1;
+      values[valuesOffset++] = (block >>> 6) & 1;
+      values[valuesOffset++] = (block >>> 5) & 1;
+      values[valuesOffset++] = (block >>> 4) & 1;
+      values[valuesOffset++] = (block >>> 3) & 1;
+      values[valuesOffset++] = (block >>> 2) & 1;
+      values[valuesOffset++] = (block >>> 1) & 1;
+      values[valuesOffset++] = block & 1;
+    }
+  }
+
+  private static void decode1(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 63; shift >= 0; shift -= 1) {
+        values[valuesOffset++] = (block >>> shift) & 1;
+      }
+    }
+  }
+
+  private static void decode1(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      final byte block = blocks[blocksOffset++];
+      values[valuesOffset++] = (block >>> 7) & 1;
+      values[valuesOffset++] = (block >>> 6) & 1;
+      values[valuesOffset++] = (block >>> 5) & 1;
+      values[valuesOffset++] = (block >>> 4) & 1;
+      values[valuesOffset++] = (block >>> 3) & 1;
+      values[valuesOffset++] = (block >>> 2) & 1;
+      values[valuesOffset++] = (block >>> 1) & 1;
+      values[valuesOffset++] = block & 1;
+    }
+  }
+
+  private static void decode2(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 62; shift >= 0; shift -= 2) {
+        values[valuesOffset++] = (int) ((block >>> shift) & 3);
+      }
+    }
+  }
+
+  private static void decode2(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      final byte block = blocks[blocksOffset++];
+      values[valuesOffset++] = (block >>> 6) & 3;
+      values[valuesOffset++] = (block >>> 4) & 3;
+      values[valuesOffset++] = (block >>> 2) & 3;
+      values[valuesOffset++] = block & 3;
+    }
+  }
+
+  private static void decode2(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 62; shift >= 0; shift -= 2) {
+        values[valuesOffset++] = (block >>> shift) & 3;
+      }
+    }
+  }
+
+  private static void decode2(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      final byte block = blocks[blocksOffset++];
+      values[valuesOffset++] = (block >>> 6) & 3;
+      values[valuesOffset++] = (block >>> 4) & 3;
+      values[valuesOffset++] = (block >>> 2) & 3;
+      values[valuesOffset++] = block & 3;
+    }
+  }
+
+  private static void decode3(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 61);
+      values[valuesOffset++] = (int) ((block0 >>> 58) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 55) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 52) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 49) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 46) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 43) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 40) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 37) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 34) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 31) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 28) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 25) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 22) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 19) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 16) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 13) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 10) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 7) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 7L);
+      values[valuesOffset++] = (int) ((block0 >>> 1) & 7L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 1L) << 2) | (block1 >>> 62));
+      values[valuesOffset++] = (int) ((block1 >>> 59) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 56) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 53) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 50) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 47) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 44) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 41) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 35) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 32) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 29) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 26) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 23) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 20) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 17) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 14) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 11) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 5) & 7L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 7L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 1) | (block2 >>> 63));
+      values[valuesOffset++] = (int) ((block2 >>> 60) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 57) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 54) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 51) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 48) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 45) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 42) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 39) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 36) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 33) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 30) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 27) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 21) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 18) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 15) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 9) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 6) & 7L);
+      values[valuesOffset++] = (int) ((block2 >>> 3) & 7L);
+      values[valuesOffset++] = (int) (block2 & 7L);
+    }
+  }
+
+  private static void decode3(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 5;
+      values[valuesOffset++] = (byte0 >>> 2) & 7;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 3) << 1) | (byte1 >>> 7);
+      values[valuesOffset++] = (byte1 >>> 4) & 7;
+      values[valuesOffset++] = (byte1 >>> 1) & 7;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 1) << 2) | (byte2 >>> 6);
+      values[valuesOffset++] = (byte2 >>> 3) & 7;
+      values[valuesOffset++] = byte2 & 7;
+    }
+  }
+
+  private static void decode3(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 61;
+      values[valuesOffset++] = (block0 >>> 58) & 7L;
+      values[valuesOffset++] = (block0 >>> 55) & 7L;
+      values[valuesOffset++] = (block0 >>> 52) & 7L;
+      values[valuesOffset++] = (block0 >>> 49) & 7L;
+      values[valuesOffset++] = (block0 >>> 46) & 7L;
+      values[valuesOffset++] = (block0 >>> 43) & 7L;
+      values[valuesOffset++] = (block0 >>> 40) & 7L;
+      values[valuesOffset++] = (block0 >>> 37) & 7L;
+      values[valuesOffset++] = (block0 >>> 34) & 7L;
+      values[valuesOffset++] = (block0 >>> 31) & 7L;
+      values[valuesOffset++] = (block0 >>> 28) & 7L;
+      values[valuesOffset++] = (block0 >>> 25) & 7L;
+      values[valuesOffset++] = (block0 >>> 22) & 7L;
+      values[valuesOffset++] = (block0 >>> 19) & 7L;
+      values[valuesOffset++] = (block0 >>> 16) & 7L;
+      values[valuesOffset++] = (block0 >>> 13) & 7L;
+      values[valuesOffset++] = (block0 >>> 10) & 7L;
+      values[valuesOffset++] = (block0 >>> 7) & 7L;
+      values[valuesOffset++] = (block0 >>> 4) & 7L;
+      values[valuesOffset++] = (block0 >>> 1) & 7L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 1L) << 2) | (block1 >>> 62);
+      values[valuesOffset++] = (block1 >>> 59) & 7L;
+      values[valuesOffset++] = (block1 >>> 56) & 7L;
+      values[valuesOffset++] = (block1 >>> 53) & 7L;
+      values[valuesOffset++] = (block1 >>> 50) & 7L;
+      values[valuesOffset++] = (block1 >>> 47) & 7L;
+      values[valuesOffset++] = (block1 >>> 44) & 7L;
+      values[valuesOffset++] = (block1 >>> 41) & 7L;
+      values[valuesOffset++] = (block1 >>> 38) & 7L;
+      values[valuesOffset++] = (block1 >>> 35) & 7L;
+      values[valuesOffset++] = (block1 >>> 32) & 7L;
+      values[valuesOffset++] = (block1 >>> 29) & 7L;
+      values[valuesOffset++] = (block1 >>> 26) & 7L;
+      values[valuesOffset++] = (block1 >>> 23) & 7L;
+      values[valuesOffset++] = (block1 >>> 20) & 7L;
+      values[valuesOffset++] = (block1 >>> 17) & 7L;
+      values[valuesOffset++] = (block1 >>> 14) & 7L;
+      values[valuesOffset++] = (block1 >>> 11) & 7L;
+      values[valuesOffset++] = (block1 >>> 8) & 7L;
+      values[valuesOffset++] = (block1 >>> 5) & 7L;
+      values[valuesOffset++] = (block1 >>> 2) & 7L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 1) | (block2 >>> 63);
+      values[valuesOffset++] = (block2 >>> 60) & 7L;
+      values[valuesOffset++] = (block2 >>> 57) & 7L;
+      values[valuesOffset++] = (block2 >>> 54) & 7L;
+      values[valuesOffset++] = (block2 >>> 51) & 7L;
+      values[valuesOffset++] = (block2 >>> 48) & 7L;
+      values[valuesOffset++] = (block2 >>> 45) & 7L;
+      values[valuesOffset++] = (block2 >>> 42) & 7L;
+      values[valuesOffset++] = (block2 >>> 39) & 7L;
+      values[valuesOffset++] = (block2 >>> 36) & 7L;
+      values[valuesOffset++] = (block2 >>> 33) & 7L;
+      values[valuesOffset++] = (block2 >>> 30) & 7L;
+      values[valuesOffset++] = (block2 >>> 27) & 7L;
+      values[valuesOffset++] = (block2 >>> 24) & 7L;
+      values[valuesOffset++] = (block2 >>> 21) & 7L;
+      values[valuesOffset++] = (block2 >>> 18) & 7L;
+      values[valuesOffset++] = (block2 >>> 15) & 7L;
+      values[valuesOffset++] = (block2 >>> 12) & 7L;
+      values[valuesOffset++] = (block2 >>> 9) & 7L;
+      values[valuesOffset++] = (block2 >>> 6) & 7L;
+      values[valuesOffset++] = (block2 >>> 3) & 7L;
+      values[valuesOffset++] = block2 & 7L;
+    }
+  }
+
+  private static void decode3(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 5;
+      values[valuesOffset++] = (byte0 >>> 2) & 7;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 3) << 1) | (byte1 >>> 7);
+      values[valuesOffset++] = (byte1 >>> 4) & 7;
+      values[valuesOffset++] = (byte1 >>> 1) & 7;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 1) << 2) | (byte2 >>> 6);
+      values[valuesOffset++] = (byte2 >>> 3) & 7;
+      values[valuesOffset++] = byte2 & 7;
+    }
+  }
+
+  private static void decode4(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 60; shift >= 0; shift -= 4) {
+        values[valuesOffset++] = (int) ((block >>> shift) & 15);
+      }
+    }
+  }
+
+  private static void decode4(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      final byte block = blocks[blocksOffset++];
+      values[valuesOffset++] = (block >>> 4) & 15;
+      values[valuesOffset++] = block & 15;
+    }
+  }
+
+  private static void decode4(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 60; shift >= 0; shift -= 4) {
+        values[valuesOffset++] = (block >>> shift) & 15;
+      }
+    }
+  }
+
+  private static void decode4(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      final byte block = blocks[blocksOffset++];
+      values[valuesOffset++] = (block >>> 4) & 15;
+      values[valuesOffset++] = block & 15;
+    }
+  }
+
+  private static void decode5(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 59);
+      values[valuesOffset++] = (int) ((block0 >>> 54) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 49) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 44) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 39) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 34) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 29) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 24) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 19) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 14) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 9) & 31L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 31L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 15L) << 1) | (block1 >>> 63));
+      values[valuesOffset++] = (int) ((block1 >>> 58) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 53) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 48) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 43) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 33) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 28) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 23) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 18) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 13) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 31L);
+      values[valuesOffset++] = (int) ((block1 >>> 3) & 31L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 7L) << 2) | (block2 >>> 62));
+      values[valuesOffset++] = (int) ((block2 >>> 57) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 52) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 47) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 42) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 37) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 32) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 27) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 22) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 17) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 7) & 31L);
+      values[valuesOffset++] = (int) ((block2 >>> 2) & 31L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 3L) << 3) | (block3 >>> 61));
+      values[valuesOffset++] = (int) ((block3 >>> 56) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 51) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 46) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 41) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 36) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 31) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 26) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 21) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 16) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 11) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 6) & 31L);
+      values[valuesOffset++] = (int) ((block3 >>> 1) & 31L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 1L) << 4) | (block4 >>> 60));
+      values[valuesOffset++] = (int) ((block4 >>> 55) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 50) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 45) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 40) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 35) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 30) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 25) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 20) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 15) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 10) & 31L);
+      values[valuesOffset++] = (int) ((block4 >>> 5) & 31L);
+      values[valuesOffset++] = (int) (block4 & 31L);
+    }
+  }
+
+  private static void decode5(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 3;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 7) << 2) | (byte1 >>> 6);
+      values[valuesOffset++] = (byte1 >>> 1) & 31;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 1) << 4) | (byte2 >>> 4);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 15) << 1) | (byte3 >>> 7);
+      values[valuesOffset++] = (byte3 >>> 2) & 31;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 3) << 3) | (byte4 >>> 5);
+      values[valuesOffset++] = byte4 & 31;
+    }
+  }
+
+  private static void decode5(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 59;
+      values[valuesOffset++] = (block0 >>> 54) & 31L;
+      values[valuesOffset++] = (block0 >>> 49) & 31L;
+      values[valuesOffset++] = (block0 >>> 44) & 31L;
+      values[valuesOffset++] = (block0 >>> 39) & 31L;
+      values[valuesOffset++] = (block0 >>> 34) & 31L;
+      values[valuesOffset++] = (block0 >>> 29) & 31L;
+      values[valuesOffset++] = (block0 >>> 24) & 31L;
+      values[valuesOffset++] = (block0 >>> 19) & 31L;
+      values[valuesOffset++] = (block0 >>> 14) & 31L;
+      values[valuesOffset++] = (block0 >>> 9) & 31L;
+      values[valuesOffset++] = (block0 >>> 4) & 31L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 15L) << 1) | (block1 >>> 63);
+      values[valuesOffset++] = (block1 >>> 58) & 31L;
+      values[valuesOffset++] = (block1 >>> 53) & 31L;
+      values[valuesOffset++] = (block1 >>> 48) & 31L;
+      values[valuesOffset++] = (block1 >>> 43) & 31L;
+      values[valuesOffset++] = (block1 >>> 38) & 31L;
+      values[valuesOffset++] = (block1 >>> 33) & 31L;
+      values[valuesOffset++] = (block1 >>> 28) & 31L;
+      values[valuesOffset++] = (block1 >>> 23) & 31L;
+      values[valuesOffset++] = (block1 >>> 18) & 31L;
+      values[valuesOffset++] = (block1 >>> 13) & 31L;
+      values[valuesOffset++] = (block1 >>> 8) & 31L;
+      values[valuesOffset++] = (block1 >>> 3) & 31L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 7L) << 2) | (block2 >>> 62);
+      values[valuesOffset++] = (block2 >>> 57) & 31L;
+      values[valuesOffset++] = (block2 >>> 52) & 31L;
+      values[valuesOffset++] = (block2 >>> 47) & 31L;
+      values[valuesOffset++] = (block2 >>> 42) & 31L;
+      values[valuesOffset++] = (block2 >>> 37) & 31L;
+      values[valuesOffset++] = (block2 >>> 32) & 31L;
+      values[valuesOffset++] = (block2 >>> 27) & 31L;
+      values[valuesOffset++] = (block2 >>> 22) & 31L;
+      values[valuesOffset++] = (block2 >>> 17) & 31L;
+      values[valuesOffset++] = (block2 >>> 12) & 31L;
+      values[valuesOffset++] = (block2 >>> 7) & 31L;
+      values[valuesOffset++] = (block2 >>> 2) & 31L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 3L) << 3) | (block3 >>> 61);
+      values[valuesOffset++] = (block3 >>> 56) & 31L;
+      values[valuesOffset++] = (block3 >>> 51) & 31L;
+      values[valuesOffset++] = (block3 >>> 46) & 31L;
+      values[valuesOffset++] = (block3 >>> 41) & 31L;
+      values[valuesOffset++] = (block3 >>> 36) & 31L;
+      values[valuesOffset++] = (block3 >>> 31) & 31L;
+      values[valuesOffset++] = (block3 >>> 26) & 31L;
+      values[valuesOffset++] = (block3 >>> 21) & 31L;
+      values[valuesOffset++] = (block3 >>> 16) & 31L;
+      values[valuesOffset++] = (block3 >>> 11) & 31L;
+      values[valuesOffset++] = (block3 >>> 6) & 31L;
+      values[valuesOffset++] = (block3 >>> 1) & 31L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 1L) << 4) | (block4 >>> 60);
+      values[valuesOffset++] = (block4 >>> 55) & 31L;
+      values[valuesOffset++] = (block4 >>> 50) & 31L;
+      values[valuesOffset++] = (block4 >>> 45) & 31L;
+      values[valuesOffset++] = (block4 >>> 40) & 31L;
+      values[valuesOffset++] = (block4 >>> 35) & 31L;
+      values[valuesOffset++] = (block4 >>> 30) & 31L;
+      values[valuesOffset++] = (block4 >>> 25) & 31L;
+      values[valuesOffset++] = (block4 >>> 20) & 31L;
+      values[valuesOffset++] = (block4 >>> 15) & 31L;
+      values[valuesOffset++] = (block4 >>> 10) & 31L;
+      values[valuesOffset++] = (block4 >>> 5) & 31L;
+      values[valuesOffset++] = block4 & 31L;
+    }
+  }
+
+  private static void decode5(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 3;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 7) << 2) | (byte1 >>> 6);
+      values[valuesOffset++] = (byte1 >>> 1) & 31;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 1) << 4) | (byte2 >>> 4);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 15) << 1) | (byte3 >>> 7);
+      values[valuesOffset++] = (byte3 >>> 2) & 31;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 3) << 3) | (byte4 >>> 5);
+      values[valuesOffset++] = byte4 & 31;
+    }
+  }
+
+  private static void decode6(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 58);
+      values[valuesOffset++] = (int) ((block0 >>> 52) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 46) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 40) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 34) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 28) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 22) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 16) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 10) & 63L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 63L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 15L) << 2) | (block1 >>> 62));
+      values[valuesOffset++] = (int) ((block1 >>> 56) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 50) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 44) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 32) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 26) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 20) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 14) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 63L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 63L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 4) | (block2 >>> 60));
+      values[valuesOffset++] = (int) ((block2 >>> 54) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 48) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 42) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 36) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 30) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 18) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 63L);
+      values[valuesOffset++] = (int) ((block2 >>> 6) & 63L);
+      values[valuesOffset++] = (int) (block2 & 63L);
+    }
+  }
+
+  private static void decode6(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 2;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 3) << 4) | (byte1 >>> 4);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 15) << 2) | (byte2 >>> 6);
+      values[valuesOffset++] = byte2 & 63;
+    }
+  }
+
+  private static void decode6(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 58;
+      values[valuesOffset++] = (block0 >>> 52) & 63L;
+      values[valuesOffset++] = (block0 >>> 46) & 63L;
+      values[valuesOffset++] = (block0 >>> 40) & 63L;
+      values[valuesOffset++] = (block0 >>> 34) & 63L;
+      values[valuesOffset++] = (block0 >>> 28) & 63L;
+      values[valuesOffset++] = (block0 >>> 22) & 63L;
+      values[valuesOffset++] = (block0 >>> 16) & 63L;
+      values[valuesOffset++] = (block0 >>> 10) & 63L;
+      values[valuesOffset++] = (block0 >>> 4) & 63L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 15L) << 2) | (block1 >>> 62);
+      values[valuesOffset++] = (block1 >>> 56) & 63L;
+      values[valuesOffset++] = (block1 >>> 50) & 63L;
+      values[valuesOffset++] = (block1 >>> 44) & 63L;
+      values[valuesOffset++] = (block1 >>> 38) & 63L;
+      values[valuesOffset++] = (block1 >>> 32) & 63L;
+      values[valuesOffset++] = (block1 >>> 26) & 63L;
+      values[valuesOffset++] = (block1 >>> 20) & 63L;
+      values[valuesOffset++] = (block1 >>> 14) & 63L;
+      values[valuesOffset++] = (block1 >>> 8) & 63L;
+      values[valuesOffset++] = (block1 >>> 2) & 63L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 4) | (block2 >>> 60);
+      values[valuesOffset++] = (block2 >>> 54) & 63L;
+      values[valuesOffset++] = (block2 >>> 48) & 63L;
+      values[valuesOffset++] = (block2 >>> 42) & 63L;
+      values[valuesOffset++] = (block2 >>> 36) & 63L;
+      values[valuesOffset++] = (block2 >>> 30) & 63L;
+      values[valuesOffset++] = (block2 >>> 24) & 63L;
+      values[valuesOffset++] = (block2 >>> 18) & 63L;
+      values[valuesOffset++] = (block2 >>> 12) & 63L;
+      values[valuesOffset++] = (block2 >>> 6) & 63L;
+      values[valuesOffset++] = block2 & 63L;
+    }
+  }
+
+  private static void decode6(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 2;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 3) << 4) | (byte1 >>> 4);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 15) << 2) | (byte2 >>> 6);
+      values[valuesOffset++] = byte2 & 63;
+    }
+  }
+
+  private static void decode7(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 57);
+      values[valuesOffset++] = (int) ((block0 >>> 50) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 43) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 36) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 29) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 22) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 15) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 8) & 127L);
+      values[valuesOffset++] = (int) ((block0 >>> 1) & 127L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 1L) << 6) | (block1 >>> 58));
+      values[valuesOffset++] = (int) ((block1 >>> 51) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 44) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 37) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 30) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 23) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 16) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 9) & 127L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 127L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 5) | (block2 >>> 59));
+      values[valuesOffset++] = (int) ((block2 >>> 52) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 45) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 38) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 31) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 17) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 10) & 127L);
+      values[valuesOffset++] = (int) ((block2 >>> 3) & 127L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 7L) << 4) | (block3 >>> 60));
+      values[valuesOffset++] = (int) ((block3 >>> 53) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 46) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 39) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 32) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 25) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 18) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 11) & 127L);
+      values[valuesOffset++] = (int) ((block3 >>> 4) & 127L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 15L) << 3) | (block4 >>> 61));
+      values[valuesOffset++] = (int) ((block4 >>> 54) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 47) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 40) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 33) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 26) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 19) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 12) & 127L);
+      values[valuesOffset++] = (int) ((block4 >>> 5) & 127L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 31L) << 2) | (block5 >>> 62));
+      values[valuesOffset++] = (int) ((block5 >>> 55) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 48) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 41) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 34) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 27) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 20) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 13) & 127L);
+      values[valuesOffset++] = (int) ((block5 >>> 6) & 127L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 63L) << 1) | (block6 >>> 63));
+      values[valuesOffset++] = (int) ((block6 >>> 56) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 49) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 42) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 35) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 28) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 21) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 14) & 127L);
+      values[valuesOffset++] = (int) ((block6 >>> 7) & 127L);
+      values[valuesOffset++] = (int) (block6 & 127L);
+    }
+  }
+
+  private static void decode7(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 1;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 1) << 6) | (byte1 >>> 2);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 3) << 5) | (byte2 >>> 3);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 7) << 4) | (byte3 >>> 4);
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 15) << 3) | (byte4 >>> 5);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 31) << 2) | (byte5 >>> 6);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 63) << 1) | (byte6 >>> 7);
+      values[valuesOffset++] = byte6 & 127;
+    }
+  }
+
+  private static void decode7(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 57;
+      values[valuesOffset++] = (block0 >>> 50) & 127L;
+      values[valuesOffset++] = (block0 >>> 43) & 127L;
+      values[valuesOffset++] = (block0 >>> 36) & 127L;
+      values[valuesOffset++] = (block0 >>> 29) & 127L;
+      values[valuesOffset++] = (block0 >>> 22) & 127L;
+      values[valuesOffset++] = (block0 >>> 15) & 127L;
+      values[valuesOffset++] = (block0 >>> 8) & 127L;
+      values[valuesOffset++] = (block0 >>> 1) & 127L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 1L) << 6) | (block1 >>> 58);
+      values[valuesOffset++] = (block1 >>> 51) & 127L;
+      values[valuesOffset++] = (block1 >>> 44) & 127L;
+      values[valuesOffset++] = (block1 >>> 37) & 127L;
+      values[valuesOffset++] = (block1 >>> 30) & 127L;
+      values[valuesOffset++] = (block1 >>> 23) & 127L;
+      values[valuesOffset++] = (block1 >>> 16) & 127L;
+      values[valuesOffset++] = (block1 >>> 9) & 127L;
+      values[valuesOffset++] = (block1 >>> 2) & 127L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 5) | (block2 >>> 59);
+      values[valuesOffset++] = (block2 >>> 52) & 127L;
+      values[valuesOffset++] = (block2 >>> 45) & 127L;
+      values[valuesOffset++] = (block2 >>> 38) & 127L;
+      values[valuesOffset++] = (block2 >>> 31) & 127L;
+      values[valuesOffset++] = (block2 >>> 24) & 127L;
+      values[valuesOffset++] = (block2 >>> 17) & 127L;
+      values[valuesOffset++] = (block2 >>> 10) & 127L;
+      values[valuesOffset++] = (block2 >>> 3) & 127L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 7L) << 4) | (block3 >>> 60);
+      values[valuesOffset++] = (block3 >>> 53) & 127L;
+      values[valuesOffset++] = (block3 >>> 46) & 127L;
+      values[valuesOffset++] = (block3 >>> 39) & 127L;
+      values[valuesOffset++] = (block3 >>> 32) & 127L;
+      values[valuesOffset++] = (block3 >>> 25) & 127L;
+      values[valuesOffset++] = (block3 >>> 18) & 127L;
+      values[valuesOffset++] = (block3 >>> 11) & 127L;
+      values[valuesOffset++] = (block3 >>> 4) & 127L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 15L) << 3) | (block4 >>> 61);
+      values[valuesOffset++] = (block4 >>> 54) & 127L;
+      values[valuesOffset++] = (block4 >>> 47) & 127L;
+      values[valuesOffset++] = (block4 >>> 40) & 127L;
+      values[valuesOffset++] = (block4 >>> 33) & 127L;
+      values[valuesOffset++] = (block4 >>> 26) & 127L;
+      values[valuesOffset++] = (block4 >>> 19) & 127L;
+      values[valuesOffset++] = (block4 >>> 12) & 127L;
+      values[valuesOffset++] = (block4 >>> 5) & 127L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 31L) << 2) | (block5 >>> 62);
+      values[valuesOffset++] = (block5 >>> 55) & 127L;
+      values[valuesOffset++] = (block5 >>> 48) & 127L;
+      values[valuesOffset++] = (block5 >>> 41) & 127L;
+      values[valuesOffset++] = (block5 >>> 34) & 127L;
+      values[valuesOffset++] = (block5 >>> 27) & 127L;
+      values[valuesOffset++] = (block5 >>> 20) & 127L;
+      values[valuesOffset++] = (block5 >>> 13) & 127L;
+      values[valuesOffset++] = (block5 >>> 6) & 127L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 63L) << 1) | (block6 >>> 63);
+      values[valuesOffset++] = (block6 >>> 56) & 127L;
+      values[valuesOffset++] = (block6 >>> 49) & 127L;
+      values[valuesOffset++] = (block6 >>> 42) & 127L;
+      values[valuesOffset++] = (block6 >>> 35) & 127L;
+      values[valuesOffset++] = (block6 >>> 28) & 127L;
+      values[valuesOffset++] = (block6 >>> 21) & 127L;
+      values[valuesOffset++] = (block6 >>> 14) & 127L;
+      values[valuesOffset++] = (block6 >>> 7) & 127L;
+      values[valuesOffset++] = block6 & 127L;
+    }
+  }
+
+  private static void decode7(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = byte0 >>> 1;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte0 & 1) << 6) | (byte1 >>> 2);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 3) << 5) | (byte2 >>> 3);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 7) << 4) | (byte3 >>> 4);
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 15) << 3) | (byte4 >>> 5);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 31) << 2) | (byte5 >>> 6);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 63) << 1) | (byte6 >>> 7);
+      values[valuesOffset++] = byte6 & 127;
+    }
+  }
+
+  private static void decode8(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        values[valuesOffset++] = (int) ((block >>> shift) & 255);
+      }
+    }
+  }
+
+  private static void decode8(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      values[valuesOffset++] = blocks[blocksOffset++] & 0xFF;
+    }
+  }
+
+  private static void decode8(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        values[valuesOffset++] = (block >>> shift) & 255;
+      }
+    }
+  }
+
+  private static void decode8(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      values[valuesOffset++] = blocks[blocksOffset++] & 0xFF;
+    }
+  }
+
+  private static void decode9(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 55);
+      values[valuesOffset++] = (int) ((block0 >>> 46) & 511L);
+      values[valuesOffset++] = (int) ((block0 >>> 37) & 511L);
+      values[valuesOffset++] = (int) ((block0 >>> 28) & 511L);
+      values[valuesOffset++] = (int) ((block0 >>> 19) & 511L);
+      values[valuesOffset++] = (int) ((block0 >>> 10) & 511L);
+      values[valuesOffset++] = (int) ((block0 >>> 1) & 511L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 1L) << 8) | (block1 >>> 56));
+      values[valuesOffset++] = (int) ((block1 >>> 47) & 511L);
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 511L);
+      values[valuesOffset++] = (int) ((block1 >>> 29) & 511L);
+      values[valuesOffset++] = (int) ((block1 >>> 20) & 511L);
+      values[valuesOffset++] = (int) ((block1 >>> 11) & 511L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 511L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 7) | (block2 >>> 57));
+      values[valuesOffset++] = (int) ((block2 >>> 48) & 511L);
+      values[valuesOffset++] = (int) ((block2 >>> 39) & 511L);
+      values[valuesOffset++] = (int) ((block2 >>> 30) & 511L);
+      values[valuesOffset++] = (int) ((block2 >>> 21) & 511L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 511L);
+      values[valuesOffset++] = (int) ((block2 >>> 3) & 511L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 7L) << 6) | (block3 >>> 58));
+      values[valuesOffset++] = (int) ((block3 >>> 49) & 511L);
+      values[valuesOffset++] = (int) ((block3 >>> 40) & 511L);
+      values[valuesOffset++] = (int) ((block3 >>> 31) & 511L);
+      values[valuesOffset++] = (int) ((block3 >>> 22) & 511L);
+      values[valuesOffset++] = (int) ((block3 >>> 13) & 511L);
+      values[valuesOffset++] = (int) ((block3 >>> 4) & 511L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 15L) << 5) | (block4 >>> 59));
+      values[valuesOffset++] = (int) ((block4 >>> 50) & 511L);
+      values[valuesOffset++] = (int) ((block4 >>> 41) & 511L);
+      values[valuesOffset++] = (int) ((block4 >>> 32) & 511L);
+      values[valuesOffset++] = (int) ((block4 >>> 23) & 511L);
+      values[valuesOffset++] = (int) ((block4 >>> 14) & 511L);
+      values[valuesOffset++] = (int) ((block4 >>> 5) & 511L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 31L) << 4) | (block5 >>> 60));
+      values[valuesOffset++] = (int) ((block5 >>> 51) & 511L);
+      values[valuesOffset++] = (int) ((block5 >>> 42) & 511L);
+      values[valuesOffset++] = (int) ((block5 >>> 33) & 511L);
+      values[valuesOffset++] = (int) ((block5 >>> 24) & 511L);
+      values[valuesOffset++] = (int) ((block5 >>> 15) & 511L);
+      values[valuesOffset++] = (int) ((block5 >>> 6) & 511L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 63L) << 3) | (block6 >>> 61));
+      values[valuesOffset++] = (int) ((block6 >>> 52) & 511L);
+      values[valuesOffset++] = (int) ((block6 >>> 43) & 511L);
+      values[valuesOffset++] = (int) ((block6 >>> 34) & 511L);
+      values[valuesOffset++] = (int) ((block6 >>> 25) & 511L);
+      values[valuesOffset++] = (int) ((block6 >>> 16) & 511L);
+      values[valuesOffset++] = (int) ((block6 >>> 7) & 511L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 127L) << 2) | (block7 >>> 62));
+      values[valuesOffset++] = (int) ((block7 >>> 53) & 511L);
+      values[valuesOffset++] = (int) ((block7 >>> 44) & 511L);
+      values[valuesOffset++] = (int) ((block7 >>> 35) & 511L);
+      values[valuesOffset++] = (int) ((block7 >>> 26) & 511L);
+      values[valuesOffset++] = (int) ((block7 >>> 17) & 511L);
+      values[valuesOffset++] = (int) ((block7 >>> 8) & 511L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 255L) << 1) | (block8 >>> 63));
+      values[valuesOffset++] = (int) ((block8 >>> 54) & 511L);
+      values[valuesOffset++] = (int) ((block8 >>> 45) & 511L);
+      values[valuesOffset++] = (int) ((block8 >>> 36) & 511L);
+      values[valuesOffset++] = (int) ((block8 >>> 27) & 511L);
+      values[valuesOffset++] = (int) ((block8 >>> 18) & 511L);
+      values[valuesOffset++] = (int) ((block8 >>> 9) & 511L);
+      values[valuesOffset++] = (int) (block8 & 511L);
+    }
+  }
+
+  private static void decode9(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 1) | (byte1 >>> 7);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 127) << 2) | (byte2 >>> 6);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 63) << 3) | (byte3 >>> 5);
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 31) << 4) | (byte4 >>> 4);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 15) << 5) | (byte5 >>> 3);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 7) << 6) | (byte6 >>> 2);
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 3) << 7) | (byte7 >>> 1);
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 1) << 8) | byte8;
+    }
+  }
+
+  private static void decode9(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 55;
+      values[valuesOffset++] = (block0 >>> 46) & 511L;
+      values[valuesOffset++] = (block0 >>> 37) & 511L;
+      values[valuesOffset++] = (block0 >>> 28) & 511L;
+      values[valuesOffset++] = (block0 >>> 19) & 511L;
+      values[valuesOffset++] = (block0 >>> 10) & 511L;
+      values[valuesOffset++] = (block0 >>> 1) & 511L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 1L) << 8) | (block1 >>> 56);
+      values[valuesOffset++] = (block1 >>> 47) & 511L;
+      values[valuesOffset++] = (block1 >>> 38) & 511L;
+      values[valuesOffset++] = (block1 >>> 29) & 511L;
+      values[valuesOffset++] = (block1 >>> 20) & 511L;
+      values[valuesOffset++] = (block1 >>> 11) & 511L;
+      values[valuesOffset++] = (block1 >>> 2) & 511L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 7) | (block2 >>> 57);
+      values[valuesOffset++] = (block2 >>> 48) & 511L;
+      values[valuesOffset++] = (block2 >>> 39) & 511L;
+      values[valuesOffset++] = (block2 >>> 30) & 511L;
+      values[valuesOffset++] = (block2 >>> 21) & 511L;
+      values[valuesOffset++] = (block2 >>> 12) & 511L;
+      values[valuesOffset++] = (block2 >>> 3) & 511L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 7L) << 6) | (block3 >>> 58);
+      values[valuesOffset++] = (block3 >>> 49) & 511L;
+      values[valuesOffset++] = (block3 >>> 40) & 511L;
+      values[valuesOffset++] = (block3 >>> 31) & 511L;
+      values[valuesOffset++] = (block3 >>> 22) & 511L;
+      values[valuesOffset++] = (block3 >>> 13) & 511L;
+      values[valuesOffset++] = (block3 >>> 4) & 511L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 15L) << 5) | (block4 >>> 59);
+      values[valuesOffset++] = (block4 >>> 50) & 511L;
+      values[valuesOffset++] = (block4 >>> 41) & 511L;
+      values[valuesOffset++] = (block4 >>> 32) & 511L;
+      values[valuesOffset++] = (block4 >>> 23) & 511L;
+      values[valuesOffset++] = (block4 >>> 14) & 511L;
+      values[valuesOffset++] = (block4 >>> 5) & 511L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 31L) << 4) | (block5 >>> 60);
+      values[valuesOffset++] = (block5 >>> 51) & 511L;
+      values[valuesOffset++] = (block5 >>> 42) & 511L;
+      values[valuesOffset++] = (block5 >>> 33) & 511L;
+      values[valuesOffset++] = (block5 >>> 24) & 511L;
+      values[valuesOffset++] = (block5 >>> 15) & 511L;
+      values[valuesOffset++] = (block5 >>> 6) & 511L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 63L) << 3) | (block6 >>> 61);
+      values[valuesOffset++] = (block6 >>> 52) & 511L;
+      values[valuesOffset++] = (block6 >>> 43) & 511L;
+      values[valuesOffset++] = (block6 >>> 34) & 511L;
+      values[valuesOffset++] = (block6 >>> 25) & 511L;
+      values[valuesOffset++] = (block6 >>> 16) & 511L;
+      values[valuesOffset++] = (block6 >>> 7) & 511L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 127L) << 2) | (block7 >>> 62);
+      values[valuesOffset++] = (block7 >>> 53) & 511L;
+      values[valuesOffset++] = (block7 >>> 44) & 511L;
+      values[valuesOffset++] = (block7 >>> 35) & 511L;
+      values[valuesOffset++] = (block7 >>> 26) & 511L;
+      values[valuesOffset++] = (block7 >>> 17) & 511L;
+      values[valuesOffset++] = (block7 >>> 8) & 511L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 255L) << 1) | (block8 >>> 63);
+      values[valuesOffset++] = (block8 >>> 54) & 511L;
+      values[valuesOffset++] = (block8 >>> 45) & 511L;
+      values[valuesOffset++] = (block8 >>> 36) & 511L;
+      values[valuesOffset++] = (block8 >>> 27) & 511L;
+      values[valuesOffset++] = (block8 >>> 18) & 511L;
+      values[valuesOffset++] = (block8 >>> 9) & 511L;
+      values[valuesOffset++] = block8 & 511L;
+    }
+  }
+
+  private static void decode9(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 1) | (byte1 >>> 7);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 127) << 2) | (byte2 >>> 6);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 63) << 3) | (byte3 >>> 5);
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 31) << 4) | (byte4 >>> 4);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 15) << 5) | (byte5 >>> 3);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 7) << 6) | (byte6 >>> 2);
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 3) << 7) | (byte7 >>> 1);
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 1) << 8) | byte8;
+    }
+  }
+
+  private static void decode10(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 54);
+      values[valuesOffset++] = (int) ((block0 >>> 44) & 1023L);
+      values[valuesOffset++] = (int) ((block0 >>> 34) & 1023L);
+      values[valuesOffset++] = (int) ((block0 >>> 24) & 1023L);
+      values[valuesOffset++] = (int) ((block0 >>> 14) & 1023L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 1023L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 15L) << 6) | (block1 >>> 58));
+      values[valuesOffset++] = (int) ((block1 >>> 48) & 1023L);
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 1023L);
+      values[valuesOffset++] = (int) ((block1 >>> 28) & 1023L);
+      values[valuesOffset++] = (int) ((block1 >>> 18) & 1023L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 1023L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 255L) << 2) | (block2 >>> 62));
+      values[valuesOffset++] = (int) ((block2 >>> 52) & 1023L);
+      values[valuesOffset++] = (int) ((block2 >>> 42) & 1023L);
+      values[valuesOffset++] = (int) ((block2 >>> 32) & 1023L);
+      values[valuesOffset++] = (int) ((block2 >>> 22) & 1023L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 1023L);
+      values[valuesOffset++] = (int) ((block2 >>> 2) & 1023L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 3L) << 8) | (block3 >>> 56));
+      values[valuesOffset++] = (int) ((block3 >>> 46) & 1023L);
+      values[valuesOffset++] = (int) ((block3 >>> 36) & 1023L);
+      values[valuesOffset++] = (int) ((block3 >>> 26) & 1023L);
+      values[valuesOffset++] = (int) ((block3 >>> 16) & 1023L);
+      values[valuesOffset++] = (int) ((block3 >>> 6) & 1023L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 63L) << 4) | (block4 >>> 60));
+      values[valuesOffset++] = (int) ((block4 >>> 50) & 1023L);
+      values[valuesOffset++] = (int) ((block4 >>> 40) & 1023L);
+      values[valuesOffset++] = (int) ((block4 >>> 30) & 1023L);
+      values[valuesOffset++] = (int) ((block4 >>> 20) & 1023L);
+      values[valuesOffset++] = (int) ((block4 >>> 10) & 1023L);
+      values[valuesOffset++] = (int) (block4 & 1023L);
+    }
+  }
+
+  private static void decode10(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 2) | (byte1 >>> 6);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 63) << 4) | (byte2 >>> 4);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 15) << 6) | (byte3 >>> 2);
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 3) << 8) | byte4;
+    }
+  }
+
+  private static void decode10(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 54;
+      values[valuesOffset++] = (block0 >>> 44) & 1023L;
+      values[valuesOffset++] = (block0 >>> 34) & 1023L;
+      values[valuesOffset++] = (block0 >>> 24) & 1023L;
+      values[valuesOffset++] = (block0 >>> 14) & 1023L;
+      values[valuesOffset++] = (block0 >>> 4) & 1023L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 15L) << 6) | (block1 >>> 58);
+      values[valuesOffset++] = (block1 >>> 48) & 1023L;
+      values[valuesOffset++] = (block1 >>> 38) & 1023L;
+      values[valuesOffset++] = (block1 >>> 28) & 1023L;
+      values[valuesOffset++] = (block1 >>> 18) & 1023L;
+      values[valuesOffset++] = (block1 >>> 8) & 1023L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 255L) << 2) | (block2 >>> 62);
+      values[valuesOffset++] = (block2 >>> 52) & 1023L;
+      values[valuesOffset++] = (block2 >>> 42) & 1023L;
+      values[valuesOffset++] = (block2 >>> 32) & 1023L;
+      values[valuesOffset++] = (block2 >>> 22) & 1023L;
+      values[valuesOffset++] = (block2 >>> 12) & 1023L;
+      values[valuesOffset++] = (block2 >>> 2) & 1023L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 3L) << 8) | (block3 >>> 56);
+      values[valuesOffset++] = (block3 >>> 46) & 1023L;
+      values[valuesOffset++] = (block3 >>> 36) & 1023L;
+      values[valuesOffset++] = (block3 >>> 26) & 1023L;
+      values[valuesOffset++] = (block3 >>> 16) & 1023L;
+      values[valuesOffset++] = (block3 >>> 6) & 1023L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 63L) << 4) | (block4 >>> 60);
+      values[valuesOffset++] = (block4 >>> 50) & 1023L;
+      values[valuesOffset++] = (block4 >>> 40) & 1023L;
+      values[valuesOffset++] = (block4 >>> 30) & 1023L;
+      values[valuesOffset++] = (block4 >>> 20) & 1023L;
+      values[valuesOffset++] = (block4 >>> 10) & 1023L;
+      values[valuesOffset++] = block4 & 1023L;
+    }
+  }
+
+  private static void decode10(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 2) | (byte1 >>> 6);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 63) << 4) | (byte2 >>> 4);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 15) << 6) | (byte3 >>> 2);
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 3) << 8) | byte4;
+    }
+  }
+
+  private static void decode11(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 53);
+      values[valuesOffset++] = (int) ((block0 >>> 42) & 2047L);
+      values[valuesOffset++] = (int) ((block0 >>> 31) & 2047L);
+      values[valuesOffset++] = (int) ((block0 >>> 20) & 2047L);
+      values[valuesOffset++] = (int) ((block0 >>> 9) & 2047L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 511L) << 2) | (block1 >>> 62));
+      values[valuesOffset++] = (int) ((block1 >>> 51) & 2047L);
+      values[valuesOffset++] = (int) ((block1 >>> 40) & 2047L);
+      values[valuesOffset++] = (int) ((block1 >>> 29) & 2047L);
+      values[valuesOffset++] = (int) ((block1 >>> 18) & 2047L);
+      values[valuesOffset++] = (int) ((block1 >>> 7) & 2047L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 127L) << 4) | (block2 >>> 60));
+      values[valuesOffset++] = (int) ((block2 >>> 49) & 2047L);
+      values[valuesOffset++] = (int) ((block2 >>> 38) & 2047L);
+      values[valuesOffset++] = (int) ((block2 >>> 27) & 2047L);
+      values[valuesOffset++] = (int) ((block2 >>> 16) & 2047L);
+      values[valuesOffset++] = (int) ((block2 >>> 5) & 2047L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 31L) << 6) | (block3 >>> 58));
+      values[valuesOffset++] = (int) ((block3 >>> 47) & 2047L);
+      values[valuesOffset++] = (int) ((block3 >>> 36) & 2047L);
+      values[valuesOffset++] = (int) ((block3 >>> 25) & 2047L);
+      values[valuesOffset++] = (int) ((block3 >>> 14) & 2047L);
+      values[valuesOffset++] = (int) ((block3 >>> 3) & 2047L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 7L) << 8) | (block4 >>> 56));
+      values[valuesOffset++] = (int) ((block4 >>> 45) & 2047L);
+      values[valuesOffset++] = (int) ((block4 >>> 34) & 2047L);
+      values[valuesOffset++] = (int) ((block4 >>> 23) & 2047L);
+      values[valuesOffset++] = (int) ((block4 >>> 12) & 2047L);
+      values[valuesOffset++] = (int) ((block4 >>> 1) & 2047L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 1L) << 10) | (block5 >>> 54));
+      values[valuesOffset++] = (int) ((block5 >>> 43) & 2047L);
+      values[valuesOffset++] = (int) ((block5 >>> 32) & 2047L);
+      values[valuesOffset++] = (int) ((block5 >>> 21) & 2047L);
+      values[valuesOffset++] = (int) ((block5 >>> 10) & 2047L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 1023L) << 1) | (block6 >>> 63));
+      values[valuesOffset++] = (int) ((block6 >>> 52) & 2047L);
+      values[valuesOffset++] = (int) ((block6 >>> 41) & 2047L);
+      values[valuesOffset++] = (int) ((block6 >>> 30) & 2047L);
+      values[valuesOffset++] = (int) ((block6 >>> 19) & 2047L);
+      values[valuesOffset++] = (int) ((block6 >>> 8) & 2047L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 255L) << 3) | (block7 >>> 61));
+      values[valuesOffset++] = (int) ((block7 >>> 50) & 2047L);
+      values[valuesOffset++] = (int) ((block7 >>> 39) & 2047L);
+      values[valuesOffset++] = (int) ((block7 >>> 28) & 2047L);
+      values[valuesOffset++] = (int) ((block7 >>> 17) & 2047L);
+      values[valuesOffset++] = (int) ((block7 >>> 6) & 2047L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 63L) << 5) | (block8 >>> 59));
+      values[valuesOffset++] = (int) ((block8 >>> 48) & 2047L);
+      values[valuesOffset++] = (int) ((block8 >>> 37) & 2047L);
+      values[valuesOffset++] = (int) ((block8 >>> 26) & 2047L);
+      values[valuesOffset++] = (int) ((block8 >>> 15) & 2047L);
+      values[valuesOffset++] = (int) ((block8 >>> 4) & 2047L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 15L) << 7) | (block9 >>> 57));
+      values[valuesOffset++] = (int) ((block9 >>> 46) & 2047L);
+      values[valuesOffset++] = (int) ((block9 >>> 35) & 2047L);
+      values[valuesOffset++] = (int) ((block9 >>> 24) & 2047L);
+      values[valuesOffset++] = (int) ((block9 >>> 13) & 2047L);
+      values[valuesOffset++] = (int) ((block9 >>> 2) & 2047L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 3L) << 9) | (block10 >>> 55));
+      values[valuesOffset++] = (int) ((block10 >>> 44) & 2047L);
+      values[valuesOffset++] = (int) ((block10 >>> 33) & 2047L);
+      values[valuesOffset++] = (int) ((block10 >>> 22) & 2047L);
+      values[valuesOffset++] = (int) ((block10 >>> 11) & 2047L);
+      values[valuesOffset++] = (int) (block10 & 2047L);
+    }
+  }
+
+  private static void decode11(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 3) | (byte1 >>> 5);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 31) << 6) | (byte2 >>> 2);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 3) << 9) | (byte3 << 1) | (byte4 >>> 7);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 127) << 4) | (byte5 >>> 4);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 15) << 7) | (byte6 >>> 1);
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 1) << 10) | (byte7 << 2) | (byte8 >>> 6);
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 63) << 5) | (byte9 >>> 3);
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 7) << 8) | byte10;
+    }
+  }
+
+  private static void decode11(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 53;
+      values[valuesOffset++] = (block0 >>> 42) & 2047L;
+      values[valuesOffset++] = (block0 >>> 31) & 2047L;
+      values[valuesOffset++] = (block0 >>> 20) & 2047L;
+      values[valuesOffset++] = (block0 >>> 9) & 2047L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 511L) << 2) | (block1 >>> 62);
+      values[valuesOffset++] = (block1 >>> 51) & 2047L;
+      values[valuesOffset++] = (block1 >>> 40) & 2047L;
+      values[valuesOffset++] = (block1 >>> 29) & 2047L;
+      values[valuesOffset++] = (block1 >>> 18) & 2047L;
+      values[valuesOffset++] = (block1 >>> 7) & 2047L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 127L) << 4) | (block2 >>> 60);
+      values[valuesOffset++] = (block2 >>> 49) & 2047L;
+      values[valuesOffset++] = (block2 >>> 38) & 2047L;
+      values[valuesOffset++] = (block2 >>> 27) & 2047L;
+      values[valuesOffset++] = (block2 >>> 16) & 2047L;
+      values[valuesOffset++] = (block2 >>> 5) & 2047L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 31L) << 6) | (block3 >>> 58);
+      values[valuesOffset++] = (block3 >>> 47) & 2047L;
+      values[valuesOffset++] = (block3 >>> 36) & 2047L;
+      values[valuesOffset++] = (block3 >>> 25) & 2047L;
+      values[valuesOffset++] = (block3 >>> 14) & 2047L;
+      values[valuesOffset++] = (block3 >>> 3) & 2047L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 7L) << 8) | (block4 >>> 56);
+      values[valuesOffset++] = (block4 >>> 45) & 2047L;
+      values[valuesOffset++] = (block4 >>> 34) & 2047L;
+      values[valuesOffset++] = (block4 >>> 23) & 2047L;
+      values[valuesOffset++] = (block4 >>> 12) & 2047L;
+      values[valuesOffset++] = (block4 >>> 1) & 2047L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 1L) << 10) | (block5 >>> 54);
+      values[valuesOffset++] = (block5 >>> 43) & 2047L;
+      values[valuesOffset++] = (block5 >>> 32) & 2047L;
+      values[valuesOffset++] = (block5 >>> 21) & 2047L;
+      values[valuesOffset++] = (block5 >>> 10) & 2047L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 1023L) << 1) | (block6 >>> 63);
+      values[valuesOffset++] = (block6 >>> 52) & 2047L;
+      values[valuesOffset++] = (block6 >>> 41) & 2047L;
+      values[valuesOffset++] = (block6 >>> 30) & 2047L;
+      values[valuesOffset++] = (block6 >>> 19) & 2047L;
+      values[valuesOffset++] = (block6 >>> 8) & 2047L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 255L) << 3) | (block7 >>> 61);
+      values[valuesOffset++] = (block7 >>> 50) & 2047L;
+      values[valuesOffset++] = (block7 >>> 39) & 2047L;
+      values[valuesOffset++] = (block7 >>> 28) & 2047L;
+      values[valuesOffset++] = (block7 >>> 17) & 2047L;
+      values[valuesOffset++] = (block7 >>> 6) & 2047L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 63L) << 5) | (block8 >>> 59);
+      values[valuesOffset++] = (block8 >>> 48) & 2047L;
+      values[valuesOffset++] = (block8 >>> 37) & 2047L;
+      values[valuesOffset++] = (block8 >>> 26) & 2047L;
+      values[valuesOffset++] = (block8 >>> 15) & 2047L;
+      values[valuesOffset++] = (block8 >>> 4) & 2047L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 15L) << 7) | (block9 >>> 57);
+      values[valuesOffset++] = (block9 >>> 46) & 2047L;
+      values[valuesOffset++] = (block9 >>> 35) & 2047L;
+      values[valuesOffset++] = (block9 >>> 24) & 2047L;
+      values[valuesOffset++] = (block9 >>> 13) & 2047L;
+      values[valuesOffset++] = (block9 >>> 2) & 2047L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 3L) << 9) | (block10 >>> 55);
+      values[valuesOffset++] = (block10 >>> 44) & 2047L;
+      values[valuesOffset++] = (block10 >>> 33) & 2047L;
+      values[valuesOffset++] = (block10 >>> 22) & 2047L;
+      values[valuesOffset++] = (block10 >>> 11) & 2047L;
+      values[valuesOffset++] = block10 & 2047L;
+    }
+  }
+
+  private static void decode11(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 3) | (byte1 >>> 5);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 31) << 6) | (byte2 >>> 2);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 3) << 9) | (byte3 << 1) | (byte4 >>> 7);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 127) << 4) | (byte5 >>> 4);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 15) << 7) | (byte6 >>> 1);
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 1) << 10) | (byte7 << 2) | (byte8 >>> 6);
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 63) << 5) | (byte9 >>> 3);
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 7) << 8) | byte10;
+    }
+  }
+
+  private static void decode12(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 52);
+      values[valuesOffset++] = (int) ((block0 >>> 40) & 4095L);
+      values[valuesOffset++] = (int) ((block0 >>> 28) & 4095L);
+      values[valuesOffset++] = (int) ((block0 >>> 16) & 4095L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 4095L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 15L) << 8) | (block1 >>> 56));
+      values[valuesOffset++] = (int) ((block1 >>> 44) & 4095L);
+      values[valuesOffset++] = (int) ((block1 >>> 32) & 4095L);
+      values[valuesOffset++] = (int) ((block1 >>> 20) & 4095L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 4095L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 255L) << 4) | (block2 >>> 60));
+      values[valuesOffset++] = (int) ((block2 >>> 48) & 4095L);
+      values[valuesOffset++] = (int) ((block2 >>> 36) & 4095L);
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 4095L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 4095L);
+      values[valuesOffset++] = (int) (block2 & 4095L);
+    }
+  }
+
+  private static void decode12(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 4) | (byte1 >>> 4);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 15) << 8) | byte2;
+    }
+  }
+
+  private static void decode12(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 52;
+      values[valuesOffset++] = (block0 >>> 40) & 4095L;
+      values[valuesOffset++] = (block0 >>> 28) & 4095L;
+      values[valuesOffset++] = (block0 >>> 16) & 4095L;
+      values[valuesOffset++] = (block0 >>> 4) & 4095L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 15L) << 8) | (block1 >>> 56);
+      values[valuesOffset++] = (block1 >>> 44) & 4095L;
+      values[valuesOffset++] = (block1 >>> 32) & 4095L;
+      values[valuesOffset++] = (block1 >>> 20) & 4095L;
+      values[valuesOffset++] = (block1 >>> 8) & 4095L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 255L) << 4) | (block2 >>> 60);
+      values[valuesOffset++] = (block2 >>> 48) & 4095L;
+      values[valuesOffset++] = (block2 >>> 36) & 4095L;
+      values[valuesOffset++] = (block2 >>> 24) & 4095L;
+      values[valuesOffset++] = (block2 >>> 12) & 4095L;
+      values[valuesOffset++] = block2 & 4095L;
+    }
+  }
+
+  private static void decode12(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 4) | (byte1 >>> 4);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 15) << 8) | byte2;
+    }
+  }
+
+  private static void decode13(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 51);
+      values[valuesOffset++] = (int) ((block0 >>> 38) & 8191L);
+      values[valuesOffset++] = (int) ((block0 >>> 25) & 8191L);
+      values[valuesOffset++] = (int) ((block0 >>> 12) & 8191L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 4095L) << 1) | (block1 >>> 63));
+      values[valuesOffset++] = (int) ((block1 >>> 50) & 8191L);
+      values[valuesOffset++] = (int) ((block1 >>> 37) & 8191L);
+      values[valuesOffset++] = (int) ((block1 >>> 24) & 8191L);
+      values[valuesOffset++] = (int) ((block1 >>> 11) & 8191L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 2047L) << 2) | (block2 >>> 62));
+      values[valuesOffset++] = (int) ((block2 >>> 49) & 8191L);
+      values[valuesOffset++] = (int) ((block2 >>> 36) & 8191L);
+      values[valuesOffset++] = (int) ((block2 >>> 23) & 8191L);
+      values[valuesOffset++] = (int) ((block2 >>> 10) & 8191L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 1023L) << 3) | (block3 >>> 61));
+      values[valuesOffset++] = (int) ((block3 >>> 48) & 8191L);
+      values[valuesOffset++] = (int) ((block3 >>> 35) & 8191L);
+      values[valuesOffset++] = (int) ((block3 >>> 22) & 8191L);
+      values[valuesOffset++] = (int) ((block3 >>> 9) & 8191L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 511L) << 4) | (block4 >>> 60));
+      values[valuesOffset++] = (int) ((block4 >>> 47) & 8191L);
+      values[valuesOffset++] = (int) ((block4 >>> 34) & 8191L);
+      values[valuesOffset++] = (int) ((block4 >>> 21) & 8191L);
+      values[valuesOffset++] = (int) ((block4 >>> 8) & 8191L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 255L) << 5) | (block5 >>> 59));
+      values[valuesOffset++] = (int) ((block5 >>> 46) & 8191L);
+      values[valuesOffset++] = (int) ((block5 >>> 33) & 8191L);
+      values[valuesOffset++] = (int) ((block5 >>> 20) & 8191L);
+      values[valuesOffset++] = (int) ((block5 >>> 7) & 8191L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 127L) << 6) | (block6 >>> 58));
+      values[valuesOffset++] = (int) ((block6 >>> 45) & 8191L);
+      values[valuesOffset++] = (int) ((block6 >>> 32) & 8191L);
+      values[valuesOffset++] = (int) ((block6 >>> 19) & 8191L);
+      values[valuesOffset++] = (int) ((block6 >>> 6) & 8191L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 63L) << 7) | (block7 >>> 57));
+      values[valuesOffset++] = (int) ((block7 >>> 44) & 8191L);
+      values[valuesOffset++] = (int) ((block7 >>> 31) & 8191L);
+      values[valuesOffset++] = (int) ((block7 >>> 18) & 8191L);
+      values[valuesOffset++] = (int) ((block7 >>> 5) & 8191L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 31L) << 8) | (block8 >>> 56));
+      values[valuesOffset++] = (int) ((block8 >>> 43) & 8191L);
+      values[valuesOffset++] = (int) ((block8 >>> 30) & 8191L);
+      values[valuesOffset++] = (int) ((block8 >>> 17) & 8191L);
+      values[valuesOffset++] = (int) ((block8 >>> 4) & 8191L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 15L) << 9) | (block9 >>> 55));
+      values[valuesOffset++] = (int) ((block9 >>> 42) & 8191L);
+      values[valuesOffset++] = (int) ((block9 >>> 29) & 8191L);
+      values[valuesOffset++] = (int) ((block9 >>> 16) & 8191L);
+      values[valuesOffset++] = (int) ((block9 >>> 3) & 8191L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 7L) << 10) | (block10 >>> 54));
+      values[valuesOffset++] = (int) ((block10 >>> 41) & 8191L);
+      values[valuesOffset++] = (int) ((block10 >>> 28) & 8191L);
+      values[valuesOffset++] = (int) ((block10 >>> 15) & 8191L);
+      values[valuesOffset++] = (int) ((block10 >>> 2) & 8191L);
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block10 & 3L) << 11) | (block11 >>> 53));
+      values[valuesOffset++] = (int) ((block11 >>> 40) & 8191L);
+      values[valuesOffset++] = (int) ((block11 >>> 27) & 8191L);
+      values[valuesOffset++] = (int) ((block11 >>> 14) & 8191L);
+      values[valuesOffset++] = (int) ((block11 >>> 1) & 8191L);
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block11 & 1L) << 12) | (block12 >>> 52));
+      values[valuesOffset++] = (int) ((block12 >>> 39) & 8191L);
+      values[valuesOffset++] = (int) ((block12 >>> 26) & 8191L);
+      values[valuesOffset++] = (int) ((block12 >>> 13) & 8191L);
+      values[valuesOffset++] = (int) (block12 & 8191L);
+    }
+  }
+
+  private static void decode13(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 5) | (byte1 >>> 3);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 7) << 10) | (byte2 << 2) | (byte3 >>> 6);
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 63) << 7) | (byte4 >>> 1);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 1) << 12) | (byte5 << 4) | (byte6 >>> 4);
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 15) << 9) | (byte7 << 1) | (byte8 >>> 7);
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 127) << 6) | (byte9 >>> 2);
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      final int byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 3) << 11) | (byte10 << 3) | (byte11 >>> 5);
+      final int byte12 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 31) << 8) | byte12;
+    }
+  }
+
+  private static void decode13(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 51;
+      values[valuesOffset++] = (block0 >>> 38) & 8191L;
+      values[valuesOffset++] = (block0 >>> 25) & 8191L;
+      values[valuesOffset++] = (block0 >>> 12) & 8191L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 4095L) << 1) | (block1 >>> 63);
+      values[valuesOffset++] = (block1 >>> 50) & 8191L;
+      values[valuesOffset++] = (block1 >>> 37) & 8191L;
+      values[valuesOffset++] = (block1 >>> 24) & 8191L;
+      values[valuesOffset++] = (block1 >>> 11) & 8191L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 2047L) << 2) | (block2 >>> 62);
+      values[valuesOffset++] = (block2 >>> 49) & 8191L;
+      values[valuesOffset++] = (block2 >>> 36) & 8191L;
+      values[valuesOffset++] = (block2 >>> 23) & 8191L;
+      values[valuesOffset++] = (block2 >>> 10) & 8191L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 1023L) << 3) | (block3 >>> 61);
+      values[valuesOffset++] = (block3 >>> 48) & 8191L;
+      values[valuesOffset++] = (block3 >>> 35) & 8191L;
+      values[valuesOffset++] = (block3 >>> 22) & 8191L;
+      values[valuesOffset++] = (block3 >>> 9) & 8191L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 511L) << 4) | (block4 >>> 60);
+      values[valuesOffset++] = (block4 >>> 47) & 8191L;
+      values[valuesOffset++] = (block4 >>> 34) & 8191L;
+      values[valuesOffset++] = (block4 >>> 21) & 8191L;
+      values[valuesOffset++] = (block4 >>> 8) & 8191L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 255L) << 5) | (block5 >>> 59);
+      values[valuesOffset++] = (block5 >>> 46) & 8191L;
+      values[valuesOffset++] = (block5 >>> 33) & 8191L;
+      values[valuesOffset++] = (block5 >>> 20) & 8191L;
+      values[valuesOffset++] = (block5 >>> 7) & 8191L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 127L) << 6) | (block6 >>> 58);
+      values[valuesOffset++] = (block6 >>> 45) & 8191L;
+      values[valuesOffset++] = (block6 >>> 32) & 8191L;
+      values[valuesOffset++] = (block6 >>> 19) & 8191L;
+      values[valuesOffset++] = (block6 >>> 6) & 8191L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 63L) << 7) | (block7 >>> 57);
+      values[valuesOffset++] = (block7 >>> 44) & 8191L;
+      values[valuesOffset++] = (block7 >>> 31) & 8191L;
+      values[valuesOffset++] = (block7 >>> 18) & 8191L;
+      values[valuesOffset++] = (block7 >>> 5) & 8191L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 31L) << 8) | (block8 >>> 56);
+      values[valuesOffset++] = (block8 >>> 43) & 8191L;
+      values[valuesOffset++] = (block8 >>> 30) & 8191L;
+      values[valuesOffset++] = (block8 >>> 17) & 8191L;
+      values[valuesOffset++] = (block8 >>> 4) & 8191L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 15L) << 9) | (block9 >>> 55);
+      values[valuesOffset++] = (block9 >>> 42) & 8191L;
+      values[valuesOffset++] = (block9 >>> 29) & 8191L;
+      values[valuesOffset++] = (block9 >>> 16) & 8191L;
+      values[valuesOffset++] = (block9 >>> 3) & 8191L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 7L) << 10) | (block10 >>> 54);
+      values[valuesOffset++] = (block10 >>> 41) & 8191L;
+      values[valuesOffset++] = (block10 >>> 28) & 8191L;
+      values[valuesOffset++] = (block10 >>> 15) & 8191L;
+      values[valuesOffset++] = (block10 >>> 2) & 8191L;
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block10 & 3L) << 11) | (block11 >>> 53);
+      values[valuesOffset++] = (block11 >>> 40) & 8191L;
+      values[valuesOffset++] = (block11 >>> 27) & 8191L;
+      values[valuesOffset++] = (block11 >>> 14) & 8191L;
+      values[valuesOffset++] = (block11 >>> 1) & 8191L;
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block11 & 1L) << 12) | (block12 >>> 52);
+      values[valuesOffset++] = (block12 >>> 39) & 8191L;
+      values[valuesOffset++] = (block12 >>> 26) & 8191L;
+      values[valuesOffset++] = (block12 >>> 13) & 8191L;
+      values[valuesOffset++] = block12 & 8191L;
+    }
+  }
+
+  private static void decode13(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 5) | (byte1 >>> 3);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 7) << 10) | (byte2 << 2) | (byte3 >>> 6);
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 63) << 7) | (byte4 >>> 1);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 1) << 12) | (byte5 << 4) | (byte6 >>> 4);
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 15) << 9) | (byte7 << 1) | (byte8 >>> 7);
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 127) << 6) | (byte9 >>> 2);
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      final long byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 3) << 11) | (byte10 << 3) | (byte11 >>> 5);
+      final long byte12 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 31) << 8) | byte12;
+    }
+  }
+
+  private static void decode14(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 50);
+      values[valuesOffset++] = (int) ((block0 >>> 36) & 16383L);
+      values[valuesOffset++] = (int) ((block0 >>> 22) & 16383L);
+      values[valuesOffset++] = (int) ((block0 >>> 8) & 16383L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 255L) << 6) | (block1 >>> 58));
+      values[valuesOffset++] = (int) ((block1 >>> 44) & 16383L);
+      values[valuesOffset++] = (int) ((block1 >>> 30) & 16383L);
+      values[valuesOffset++] = (int) ((block1 >>> 16) & 16383L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 16383L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 12) | (block2 >>> 52));
+      values[valuesOffset++] = (int) ((block2 >>> 38) & 16383L);
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 16383L);
+      values[valuesOffset++] = (int) ((block2 >>> 10) & 16383L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 1023L) << 4) | (block3 >>> 60));
+      values[valuesOffset++] = (int) ((block3 >>> 46) & 16383L);
+      values[valuesOffset++] = (int) ((block3 >>> 32) & 16383L);
+      values[valuesOffset++] = (int) ((block3 >>> 18) & 16383L);
+      values[valuesOffset++] = (int) ((block3 >>> 4) & 16383L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 15L) << 10) | (block4 >>> 54));
+      values[valuesOffset++] = (int) ((block4 >>> 40) & 16383L);
+      values[valuesOffset++] = (int) ((block4 >>> 26) & 16383L);
+      values[valuesOffset++] = (int) ((block4 >>> 12) & 16383L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 4095L) << 2) | (block5 >>> 62));
+      values[valuesOffset++] = (int) ((block5 >>> 48) & 16383L);
+      values[valuesOffset++] = (int) ((block5 >>> 34) & 16383L);
+      values[valuesOffset++] = (int) ((block5 >>> 20) & 16383L);
+      values[valuesOffset++] = (int) ((block5 >>> 6) & 16383L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 63L) << 8) | (block6 >>> 56));
+      values[valuesOffset++] = (int) ((block6 >>> 42) & 16383L);
+      values[valuesOffset++] = (int) ((block6 >>> 28) & 16383L);
+      values[valuesOffset++] = (int) ((block6 >>> 14) & 16383L);
+      values[valuesOffset++] = (int) (block6 & 16383L);
+    }
+  }
+
+  private static void decode14(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 6) | (byte1 >>> 2);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 3) << 12) | (byte2 << 4) | (byte3 >>> 4);
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 15) << 10) | (byte4 << 2) | (byte5 >>> 6);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 63) << 8) | byte6;
+    }
+  }
+
+  private static void decode14(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 50;
+      values[valuesOffset++] = (block0 >>> 36) & 16383L;
+      values[valuesOffset++] = (block0 >>> 22) & 16383L;
+      values[valuesOffset++] = (block0 >>> 8) & 16383L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 255L) << 6) | (block1 >>> 58);
+      values[valuesOffset++] = (block1 >>> 44) & 16383L;
+      values[valuesOffset++] = (block1 >>> 30) & 16383L;
+      values[valuesOffset++] = (block1 >>> 16) & 16383L;
+      values[valuesOffset++] = (block1 >>> 2) & 16383L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 12) | (block2 >>> 52);
+      values[valuesOffset++] = (block2 >>> 38) & 16383L;
+      values[valuesOffset++] = (block2 >>> 24) & 16383L;
+      values[valuesOffset++] = (block2 >>> 10) & 16383L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 1023L) << 4) | (block3 >>> 60);
+      values[valuesOffset++] = (block3 >>> 46) & 16383L;
+      values[valuesOffset++] = (block3 >>> 32) & 16383L;
+      values[valuesOffset++] = (block3 >>> 18) & 16383L;
+      values[valuesOffset++] = (block3 >>> 4) & 16383L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 15L) << 10) | (block4 >>> 54);
+      values[valuesOffset++] = (block4 >>> 40) & 16383L;
+      values[valuesOffset++] = (block4 >>> 26) & 16383L;
+      values[valuesOffset++] = (block4 >>> 12) & 16383L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 4095L) << 2) | (block5 >>> 62);
+      values[valuesOffset++] = (block5 >>> 48) & 16383L;
+      values[valuesOffset++] = (block5 >>> 34) & 16383L;
+      values[valuesOffset++] = (block5 >>> 20) & 16383L;
+      values[valuesOffset++] = (block5 >>> 6) & 16383L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 63L) << 8) | (block6 >>> 56);
+      values[valuesOffset++] = (block6 >>> 42) & 16383L;
+      values[valuesOffset++] = (block6 >>> 28) & 16383L;
+      values[valuesOffset++] = (block6 >>> 14) & 16383L;
+      values[valuesOffset++] = block6 & 16383L;
+    }
+  }
+
+  private static void decode14(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 6) | (byte1 >>> 2);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 3) << 12) | (byte2 << 4) | (byte3 >>> 4);
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 15) << 10) | (byte4 << 2) | (byte5 >>> 6);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 63) << 8) | byte6;
+    }
+  }
+
+  private static void decode15(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 49);
+      values[valuesOffset++] = (int) ((block0 >>> 34) & 32767L);
+      values[valuesOffset++] = (int) ((block0 >>> 19) & 32767L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 32767L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 15L) << 11) | (block1 >>> 53));
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 32767L);
+      values[valuesOffset++] = (int) ((block1 >>> 23) & 32767L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 32767L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 255L) << 7) | (block2 >>> 57));
+      values[valuesOffset++] = (int) ((block2 >>> 42) & 32767L);
+      values[valuesOffset++] = (int) ((block2 >>> 27) & 32767L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 32767L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 4095L) << 3) | (block3 >>> 61));
+      values[valuesOffset++] = (int) ((block3 >>> 46) & 32767L);
+      values[valuesOffset++] = (int) ((block3 >>> 31) & 32767L);
+      values[valuesOffset++] = (int) ((block3 >>> 16) & 32767L);
+      values[valuesOffset++] = (int) ((block3 >>> 1) & 32767L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 1L) << 14) | (block4 >>> 50));
+      values[valuesOffset++] = (int) ((block4 >>> 35) & 32767L);
+      values[valuesOffset++] = (int) ((block4 >>> 20) & 32767L);
+      values[valuesOffset++] = (int) ((block4 >>> 5) & 32767L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 31L) << 10) | (block5 >>> 54));
+      values[valuesOffset++] = (int) ((block5 >>> 39) & 32767L);
+      values[valuesOffset++] = (int) ((block5 >>> 24) & 32767L);
+      values[valuesOffset++] = (int) ((block5 >>> 9) & 32767L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 511L) << 6) | (block6 >>> 58));
+      values[valuesOffset++] = (int) ((block6 >>> 43) & 32767L);
+      values[valuesOffset++] = (int) ((block6 >>> 28) & 32767L);
+      values[valuesOffset++] = (int) ((block6 >>> 13) & 32767L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 8191L) << 2) | (block7 >>> 62));
+      values[valuesOffset++] = (int) ((block7 >>> 47) & 32767L);
+      values[valuesOffset++] = (int) ((block7 >>> 32) & 32767L);
+      values[valuesOffset++] = (int) ((block7 >>> 17) & 32767L);
+      values[valuesOffset++] = (int) ((block7 >>> 2) & 32767L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 3L) << 13) | (block8 >>> 51));
+      values[valuesOffset++] = (int) ((block8 >>> 36) & 32767L);
+      values[valuesOffset++] = (int) ((block8 >>> 21) & 32767L);
+      values[valuesOffset++] = (int) ((block8 >>> 6) & 32767L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 63L) << 9) | (block9 >>> 55));
+      values[valuesOffset++] = (int) ((block9 >>> 40) & 32767L);
+      values[valuesOffset++] = (int) ((block9 >>> 25) & 32767L);
+      values[valuesOffset++] = (int) ((block9 >>> 10) & 32767L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 1023L) << 5) | (block10 >>> 59));
+      values[valuesOffset++] = (int) ((block10 >>> 44) & 32767L);
+      values[valuesOffset++] = (int) ((block10 >>> 29) & 32767L);
+      values[valuesOffset++] = (int) ((block10 >>> 14) & 32767L);
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block10 & 16383L) << 1) | (block11 >>> 63));
+      values[valuesOffset++] = (int) ((block11 >>> 48) & 32767L);
+      values[valuesOffset++] = (int) ((block11 >>> 33) & 32767L);
+      values[valuesOffset++] = (int) ((block11 >>> 18) & 32767L);
+      values[valuesOffset++] = (int) ((block11 >>> 3) & 32767L);
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block11 & 7L) << 12) | (block12 >>> 52));
+      values[valuesOffset++] = (int) ((block12 >>> 37) & 32767L);
+      values[valuesOffset++] = (int) ((block12 >>> 22) & 32767L);
+      values[valuesOffset++] = (int) ((block12 >>> 7) & 32767L);
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block12 & 127L) << 8) | (block13 >>> 56));
+      values[valuesOffset++] = (int) ((block13 >>> 41) & 32767L);
+      values[valuesOffset++] = (int) ((block13 >>> 26) & 32767L);
+      values[valuesOffset++] = (int) ((block13 >>> 11) & 32767L);
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block13 & 2047L) << 4) | (block14 >>> 60));
+      values[valuesOffset++] = (int) ((block14 >>> 45) & 32767L);
+      values[valuesOffset++] = (int) ((block14 >>> 30) & 32767L);
+      values[valuesOffset++] = (int) ((block14 >>> 15) & 32767L);
+      values[valuesOffset++] = (int) (block14 & 32767L);
+    }
+  }
+
+  private static void decode15(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 7) | (byte1 >>> 1);
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 1) << 14) | (byte2 << 6) | (byte3 >>> 2);
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 3) << 13) | (byte4 << 5) | (byte5 >>> 3);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 7) << 12) | (byte6 << 4) | (byte7 >>> 4);
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 15) << 11) | (byte8 << 3) | (byte9 >>> 5);
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      final int byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 31) << 10) | (byte10 << 2) | (byte11 >>> 6);
+      final int byte12 = blocks[blocksOffset++] & 0xFF;
+      final int byte13 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 63) << 9) | (byte12 << 1) | (byte13 >>> 7);
+      final int byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte13 & 127) << 8) | byte14;
+    }
+  }
+
+  private static void decode15(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 49;
+      values[valuesOffset++] = (block0 >>> 34) & 32767L;
+      values[valuesOffset++] = (block0 >>> 19) & 32767L;
+      values[valuesOffset++] = (block0 >>> 4) & 32767L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 15L) << 11) | (block1 >>> 53);
+      values[valuesOffset++] = (block1 >>> 38) & 32767L;
+      values[valuesOffset++] = (block1 >>> 23) & 32767L;
+      values[valuesOffset++] = (block1 >>> 8) & 32767L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 255L) << 7) | (block2 >>> 57);
+      values[valuesOffset++] = (block2 >>> 42) & 32767L;
+      values[valuesOffset++] = (block2 >>> 27) & 32767L;
+      values[valuesOffset++] = (block2 >>> 12) & 32767L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 4095L) << 3) | (block3 >>> 61);
+      values[valuesOffset++] = (block3 >>> 46) & 32767L;
+      values[valuesOffset++] = (block3 >>> 31) & 32767L;
+      values[valuesOffset++] = (block3 >>> 16) & 32767L;
+      values[valuesOffset++] = (block3 >>> 1) & 32767L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 1L) << 14) | (block4 >>> 50);
+      values[valuesOffset++] = (block4 >>> 35) & 32767L;
+      values[valuesOffset++] = (block4 >>> 20) & 32767L;
+      values[valuesOffset++] = (block4 >>> 5) & 32767L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 31L) << 10) | (block5 >>> 54);
+      values[valuesOffset++] = (block5 >>> 39) & 32767L;
+      values[valuesOffset++] = (block5 >>> 24) & 32767L;
+      values[valuesOffset++] = (block5 >>> 9) & 32767L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 511L) << 6) | (block6 >>> 58);
+      values[valuesOffset++] = (block6 >>> 43) & 32767L;
+      values[valuesOffset++] = (block6 >>> 28) & 32767L;
+      values[valuesOffset++] = (block6 >>> 13) & 32767L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 8191L) << 2) | (block7 >>> 62);
+      values[valuesOffset++] = (block7 >>> 47) & 32767L;
+      values[valuesOffset++] = (block7 >>> 32) & 32767L;
+      values[valuesOffset++] = (block7 >>> 17) & 32767L;
+      values[valuesOffset++] = (block7 >>> 2) & 32767L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 3L) << 13) | (block8 >>> 51);
+      values[valuesOffset++] = (block8 >>> 36) & 32767L;
+      values[valuesOffset++] = (block8 >>> 21) & 32767L;
+      values[valuesOffset++] = (block8 >>> 6) & 32767L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 63L) << 9) | (block9 >>> 55);
+      values[valuesOffset++] = (block9 >>> 40) & 32767L;
+      values[valuesOffset++] = (block9 >>> 25) & 32767L;
+      values[valuesOffset++] = (block9 >>> 10) & 32767L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 1023L) << 5) | (block10 >>> 59);
+      values[valuesOffset++] = (block10 >>> 44) & 32767L;
+      values[valuesOffset++] = (block10 >>> 29) & 32767L;
+      values[valuesOffset++] = (block10 >>> 14) & 32767L;
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block10 & 16383L) << 1) | (block11 >>> 63);
+      values[valuesOffset++] = (block11 >>> 48) & 32767L;
+      values[valuesOffset++] = (block11 >>> 33) & 32767L;
+      values[valuesOffset++] = (block11 >>> 18) & 32767L;
+      values[valuesOffset++] = (block11 >>> 3) & 32767L;
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block11 & 7L) << 12) | (block12 >>> 52);
+      values[valuesOffset++] = (block12 >>> 37) & 32767L;
+      values[valuesOffset++] = (block12 >>> 22) & 32767L;
+      values[valuesOffset++] = (block12 >>> 7) & 32767L;
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block12 & 127L) << 8) | (block13 >>> 56);
+      values[valuesOffset++] = (block13 >>> 41) & 32767L;
+      values[valuesOffset++] = (block13 >>> 26) & 32767L;
+      values[valuesOffset++] = (block13 >>> 11) & 32767L;
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block13 & 2047L) << 4) | (block14 >>> 60);
+      values[valuesOffset++] = (block14 >>> 45) & 32767L;
+      values[valuesOffset++] = (block14 >>> 30) & 32767L;
+      values[valuesOffset++] = (block14 >>> 15) & 32767L;
+      values[valuesOffset++] = block14 & 32767L;
+    }
+  }
+
+  private static void decode15(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 7) | (byte1 >>> 1);
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte1 & 1) << 14) | (byte2 << 6) | (byte3 >>> 2);
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte3 & 3) << 13) | (byte4 << 5) | (byte5 >>> 3);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 7) << 12) | (byte6 << 4) | (byte7 >>> 4);
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 15) << 11) | (byte8 << 3) | (byte9 >>> 5);
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      final long byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 31) << 10) | (byte10 << 2) | (byte11 >>> 6);
+      final long byte12 = blocks[blocksOffset++] & 0xFF;
+      final long byte13 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 63) << 9) | (byte12 << 1) | (byte13 >>> 7);
+      final long byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte13 & 127) << 8) | byte14;
+    }
+  }
+
+  private static void decode16(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 48; shift >= 0; shift -= 16) {
+        values[valuesOffset++] = (int) ((block >>> shift) & 65535);
+      }
+    }
+  }
+
+  private static void decode16(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      values[valuesOffset++] = ((blocks[blocksOffset++] & 0xFF) << 8) | (blocks[blocksOffset++] & 0xFF);
+    }
+  }
+
+  private static void decode16(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block = blocks[blocksOffset++];
+      for (int shift = 48; shift >= 0; shift -= 16) {
+        values[valuesOffset++] = (block >>> shift) & 65535;
+      }
+    }
+  }
+
+  private static void decode16(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int j = 0; j < iterations; ++j) {
+      values[valuesOffset++] = ((blocks[blocksOffset++] & 0xFFL) << 8) | (blocks[blocksOffset++] & 0xFFL);
+    }
+  }
+
+  private static void decode17(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 47);
+      values[valuesOffset++] = (int) ((block0 >>> 30) & 131071L);
+      values[valuesOffset++] = (int) ((block0 >>> 13) & 131071L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 8191L) << 4) | (block1 >>> 60));
+      values[valuesOffset++] = (int) ((block1 >>> 43) & 131071L);
+      values[valuesOffset++] = (int) ((block1 >>> 26) & 131071L);
+      values[valuesOffset++] = (int) ((block1 >>> 9) & 131071L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 511L) << 8) | (block2 >>> 56));
+      values[valuesOffset++] = (int) ((block2 >>> 39) & 131071L);
+      values[valuesOffset++] = (int) ((block2 >>> 22) & 131071L);
+      values[valuesOffset++] = (int) ((block2 >>> 5) & 131071L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 31L) << 12) | (block3 >>> 52));
+      values[valuesOffset++] = (int) ((block3 >>> 35) & 131071L);
+      values[valuesOffset++] = (int) ((block3 >>> 18) & 131071L);
+      values[valuesOffset++] = (int) ((block3 >>> 1) & 131071L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 1L) << 16) | (block4 >>> 48));
+      values[valuesOffset++] = (int) ((block4 >>> 31) & 131071L);
+      values[valuesOffset++] = (int) ((block4 >>> 14) & 131071L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 16383L) << 3) | (block5 >>> 61));
+      values[valuesOffset++] = (int) ((block5 >>> 44) & 131071L);
+      values[valuesOffset++] = (int) ((block5 >>> 27) & 131071L);
+      values[valuesOffset++] = (int) ((block5 >>> 10) & 131071L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 1023L) << 7) | (block6 >>> 57));
+      values[valuesOffset++] = (int) ((block6 >>> 40) & 131071L);
+      values[valuesOffset++] = (int) ((block6 >>> 23) & 131071L);
+      values[valuesOffset++] = (int) ((block6 >>> 6) & 131071L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 63L) << 11) | (block7 >>> 53));
+      values[valuesOffset++] = (int) ((block7 >>> 36) & 131071L);
+      values[valuesOffset++] = (int) ((block7 >>> 19) & 131071L);
+      values[valuesOffset++] = (int) ((block7 >>> 2) & 131071L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 3L) << 15) | (block8 >>> 49));
+      values[valuesOffset++] = (int) ((block8 >>> 32) & 131071L);
+      values[valuesOffset++] = (int) ((block8 >>> 15) & 131071L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 32767L) << 2) | (block9 >>> 62));
+      values[valuesOffset++] = (int) ((block9 >>> 45) & 131071L);
+      values[valuesOffset++] = (int) ((block9 >>> 28) & 131071L);
+      values[valuesOffset++] = (int) ((block9 >>> 11) & 131071L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 2047L) << 6) | (block10 >>> 58));
+      values[valuesOffset++] = (int) ((block10 >>> 41) & 131071L);
+      values[valuesOffset++] = (int) ((block10 >>> 24) & 131071L);
+      values[valuesOffset++] = (int) ((block10 >>> 7) & 131071L);
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block10 & 127L) << 10) | (block11 >>> 54));
+      values[valuesOffset++] = (int) ((block11 >>> 37) & 131071L);
+      values[valuesOffset++] = (int) ((block11 >>> 20) & 131071L);
+      values[valuesOffset++] = (int) ((block11 >>> 3) & 131071L);
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block11 & 7L) << 14) | (block12 >>> 50));
+      values[valuesOffset++] = (int) ((block12 >>> 33) & 131071L);
+      values[valuesOffset++] = (int) ((block12 >>> 16) & 131071L);
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block12 & 65535L) << 1) | (block13 >>> 63));
+      values[valuesOffset++] = (int) ((block13 >>> 46) & 131071L);
+      values[valuesOffset++] = (int) ((block13 >>> 29) & 131071L);
+      values[valuesOffset++] = (int) ((block13 >>> 12) & 131071L);
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block13 & 4095L) << 5) | (block14 >>> 59));
+      values[valuesOffset++] = (int) ((block14 >>> 42) & 131071L);
+      values[valuesOffset++] = (int) ((block14 >>> 25) & 131071L);
+      values[valuesOffset++] = (int) ((block14 >>> 8) & 131071L);
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block14 & 255L) << 9) | (block15 >>> 55));
+      values[valuesOffset++] = (int) ((block15 >>> 38) & 131071L);
+      values[valuesOffset++] = (int) ((block15 >>> 21) & 131071L);
+      values[valuesOffset++] = (int) ((block15 >>> 4) & 131071L);
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block15 & 15L) << 13) | (block16 >>> 51));
+      values[valuesOffset++] = (int) ((block16 >>> 34) & 131071L);
+      values[valuesOffset++] = (int) ((block16 >>> 17) & 131071L);
+      values[valuesOffset++] = (int) (block16 & 131071L);
+    }
+  }
+
+  private static void decode17(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 9) | (byte1 << 1) | (byte2 >>> 7);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 127) << 10) | (byte3 << 2) | (byte4 >>> 6);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 63) << 11) | (byte5 << 3) | (byte6 >>> 5);
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 31) << 12) | (byte7 << 4) | (byte8 >>> 4);
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 15) << 13) | (byte9 << 5) | (byte10 >>> 3);
+      final int byte11 = blocks[blocksOffset++] & 0xFF;
+      final int byte12 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte10 & 7) << 14) | (byte11 << 6) | (byte12 >>> 2);
+      final int byte13 = blocks[blocksOffset++] & 0xFF;
+      final int byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte12 & 3) << 15) | (byte13 << 7) | (byte14 >>> 1);
+      final int byte15 = blocks[blocksOffset++] & 0xFF;
+      final int byte16 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte14 & 1) << 16) | (byte15 << 8) | byte16;
+    }
+  }
+
+  private static void decode17(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 47;
+      values[valuesOffset++] = (block0 >>> 30) & 131071L;
+      values[valuesOffset++] = (block0 >>> 13) & 131071L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 8191L) << 4) | (block1 >>> 60);
+      values[valuesOffset++] = (block1 >>> 43) & 131071L;
+      values[valuesOffset++] = (block1 >>> 26) & 131071L;
+      values[valuesOffset++] = (block1 >>> 9) & 131071L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 511L) << 8) | (block2 >>> 56);
+      values[valuesOffset++] = (block2 >>> 39) & 131071L;
+      values[valuesOffset++] = (block2 >>> 22) & 131071L;
+      values[valuesOffset++] = (block2 >>> 5) & 131071L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 31L) << 12) | (block3 >>> 52);
+      values[valuesOffset++] = (block3 >>> 35) & 131071L;
+      values[valuesOffset++] = (block3 >>> 18) & 131071L;
+      values[valuesOffset++] = (block3 >>> 1) & 131071L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 1L) << 16) | (block4 >>> 48);
+      values[valuesOffset++] = (block4 >>> 31) & 131071L;
+      values[valuesOffset++] = (block4 >>> 14) & 131071L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 16383L) << 3) | (block5 >>> 61);
+      values[valuesOffset++] = (block5 >>> 44) & 131071L;
+      values[valuesOffset++] = (block5 >>> 27) & 131071L;
+      values[valuesOffset++] = (block5 >>> 10) & 131071L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 1023L) << 7) | (block6 >>> 57);
+      values[valuesOffset++] = (block6 >>> 40) & 131071L;
+      values[valuesOffset++] = (block6 >>> 23) & 131071L;
+      values[valuesOffset++] = (block6 >>> 6) & 131071L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 63L) << 11) | (block7 >>> 53);
+      values[valuesOffset++] = (block7 >>> 36) & 131071L;
+      values[valuesOffset++] = (block7 >>> 19) & 131071L;
+      values[valuesOffset++] = (block7 >>> 2) & 131071L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 3L) << 15) | (block8 >>> 49);
+      values[valuesOffset++] = (block8 >>> 32) & 131071L;
+      values[valuesOffset++] = (block8 >>> 15) & 131071L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 32767L) << 2) | (block9 >>> 62);
+      values[valuesOffset++] = (block9 >>> 45) & 131071L;
+      values[valuesOffset++] = (block9 >>> 28) & 131071L;
+      values[valuesOffset++] = (block9 >>> 11) & 131071L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 2047L) << 6) | (block10 >>> 58);
+      values[valuesOffset++] = (block10 >>> 41) & 131071L;
+      values[valuesOffset++] = (block10 >>> 24) & 131071L;
+      values[valuesOffset++] = (block10 >>> 7) & 131071L;
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block10 & 127L) << 10) | (block11 >>> 54);
+      values[valuesOffset++] = (block11 >>> 37) & 131071L;
+      values[valuesOffset++] = (block11 >>> 20) & 131071L;
+      values[valuesOffset++] = (block11 >>> 3) & 131071L;
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block11 & 7L) << 14) | (block12 >>> 50);
+      values[valuesOffset++] = (block12 >>> 33) & 131071L;
+      values[valuesOffset++] = (block12 >>> 16) & 131071L;
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block12 & 65535L) << 1) | (block13 >>> 63);
+      values[valuesOffset++] = (block13 >>> 46) & 131071L;
+      values[valuesOffset++] = (block13 >>> 29) & 131071L;
+      values[valuesOffset++] = (block13 >>> 12) & 131071L;
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block13 & 4095L) << 5) | (block14 >>> 59);
+      values[valuesOffset++] = (block14 >>> 42) & 131071L;
+      values[valuesOffset++] = (block14 >>> 25) & 131071L;
+      values[valuesOffset++] = (block14 >>> 8) & 131071L;
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block14 & 255L) << 9) | (block15 >>> 55);
+      values[valuesOffset++] = (block15 >>> 38) & 131071L;
+      values[valuesOffset++] = (block15 >>> 21) & 131071L;
+      values[valuesOffset++] = (block15 >>> 4) & 131071L;
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block15 & 15L) << 13) | (block16 >>> 51);
+      values[valuesOffset++] = (block16 >>> 34) & 131071L;
+      values[valuesOffset++] = (block16 >>> 17) & 131071L;
+      values[valuesOffset++] = block16 & 131071L;
+    }
+  }
+
+  private static void decode17(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 9) | (byte1 << 1) | (byte2 >>> 7);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 127) << 10) | (byte3 << 2) | (byte4 >>> 6);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 63) << 11) | (byte5 << 3) | (byte6 >>> 5);
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 31) << 12) | (byte7 << 4) | (byte8 >>> 4);
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 15) << 13) | (byte9 << 5) | (byte10 >>> 3);
+      final long byte11 = blocks[blocksOffset++] & 0xFF;
+      final long byte12 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte10 & 7) << 14) | (byte11 << 6) | (byte12 >>> 2);
+      final long byte13 = blocks[blocksOffset++] & 0xFF;
+      final long byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte12 & 3) << 15) | (byte13 << 7) | (byte14 >>> 1);
+      final long byte15 = blocks[blocksOffset++] & 0xFF;
+      final long byte16 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte14 & 1) << 16) | (byte15 << 8) | byte16;
+    }
+  }
+
+  private static void decode18(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 46);
+      values[valuesOffset++] = (int) ((block0 >>> 28) & 262143L);
+      values[valuesOffset++] = (int) ((block0 >>> 10) & 262143L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 1023L) << 8) | (block1 >>> 56));
+      values[valuesOffset++] = (int) ((block1 >>> 38) & 262143L);
+      values[valuesOffset++] = (int) ((block1 >>> 20) & 262143L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 262143L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 16) | (block2 >>> 48));
+      values[valuesOffset++] = (int) ((block2 >>> 30) & 262143L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 262143L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 4095L) << 6) | (block3 >>> 58));
+      values[valuesOffset++] = (int) ((block3 >>> 40) & 262143L);
+      values[valuesOffset++] = (int) ((block3 >>> 22) & 262143L);
+      values[valuesOffset++] = (int) ((block3 >>> 4) & 262143L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 15L) << 14) | (block4 >>> 50));
+      values[valuesOffset++] = (int) ((block4 >>> 32) & 262143L);
+      values[valuesOffset++] = (int) ((block4 >>> 14) & 262143L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 16383L) << 4) | (block5 >>> 60));
+      values[valuesOffset++] = (int) ((block5 >>> 42) & 262143L);
+      values[valuesOffset++] = (int) ((block5 >>> 24) & 262143L);
+      values[valuesOffset++] = (int) ((block5 >>> 6) & 262143L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 63L) << 12) | (block6 >>> 52));
+      values[valuesOffset++] = (int) ((block6 >>> 34) & 262143L);
+      values[valuesOffset++] = (int) ((block6 >>> 16) & 262143L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 65535L) << 2) | (block7 >>> 62));
+      values[valuesOffset++] = (int) ((block7 >>> 44) & 262143L);
+      values[valuesOffset++] = (int) ((block7 >>> 26) & 262143L);
+      values[valuesOffset++] = (int) ((block7 >>> 8) & 262143L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 255L) << 10) | (block8 >>> 54));
+      values[valuesOffset++] = (int) ((block8 >>> 36) & 262143L);
+      values[valuesOffset++] = (int) ((block8 >>> 18) & 262143L);
+      values[valuesOffset++] = (int) (block8 & 262143L);
+    }
+  }
+
+  private static void decode18(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 10) | (byte1 << 2) | (byte2 >>> 6);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 63) << 12) | (byte3 << 4) | (byte4 >>> 4);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 15) << 14) | (byte5 << 6) | (byte6 >>> 2);
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 3) << 16) | (byte7 << 8) | byte8;
+    }
+  }
+
+  private static void decode18(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 46;
+      values[valuesOffset++] = (block0 >>> 28) & 262143L;
+      values[valuesOffset++] = (block0 >>> 10) & 262143L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 1023L) << 8) | (block1 >>> 56);
+      values[valuesOffset++] = (block1 >>> 38) & 262143L;
+      values[valuesOffset++] = (block1 >>> 20) & 262143L;
+      values[valuesOffset++] = (block1 >>> 2) & 262143L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 16) | (block2 >>> 48);
+      values[valuesOffset++] = (block2 >>> 30) & 262143L;
+      values[valuesOffset++] = (block2 >>> 12) & 262143L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 4095L) << 6) | (block3 >>> 58);
+      values[valuesOffset++] = (block3 >>> 40) & 262143L;
+      values[valuesOffset++] = (block3 >>> 22) & 262143L;
+      values[valuesOffset++] = (block3 >>> 4) & 262143L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 15L) << 14) | (block4 >>> 50);
+      values[valuesOffset++] = (block4 >>> 32) & 262143L;
+      values[valuesOffset++] = (block4 >>> 14) & 262143L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 16383L) << 4) | (block5 >>> 60);
+      values[valuesOffset++] = (block5 >>> 42) & 262143L;
+      values[valuesOffset++] = (block5 >>> 24) & 262143L;
+      values[valuesOffset++] = (block5 >>> 6) & 262143L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 63L) << 12) | (block6 >>> 52);
+      values[valuesOffset++] = (block6 >>> 34) & 262143L;
+      values[valuesOffset++] = (block6 >>> 16) & 262143L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 65535L) << 2) | (block7 >>> 62);
+      values[valuesOffset++] = (block7 >>> 44) & 262143L;
+      values[valuesOffset++] = (block7 >>> 26) & 262143L;
+      values[valuesOffset++] = (block7 >>> 8) & 262143L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 255L) << 10) | (block8 >>> 54);
+      values[valuesOffset++] = (block8 >>> 36) & 262143L;
+      values[valuesOffset++] = (block8 >>> 18) & 262143L;
+      values[valuesOffset++] = block8 & 262143L;
+    }
+  }
+
+  private static void decode18(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 10) | (byte1 << 2) | (byte2 >>> 6);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 63) << 12) | (byte3 << 4) | (byte4 >>> 4);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 15) << 14) | (byte5 << 6) | (byte6 >>> 2);
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte6 & 3) << 16) | (byte7 << 8) | byte8;
+    }
+  }
+
+  private static void decode19(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 45);
+      values[valuesOffset++] = (int) ((block0 >>> 26) & 524287L);
+      values[valuesOffset++] = (int) ((block0 >>> 7) & 524287L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 127L) << 12) | (block1 >>> 52));
+      values[valuesOffset++] = (int) ((block1 >>> 33) & 524287L);
+      values[valuesOffset++] = (int) ((block1 >>> 14) & 524287L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 16383L) << 5) | (block2 >>> 59));
+      values[valuesOffset++] = (int) ((block2 >>> 40) & 524287L);
+      values[valuesOffset++] = (int) ((block2 >>> 21) & 524287L);
+      values[valuesOffset++] = (int) ((block2 >>> 2) & 524287L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 3L) << 17) | (block3 >>> 47));
+      values[valuesOffset++] = (int) ((block3 >>> 28) & 524287L);
+      values[valuesOffset++] = (int) ((block3 >>> 9) & 524287L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 511L) << 10) | (block4 >>> 54));
+      values[valuesOffset++] = (int) ((block4 >>> 35) & 524287L);
+      values[valuesOffset++] = (int) ((block4 >>> 16) & 524287L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 65535L) << 3) | (block5 >>> 61));
+      values[valuesOffset++] = (int) ((block5 >>> 42) & 524287L);
+      values[valuesOffset++] = (int) ((block5 >>> 23) & 524287L);
+      values[valuesOffset++] = (int) ((block5 >>> 4) & 524287L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 15L) << 15) | (block6 >>> 49));
+      values[valuesOffset++] = (int) ((block6 >>> 30) & 524287L);
+      values[valuesOffset++] = (int) ((block6 >>> 11) & 524287L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 2047L) << 8) | (block7 >>> 56));
+      values[valuesOffset++] = (int) ((block7 >>> 37) & 524287L);
+      values[valuesOffset++] = (int) ((block7 >>> 18) & 524287L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 262143L) << 1) | (block8 >>> 63));
+      values[valuesOffset++] = (int) ((block8 >>> 44) & 524287L);
+      values[valuesOffset++] = (int) ((block8 >>> 25) & 524287L);
+      values[valuesOffset++] = (int) ((block8 >>> 6) & 524287L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 63L) << 13) | (block9 >>> 51));
+      values[valuesOffset++] = (int) ((block9 >>> 32) & 524287L);
+      values[valuesOffset++] = (int) ((block9 >>> 13) & 524287L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 8191L) << 6) | (block10 >>> 58));
+      values[valuesOffset++] = (int) ((block10 >>> 39) & 524287L);
+      values[valuesOffset++] = (int) ((block10 >>> 20) & 524287L);
+      values[valuesOffset++] = (int) ((block10 >>> 1) & 524287L);
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block10 & 1L) << 18) | (block11 >>> 46));
+      values[valuesOffset++] = (int) ((block11 >>> 27) & 524287L);
+      values[valuesOffset++] = (int) ((block11 >>> 8) & 524287L);
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block11 & 255L) << 11) | (block12 >>> 53));
+      values[valuesOffset++] = (int) ((block12 >>> 34) & 524287L);
+      values[valuesOffset++] = (int) ((block12 >>> 15) & 524287L);
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block12 & 32767L) << 4) | (block13 >>> 60));
+      values[valuesOffset++] = (int) ((block13 >>> 41) & 524287L);
+      values[valuesOffset++] = (int) ((block13 >>> 22) & 524287L);
+      values[valuesOffset++] = (int) ((block13 >>> 3) & 524287L);
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block13 & 7L) << 16) | (block14 >>> 48));
+      values[valuesOffset++] = (int) ((block14 >>> 29) & 524287L);
+      values[valuesOffset++] = (int) ((block14 >>> 10) & 524287L);
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block14 & 1023L) << 9) | (block15 >>> 55));
+      values[valuesOffset++] = (int) ((block15 >>> 36) & 524287L);
+      values[valuesOffset++] = (int) ((block15 >>> 17) & 524287L);
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block15 & 131071L) << 2) | (block16 >>> 62));
+      values[valuesOffset++] = (int) ((block16 >>> 43) & 524287L);
+      values[valuesOffset++] = (int) ((block16 >>> 24) & 524287L);
+      values[valuesOffset++] = (int) ((block16 >>> 5) & 524287L);
+      final long block17 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block16 & 31L) << 14) | (block17 >>> 50));
+      values[valuesOffset++] = (int) ((block17 >>> 31) & 524287L);
+      values[valuesOffset++] = (int) ((block17 >>> 12) & 524287L);
+      final long block18 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block17 & 4095L) << 7) | (block18 >>> 57));
+      values[valuesOffset++] = (int) ((block18 >>> 38) & 524287L);
+      values[valuesOffset++] = (int) ((block18 >>> 19) & 524287L);
+      values[valuesOffset++] = (int) (block18 & 524287L);
+    }
+  }
+
+  private static void decode19(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 11) | (byte1 << 3) | (byte2 >>> 5);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 31) << 14) | (byte3 << 6) | (byte4 >>> 2);
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 3) << 17) | (byte5 << 9) | (byte6 << 1) | (byte7 >>> 7);
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 127) << 12) | (byte8 << 4) | (byte9 >>> 4);
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      final int byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 15) << 15) | (byte10 << 7) | (byte11 >>> 1);
+      final int byte12 = blocks[blocksOffset++] & 0xFF;
+      final int byte13 = blocks[blocksOffset++] & 0xFF;
+      final int byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 1) << 18) | (byte12 << 10) | (byte13 << 2) | (byte14 >>> 6);
+      final int byte15 = blocks[blocksOffset++] & 0xFF;
+      final int byte16 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte14 & 63) << 13) | (byte15 << 5) | (byte16 >>> 3);
+      final int byte17 = blocks[blocksOffset++] & 0xFF;
+      final int byte18 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte16 & 7) << 16) | (byte17 << 8) | byte18;
+    }
+  }
+
+  private static void decode19(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 45;
+      values[valuesOffset++] = (block0 >>> 26) & 524287L;
+      values[valuesOffset++] = (block0 >>> 7) & 524287L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 127L) << 12) | (block1 >>> 52);
+      values[valuesOffset++] = (block1 >>> 33) & 524287L;
+      values[valuesOffset++] = (block1 >>> 14) & 524287L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 16383L) << 5) | (block2 >>> 59);
+      values[valuesOffset++] = (block2 >>> 40) & 524287L;
+      values[valuesOffset++] = (block2 >>> 21) & 524287L;
+      values[valuesOffset++] = (block2 >>> 2) & 524287L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 3L) << 17) | (block3 >>> 47);
+      values[valuesOffset++] = (block3 >>> 28) & 524287L;
+      values[valuesOffset++] = (block3 >>> 9) & 524287L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 511L) << 10) | (block4 >>> 54);
+      values[valuesOffset++] = (block4 >>> 35) & 524287L;
+      values[valuesOffset++] = (block4 >>> 16) & 524287L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 65535L) << 3) | (block5 >>> 61);
+      values[valuesOffset++] = (block5 >>> 42) & 524287L;
+      values[valuesOffset++] = (block5 >>> 23) & 524287L;
+      values[valuesOffset++] = (block5 >>> 4) & 524287L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 15L) << 15) | (block6 >>> 49);
+      values[valuesOffset++] = (block6 >>> 30) & 524287L;
+      values[valuesOffset++] = (block6 >>> 11) & 524287L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 2047L) << 8) | (block7 >>> 56);
+      values[valuesOffset++] = (block7 >>> 37) & 524287L;
+      values[valuesOffset++] = (block7 >>> 18) & 524287L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 262143L) << 1) | (block8 >>> 63);
+      values[valuesOffset++] = (block8 >>> 44) & 524287L;
+      values[valuesOffset++] = (block8 >>> 25) & 524287L;
+      values[valuesOffset++] = (block8 >>> 6) & 524287L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 63L) << 13) | (block9 >>> 51);
+      values[valuesOffset++] = (block9 >>> 32) & 524287L;
+      values[valuesOffset++] = (block9 >>> 13) & 524287L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 8191L) << 6) | (block10 >>> 58);
+      values[valuesOffset++] = (block10 >>> 39) & 524287L;
+      values[valuesOffset++] = (block10 >>> 20) & 524287L;
+      values[valuesOffset++] = (block10 >>> 1) & 524287L;
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block10 & 1L) << 18) | (block11 >>> 46);
+      values[valuesOffset++] = (block11 >>> 27) & 524287L;
+      values[valuesOffset++] = (block11 >>> 8) & 524287L;
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block11 & 255L) << 11) | (block12 >>> 53);
+      values[valuesOffset++] = (block12 >>> 34) & 524287L;
+      values[valuesOffset++] = (block12 >>> 15) & 524287L;
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block12 & 32767L) << 4) | (block13 >>> 60);
+      values[valuesOffset++] = (block13 >>> 41) & 524287L;
+      values[valuesOffset++] = (block13 >>> 22) & 524287L;
+      values[valuesOffset++] = (block13 >>> 3) & 524287L;
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block13 & 7L) << 16) | (block14 >>> 48);
+      values[valuesOffset++] = (block14 >>> 29) & 524287L;
+      values[valuesOffset++] = (block14 >>> 10) & 524287L;
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block14 & 1023L) << 9) | (block15 >>> 55);
+      values[valuesOffset++] = (block15 >>> 36) & 524287L;
+      values[valuesOffset++] = (block15 >>> 17) & 524287L;
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block15 & 131071L) << 2) | (block16 >>> 62);
+      values[valuesOffset++] = (block16 >>> 43) & 524287L;
+      values[valuesOffset++] = (block16 >>> 24) & 524287L;
+      values[valuesOffset++] = (block16 >>> 5) & 524287L;
+      final long block17 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block16 & 31L) << 14) | (block17 >>> 50);
+      values[valuesOffset++] = (block17 >>> 31) & 524287L;
+      values[valuesOffset++] = (block17 >>> 12) & 524287L;
+      final long block18 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block17 & 4095L) << 7) | (block18 >>> 57);
+      values[valuesOffset++] = (block18 >>> 38) & 524287L;
+      values[valuesOffset++] = (block18 >>> 19) & 524287L;
+      values[valuesOffset++] = block18 & 524287L;
+    }
+  }
+
+  private static void decode19(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 11) | (byte1 << 3) | (byte2 >>> 5);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 31) << 14) | (byte3 << 6) | (byte4 >>> 2);
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte4 & 3) << 17) | (byte5 << 9) | (byte6 << 1) | (byte7 >>> 7);
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 127) << 12) | (byte8 << 4) | (byte9 >>> 4);
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      final long byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte9 & 15) << 15) | (byte10 << 7) | (byte11 >>> 1);
+      final long byte12 = blocks[blocksOffset++] & 0xFF;
+      final long byte13 = blocks[blocksOffset++] & 0xFF;
+      final long byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 1) << 18) | (byte12 << 10) | (byte13 << 2) | (byte14 >>> 6);
+      final long byte15 = blocks[blocksOffset++] & 0xFF;
+      final long byte16 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte14 & 63) << 13) | (byte15 << 5) | (byte16 >>> 3);
+      final long byte17 = blocks[blocksOffset++] & 0xFF;
+      final long byte18 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte16 & 7) << 16) | (byte17 << 8) | byte18;
+    }
+  }
+
+  private static void decode20(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 44);
+      values[valuesOffset++] = (int) ((block0 >>> 24) & 1048575L);
+      values[valuesOffset++] = (int) ((block0 >>> 4) & 1048575L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 15L) << 16) | (block1 >>> 48));
+      values[valuesOffset++] = (int) ((block1 >>> 28) & 1048575L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 1048575L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 255L) << 12) | (block2 >>> 52));
+      values[valuesOffset++] = (int) ((block2 >>> 32) & 1048575L);
+      values[valuesOffset++] = (int) ((block2 >>> 12) & 1048575L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 4095L) << 8) | (block3 >>> 56));
+      values[valuesOffset++] = (int) ((block3 >>> 36) & 1048575L);
+      values[valuesOffset++] = (int) ((block3 >>> 16) & 1048575L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 65535L) << 4) | (block4 >>> 60));
+      values[valuesOffset++] = (int) ((block4 >>> 40) & 1048575L);
+      values[valuesOffset++] = (int) ((block4 >>> 20) & 1048575L);
+      values[valuesOffset++] = (int) (block4 & 1048575L);
+    }
+  }
+
+  private static void decode20(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 12) | (byte1 << 4) | (byte2 >>> 4);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 15) << 16) | (byte3 << 8) | byte4;
+    }
+  }
+
+  private static void decode20(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 44;
+      values[valuesOffset++] = (block0 >>> 24) & 1048575L;
+      values[valuesOffset++] = (block0 >>> 4) & 1048575L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 15L) << 16) | (block1 >>> 48);
+      values[valuesOffset++] = (block1 >>> 28) & 1048575L;
+      values[valuesOffset++] = (block1 >>> 8) & 1048575L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 255L) << 12) | (block2 >>> 52);
+      values[valuesOffset++] = (block2 >>> 32) & 1048575L;
+      values[valuesOffset++] = (block2 >>> 12) & 1048575L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 4095L) << 8) | (block3 >>> 56);
+      values[valuesOffset++] = (block3 >>> 36) & 1048575L;
+      values[valuesOffset++] = (block3 >>> 16) & 1048575L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 65535L) << 4) | (block4 >>> 60);
+      values[valuesOffset++] = (block4 >>> 40) & 1048575L;
+      values[valuesOffset++] = (block4 >>> 20) & 1048575L;
+      values[valuesOffset++] = block4 & 1048575L;
+    }
+  }
+
+  private static void decode20(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 12) | (byte1 << 4) | (byte2 >>> 4);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 15) << 16) | (byte3 << 8) | byte4;
+    }
+  }
+
+  private static void decode21(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 43);
+      values[valuesOffset++] = (int) ((block0 >>> 22) & 2097151L);
+      values[valuesOffset++] = (int) ((block0 >>> 1) & 2097151L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 1L) << 20) | (block1 >>> 44));
+      values[valuesOffset++] = (int) ((block1 >>> 23) & 2097151L);
+      values[valuesOffset++] = (int) ((block1 >>> 2) & 2097151L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 3L) << 19) | (block2 >>> 45));
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 2097151L);
+      values[valuesOffset++] = (int) ((block2 >>> 3) & 2097151L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 7L) << 18) | (block3 >>> 46));
+      values[valuesOffset++] = (int) ((block3 >>> 25) & 2097151L);
+      values[valuesOffset++] = (int) ((block3 >>> 4) & 2097151L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 15L) << 17) | (block4 >>> 47));
+      values[valuesOffset++] = (int) ((block4 >>> 26) & 2097151L);
+      values[valuesOffset++] = (int) ((block4 >>> 5) & 2097151L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 31L) << 16) | (block5 >>> 48));
+      values[valuesOffset++] = (int) ((block5 >>> 27) & 2097151L);
+      values[valuesOffset++] = (int) ((block5 >>> 6) & 2097151L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 63L) << 15) | (block6 >>> 49));
+      values[valuesOffset++] = (int) ((block6 >>> 28) & 2097151L);
+      values[valuesOffset++] = (int) ((block6 >>> 7) & 2097151L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 127L) << 14) | (block7 >>> 50));
+      values[valuesOffset++] = (int) ((block7 >>> 29) & 2097151L);
+      values[valuesOffset++] = (int) ((block7 >>> 8) & 2097151L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 255L) << 13) | (block8 >>> 51));
+      values[valuesOffset++] = (int) ((block8 >>> 30) & 2097151L);
+      values[valuesOffset++] = (int) ((block8 >>> 9) & 2097151L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 511L) << 12) | (block9 >>> 52));
+      values[valuesOffset++] = (int) ((block9 >>> 31) & 2097151L);
+      values[valuesOffset++] = (int) ((block9 >>> 10) & 2097151L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 1023L) << 11) | (block10 >>> 53));
+      values[valuesOffset++] = (int) ((block10 >>> 32) & 2097151L);
+      values[valuesOffset++] = (int) ((block10 >>> 11) & 2097151L);
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block10 & 2047L) << 10) | (block11 >>> 54));
+      values[valuesOffset++] = (int) ((block11 >>> 33) & 2097151L);
+      values[valuesOffset++] = (int) ((block11 >>> 12) & 2097151L);
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block11 & 4095L) << 9) | (block12 >>> 55));
+      values[valuesOffset++] = (int) ((block12 >>> 34) & 2097151L);
+      values[valuesOffset++] = (int) ((block12 >>> 13) & 2097151L);
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block12 & 8191L) << 8) | (block13 >>> 56));
+      values[valuesOffset++] = (int) ((block13 >>> 35) & 2097151L);
+      values[valuesOffset++] = (int) ((block13 >>> 14) & 2097151L);
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block13 & 16383L) << 7) | (block14 >>> 57));
+      values[valuesOffset++] = (int) ((block14 >>> 36) & 2097151L);
+      values[valuesOffset++] = (int) ((block14 >>> 15) & 2097151L);
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block14 & 32767L) << 6) | (block15 >>> 58));
+      values[valuesOffset++] = (int) ((block15 >>> 37) & 2097151L);
+      values[valuesOffset++] = (int) ((block15 >>> 16) & 2097151L);
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block15 & 65535L) << 5) | (block16 >>> 59));
+      values[valuesOffset++] = (int) ((block16 >>> 38) & 2097151L);
+      values[valuesOffset++] = (int) ((block16 >>> 17) & 2097151L);
+      final long block17 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block16 & 131071L) << 4) | (block17 >>> 60));
+      values[valuesOffset++] = (int) ((block17 >>> 39) & 2097151L);
+      values[valuesOffset++] = (int) ((block17 >>> 18) & 2097151L);
+      final long block18 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block17 & 262143L) << 3) | (block18 >>> 61));
+      values[valuesOffset++] = (int) ((block18 >>> 40) & 2097151L);
+      values[valuesOffset++] = (int) ((block18 >>> 19) & 2097151L);
+      final long block19 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block18 & 524287L) << 2) | (block19 >>> 62));
+      values[valuesOffset++] = (int) ((block19 >>> 41) & 2097151L);
+      values[valuesOffset++] = (int) ((block19 >>> 20) & 2097151L);
+      final long block20 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block19 & 1048575L) << 1) | (block20 >>> 63));
+      values[valuesOffset++] = (int) ((block20 >>> 42) & 2097151L);
+      values[valuesOffset++] = (int) ((block20 >>> 21) & 2097151L);
+      values[valuesOffset++] = (int) (block20 & 2097151L);
+    }
+  }
+
+  private static void decode21(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 13) | (byte1 << 5) | (byte2 >>> 3);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 7) << 18) | (byte3 << 10) | (byte4 << 2) | (byte5 >>> 6);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 63) << 15) | (byte6 << 7) | (byte7 >>> 1);
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 1) << 20) | (byte8 << 12) | (byte9 << 4) | (byte10 >>> 4);
+      final int byte11 = blocks[blocksOffset++] & 0xFF;
+      final int byte12 = blocks[blocksOffset++] & 0xFF;
+      final int byte13 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte10 & 15) << 17) | (byte11 << 9) | (byte12 << 1) | (byte13 >>> 7);
+      final int byte14 = blocks[blocksOffset++] & 0xFF;
+      final int byte15 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte13 & 127) << 14) | (byte14 << 6) | (byte15 >>> 2);
+      final int byte16 = blocks[blocksOffset++] & 0xFF;
+      final int byte17 = blocks[blocksOffset++] & 0xFF;
+      final int byte18 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte15 & 3) << 19) | (byte16 << 11) | (byte17 << 3) | (byte18 >>> 5);
+      final int byte19 = blocks[blocksOffset++] & 0xFF;
+      final int byte20 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte18 & 31) << 16) | (byte19 << 8) | byte20;
+    }
+  }
+
+  private static void decode21(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 43;
+      values[valuesOffset++] = (block0 >>> 22) & 2097151L;
+      values[valuesOffset++] = (block0 >>> 1) & 2097151L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 1L) << 20) | (block1 >>> 44);
+      values[valuesOffset++] = (block1 >>> 23) & 2097151L;
+      values[valuesOffset++] = (block1 >>> 2) & 2097151L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 3L) << 19) | (block2 >>> 45);
+      values[valuesOffset++] = (block2 >>> 24) & 2097151L;
+      values[valuesOffset++] = (block2 >>> 3) & 2097151L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 7L) << 18) | (block3 >>> 46);
+      values[valuesOffset++] = (block3 >>> 25) & 2097151L;
+      values[valuesOffset++] = (block3 >>> 4) & 2097151L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 15L) << 17) | (block4 >>> 47);
+      values[valuesOffset++] = (block4 >>> 26) & 2097151L;
+      values[valuesOffset++] = (block4 >>> 5) & 2097151L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 31L) << 16) | (block5 >>> 48);
+      values[valuesOffset++] = (block5 >>> 27) & 2097151L;
+      values[valuesOffset++] = (block5 >>> 6) & 2097151L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 63L) << 15) | (block6 >>> 49);
+      values[valuesOffset++] = (block6 >>> 28) & 2097151L;
+      values[valuesOffset++] = (block6 >>> 7) & 2097151L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 127L) << 14) | (block7 >>> 50);
+      values[valuesOffset++] = (block7 >>> 29) & 2097151L;
+      values[valuesOffset++] = (block7 >>> 8) & 2097151L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 255L) << 13) | (block8 >>> 51);
+      values[valuesOffset++] = (block8 >>> 30) & 2097151L;
+      values[valuesOffset++] = (block8 >>> 9) & 2097151L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 511L) << 12) | (block9 >>> 52);
+      values[valuesOffset++] = (block9 >>> 31) & 2097151L;
+      values[valuesOffset++] = (block9 >>> 10) & 2097151L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 1023L) << 11) | (block10 >>> 53);
+      values[valuesOffset++] = (block10 >>> 32) & 2097151L;
+      values[valuesOffset++] = (block10 >>> 11) & 2097151L;
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block10 & 2047L) << 10) | (block11 >>> 54);
+      values[valuesOffset++] = (block11 >>> 33) & 2097151L;
+      values[valuesOffset++] = (block11 >>> 12) & 2097151L;
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block11 & 4095L) << 9) | (block12 >>> 55);
+      values[valuesOffset++] = (block12 >>> 34) & 2097151L;
+      values[valuesOffset++] = (block12 >>> 13) & 2097151L;
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block12 & 8191L) << 8) | (block13 >>> 56);
+      values[valuesOffset++] = (block13 >>> 35) & 2097151L;
+      values[valuesOffset++] = (block13 >>> 14) & 2097151L;
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block13 & 16383L) << 7) | (block14 >>> 57);
+      values[valuesOffset++] = (block14 >>> 36) & 2097151L;
+      values[valuesOffset++] = (block14 >>> 15) & 2097151L;
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block14 & 32767L) << 6) | (block15 >>> 58);
+      values[valuesOffset++] = (block15 >>> 37) & 2097151L;
+      values[valuesOffset++] = (block15 >>> 16) & 2097151L;
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block15 & 65535L) << 5) | (block16 >>> 59);
+      values[valuesOffset++] = (block16 >>> 38) & 2097151L;
+      values[valuesOffset++] = (block16 >>> 17) & 2097151L;
+      final long block17 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block16 & 131071L) << 4) | (block17 >>> 60);
+      values[valuesOffset++] = (block17 >>> 39) & 2097151L;
+      values[valuesOffset++] = (block17 >>> 18) & 2097151L;
+      final long block18 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block17 & 262143L) << 3) | (block18 >>> 61);
+      values[valuesOffset++] = (block18 >>> 40) & 2097151L;
+      values[valuesOffset++] = (block18 >>> 19) & 2097151L;
+      final long block19 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block18 & 524287L) << 2) | (block19 >>> 62);
+      values[valuesOffset++] = (block19 >>> 41) & 2097151L;
+      values[valuesOffset++] = (block19 >>> 20) & 2097151L;
+      final long block20 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block19 & 1048575L) << 1) | (block20 >>> 63);
+      values[valuesOffset++] = (block20 >>> 42) & 2097151L;
+      values[valuesOffset++] = (block20 >>> 21) & 2097151L;
+      values[valuesOffset++] = block20 & 2097151L;
+    }
+  }
+
+  private static void decode21(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 13) | (byte1 << 5) | (byte2 >>> 3);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 7) << 18) | (byte3 << 10) | (byte4 << 2) | (byte5 >>> 6);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 63) << 15) | (byte6 << 7) | (byte7 >>> 1);
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte7 & 1) << 20) | (byte8 << 12) | (byte9 << 4) | (byte10 >>> 4);
+      final long byte11 = blocks[blocksOffset++] & 0xFF;
+      final long byte12 = blocks[blocksOffset++] & 0xFF;
+      final long byte13 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte10 & 15) << 17) | (byte11 << 9) | (byte12 << 1) | (byte13 >>> 7);
+      final long byte14 = blocks[blocksOffset++] & 0xFF;
+      final long byte15 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte13 & 127) << 14) | (byte14 << 6) | (byte15 >>> 2);
+      final long byte16 = blocks[blocksOffset++] & 0xFF;
+      final long byte17 = blocks[blocksOffset++] & 0xFF;
+      final long byte18 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte15 & 3) << 19) | (byte16 << 11) | (byte17 << 3) | (byte18 >>> 5);
+      final long byte19 = blocks[blocksOffset++] & 0xFF;
+      final long byte20 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte18 & 31) << 16) | (byte19 << 8) | byte20;
+    }
+  }
+
+  private static void decode22(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 42);
+      values[valuesOffset++] = (int) ((block0 >>> 20) & 4194303L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 1048575L) << 2) | (block1 >>> 62));
+      values[valuesOffset++] = (int) ((block1 >>> 40) & 4194303L);
+      values[valuesOffset++] = (int) ((block1 >>> 18) & 4194303L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 262143L) << 4) | (block2 >>> 60));
+      values[valuesOffset++] = (int) ((block2 >>> 38) & 4194303L);
+      values[valuesOffset++] = (int) ((block2 >>> 16) & 4194303L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 65535L) << 6) | (block3 >>> 58));
+      values[valuesOffset++] = (int) ((block3 >>> 36) & 4194303L);
+      values[valuesOffset++] = (int) ((block3 >>> 14) & 4194303L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 16383L) << 8) | (block4 >>> 56));
+      values[valuesOffset++] = (int) ((block4 >>> 34) & 4194303L);
+      values[valuesOffset++] = (int) ((block4 >>> 12) & 4194303L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 4095L) << 10) | (block5 >>> 54));
+      values[valuesOffset++] = (int) ((block5 >>> 32) & 4194303L);
+      values[valuesOffset++] = (int) ((block5 >>> 10) & 4194303L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 1023L) << 12) | (block6 >>> 52));
+      values[valuesOffset++] = (int) ((block6 >>> 30) & 4194303L);
+      values[valuesOffset++] = (int) ((block6 >>> 8) & 4194303L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 255L) << 14) | (block7 >>> 50));
+      values[valuesOffset++] = (int) ((block7 >>> 28) & 4194303L);
+      values[valuesOffset++] = (int) ((block7 >>> 6) & 4194303L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 63L) << 16) | (block8 >>> 48));
+      values[valuesOffset++] = (int) ((block8 >>> 26) & 4194303L);
+      values[valuesOffset++] = (int) ((block8 >>> 4) & 4194303L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 15L) << 18) | (block9 >>> 46));
+      values[valuesOffset++] = (int) ((block9 >>> 24) & 4194303L);
+      values[valuesOffset++] = (int) ((block9 >>> 2) & 4194303L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 3L) << 20) | (block10 >>> 44));
+      values[valuesOffset++] = (int) ((block10 >>> 22) & 4194303L);
+      values[valuesOffset++] = (int) (block10 & 4194303L);
+    }
+  }
+
+  private static void decode22(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 14) | (byte1 << 6) | (byte2 >>> 2);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 3) << 20) | (byte3 << 12) | (byte4 << 4) | (byte5 >>> 4);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 15) << 18) | (byte6 << 10) | (byte7 << 2) | (byte8 >>> 6);
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 63) << 16) | (byte9 << 8) | byte10;
+    }
+  }
+
+  private static void decode22(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 42;
+      values[valuesOffset++] = (block0 >>> 20) & 4194303L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 1048575L) << 2) | (block1 >>> 62);
+      values[valuesOffset++] = (block1 >>> 40) & 4194303L;
+      values[valuesOffset++] = (block1 >>> 18) & 4194303L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 262143L) << 4) | (block2 >>> 60);
+      values[valuesOffset++] = (block2 >>> 38) & 4194303L;
+      values[valuesOffset++] = (block2 >>> 16) & 4194303L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 65535L) << 6) | (block3 >>> 58);
+      values[valuesOffset++] = (block3 >>> 36) & 4194303L;
+      values[valuesOffset++] = (block3 >>> 14) & 4194303L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 16383L) << 8) | (block4 >>> 56);
+      values[valuesOffset++] = (block4 >>> 34) & 4194303L;
+      values[valuesOffset++] = (block4 >>> 12) & 4194303L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 4095L) << 10) | (block5 >>> 54);
+      values[valuesOffset++] = (block5 >>> 32) & 4194303L;
+      values[valuesOffset++] = (block5 >>> 10) & 4194303L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 1023L) << 12) | (block6 >>> 52);
+      values[valuesOffset++] = (block6 >>> 30) & 4194303L;
+      values[valuesOffset++] = (block6 >>> 8) & 4194303L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 255L) << 14) | (block7 >>> 50);
+      values[valuesOffset++] = (block7 >>> 28) & 4194303L;
+      values[valuesOffset++] = (block7 >>> 6) & 4194303L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 63L) << 16) | (block8 >>> 48);
+      values[valuesOffset++] = (block8 >>> 26) & 4194303L;
+      values[valuesOffset++] = (block8 >>> 4) & 4194303L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 15L) << 18) | (block9 >>> 46);
+      values[valuesOffset++] = (block9 >>> 24) & 4194303L;
+      values[valuesOffset++] = (block9 >>> 2) & 4194303L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 3L) << 20) | (block10 >>> 44);
+      values[valuesOffset++] = (block10 >>> 22) & 4194303L;
+      values[valuesOffset++] = block10 & 4194303L;
+    }
+  }
+
+  private static void decode22(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 14) | (byte1 << 6) | (byte2 >>> 2);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 3) << 20) | (byte3 << 12) | (byte4 << 4) | (byte5 >>> 4);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 15) << 18) | (byte6 << 10) | (byte7 << 2) | (byte8 >>> 6);
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 63) << 16) | (byte9 << 8) | byte10;
+    }
+  }
+
+  private static void decode23(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 41);
+      values[valuesOffset++] = (int) ((block0 >>> 18) & 8388607L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 262143L) << 5) | (block1 >>> 59));
+      values[valuesOffset++] = (int) ((block1 >>> 36) & 8388607L);
+      values[valuesOffset++] = (int) ((block1 >>> 13) & 8388607L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 8191L) << 10) | (block2 >>> 54));
+      values[valuesOffset++] = (int) ((block2 >>> 31) & 8388607L);
+      values[valuesOffset++] = (int) ((block2 >>> 8) & 8388607L);
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block2 & 255L) << 15) | (block3 >>> 49));
+      values[valuesOffset++] = (int) ((block3 >>> 26) & 8388607L);
+      values[valuesOffset++] = (int) ((block3 >>> 3) & 8388607L);
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block3 & 7L) << 20) | (block4 >>> 44));
+      values[valuesOffset++] = (int) ((block4 >>> 21) & 8388607L);
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block4 & 2097151L) << 2) | (block5 >>> 62));
+      values[valuesOffset++] = (int) ((block5 >>> 39) & 8388607L);
+      values[valuesOffset++] = (int) ((block5 >>> 16) & 8388607L);
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block5 & 65535L) << 7) | (block6 >>> 57));
+      values[valuesOffset++] = (int) ((block6 >>> 34) & 8388607L);
+      values[valuesOffset++] = (int) ((block6 >>> 11) & 8388607L);
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block6 & 2047L) << 12) | (block7 >>> 52));
+      values[valuesOffset++] = (int) ((block7 >>> 29) & 8388607L);
+      values[valuesOffset++] = (int) ((block7 >>> 6) & 8388607L);
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block7 & 63L) << 17) | (block8 >>> 47));
+      values[valuesOffset++] = (int) ((block8 >>> 24) & 8388607L);
+      values[valuesOffset++] = (int) ((block8 >>> 1) & 8388607L);
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block8 & 1L) << 22) | (block9 >>> 42));
+      values[valuesOffset++] = (int) ((block9 >>> 19) & 8388607L);
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block9 & 524287L) << 4) | (block10 >>> 60));
+      values[valuesOffset++] = (int) ((block10 >>> 37) & 8388607L);
+      values[valuesOffset++] = (int) ((block10 >>> 14) & 8388607L);
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block10 & 16383L) << 9) | (block11 >>> 55));
+      values[valuesOffset++] = (int) ((block11 >>> 32) & 8388607L);
+      values[valuesOffset++] = (int) ((block11 >>> 9) & 8388607L);
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block11 & 511L) << 14) | (block12 >>> 50));
+      values[valuesOffset++] = (int) ((block12 >>> 27) & 8388607L);
+      values[valuesOffset++] = (int) ((block12 >>> 4) & 8388607L);
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block12 & 15L) << 19) | (block13 >>> 45));
+      values[valuesOffset++] = (int) ((block13 >>> 22) & 8388607L);
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block13 & 4194303L) << 1) | (block14 >>> 63));
+      values[valuesOffset++] = (int) ((block14 >>> 40) & 8388607L);
+      values[valuesOffset++] = (int) ((block14 >>> 17) & 8388607L);
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block14 & 131071L) << 6) | (block15 >>> 58));
+      values[valuesOffset++] = (int) ((block15 >>> 35) & 8388607L);
+      values[valuesOffset++] = (int) ((block15 >>> 12) & 8388607L);
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block15 & 4095L) << 11) | (block16 >>> 53));
+      values[valuesOffset++] = (int) ((block16 >>> 30) & 8388607L);
+      values[valuesOffset++] = (int) ((block16 >>> 7) & 8388607L);
+      final long block17 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block16 & 127L) << 16) | (block17 >>> 48));
+      values[valuesOffset++] = (int) ((block17 >>> 25) & 8388607L);
+      values[valuesOffset++] = (int) ((block17 >>> 2) & 8388607L);
+      final long block18 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block17 & 3L) << 21) | (block18 >>> 43));
+      values[valuesOffset++] = (int) ((block18 >>> 20) & 8388607L);
+      final long block19 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block18 & 1048575L) << 3) | (block19 >>> 61));
+      values[valuesOffset++] = (int) ((block19 >>> 38) & 8388607L);
+      values[valuesOffset++] = (int) ((block19 >>> 15) & 8388607L);
+      final long block20 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block19 & 32767L) << 8) | (block20 >>> 56));
+      values[valuesOffset++] = (int) ((block20 >>> 33) & 8388607L);
+      values[valuesOffset++] = (int) ((block20 >>> 10) & 8388607L);
+      final long block21 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block20 & 1023L) << 13) | (block21 >>> 51));
+      values[valuesOffset++] = (int) ((block21 >>> 28) & 8388607L);
+      values[valuesOffset++] = (int) ((block21 >>> 5) & 8388607L);
+      final long block22 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block21 & 31L) << 18) | (block22 >>> 46));
+      values[valuesOffset++] = (int) ((block22 >>> 23) & 8388607L);
+      values[valuesOffset++] = (int) (block22 & 8388607L);
+    }
+  }
+
+  private static void decode23(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 15) | (byte1 << 7) | (byte2 >>> 1);
+      final int byte3 = blocks[blocksOffset++] & 0xFF;
+      final int byte4 = blocks[blocksOffset++] & 0xFF;
+      final int byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 1) << 22) | (byte3 << 14) | (byte4 << 6) | (byte5 >>> 2);
+      final int byte6 = blocks[blocksOffset++] & 0xFF;
+      final int byte7 = blocks[blocksOffset++] & 0xFF;
+      final int byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 3) << 21) | (byte6 << 13) | (byte7 << 5) | (byte8 >>> 3);
+      final int byte9 = blocks[blocksOffset++] & 0xFF;
+      final int byte10 = blocks[blocksOffset++] & 0xFF;
+      final int byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 7) << 20) | (byte9 << 12) | (byte10 << 4) | (byte11 >>> 4);
+      final int byte12 = blocks[blocksOffset++] & 0xFF;
+      final int byte13 = blocks[blocksOffset++] & 0xFF;
+      final int byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 15) << 19) | (byte12 << 11) | (byte13 << 3) | (byte14 >>> 5);
+      final int byte15 = blocks[blocksOffset++] & 0xFF;
+      final int byte16 = blocks[blocksOffset++] & 0xFF;
+      final int byte17 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte14 & 31) << 18) | (byte15 << 10) | (byte16 << 2) | (byte17 >>> 6);
+      final int byte18 = blocks[blocksOffset++] & 0xFF;
+      final int byte19 = blocks[blocksOffset++] & 0xFF;
+      final int byte20 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte17 & 63) << 17) | (byte18 << 9) | (byte19 << 1) | (byte20 >>> 7);
+      final int byte21 = blocks[blocksOffset++] & 0xFF;
+      final int byte22 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte20 & 127) << 16) | (byte21 << 8) | byte22;
+    }
+  }
+
+  private static void decode23(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 41;
+      values[valuesOffset++] = (block0 >>> 18) & 8388607L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 262143L) << 5) | (block1 >>> 59);
+      values[valuesOffset++] = (block1 >>> 36) & 8388607L;
+      values[valuesOffset++] = (block1 >>> 13) & 8388607L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 8191L) << 10) | (block2 >>> 54);
+      values[valuesOffset++] = (block2 >>> 31) & 8388607L;
+      values[valuesOffset++] = (block2 >>> 8) & 8388607L;
+      final long block3 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block2 & 255L) << 15) | (block3 >>> 49);
+      values[valuesOffset++] = (block3 >>> 26) & 8388607L;
+      values[valuesOffset++] = (block3 >>> 3) & 8388607L;
+      final long block4 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block3 & 7L) << 20) | (block4 >>> 44);
+      values[valuesOffset++] = (block4 >>> 21) & 8388607L;
+      final long block5 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block4 & 2097151L) << 2) | (block5 >>> 62);
+      values[valuesOffset++] = (block5 >>> 39) & 8388607L;
+      values[valuesOffset++] = (block5 >>> 16) & 8388607L;
+      final long block6 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block5 & 65535L) << 7) | (block6 >>> 57);
+      values[valuesOffset++] = (block6 >>> 34) & 8388607L;
+      values[valuesOffset++] = (block6 >>> 11) & 8388607L;
+      final long block7 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block6 & 2047L) << 12) | (block7 >>> 52);
+      values[valuesOffset++] = (block7 >>> 29) & 8388607L;
+      values[valuesOffset++] = (block7 >>> 6) & 8388607L;
+      final long block8 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block7 & 63L) << 17) | (block8 >>> 47);
+      values[valuesOffset++] = (block8 >>> 24) & 8388607L;
+      values[valuesOffset++] = (block8 >>> 1) & 8388607L;
+      final long block9 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block8 & 1L) << 22) | (block9 >>> 42);
+      values[valuesOffset++] = (block9 >>> 19) & 8388607L;
+      final long block10 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block9 & 524287L) << 4) | (block10 >>> 60);
+      values[valuesOffset++] = (block10 >>> 37) & 8388607L;
+      values[valuesOffset++] = (block10 >>> 14) & 8388607L;
+      final long block11 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block10 & 16383L) << 9) | (block11 >>> 55);
+      values[valuesOffset++] = (block11 >>> 32) & 8388607L;
+      values[valuesOffset++] = (block11 >>> 9) & 8388607L;
+      final long block12 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block11 & 511L) << 14) | (block12 >>> 50);
+      values[valuesOffset++] = (block12 >>> 27) & 8388607L;
+      values[valuesOffset++] = (block12 >>> 4) & 8388607L;
+      final long block13 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block12 & 15L) << 19) | (block13 >>> 45);
+      values[valuesOffset++] = (block13 >>> 22) & 8388607L;
+      final long block14 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block13 & 4194303L) << 1) | (block14 >>> 63);
+      values[valuesOffset++] = (block14 >>> 40) & 8388607L;
+      values[valuesOffset++] = (block14 >>> 17) & 8388607L;
+      final long block15 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block14 & 131071L) << 6) | (block15 >>> 58);
+      values[valuesOffset++] = (block15 >>> 35) & 8388607L;
+      values[valuesOffset++] = (block15 >>> 12) & 8388607L;
+      final long block16 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block15 & 4095L) << 11) | (block16 >>> 53);
+      values[valuesOffset++] = (block16 >>> 30) & 8388607L;
+      values[valuesOffset++] = (block16 >>> 7) & 8388607L;
+      final long block17 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block16 & 127L) << 16) | (block17 >>> 48);
+      values[valuesOffset++] = (block17 >>> 25) & 8388607L;
+      values[valuesOffset++] = (block17 >>> 2) & 8388607L;
+      final long block18 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block17 & 3L) << 21) | (block18 >>> 43);
+      values[valuesOffset++] = (block18 >>> 20) & 8388607L;
+      final long block19 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block18 & 1048575L) << 3) | (block19 >>> 61);
+      values[valuesOffset++] = (block19 >>> 38) & 8388607L;
+      values[valuesOffset++] = (block19 >>> 15) & 8388607L;
+      final long block20 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block19 & 32767L) << 8) | (block20 >>> 56);
+      values[valuesOffset++] = (block20 >>> 33) & 8388607L;
+      values[valuesOffset++] = (block20 >>> 10) & 8388607L;
+      final long block21 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block20 & 1023L) << 13) | (block21 >>> 51);
+      values[valuesOffset++] = (block21 >>> 28) & 8388607L;
+      values[valuesOffset++] = (block21 >>> 5) & 8388607L;
+      final long block22 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block21 & 31L) << 18) | (block22 >>> 46);
+      values[valuesOffset++] = (block22 >>> 23) & 8388607L;
+      values[valuesOffset++] = block22 & 8388607L;
+    }
+  }
+
+  private static void decode23(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 15) | (byte1 << 7) | (byte2 >>> 1);
+      final long byte3 = blocks[blocksOffset++] & 0xFF;
+      final long byte4 = blocks[blocksOffset++] & 0xFF;
+      final long byte5 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte2 & 1) << 22) | (byte3 << 14) | (byte4 << 6) | (byte5 >>> 2);
+      final long byte6 = blocks[blocksOffset++] & 0xFF;
+      final long byte7 = blocks[blocksOffset++] & 0xFF;
+      final long byte8 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte5 & 3) << 21) | (byte6 << 13) | (byte7 << 5) | (byte8 >>> 3);
+      final long byte9 = blocks[blocksOffset++] & 0xFF;
+      final long byte10 = blocks[blocksOffset++] & 0xFF;
+      final long byte11 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte8 & 7) << 20) | (byte9 << 12) | (byte10 << 4) | (byte11 >>> 4);
+      final long byte12 = blocks[blocksOffset++] & 0xFF;
+      final long byte13 = blocks[blocksOffset++] & 0xFF;
+      final long byte14 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte11 & 15) << 19) | (byte12 << 11) | (byte13 << 3) | (byte14 >>> 5);
+      final long byte15 = blocks[blocksOffset++] & 0xFF;
+      final long byte16 = blocks[blocksOffset++] & 0xFF;
+      final long byte17 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte14 & 31) << 18) | (byte15 << 10) | (byte16 << 2) | (byte17 >>> 6);
+      final long byte18 = blocks[blocksOffset++] & 0xFF;
+      final long byte19 = blocks[blocksOffset++] & 0xFF;
+      final long byte20 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte17 & 63) << 17) | (byte18 << 9) | (byte19 << 1) | (byte20 >>> 7);
+      final long byte21 = blocks[blocksOffset++] & 0xFF;
+      final long byte22 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = ((byte20 & 127) << 16) | (byte21 << 8) | byte22;
+    }
+  }
+
+  private static void decode24(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (block0 >>> 40);
+      values[valuesOffset++] = (int) ((block0 >>> 16) & 16777215L);
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block0 & 65535L) << 8) | (block1 >>> 56));
+      values[valuesOffset++] = (int) ((block1 >>> 32) & 16777215L);
+      values[valuesOffset++] = (int) ((block1 >>> 8) & 16777215L);
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = (int) (((block1 & 255L) << 16) | (block2 >>> 48));
+      values[valuesOffset++] = (int) ((block2 >>> 24) & 16777215L);
+      values[valuesOffset++] = (int) (block2 & 16777215L);
+    }
+  }
+
+  private static void decode24(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final int byte0 = blocks[blocksOffset++] & 0xFF;
+      final int byte1 = blocks[blocksOffset++] & 0xFF;
+      final int byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 16) | (byte1 << 8) | byte2;
+    }
+  }
+
+  private static void decode24(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long block0 = blocks[blocksOffset++];
+      values[valuesOffset++] = block0 >>> 40;
+      values[valuesOffset++] = (block0 >>> 16) & 16777215L;
+      final long block1 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block0 & 65535L) << 8) | (block1 >>> 56);
+      values[valuesOffset++] = (block1 >>> 32) & 16777215L;
+      values[valuesOffset++] = (block1 >>> 8) & 16777215L;
+      final long block2 = blocks[blocksOffset++];
+      values[valuesOffset++] = ((block1 & 255L) << 16) | (block2 >>> 48);
+      values[valuesOffset++] = (block2 >>> 24) & 16777215L;
+      values[valuesOffset++] = block2 & 16777215L;
+    }
+  }
+
+  private static void decode24(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
+    for (int i = 0; i < iterations; ++i) {
+      final long byte0 = blocks[blocksOffset++] & 0xFF;
+      final long byte1 = blocks[blocksOffset++] & 0xFF;
+      final long byte2 = blocks[blocksOffset++] & 0xFF;
+      values[valuesOffset++] = (byte0 << 16) | (byte1 << 8) | byte2;
+    }
+  }
+
+}
@@ -52,298 +52,120 @@ public class DirectReader {
    */
   public static LongValues getInstance(RandomAccessInput slice, int bitsPerValue, long offset) {
     switch (bitsPerValue) {
-      case 1: return new DirectPackedReader1(slice, offset);
-      case 2: return new DirectPackedReader2(slice, offset);
-      case 4: return new DirectPackedReader4(slice, offset);
-      case 8: return new DirectPackedReader8(slice, offset);
-      case 12: return new DirectPackedReader12(slice, offset);
-      case 16: return new DirectPackedReader16(slice, offset);
-      case 20: return new DirectPackedReader20(slice, offset);
-      case 24: return new DirectPackedReader24(slice, offset);
-      case 28: return new DirectPackedReader28(slice, offset);
-      case 32: return new DirectPackedReader32(slice, offset);
-      case 40: return new DirectPackedReader40(slice, offset);
-      case 48: return new DirectPackedReader48(slice, offset);
-      case 56: return new DirectPackedReader56(slice, offset);
-      case 64: return new DirectPackedReader64(slice, offset);
+      case 1: case 2: case 4: case 8: case 12: case 16: case 20:
+      case 24: case 28: case 32: case 40: case 48: case 56: case 64:
+        return new DirectPackedLongValues(slice, bitsPerValue, offset);
       default: throw new IllegalArgumentException("unsupported bitsPerValue: " + bitsPerValue);
     }
   }
   
-  static final class DirectPackedReader1 extends LongValues {
+  /**
+   * Reads values of any supported number of bits per value. This is a single class that
+   * switches on the number of bits per value rather than one class per number of bits
+   * per value, so that a {@link LongValues#get} call site that reads several fields, such
+   * as the ones of the doc values producers, only sees one receiver type from this reader.
+   */
+  static final class DirectPackedLongValues extends LongValues {
     final RandomAccessInput in;
+    final int bitsPerValue;
     final long offset;
-    
-    DirectPackedReader1(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
-    }
 
-    @Override
-    public long get(long index) {
-      try {
-        int shift = 7 - (int) (index & 7);
-        return (in.readByte(offset + (index >>> 3)) >>> shift) & 0x1;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader2 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader2(RandomAccessInput in, long offset) {
+    DirectPackedLongValues(RandomAccessInput in, int bitsPerValue, long offset) {
       this.in = in;
+      this.bitsPerValue = bitsPerValue;
       this.offset = offset;
     }
 
     @Override
     public long get(long index) {
       try {
-        int shift = (3 - (int)(index & 3)) << 1;
-        return (in.readByte(offset + (index >>> 2)) >>> shift) & 0x3;
+        switch (bitsPerValue) {
+          case 1: return get1(in, offset, index);
+          case 2: return get2(in, offset, index);
+          case 4: return get4(in, offset, index);
+          case 8: return get8(in, offset, index);
+          case 12: return get12(in, offset, index);
+          case 16: return get16(in, offset, index);
+          case 20: return get20(in, offset, index);
+          case 24: return get24(in, offset, index);
+          case 28: return get28(in, offset, index);
+          case 32: return get32(in, offset, index);
+          case 40: return get40(in, offset, index);
+          case 48: return get48(in, offset, index);
+          case 56: return get56(in, offset, index);
+          case 64: return get64(in, offset, index);
+          default: throw new AssertionError(bitsPerValue);
+        }
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
-    }    
-  }
-  
-  static final class DirectPackedReader4 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-
-    DirectPackedReader4(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
     }
 
-    @Override
-    public long get(long index) {
-      try {
-        int shift = (int) ((index + 1) & 1) << 2;
-        return (in.readByte(offset + (index >>> 1)) >>> shift) & 0xF;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-    
-  static final class DirectPackedReader8 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-
-    DirectPackedReader8(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+    private static long get1(RandomAccessInput in, long offset, long index) throws IOException {
+      int shift = 7 - (int) (index & 7);
+      return (in.readByte(offset + (index >>> 3)) >>> shift) & 0x1;
     }
 
-    @Override
-    public long get(long index) {
-      try {
-        return in.readByte(offset + index) & 0xFF;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader12 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader12(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+    private static long get2(RandomAccessInput in, long offset, long index) throws IOException {
+      int shift = (3 - (int)(index & 3)) << 1;
+      return (in.readByte(offset + (index >>> 2)) >>> shift) & 0x3;
     }
 
-    @Override
-    public long get(long index) {
-      try {
-        long offset = (index * 12) >>> 3;
-        int shift = (int) ((index + 1) & 1) << 2;
-        return (in.readShort(this.offset + offset) >>> shift) & 0xFFF;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader16 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader16(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+    private static long get4(RandomAccessInput in, long offset, long index) throws IOException {
+      int shift = (int) ((index + 1) & 1) << 2;
+      return (in.readByte(offset + (index >>> 1)) >>> shift) & 0xF;
     }
 
-    @Override
-    public long get(long index) {
-      try {
-        return in.readShort(offset + (index << 1)) & 0xFFFF;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+    private static long get8(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readByte(offset + index) & 0xFF;
     }
-  }
-  
-  static final class DirectPackedReader20 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
 
-    DirectPackedReader20(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+    private static long get12(RandomAccessInput in, long offset, long index) throws IOException {
+      long pos = (index * 12) >>> 3;
+      int shift = (int) ((index + 1) & 1) << 2;
+      return (in.readShort(offset + pos) >>> shift) & 0xFFF;
     }
 
-    @Override
-    public long get(long index) {
-      try {
-        long offset = (index * 20) >>> 3;
-        // TODO: clean this up...
-        int v = in.readInt(this.offset + offset) >>> 8;
-        int shift = (int) ((index + 1) & 1) << 2;
-        return (v >>> shift) & 0xFFFFF;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+    private static long get16(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readShort(offset + (index << 1)) & 0xFFFF;
     }
-  }
-  
-  static final class DirectPackedReader24 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader24(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get20(RandomAccessInput in, long offset, long index) throws IOException {
+      long pos = (index * 20) >>> 3;
+      // TODO: clean this up...
+      int v = in.readInt(offset + pos) >>> 8;
+      int shift = (int) ((index + 1) & 1) << 2;
+      return (v >>> shift) & 0xFFFFF;
     }
 
-    @Override
-    public long get(long index) {
-      try {
-        return in.readInt(offset + index * 3) >>> 8;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+    private static long get24(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readInt(offset + index * 3) >>> 8;
     }
-  }
-  
-  static final class DirectPackedReader28 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader28(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get28(RandomAccessInput in, long offset, long index) throws IOException {
+      long pos = (index * 28) >>> 3;
+      int shift = (int) ((index + 1) & 1) << 2;
+      return (in.readInt(offset + pos) >>> shift) & 0xFFFFFFFL;
     }
-    
-    @Override
-    public long get(long index) {
-      try {
-        long offset = (index * 28) >>> 3;
-        int shift = (int) ((index + 1) & 1) << 2;
-        return (in.readInt(this.offset + offset) >>> shift) & 0xFFFFFFFL;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader32 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader32(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get32(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readInt(offset + (index << 2)) & 0xFFFFFFFFL;
     }
-    
-    @Override
-    public long get(long index) {
-      try {
-        return in.readInt(this.offset + (index << 2)) & 0xFFFFFFFFL;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader40 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader40(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get40(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readLong(offset + index * 5) >>> 24;
     }
-    
-    @Override
-    public long get(long index) {
-      try {
-        return in.readLong(this.offset + index * 5) >>> 24;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader48 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader48(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get48(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readLong(offset + index * 6) >>> 16;
     }
-    
-    @Override
-    public long get(long index) {
-      try {
-        return in.readLong(this.offset + index * 6) >>> 16;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader56 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader56(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get56(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readLong(offset + index * 7) >>> 8;
     }
-    
-    @Override
-    public long get(long index) {
-      try {
-        return in.readLong(this.offset + index * 7) >>> 8;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
-  }
-  
-  static final class DirectPackedReader64 extends LongValues {
-    final RandomAccessInput in;
-    final long offset;
-    
-    DirectPackedReader64(RandomAccessInput in, long offset) {
-      this.in = in;
-      this.offset = offset;
+
+    private static long get64(RandomAccessInput in, long offset, long index) throws IOException {
+      return in.readLong(offset + (index << 3));
     }
-    
-    @Override
-    public long get(long index) {
-      try {
-        return in.readLong(offset + (index << 3));
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    }    
   }
 }
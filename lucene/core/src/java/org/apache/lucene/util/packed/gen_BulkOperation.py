@@ -15,13 +15,12 @@
 # See the License for the specific language governing permissions and
 # limitations under the License.
 
-from fractions import gcd
-
 """Code generation for bulk operations"""
 
 MAX_SPECIALIZED_BITS_PER_VALUE = 24;
 PACKED_64_SINGLE_BLOCK_BPV = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12, 16, 21, 32]
 OUTPUT_FILE = "BulkOperation.java"
+DECODERS_FILE = "BulkOperationPackedDecoders.java"
 HEADER = """// This file has been automatically generated, DO NOT EDIT
 
 /*
@@ -122,53 +121,24 @@ def get_type(bits):
 
 def block_value_count(bpv, bits=64):
   blocks = bpv
-  values = blocks * bits / bpv
+  values = blocks * bits // bpv
   while blocks % 2 == 0 and values % 2 == 0:
-    blocks /= 2
-    values /= 2
+    blocks //= 2
+    values //= 2
   assert values * bpv == bits * blocks, "%d values, %d blocks, %d bits per value" % (values, blocks, bpv)
   return (blocks, values)
 
 def packed64(bpv, f):
-  mask = (1 << bpv) - 1
-
-  f.write("\n")
-  f.write("  public BulkOperationPacked%d() {\n" % bpv)
-  f.write("    super(%d);\n" % bpv)
-  f.write("  }\n\n")
-
-  if bpv == 64:
-    f.write("""    @Override
-    public void decode(long[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
-      System.arraycopy(blocks, blocksOffset, values, valuesOffset, valueCount() * iterations);
-    }
-
-    @Override
-    public void decode(long[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void decode(byte[] blocks, int blocksOffset, int[] values, int valuesOffset, int iterations) {
-      throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void decode(byte[] blocks, int blocksOffset, long[] values, int valuesOffset, int iterations) {
-      LongBuffer.wrap(values, valuesOffset, iterations * valueCount()).put(ByteBuffer.wrap(blocks, blocksOffset, 8 * iterations * blockCount()).asLongBuffer());
-    }
-""")
-  else:
-    p64_decode(bpv, f, 32)
-    p64_decode(bpv, f, 64)
+  assert bpv < 64
+  p64_decode(bpv, f, 32)
+  p64_decode(bpv, f, 64)
 
 def p64_decode(bpv, f, bits):
   blocks, values = block_value_count(bpv)
   typ = get_type(bits)
   cast_start, cast_end = casts(typ)
 
-  f.write("  @Override\n")
-  f.write("  public void decode(long[] blocks, int blocksOffset, %s[] values, int valuesOffset, int iterations) {\n" % typ)
+  f.write("  private static void decode%d(long[] blocks, int blocksOffset, %s[] values, int valuesOffset, int iterations) {\n" % (bpv, typ))
   if bits < bpv:
     f.write("    throw new UnsupportedOperationException();\n")
   else:
@@ -181,8 +151,8 @@ def p64_decode(bpv, f, bits):
       f.write("        values[valuesOffset++] = %s(block >>> shift) & %d%s;\n" % (cast_start, mask, cast_end))
       f.write("      }\n")
     else:
-      for i in xrange(0, values):
-        block_offset = i * bpv / 64
+      for i in range(0, values):
+        block_offset = i * bpv // 64
         bit_offset = (i * bpv) % 64
         if bit_offset == 0:
           # start of block
@@ -206,15 +176,14 @@ def p64_decode(bpv, f, bits):
 
   byte_blocks, byte_values = block_value_count(bpv, 8)
 
-  f.write("  @Override\n")
-  f.write("  public void decode(byte[] blocks, int blocksOffset, %s[] values, int valuesOffset, int iterations) {\n" % typ)
+  f.write("  private static void decode%d(byte[] blocks, int blocksOffset, %s[] values, int valuesOffset, int iterations) {\n" % (bpv, typ))
   if bits < bpv:
     f.write("    throw new UnsupportedOperationException();\n")
   else:
     if is_power_of_two(bpv) and bpv < 8:
       f.write("    for (int j = 0; j < iterations; ++j) {\n")
       f.write("      final byte block = blocks[blocksOffset++];\n")
-      for shift in xrange(8 - bpv, 0, -bpv):
+      for shift in range(8 - bpv, 0, -bpv):
         f.write("      values[valuesOffset++] = (block >>> %d) & %d;\n" % (shift, mask))
       f.write("      values[valuesOffset++] = block & %d;\n" % mask)
       f.write("    }\n")
@@ -226,21 +195,21 @@ def p64_decode(bpv, f, bits):
       f.write("    for (int j = 0; j < iterations; ++j) {\n")
       m = bits <= 32 and "0xFF" or "0xFFL"
       f.write("      values[valuesOffset++] =")
-      for i in xrange(bpv / 8 - 1):
+      for i in range(bpv // 8 - 1):
         f.write(" ((blocks[blocksOffset++] & %s) << %d) |" % (m, bpv - 8))
       f.write(" (blocks[blocksOffset++] & %s);\n" % m)
       f.write("    }\n")
     else:
       f.write("    for (int i = 0; i < iterations; ++i) {\n")
-      for i in xrange(0, byte_values):
-        byte_start = i * bpv / 8
+      for i in range(0, byte_values):
+        byte_start = i * bpv // 8
         bit_start = (i * bpv) % 8
-        byte_end = ((i + 1) * bpv - 1) / 8
+        byte_end = ((i + 1) * bpv - 1) // 8
         bit_end = ((i + 1) * bpv - 1) % 8
         shift = lambda b: 8 * (byte_end - b - 1) + 1 + bit_end
         if bit_start == 0:
           f.write("      final %s byte%d = blocks[blocksOffset++] & 0xFF;\n" % (typ, byte_start))
-        for b in xrange(byte_start + 1, byte_end + 1):
+        for b in range(byte_start + 1, byte_end + 1):
           f.write("      final %s byte%d = blocks[blocksOffset++] & 0xFF;\n" % (typ, b))
         f.write("      values[valuesOffset++] =")
         if byte_start == byte_end:
@@ -259,7 +228,7 @@ def p64_decode(bpv, f, bits):
             f.write(" (byte%d << %d)" % (byte_start, shift(byte_start)))
           else:
             f.write(" ((byte%d & %d) << %d)" % (byte_start, 2 ** (8 - bit_start) - 1, shift(byte_start)))
-          for b in xrange(byte_start + 1, byte_end):
+          for b in range(byte_start + 1, byte_end):
             f.write(" | (byte%d << %d)" % (b, shift(b)))
           if bit_end == 7:
             f.write(" | byte%d" % byte_end)
@@ -269,7 +238,40 @@ def p64_decode(bpv, f, bits):
       f.write("    }\n")
   f.write("  }\n\n")
 
+def decoders_dispatch(f, blocks_typ, values_typ):
+  f.write("  static void decode(int bitsPerValue, %s[] blocks, int blocksOffset, %s[] values, int valuesOffset, int iterations) {\n" % (blocks_typ, values_typ))
+  f.write("    switch (bitsPerValue) {\n")
+  for bpv in range(1, MAX_SPECIALIZED_BITS_PER_VALUE + 1):
+    f.write("      case %d: decode%d(blocks, blocksOffset, values, valuesOffset, iterations); break;\n" % (bpv, bpv))
+  f.write("      default: throw new AssertionError(bitsPerValue);\n")
+  f.write("    }\n")
+  f.write("  }\n\n")
+
 if __name__ == '__main__':
+  f2 = open(DECODERS_FILE, 'w')
+  f2.write(HEADER)
+  f2.write('''/**
+ * Loop-unrolled decoders for {@link BulkOperationPacked}, one per number of
+ * bits per value up to {@value #MAX_SPECIALIZED_BITS_PER_VALUE}. They are
+ * static methods behind a single switch rather than one subclass per number
+ * of bits per value, so that call sites of {@link PackedInts.Decoder} only
+ * ever see one receiver type for the packed format.
+ */
+final class BulkOperationPackedDecoders {
+
+  static final int MAX_SPECIALIZED_BITS_PER_VALUE = %d;
+
+  private BulkOperationPackedDecoders() {}
+
+''' % MAX_SPECIALIZED_BITS_PER_VALUE)
+  for blocks_typ in ("long", "byte"):
+    for values_typ in ("long", "int"):
+      decoders_dispatch(f2, blocks_typ, values_typ)
+  for bpv in range(1, MAX_SPECIALIZED_BITS_PER_VALUE + 1):
+    packed64(bpv, f2)
+  f2.write('}\n')
+  f2.close()
+
   f = open(OUTPUT_FILE, 'w')
   f.write(HEADER)
   f.write('\n')
@@ -280,31 +282,15 @@ if __name__ == '__main__':
   f.write('abstract class BulkOperation implements PackedInts.Decoder, PackedInts.Encoder {\n')
   f.write('  private static final BulkOperation[] packedBulkOps = new BulkOperation[] {\n')
 
-  for bpv in xrange(1, 65):
-    if bpv > MAX_SPECIALIZED_BITS_PER_VALUE:
-      f.write('    new BulkOperationPacked(%d),\n' % bpv)
-      continue
-    f2 = open('BulkOperationPacked%d.java' % bpv, 'w')
-    f2.write(HEADER)
-    if bpv == 64:
-      f2.write('import java.nio.LongBuffer;\n')
-      f2.write('import java.nio.ByteBuffer;\n')
-      f2.write('\n')
-    f2.write('''/**
- * Efficient sequential read/write of packed integers.
- */\n''')
-    f2.write('final class BulkOperationPacked%d extends BulkOperationPacked {\n' % bpv)
-    packed64(bpv, f2)
-    f2.write('}\n')
-    f2.close()
-    f.write('    new BulkOperationPacked%d(),\n' % bpv)
+  for bpv in range(1, 65):
+    f.write('    new BulkOperationPacked(%d),\n' % bpv)
 
   f.write('  };\n')
   f.write('\n')
 
   f.write('  // NOTE: this is sparse (some entries are null):\n')
   f.write('  private static final BulkOperation[] packedSingleBlockBulkOps = new BulkOperation[] {\n')
-  for bpv in xrange(1, max(PACKED_64_SINGLE_BLOCK_BPV) + 1):
+  for bpv in range(1, max(PACKED_64_SINGLE_BLOCK_BPV) + 1):
     if bpv in PACKED_64_SINGLE_BLOCK_BPV:
       f.write('    new BulkOperationPackedSingleBlock(%d),\n' % bpv)
     else:
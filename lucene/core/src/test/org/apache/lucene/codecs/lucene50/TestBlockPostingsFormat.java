@@ -35,11 +35,15 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.Impact;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.store.ByteArrayDataInput;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.TestUtil;
 
 /**
@@ -77,6 +81,42 @@ public class TestBlockPostingsFormat extends BasePostingsFormatTestCase {
     d.close();
   }
 
+  public void testOffHeapTermsIndex() throws Exception {
+    try (Directory mmapDir = new MMapDirectory(createTempDir())) {
+      checkTermsIndex(mmapDir, true);
+    }
+    try (Directory niofsDir = new NIOFSDirectory(createTempDir())) {
+      checkTermsIndex(niofsDir, false);
+    }
+  }
+
+  private void checkTermsIndex(Directory dir, boolean expectOffHeap) throws IOException {
+    IndexWriterConfig iwc = newIndexWriterConfig().setCodec(TestUtil.alwaysPostingsFormat(new Lucene50PostingsFormat()));
+    final int numDocs = atLeast(500);
+    try (IndexWriter w = new IndexWriter(dir, iwc)) {
+      for (int i = 0; i < numDocs; i++) {
+        Document doc = new Document();
+        doc.add(newStringField("id", Integer.toString(i), Field.Store.NO));
+        w.addDocument(doc);
+      }
+      w.forceMerge(1);
+    }
+    try (DirectoryReader r = DirectoryReader.open(dir)) {
+      assertEquals(1, r.leaves().size());
+      FieldReader field = (FieldReader) r.leaves().get(0).reader().terms("id");
+      assertEquals(expectOffHeap, field.isFstOffHeap());
+      // the terms index is only loaded on first use
+      assertTrue(field.getChildResources().isEmpty());
+      TermsEnum termsEnum = field.iterator();
+      assertEquals(1, field.getChildResources().size());
+      for (int i = 0; i < numDocs; i++) {
+        assertTrue(termsEnum.seekExact(new BytesRef(Integer.toString(i))));
+      }
+      assertFalse(termsEnum.seekExact(new BytesRef(Integer.toString(numDocs))));
+      r.leaves().get(0).reader().checkIntegrity();
+    }
+  }
+
   private void shouldFail(int minItemsInBlock, int maxItemsInBlock) {
     expectThrows(IllegalArgumentException.class, () -> {
       new Lucene50PostingsFormat(minItemsInBlock, maxItemsInBlock);
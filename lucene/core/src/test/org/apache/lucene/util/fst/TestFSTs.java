@@ -1198,6 +1198,62 @@ public class TestFSTs extends LuceneTestCase {
     dir.close();
   }
 
+  public void testOffHeap() throws Exception {
+    final PositiveIntOutputs outputs = PositiveIntOutputs.getSingleton();
+    final Builder<Long> b = new Builder<>(FST.INPUT_TYPE.BYTE1, outputs);
+    final TreeMap<BytesRef,Long> terms = new TreeMap<>();
+    final int numTerms = atLeast(1000);
+    while (terms.size() < numTerms) {
+      terms.put(new BytesRef(TestUtil.randomUnicodeString(random())), TestUtil.nextLong(random(), 0, Long.MAX_VALUE));
+    }
+    final IntsRefBuilder scratch = new IntsRefBuilder();
+    for (Map.Entry<BytesRef,Long> ent : terms.entrySet()) {
+      b.add(Util.toIntsRef(ent.getKey(), scratch), ent.getValue());
+    }
+    final FST<Long> fst = b.finish();
+
+    Directory dir = newDirectory();
+    IndexOutput out = dir.createOutput("fst", IOContext.DEFAULT);
+    out.writeVInt(42); // make sure the FST does not need to start at offset 0
+    fst.save(out);
+    out.writeVInt(43);
+    out.close();
+
+    try (IndexInput in = dir.openInput("fst", IOContext.DEFAULT)) {
+      assertEquals(42, in.readVInt());
+      final FST<Long> offHeap = new FST<>(in, outputs, true);
+      assertTrue(offHeap.isOffHeap());
+      // the input is positioned after the FST
+      assertEquals(43, in.readVInt());
+      assertTrue(offHeap.ramBytesUsed() < fst.ramBytesUsed());
+
+      for (Map.Entry<BytesRef,Long> ent : terms.entrySet()) {
+        assertEquals(ent.getValue(), Util.get(offHeap, ent.getKey()));
+      }
+      for (int i = 0; i < 100; ++i) {
+        BytesRef term = new BytesRef(TestUtil.randomUnicodeString(random()));
+        assertEquals(terms.get(term), Util.get(offHeap, term));
+      }
+
+      // save/load round-trip of the off-heap FST
+      IndexOutput out2 = dir.createOutput("fst2", IOContext.DEFAULT);
+      offHeap.save(out2);
+      out2.close();
+      try (IndexInput in2 = dir.openInput("fst2", IOContext.DEFAULT)) {
+        final FST<Long> onHeap = new FST<>(in2, outputs);
+        assertFalse(onHeap.isOffHeap());
+        BytesRefFSTEnum<Long> fstEnum = new BytesRefFSTEnum<>(onHeap);
+        for (Map.Entry<BytesRef,Long> ent : terms.entrySet()) {
+          InputOutput<Long> io = fstEnum.next();
+          assertEquals(ent.getKey(), io.input);
+          assertEquals(ent.getValue(), io.output);
+        }
+        assertNull(fstEnum.next());
+      }
+    }
+    dir.close();
+  }
+
   private void checkStopNodes(FST<Long> fst, PositiveIntOutputs outputs) throws Exception {
     final Long nothing = outputs.getNoOutput();
     FST.Arc<Long> startArc = fst.getFirstArc(new FST.Arc<Long>());
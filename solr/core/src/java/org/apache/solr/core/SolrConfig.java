@@ -252,6 +252,8 @@ public class SolrConfig extends XmlConfigFile implements MapSerializable {
     useFilterForSortedQuery = getBool("query/useFilterForSortedQuery", false);
     queryResultWindowSize = Math.max(1, getInt("query/queryResultWindowSize", 1));
     queryResultMaxDocsCached = getInt("query/queryResultMaxDocsCached", Integer.MAX_VALUE);
+    incrementalQueryResultWarming = getBool("query/incrementalQueryResultWarming", false);
+    uninvertedFieldOffHeap = getBool("query/uninvertedFieldOffHeap", false);
     enableLazyFieldLoading = getBool("query/enableLazyFieldLoading", false);
     
     useRangeVersionsForPeerSync = getBool("peerSync/useRangeVersions", true);
@@ -287,6 +289,10 @@ public class SolrConfig extends XmlConfigFile implements MapSerializable {
 
     maxWarmingSearchers = getInt("query/maxWarmingSearchers", 1);
     slowQueryThresholdMillis = getInt("query/slowQueryThresholdMillis", -1);
+    autowarmThreads = getInt("query/autowarmThreads", 1);
+    autowarmTimeAllowed = getInt("query/autowarmTimeAllowed", -1);
+    segmentFilterCacheSize = getNode("query/segmentFilterCache", false) == null ? 0 : getInt("query/segmentFilterCache/@size", 10000);
+    segmentFilterCacheMaxRamMB = getDouble("query/segmentFilterCache/@maxRamMB", -1);
     for (SolrPluginInfo plugin : plugins) loadPluginInfo(plugin);
 
     Map<String, CacheConfig> userCacheConfigs = CacheConfig.getMultipleConfigs(this, "query/cache");
@@ -564,6 +570,10 @@ public class SolrConfig extends XmlConfigFile implements MapSerializable {
   public final boolean useFilterForSortedQuery;
   public final int queryResultWindowSize;
   public final int queryResultMaxDocsCached;
+  // whether queryResultCache entries are warmed by only searching new segments
+  public final boolean incrementalQueryResultWarming;
+  // whether the fieldValueCache holds the term ords of documents in direct memory
+  public final boolean uninvertedFieldOffHeap;
   public final boolean enableLazyFieldLoading;
   
   public final boolean useRangeVersionsForPeerSync;
@@ -583,6 +593,10 @@ public class SolrConfig extends XmlConfigFile implements MapSerializable {
   public final Version luceneMatchVersion;
   protected String dataDir;
   public final int slowQueryThresholdMillis;  // threshold above which a query is considered slow
+  public final int autowarmThreads;  // number of threads used to regenerate cache entries, 1 warms sequentially
+  public final int autowarmTimeAllowed;  // time in ms after which autowarming stops, -1 means no limit
+  public final int segmentFilterCacheSize;  // max number of entries of the per segment filter cache, 0 disables it
+  public final double segmentFilterCacheMaxRamMB;  // max memory of the per segment filter cache, -1 means no limit
 
   private final HttpCachingConfig httpCachingConfig;
 
@@ -901,8 +915,14 @@ public class SolrConfig extends XmlConfigFile implements MapSerializable {
     m.put("useFilterForSortedQuery", useFilterForSortedQuery);
     m.put("queryResultWindowSize", queryResultWindowSize);
     m.put("queryResultMaxDocsCached", queryResultMaxDocsCached);
+    m.put("incrementalQueryResultWarming", incrementalQueryResultWarming);
+    m.put("uninvertedFieldOffHeap", uninvertedFieldOffHeap);
     m.put("enableLazyFieldLoading", enableLazyFieldLoading);
     m.put("maxBooleanClauses", booleanQueryMaxClauseCount);
+    m.put("autowarmThreads", autowarmThreads);
+    m.put("autowarmTimeAllowed", autowarmTimeAllowed);
+    m.put("segmentFilterCacheSize", segmentFilterCacheSize);
+    m.put("segmentFilterCacheMaxRamMB", segmentFilterCacheMaxRamMB);
     for (SolrPluginInfo plugin : plugins) {
       List<PluginInfo> infos = getPluginInfos(plugin.clazz.getName());
       if (infos == null || infos.isEmpty()) continue;
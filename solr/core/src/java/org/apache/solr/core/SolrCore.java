@@ -137,6 +137,7 @@ import org.apache.solr.schema.IndexSchemaFactory;
 import org.apache.solr.schema.ManagedIndexSchema;
 import org.apache.solr.schema.SimilarityFactory;
 import org.apache.solr.search.QParserPlugin;
+import org.apache.solr.search.SegmentFilterCache;
 import org.apache.solr.search.SolrFieldCacheBean;
 import org.apache.solr.search.SolrIndexSearcher;
 import org.apache.solr.search.ValueSourceParser;
@@ -244,6 +245,16 @@ public final class SolrCore implements SolrInfoBean, SolrMetricProducer, Closeab
 
   private final Map<IndexReader.CacheKey, IndexFingerprint> perSegmentFingerprintCache = new MapMaker().weakKeys().makeMap();
 
+  private final SegmentFilterCache segmentFilterCache;
+
+  /**
+   * Returns the per segment filter cache that is shared by the searchers of this core, or null
+   * if it is not enabled.
+   */
+  public SegmentFilterCache getSegmentFilterCache() {
+    return segmentFilterCache;
+  }
+
   public long getStartNanoTime() {
     return startNanoTime;
   }
@@ -262,6 +273,11 @@ public final class SolrCore implements SolrInfoBean, SolrMetricProducer, Closeab
 
   private ExecutorService coreAsyncTaskExecutor = ExecutorUtil.newMDCAwareCachedThreadPool("Core Async Task");
 
+  // helps the searcher executor warm new searchers, created on first use
+  private final Object autowarmExecutorLock = new Object();
+  private ExecutorService autowarmExecutor;
+  private boolean autowarmExecutorClosed;
+
   /**
    * The SolrResourceLoader used to load all resources for this core.
    * @since solr 1.3
@@ -945,6 +961,15 @@ public final class SolrCore implements SolrInfoBean, SolrMetricProducer, Closeab
       // initialize searcher-related metrics
       initializeMetrics(metricManager, coreMetricManager.getRegistryName(), metricTag, null);
 
+      if (config.segmentFilterCacheSize > 0 || config.segmentFilterCacheMaxRamMB > 0) {
+        segmentFilterCache = new SegmentFilterCache(config.segmentFilterCacheSize,
+            config.segmentFilterCacheMaxRamMB > 0 ? (long) (config.segmentFilterCacheMaxRamMB * 1024L * 1024L) : -1);
+        segmentFilterCache.initializeMetrics(metricManager, coreMetricManager.getRegistryName(), metricTag, "core");
+        infoRegistry.put("segmentFilterCache", segmentFilterCache);
+      } else {
+        segmentFilterCache = null;
+      }
+
       SolrFieldCacheBean solrFieldCacheBean = new SolrFieldCacheBean();
       // this is registered at the CONTAINER level because it's not core-specific - for now we
       // also register it here for back-compat
@@ -1610,6 +1635,9 @@ public final class SolrCore implements SolrInfoBean, SolrMetricProducer, Closeab
     }
     assert ObjectReleaseTracker.release(searcherExecutor);
 
+    // after the searcherExecutor, since searchers that are being warmed use it
+    closeAutowarmExecutor();
+
     try {
       // Since we waited for the searcherExecutor to shut down,
       // there should be no more searchers warming in the background
@@ -1625,6 +1653,10 @@ public final class SolrCore implements SolrInfoBean, SolrMetricProducer, Closeab
         throw (Error) e;
       }
     }
+
+    if (segmentFilterCache != null) {
+      segmentFilterCache.clear();
+    }
     
     if (coreStateClosed) {
       try {
@@ -3191,4 +3223,33 @@ public final class SolrCore implements SolrInfoBean, SolrMetricProducer, Closeab
   public void runAsync(Runnable r) {
     coreAsyncTaskExecutor.submit(r);
   }
+
+  /**
+   * Returns the executor which helps the searcher executor regenerate the cache entries of new searchers,
+   * with <code>autowarmThreads - 1</code> threads, or <code>null</code> if <code>autowarmThreads</code>
+   * is 1 or if this core is closed.
+   *
+   * @lucene.internal
+   */
+  public ExecutorService getAutowarmExecutor() {
+    synchronized (autowarmExecutorLock) {
+      if (autowarmExecutor == null && autowarmExecutorClosed == false && solrConfig.autowarmThreads > 1) {
+        autowarmExecutor = ExecutorUtil.newMDCAwareFixedThreadPool(solrConfig.autowarmThreads - 1,
+            new DefaultSolrThreadFactory("autowarm"));
+      }
+      return autowarmExecutor;
+    }
+  }
+
+  private void closeAutowarmExecutor() {
+    final ExecutorService executor;
+    synchronized (autowarmExecutorLock) {
+      autowarmExecutorClosed = true;
+      executor = autowarmExecutor;
+      autowarmExecutor = null;
+    }
+    if (executor != null) {
+      ExecutorUtil.shutdownAndAwaitTermination(executor);
+    }
+  }
 }
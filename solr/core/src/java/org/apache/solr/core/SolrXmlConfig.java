@@ -302,6 +302,8 @@ public class SolrXmlConfig {
     int distributedConnectionTimeout = HttpClientUtil.DEFAULT_CONNECT_TIMEOUT;
     String metricNameStrategy = UpdateShardHandlerConfig.DEFAULT_METRICNAMESTRATEGY;
     int maxRecoveryThreads = UpdateShardHandlerConfig.DEFAULT_MAXRECOVERYTHREADS;
+    int distributedUpdateBatchSize = UpdateShardHandlerConfig.DEFAULT_DISTRIBUPDATEBATCHSIZE;
+    int distributedUpdateMaxBatchesInFlight = UpdateShardHandlerConfig.DEFAULT_DISTRIBUPDATEMAXBATCHESINFLIGHT;
 
     Object muc = nl.remove("maxUpdateConnections");
     if (muc != null) {
@@ -339,11 +341,24 @@ public class SolrXmlConfig {
       defined = true;
     }
 
+    Object dubs = nl.remove("distribUpdateBatchSize");
+    if (dubs != null)  {
+      distributedUpdateBatchSize = parseInt("distribUpdateBatchSize", dubs.toString());
+      defined = true;
+    }
+
+    Object dubif = nl.remove("distribUpdateMaxBatchesInFlight");
+    if (dubif != null)  {
+      distributedUpdateMaxBatchesInFlight = parseInt("distribUpdateMaxBatchesInFlight", dubif.toString());
+      defined = true;
+    }
+
     if (!defined && !alwaysDefine)
       return null;
 
     return new UpdateShardHandlerConfig(maxUpdateConnections, maxUpdateConnectionsPerHost, distributedSocketTimeout,
-                                        distributedConnectionTimeout, metricNameStrategy, maxRecoveryThreads);
+                                        distributedConnectionTimeout, metricNameStrategy, maxRecoveryThreads,
+                                        distributedUpdateBatchSize, distributedUpdateMaxBatchesInFlight);
 
   }
 
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.solr.common.cloud.Replica;
+import org.apache.solr.common.util.NamedList;
+
+/**
+ * Ranks the replicas by the latency observed from their nodes, so that a node that is slow, e.g. because of
+ * garbage collection or load, receives less requests. Like in C3, the score of a node is
+ * <code>R - S + q^3 * S</code>, where <code>R</code> and <code>S</code> are the exponentially weighted moving
+ * averages of its response time and of the service time (QTime) it reported, and <code>q</code> is one more than
+ * the number of requests sent to it which are not answered yet.
+ * <p>
+ * The replicas are shuffled first, so that the order of replicas of nodes with the same score stays random.
+ * The response time of a node expires when it did not answer for a while, so that it is tried again once it has
+ * no outstanding requests.
+ */
+class AdaptiveReplicaListTransformer extends ShufflingReplicaListTransformer {
+
+  // the weight of the previous average, as in C3
+  static final double ALPHA = 0.9;
+  // QTime has a resolution of a millisecond
+  private static final long MIN_SERVICE_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+  static final long EXPIRATION_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  /** The statistics of the responses of a node. */
+  static final class NodeStats {
+    final AtomicInteger outstanding = new AtomicInteger();
+    private double responseNanos = -1;
+    private double serviceNanos = -1;
+    private long updatedNanos;
+
+    synchronized void update(long responseNanos, long serviceNanos, long now) {
+      if (this.responseNanos < 0 || now - updatedNanos > EXPIRATION_NANOS) {
+        this.responseNanos = responseNanos;
+        this.serviceNanos = serviceNanos;
+      } else {
+        this.responseNanos = ALPHA * this.responseNanos + (1 - ALPHA) * responseNanos;
+        this.serviceNanos = ALPHA * this.serviceNanos + (1 - ALPHA) * serviceNanos;
+      }
+      updatedNanos = now;
+    }
+
+    synchronized double score(long now) {
+      double service = Math.max(serviceNanos, MIN_SERVICE_NANOS);
+      double queue = 1 + outstanding.get();
+      if (responseNanos < 0 || now - updatedNanos > EXPIRATION_NANOS) {
+        // the response time is unknown, but the requests which a stalled node did not answer still count
+        return (queue * queue * queue - 1) * service;
+      }
+      return responseNanos - service + queue * queue * queue * service;
+    }
+  }
+
+  private final ConcurrentHashMap<String,NodeStats> stats = new ConcurrentHashMap<>();
+
+  AdaptiveReplicaListTransformer(Random r) {
+    super(r);
+  }
+
+  @Override
+  public void transform(List<?> choices) {
+    if (choices.size() > 1) {
+      super.transform(choices);
+      // scores are computed once, since they change while sorting
+      long now = System.nanoTime();
+      List<ScoredChoice> scored = new ArrayList<>(choices.size());
+      for (Object choice : choices) {
+        NodeStats nodeStats = getStats(getNode(choice), false);
+        scored.add(new ScoredChoice(choice, nodeStats == null ? 0 : nodeStats.score(now)));
+      }
+      scored.sort((a, b) -> Double.compare(a.score, b.score));
+      @SuppressWarnings("unchecked")
+      List<Object> list = (List<Object>) choices;
+      for (int i = 0; i < scored.size(); i++) {
+        list.set(i, scored.get(i).choice);
+      }
+    }
+  }
+
+  private static final class ScoredChoice {
+    final Object choice;
+    final double score;
+
+    ScoredChoice(Object choice, double score) {
+      this.choice = choice;
+      this.score = score;
+    }
+  }
+
+  /** Called when a request is sent to the given url. */
+  void onRequest(String url) {
+    NodeStats nodeStats = getStats(getNode(url), true);
+    if (nodeStats != null) {
+      nodeStats.outstanding.incrementAndGet();
+    }
+  }
+
+  /**
+   * Called when the request sent to the given url completes, with the server that answered it and its response,
+   * or nulls if it failed. Failures are not averaged, since the load balancer stops using dead servers already.
+   */
+  void onResponse(String url, String server, NamedList<Object> response, long responseNanos) {
+    NodeStats nodeStats = getStats(getNode(url), false);
+    if (nodeStats != null) {
+      nodeStats.outstanding.decrementAndGet();
+    }
+    if (server == null || response == null) {
+      return;
+    }
+    NodeStats serverStats = getStats(getNode(server), true);
+    if (serverStats != null) {
+      NamedList<?> header = (NamedList<?>) response.get("responseHeader");
+      Object qTime = header == null ? null : header.get("QTime");
+      long serviceNanos = qTime instanceof Number ? TimeUnit.MILLISECONDS.toNanos(((Number) qTime).longValue()) : 0;
+      serverStats.update(responseNanos, serviceNanos, System.nanoTime());
+    }
+  }
+
+  NodeStats getStats(String node, boolean create) {
+    if (node == null) {
+      return null;
+    }
+    return create ? stats.computeIfAbsent(node, k -> new NodeStats()) : stats.get(node);
+  }
+
+  /** Returns the host and port of a replica or url, which identify its node. */
+  static String getNode(Object choice) {
+    String url;
+    if (choice instanceof Replica) {
+      url = ((Replica) choice).getBaseUrl();
+    } else if (choice instanceof String) {
+      url = (String) choice;
+    } else {
+      return null;
+    }
+    if (url == null) {
+      return null;
+    }
+    int start = url.indexOf("://");
+    start = start < 0 ? 0 : start + 3;
+    int end = url.indexOf('/', start);
+    return end < 0 ? url.substring(start) : url.substring(start, end);
+  }
+}
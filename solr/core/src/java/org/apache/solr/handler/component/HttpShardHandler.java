@@ -27,10 +27,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import org.apache.solr.client.solrj.SolrRequest;
@@ -39,6 +42,8 @@ import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
 import org.apache.solr.client.solrj.impl.LBSolrClient;
 import org.apache.solr.client.solrj.request.QueryRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.client.solrj.util.Cancellable;
 import org.apache.solr.client.solrj.util.ClientUtils;
 import org.apache.solr.cloud.CloudDescriptor;
 import org.apache.solr.cloud.ZkController;
@@ -77,6 +82,15 @@ public class HttpShardHandler extends ShardHandler {
   private Set<Future<ShardResponse>> pending;
   private Map<String,List<String>> shardToURLs;
   private Http2SolrClient httpClient;
+  // whether requests are sent with the async API of httpClient, instead of on the completionService
+  private final boolean asyncRequests;
+  // responses of asynchronous requests, queued by the threads of httpClient
+  private final BlockingQueue<ShardResponse> responses = new LinkedBlockingQueue<>();
+  // the asynchronous requests whose response was not taken yet, to cancel them
+  private final Map<ShardResponse,Cancellable> cancellables = new HashMap<>();
+  private int pendingResponses;
+  // told about the requests sent to the shards, if adaptive replica selection is enabled
+  private final AdaptiveReplicaListTransformer adaptiveReplicaListTransformer;
 
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
@@ -85,6 +99,8 @@ public class HttpShardHandler extends ShardHandler {
     this.httpShardHandlerFactory = httpShardHandlerFactory;
     completionService = httpShardHandlerFactory.newCompletionService();
     pending = new HashSet<>();
+    asyncRequests = httpClient != null && httpShardHandlerFactory.asyncRequests;
+    adaptiveReplicaListTransformer = httpShardHandlerFactory.getAdaptiveReplicaListTransformer();
 
     // maps "localhost:8983|localhost:7574" to a shuffled List("http://localhost:8983","http://localhost:7574")
     // This is primarily to keep track of what order we should use to query the replicas of a shard
@@ -137,36 +153,44 @@ public class HttpShardHandler extends ShardHandler {
     // do this outside of the callable for thread safety reasons
     final List<String> urls = getURLs(shard);
 
+    final ShardResultCache cache = httpShardHandlerFactory.getShardResultCache();
+    final String cacheKey;
+    final ShardResultCache.Entry cached;
+    if (cache != null && params.getBool(ShardParams.SHARDS_CACHE, false) && !urls.isEmpty()) {
+      SolrRequestInfo requestInfo = SolrRequestInfo.getRequestInfo();
+      cacheKey = ShardResultCache.getKey(urls, params, requestInfo == null ? null : requestInfo.getReq().getUserPrincipal());
+      cached = cache.get(cacheKey);
+      if (cached != null && cached.isFresh(params.getLong(ShardParams.SHARDS_CACHE_MAX_AGE, 0L))) {
+        cache.hits.incrementAndGet();
+        submitCached(sreq, shard, cached);
+        return;
+      } else if (cached != null) {
+        // the shard only replies that its searcher did not change if it has this version
+        params.set(ShardParams.SHARDS_CACHE_VERSION, cached.searcherVersion);
+      }
+    } else {
+      cacheKey = null;
+      cached = null;
+    }
+
+    if (adaptiveReplicaListTransformer != null && !urls.isEmpty()) {
+      adaptiveReplicaListTransformer.onRequest(urls.get(0));
+    }
+
+    if (asyncRequests) {
+      submitAsync(sreq, shard, params, urls, cacheKey, cached);
+      return;
+    }
+
     Callable<ShardResponse> task = () -> {
 
-      ShardResponse srsp = new ShardResponse();
-      if (sreq.nodeName != null) {
-        srsp.setNodeName(sreq.nodeName);
-      }
-      srsp.setShardRequest(sreq);
-      srsp.setShard(shard);
-      SimpleSolrResponse ssr = new SimpleSolrResponse();
-      srsp.setSolrResponse(ssr);
+      ShardResponse srsp = newShardResponse(sreq, shard);
+      SimpleSolrResponse ssr = (SimpleSolrResponse) srsp.getSolrResponse();
       long startTime = System.nanoTime();
+      NamedList<Object> response = null;
 
       try {
-        params.remove(CommonParams.WT); // use default (currently javabin)
-        params.remove(CommonParams.VERSION);
-
-        QueryRequest req = makeQueryRequest(sreq, params, shard);
-        req.setMethod(SolrRequest.METHOD.POST);
-        SolrRequestInfo requestInfo = SolrRequestInfo.getRequestInfo();
-        if (requestInfo != null) req.setUserPrincipal(requestInfo.getReq().getUserPrincipal());
-
-        // no need to set the response parser as binary is the default
-        // req.setResponseParser(new BinaryResponseParser());
-
-        // if there are no shards available for a slice, urls.size()==0
-        if (urls.size()==0) {
-          // TODO: what's the right error code here? We should use the same thing when
-          // all of the servers for a shard are down.
-          throw new SolrException(SolrException.ErrorCode.SERVICE_UNAVAILABLE, "no servers hosting shard: " + shard);
-        }
+        QueryRequest req = makeShardRequest(sreq, shard, params, urls);
 
         if (urls.size() <= 1) {
           String url = urls.get(0);
@@ -177,17 +201,17 @@ public class HttpShardHandler extends ShardHandler {
           ssr.nl = rsp.getResponse();
           srsp.setShardAddress(rsp.getServer());
         }
+        response = ssr.nl;
+        if (cacheKey != null) {
+          ssr.nl = cache.update(cacheKey, cached, ssr.nl, srsp.getShardAddress());
+        }
       }
       catch( ConnectException cex ) {
         srsp.setException(cex); //????
       } catch (Exception th) {
-        srsp.setException(th);
-        if (th instanceof SolrException) {
-          srsp.setResponseCode(((SolrException)th).code());
-        } else {
-          srsp.setResponseCode(-1);
-        }
+        setException(srsp, th);
       }
+      onResponse(urls, srsp.getShardAddress(), response, startTime);
 
       ssr.elapsedTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
 
@@ -208,6 +232,362 @@ public class HttpShardHandler extends ShardHandler {
     }
   }
 
+  /**
+   * Sends the request with the async API of the http client: the response is parsed and queued for
+   * {@link #take(boolean)} by a thread of the client, and no thread waits for it in the meantime.
+   */
+  private void submitAsync(final ShardRequest sreq, final String shard, final ModifiableSolrParams params,
+                           final List<String> urls, final String cacheKey, final ShardResultCache.Entry cached) {
+    ShardResponse srsp = newShardResponse(sreq, shard);
+    SimpleSolrResponse ssr = (SimpleSolrResponse) srsp.getSolrResponse();
+    long startTime = System.nanoTime();
+    pendingResponses++;
+
+    try {
+      if (shard != null)  {
+        MDC.put("ShardRequest.shards", shard);
+      }
+      if (urls != null && !urls.isEmpty())  {
+        MDC.put("ShardRequest.urlList", urls.toString());
+      }
+      final ShardRequestHedging hedging = urls.size() > 1 && params.getBool(ShardParams.SHARDS_HEDGE, true) ?
+          httpShardHandlerFactory.getShardRequestHedging() : null;
+      final String hedgingKey = hedging == null ? null : ShardRequestHedging.getKey(urls);
+      final long hedgeDelay = hedging == null ? -1 : hedging.getDelayNanos(hedgingKey);
+      if (hedgeDelay >= 0) {
+        params.set(ShardParams.SHARD_REQUEST_ID, hedging.newRequestId());
+      }
+      QueryRequest req = makeShardRequest(sreq, shard, params, urls);
+
+      Cancellable cancellable;
+      if (urls.size() <= 1) {
+        String url = urls.get(0);
+        srsp.setShardAddress(url);
+        req.setBasePath(url);
+        cancellable = httpClient.asyncRequest(req, null, new AsyncListener<NamedList<Object>>() {
+          @Override
+          public void onSuccess(NamedList<Object> result) {
+            ssr.nl = result;
+            onResponse(urls, url, result, startTime);
+            onComplete(srsp, startTime, null, cacheKey, cached);
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            onResponse(urls, null, null, startTime);
+            onComplete(srsp, startTime, throwable, null, null);
+          }
+        });
+      } else {
+        AsyncListener<LBSolrClient.Rsp> listener = new AsyncListener<LBSolrClient.Rsp>() {
+          @Override
+          public void onSuccess(LBSolrClient.Rsp rsp) {
+            ssr.nl = rsp.getResponse();
+            srsp.setShardAddress(rsp.getServer());
+            if (hedging != null) {
+              hedging.record(hedgingKey, System.nanoTime() - startTime);
+            }
+            onResponse(urls, rsp.getServer(), rsp.getResponse(), startTime);
+            onComplete(srsp, startTime, null, cacheKey, cached);
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            onResponse(urls, null, null, startTime);
+            onComplete(srsp, startTime, throwable, null, null);
+          }
+        };
+        if (hedgeDelay >= 0) {
+          ModifiableSolrParams hedgeParams = new ModifiableSolrParams(params);
+          hedgeParams.set(ShardParams.SHARD_REQUEST_ID, hedging.newRequestId());
+          QueryRequest hedgeReq = makeShardRequest(sreq, shard, hedgeParams, urls);
+          cancellable = new HedgedRequest(hedging, req, hedgeReq, urls, listener).start(hedgeDelay);
+        } else {
+          cancellable = httpShardHandlerFactory.makeAsyncLoadBalancedRequest(req, urls, listener);
+        }
+      }
+      cancellables.put(srsp, cancellable);
+    } catch (Exception e) {
+      onResponse(urls, null, null, startTime);
+      onComplete(srsp, startTime, e, null, null);
+    } finally {
+      MDC.remove("ShardRequest.shards");
+      MDC.remove("ShardRequest.urlList");
+    }
+  }
+
+  /**
+   * Sends a request to the replicas of a shard with the load balancer, and a duplicate of it starting from the next
+   * replica if it is not answered within a delay. The first successful response is used, and the other request is
+   * cancelled, as well as its execution by the replica. A failure is only notified once both requests failed.
+   */
+  private class HedgedRequest implements Cancellable {
+    private final ShardRequestHedging hedging;
+    private final QueryRequest req;
+    private final QueryRequest hedgeReq;
+    private final List<String> urls;
+    private final List<String> hedgeUrls;
+    private final AsyncListener<LBSolrClient.Rsp> listener;
+
+    // guarded by this
+    private Cancellable primary;
+    private Cancellable hedge;
+    private ScheduledFuture<?> timer;
+    private boolean primaryDone;
+    private boolean hedgeSent;
+    private boolean hedgeDone;
+    private boolean done;
+
+    HedgedRequest(ShardRequestHedging hedging, QueryRequest req, QueryRequest hedgeReq, List<String> urls,
+                  AsyncListener<LBSolrClient.Rsp> listener) {
+      this.hedging = hedging;
+      this.req = req;
+      this.hedgeReq = hedgeReq;
+      this.urls = urls;
+      this.hedgeUrls = new ArrayList<>(urls.subList(1, urls.size()));
+      this.hedgeUrls.add(urls.get(0));
+      this.listener = listener;
+    }
+
+    Cancellable start(long delayNanos) {
+      Cancellable cancellable = httpShardHandlerFactory.makeAsyncLoadBalancedRequest(req, urls, new Listener(false));
+      synchronized (this) {
+        primary = cancellable;
+        if (!done) {
+          timer = hedging.schedule(this::sendHedge, delayNanos);
+        }
+      }
+      return this;
+    }
+
+    private void sendHedge() {
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        hedgeSent = true;
+      }
+      hedging.hedged.mark();
+      Cancellable cancellable = httpShardHandlerFactory.makeAsyncLoadBalancedRequest(hedgeReq, hedgeUrls, new Listener(true));
+      boolean lost;
+      synchronized (this) {
+        hedge = cancellable;
+        // the primary request may have been answered in the meantime
+        lost = done && !hedgeDone;
+      }
+      if (lost) {
+        cancel(cancellable, hedgeReq, hedgeUrls.get(0));
+      }
+    }
+
+    private class Listener implements AsyncListener<LBSolrClient.Rsp> {
+      private final boolean isHedge;
+
+      Listener(boolean isHedge) {
+        this.isHedge = isHedge;
+      }
+
+      @Override
+      public void onSuccess(LBSolrClient.Rsp rsp) {
+        Cancellable loser;
+        synchronized (HedgedRequest.this) {
+          setDone();
+          if (done) {
+            return;
+          }
+          done = true;
+          if (timer != null) {
+            timer.cancel(false);
+          }
+          loser = isHedge ? (primaryDone ? null : primary) : (hedgeDone ? null : hedge);
+        }
+        if (isHedge) {
+          hedging.wins.mark();
+        }
+        if (loser != null) {
+          cancel(loser, isHedge ? req : hedgeReq, isHedge ? urls.get(0) : hedgeUrls.get(0));
+        }
+        listener.onSuccess(rsp);
+      }
+
+      @Override
+      public void onFailure(Throwable throwable) {
+        synchronized (HedgedRequest.this) {
+          setDone();
+          // the load balancer tried all the replicas, but the other request may still succeed
+          if (done || (isHedge ? !primaryDone : hedgeSent && !hedgeDone)) {
+            return;
+          }
+          done = true;
+          if (timer != null) {
+            timer.cancel(false);
+          }
+        }
+        listener.onFailure(throwable);
+      }
+
+      private void setDone() {
+        if (isHedge) {
+          hedgeDone = true;
+        } else {
+          primaryDone = true;
+        }
+      }
+    }
+
+    /** Aborts a request which is not needed anymore, and asks the replica it was sent to to stop executing it. */
+    private void cancel(Cancellable cancellable, QueryRequest request, String url) {
+      cancellable.cancel();
+      ModifiableSolrParams params = new ModifiableSolrParams();
+      params.set(ShardParams.SHARD_CANCEL, request.getParams().get(ShardParams.SHARD_REQUEST_ID));
+      params.set(ShardParams.IS_SHARD, true);
+      params.set(CommonParams.DISTRIB, false);
+      String qt = request.getParams().get(CommonParams.QT);
+      if (qt != null) {
+        params.set(CommonParams.QT, qt);
+      }
+      QueryRequest cancelReq = new QueryRequest(params);
+      cancelReq.setMethod(SolrRequest.METHOD.POST);
+      cancelReq.setUserPrincipal(request.getUserPrincipal());
+      cancelReq.setBasePath(url);
+      try {
+        httpClient.asyncRequest(cancelReq, null, new AsyncListener<NamedList<Object>>() {
+          @Override
+          public void onSuccess(NamedList<Object> result) {
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            log.debug("Could not cancel the request to {}", url, throwable);
+          }
+        });
+      } catch (Exception e) {
+        log.debug("Could not cancel the request to {}", url, e);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      Cancellable[] cancellables;
+      synchronized (this) {
+        if (done) {
+          return;
+        }
+        done = true;
+        if (timer != null) {
+          timer.cancel(false);
+        }
+        cancellables = new Cancellable[] {primaryDone ? null : primary, hedgeDone ? null : hedge};
+      }
+      for (Cancellable cancellable : cancellables) {
+        if (cancellable != null) {
+          cancellable.cancel();
+        }
+      }
+    }
+  }
+
+  /** Tells the adaptive replica selection that the request sent to the first of the urls completed. */
+  private void onResponse(List<String> urls, String server, NamedList<Object> response, long startTime) {
+    if (adaptiveReplicaListTransformer != null && !urls.isEmpty()) {
+      adaptiveReplicaListTransformer.onResponse(urls.get(0), server, response, System.nanoTime() - startTime);
+    }
+  }
+
+  /** Called by a thread of the http client, must not throw since the client would notify the failure as well. */
+  private void onComplete(ShardResponse srsp, long startTime, Throwable failure,
+                          String cacheKey, ShardResultCache.Entry cached) {
+    try {
+      if (failure != null) {
+        setException(srsp, failure);
+      } else if (cacheKey != null) {
+        SimpleSolrResponse ssr = (SimpleSolrResponse) srsp.getSolrResponse();
+        ssr.nl = httpShardHandlerFactory.getShardResultCache().update(cacheKey, cached, ssr.nl, srsp.getShardAddress());
+      }
+      ((SimpleSolrResponse) srsp.getSolrResponse()).elapsedTime =
+          TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+      srsp = transfomResponse(srsp.getShardRequest(), srsp, srsp.getShard());
+    } catch (Exception e) {
+      srsp.setException(e);
+      srsp.setResponseCode(-1);
+    }
+    responses.add(srsp);
+  }
+
+  /** Uses the cached response of a shard, without sending it the request. */
+  private void submitCached(final ShardRequest sreq, final String shard, final ShardResultCache.Entry cached) {
+    ShardResponse srsp = newShardResponse(sreq, shard);
+    srsp.setShardAddress(cached.shardAddress);
+    long startTime = System.nanoTime();
+    if (asyncRequests) {
+      pendingResponses++;
+      try {
+        ((SimpleSolrResponse) srsp.getSolrResponse()).nl = cached.getResponse();
+        onComplete(srsp, startTime, null, null, null);
+      } catch (Exception e) {
+        onComplete(srsp, startTime, e, null, null);
+      }
+      return;
+    }
+    pending.add(completionService.submit(() -> {
+      try {
+        ((SimpleSolrResponse) srsp.getSolrResponse()).nl = cached.getResponse();
+      } catch (Exception e) {
+        setException(srsp, e);
+      }
+      ((SimpleSolrResponse) srsp.getSolrResponse()).elapsedTime =
+          TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+      return transfomResponse(sreq, srsp, shard);
+    }));
+  }
+
+  private ShardResponse newShardResponse(ShardRequest sreq, String shard) {
+    ShardResponse srsp = new ShardResponse();
+    if (sreq.nodeName != null) {
+      srsp.setNodeName(sreq.nodeName);
+    }
+    srsp.setShardRequest(sreq);
+    srsp.setShard(shard);
+    srsp.setSolrResponse(new SimpleSolrResponse());
+    return srsp;
+  }
+
+  private QueryRequest makeShardRequest(ShardRequest sreq, String shard, ModifiableSolrParams params, List<String> urls) {
+    params.remove(CommonParams.WT); // use default (currently javabin)
+    params.remove(CommonParams.VERSION);
+
+    QueryRequest req = makeQueryRequest(sreq, params, shard);
+    req.setMethod(SolrRequest.METHOD.POST);
+    SolrRequestInfo requestInfo = SolrRequestInfo.getRequestInfo();
+    if (requestInfo != null) req.setUserPrincipal(requestInfo.getReq().getUserPrincipal());
+
+    // binary is the default response parser
+    if (sreq.responseParser != null) {
+      req.setResponseParser(sreq.responseParser.apply(shard));
+    }
+
+    // if there are no shards available for a slice, urls.size()==0
+    if (urls.size()==0) {
+      // TODO: what's the right error code here? We should use the same thing when
+      // all of the servers for a shard are down.
+      throw new SolrException(SolrException.ErrorCode.SERVICE_UNAVAILABLE, "no servers hosting shard: " + shard);
+    }
+    return req;
+  }
+
+  private static void setException(ShardResponse srsp, Throwable th) {
+    srsp.setException(th);
+    if (th instanceof SolrException) {
+      srsp.setResponseCode(((SolrException)th).code());
+    } else {
+      srsp.setResponseCode(-1);
+    }
+  }
+
+  /**
+   * Sends a request to a single shard, only used when {@link HttpShardHandlerFactory#INIT_ASYNC_REQUESTS}
+   * is disabled or there is no {@link Http2SolrClient} to send them asynchronously.
+   */
   protected NamedList<Object> request(String url, SolrRequest req) throws IOException, SolrServerException {
     req.setBasePath(url);
     return httpClient.request(req);
@@ -248,6 +628,9 @@ public class HttpShardHandler extends ShardHandler {
   }
   
   private ShardResponse take(boolean bailOnError) {
+    if (asyncRequests) {
+      return takeAsync(bailOnError);
+    }
     
     while (pending.size() > 0) {
       try {
@@ -274,12 +657,37 @@ public class HttpShardHandler extends ShardHandler {
     return null;
   }
 
+  private ShardResponse takeAsync(boolean bailOnError) {
+    while (pendingResponses > 0) {
+      try {
+        ShardResponse rsp = responses.take();
+        pendingResponses--;
+        cancellables.remove(rsp);
+        if (bailOnError && rsp.getException() != null) return rsp; // if exception, return immediately
+        // add response to the response list... we do this after the take() and
+        // not when it is received so we know when the last response
+        // for a request was received.  Otherwise we might return the same
+        // request more than once.
+        rsp.getShardRequest().responses.add(rsp);
+        if (rsp.getShardRequest().responses.size() == rsp.getShardRequest().actualShards.length) {
+          return rsp;
+        }
+      } catch (InterruptedException e) {
+        throw new SolrException(SolrException.ErrorCode.SERVER_ERROR, e);
+      }
+    }
+    return null;
+  }
+
 
   @Override
   public void cancelAll() {
     for (Future<ShardResponse> future : pending) {
       future.cancel(false);
     }
+    for (Cancellable cancellable : cancellables.values()) {
+      cancellable.cancel();
+    }
   }
 
   @Override
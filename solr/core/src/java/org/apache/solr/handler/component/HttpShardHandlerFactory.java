@@ -49,6 +49,8 @@ import org.apache.solr.client.solrj.impl.HttpSolrClient;
 import org.apache.solr.client.solrj.impl.LBHttp2SolrClient;
 import org.apache.solr.client.solrj.impl.LBSolrClient;
 import org.apache.solr.client.solrj.request.QueryRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.client.solrj.util.Cancellable;
 import org.apache.solr.cloud.ZkController;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrException.ErrorCode;
@@ -107,6 +109,12 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
   int   permittedLoadBalancerRequestsMinimumAbsolute = 0;
   float permittedLoadBalancerRequestsMaximumFraction = 1.0f;
   boolean accessPolicy = false;
+  boolean asyncRequests = true;
+  int shardResultCacheSize = 0;
+  boolean adaptiveReplicaSelection = false;
+  float hedgeRequestsPercentile = 0f;
+  private ShardRequestHedging shardRequestHedging;
+  private ShardResultCache shardResultCache;
   private WhitelistHostChecker whitelistHostChecker = null;
 
   private String scheme = null;
@@ -117,6 +125,8 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
 
   private final ReplicaListTransformer shufflingReplicaListTransformer = new ShufflingReplicaListTransformer(r);
 
+  private final AdaptiveReplicaListTransformer adaptiveReplicaListTransformer = new AdaptiveReplicaListTransformer(r);
+
   // URL scheme to be used in distributed search.
   static final String INIT_URL_SCHEME = "urlScheme";
 
@@ -141,6 +151,21 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
   // Configure if the threadpool favours fairness over throughput
   static final String INIT_FAIRNESS_POLICY = "fairnessPolicy";
 
+  // Send requests to shards without blocking a thread of the threadpool until they are answered
+  static final String INIT_ASYNC_REQUESTS = "asyncRequests";
+
+  // The maximum number of shard responses cached for requests with shards.cache=true, disabled if 0
+  static final String INIT_SHARD_RESULT_CACHE_SIZE = "shardResultCacheSize";
+
+  // Rank the replicas by the latency observed from their nodes, instead of randomly
+  static final String INIT_ADAPTIVE_REPLICA_SELECTION = "adaptiveReplicaSelection";
+
+  // The percentile of the latencies of a shard after which a request to it is sent to another replica too, disabled if 0
+  static final String INIT_HEDGE_REQUESTS_PERCENTILE = "hedgeRequestsPercentile";
+
+  // The maximum number of shards whose latencies are kept to hedge requests
+  private static final int HEDGED_SHARDS_SIZE = 1000;
+
   public static final String INIT_SHARDS_WHITELIST = "shardsWhitelist";
 
   static final String INIT_SOLR_DISABLE_SHARDS_WHITELIST = "solr.disable." + INIT_SHARDS_WHITELIST;
@@ -224,6 +249,16 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
         permittedLoadBalancerRequestsMaximumFraction,
         sb);
     this.accessPolicy = getParameter(args, INIT_FAIRNESS_POLICY, accessPolicy,sb);
+    this.asyncRequests = getParameter(args, INIT_ASYNC_REQUESTS, asyncRequests,sb);
+    this.shardResultCacheSize = getParameter(args, INIT_SHARD_RESULT_CACHE_SIZE, shardResultCacheSize,sb);
+    if (this.shardResultCacheSize > 0) {
+      this.shardResultCache = new ShardResultCache(this.shardResultCacheSize);
+    }
+    this.adaptiveReplicaSelection = getParameter(args, INIT_ADAPTIVE_REPLICA_SELECTION, adaptiveReplicaSelection,sb);
+    this.hedgeRequestsPercentile = getParameter(args, INIT_HEDGE_REQUESTS_PERCENTILE, hedgeRequestsPercentile,sb);
+    if (this.hedgeRequestsPercentile > 0) {
+      this.shardRequestHedging = new ShardRequestHedging(this.hedgeRequestsPercentile, HEDGED_SHARDS_SIZE, r);
+    }
     this.whitelistHostChecker = new WhitelistHostChecker(args == null? null: (String) args.get(INIT_SHARDS_WHITELIST), !getDisableShardsWhitelist());
     log.info("Host whitelist initialized: {}", this.whitelistHostChecker);
     
@@ -292,10 +327,39 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
         if (defaultClient != null) {
           IOUtils.closeQuietly(defaultClient);
         }
+        if (shardResultCache != null) {
+          shardResultCache.close();
+        }
+        if (shardRequestHedging != null) {
+          shardRequestHedging.close();
+        }
       }
     }
   }
 
+  /**
+   * Returns the cache of shard responses, or null if {@link #INIT_SHARD_RESULT_CACHE_SIZE} is not configured.
+   */
+  ShardResultCache getShardResultCache() {
+    return shardResultCache;
+  }
+
+  /**
+   * Returns what decides when to hedge requests to shards, or null if {@link #INIT_HEDGE_REQUESTS_PERCENTILE}
+   * is not configured.
+   */
+  ShardRequestHedging getShardRequestHedging() {
+    return shardRequestHedging;
+  }
+
+  /**
+   * Returns the transformer ranking the replicas by the latency of their nodes, which must be told about the
+   * requests sent to them, or null if {@link #INIT_ADAPTIVE_REPLICA_SELECTION} is not enabled.
+   */
+  AdaptiveReplicaListTransformer getAdaptiveReplicaListTransformer() {
+    return adaptiveReplicaSelection ? adaptiveReplicaListTransformer : null;
+  }
+
   /**
    * Makes a request to one or more of the given urls, using the configured load balancer.
    *
@@ -308,6 +372,20 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
     return loadbalancer.request(newLBHttpSolrClientReq(req, urls));
   }
 
+  /**
+   * Makes a request to one or more of the given urls like {@link #makeLoadBalancedRequest}, but without
+   * blocking the calling thread.
+   *
+   * @param req The solr search request that should be sent through the load balancer
+   * @param urls The list of solr server urls to load balance across
+   * @param listener Notified of the response from the request, or of its failure
+   * @return A handle to cancel the request
+   */
+  public Cancellable makeAsyncLoadBalancedRequest(final QueryRequest req, List<String> urls,
+                                                  AsyncListener<LBSolrClient.Rsp> listener) {
+    return loadbalancer.asyncReq(newLBHttpSolrClientReq(req, urls), listener);
+  }
+
   protected LBSolrClient.Req newLBHttpSolrClientReq(final QueryRequest req, List<String> urls) {
     int numServersToTry = (int)Math.floor(urls.size() * this.permittedLoadBalancerRequestsMaximumFraction);
     if (numServersToTry < this.permittedLoadBalancerRequestsMinimumAbsolute) {
@@ -431,6 +509,8 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
 
   protected ReplicaListTransformer getReplicaListTransformer(final SolrQueryRequest req) {
     final SolrParams params = req.getParams();
+    final ReplicaListTransformer defaultReplicaListTransformer = adaptiveReplicaSelection ?
+        adaptiveReplicaListTransformer : shufflingReplicaListTransformer;
     @SuppressWarnings("deprecation")
     final boolean preferLocalShards = params.getBool(CommonParams.PREFER_LOCAL_SHARDS, false);
     final String shardsPreferenceSpec = params.get(ShardParams.SHARDS_PREFERENCE, "");
@@ -447,12 +527,13 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
         preferenceRules.add(ShardParams.SHARDS_PREFERENCE_REPLICA_LOCATION + ":" + ShardParams.REPLICA_LOCAL);
       }
 
-      return new ShufflingReplicaListTransformer(r) {
+      return new ReplicaListTransformer() {
         @Override
         public void transform(List<?> choices)
         {
           if (choices.size() > 1) {
-            super.transform(choices);
+            // the sort is stable, so the replicas with the same preferences keep their random or adaptive order
+            defaultReplicaListTransformer.transform(choices);
             if (log.isDebugEnabled()) {
               log.debug("Applying the following sorting preferences to replicas: {}",
                   Arrays.toString(preferenceRules.toArray()));
@@ -474,7 +555,7 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
       };
     }
 
-    return shufflingReplicaListTransformer;
+    return defaultReplicaListTransformer;
   }
 
   /**
@@ -506,6 +587,10 @@ public class HttpShardHandlerFactory extends ShardHandlerFactory implements org.
     commExecutor = MetricUtils.instrumentedExecutorService(commExecutor, null,
         manager.registry(registry),
         SolrMetricManager.mkName("httpShardExecutor", expandedScope, "threadPool"));
+    if (shardRequestHedging != null) {
+      manager.registerMetric(null, registry, shardRequestHedging.hedged, true, "requests", expandedScope, "hedged");
+      manager.registerMetric(null, registry, shardRequestHedging.wins, true, "wins", expandedScope, "hedged");
+    }
   }
   
   /**
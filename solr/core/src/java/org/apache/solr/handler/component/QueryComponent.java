@@ -477,7 +477,13 @@ public class QueryComponent extends SearchComponent
         sortVals.add(sortField.getField(), vals);
       }
 
+      // the sort values precede the documents, so that the coordinator can drop those that are not competitive
+      // while it parses them
+      Object response = rsp.getValues().remove("response");
       rsp.add("sort_values", sortVals);
+      if (response != null) {
+        rsp.addResponse(response);
+      }
     }
   }
 
@@ -679,8 +685,10 @@ public class QueryComponent extends SearchComponent
     // one-pass algorithm if only id and score fields are requested, but not if fl=score since that's the same as fl=*,score
     ReturnFields fields = rb.rsp.getReturnFields();
 
-    // distrib.singlePass=true forces a one-pass query regardless of requested fields
-    boolean distribSinglePass = rb.req.getParams().getBool(ShardParams.DISTRIB_SINGLE_PASS, false);
+    // distrib.singlePass=true forces a one-pass query regardless of requested fields, and
+    // distrib.singlePass.maxRows does so for requests of few enough documents
+    boolean distribSinglePass = rb.req.getParams().getBool(ShardParams.DISTRIB_SINGLE_PASS, false)
+        || isSmallEnoughForSinglePass(rb);
 
     if(distribSinglePass || (fields != null && fields.wantsField(keyFieldName)
         && fields.getRequestedFieldNames() != null  
@@ -715,6 +723,9 @@ public class QueryComponent extends SearchComponent
     }
 
     sreq.params.set(ResponseBuilder.FIELD_SORT_VALUES,"true");
+    if (isStreamingMerge(rb)) {
+      sreq.responseParser = new StreamingTopIdsMerge(this, rb)::getParser;
+    }
 
     boolean shardQueryIncludeScore = (rb.getFieldFlags() & SolrIndexSearcher.GET_SCORES) != 0 || rb.getSortSpec().includesScore();
     StringBuilder additionalFL = new StringBuilder();
@@ -755,6 +766,35 @@ public class QueryComponent extends SearchComponent
     rb.addRequest(this, sreq);
   }
   
+  /**
+   * Whether the number of documents asked to each shard is not more than {@link ShardParams#DISTRIB_SINGLE_PASS_MAX_ROWS},
+   * so that fetching their fields along with the top ids costs less than a second round trip.
+   */
+  protected boolean isSmallEnoughForSinglePass(ResponseBuilder rb) {
+    int maxRows = rb.req.getParams().getInt(ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, 0);
+    if (maxRows <= 0) {
+      return false;
+    }
+    // summed as longs, as a large start and rows would overflow
+    long shardRows = rb.shards_rows > -1 ? rb.shards_rows : (long) rb.getSortSpec().getOffset() + rb.getSortSpec().getCount();
+    return shardRows <= maxRows;
+  }
+
+  /**
+   * Whether the documents of the shard responses which cannot be among the top ones are dropped while they are
+   * parsed, see {@link ShardParams#DISTRIB_STREAMING_MERGE}.  The merge strategies of re-ranking queries need all
+   * of them, and so may a response cached by the coordinator when it is reused for another request.
+   */
+  protected boolean isStreamingMerge(ResponseBuilder rb) {
+    SolrParams params = rb.req.getParams();
+    // the threshold of the merge holds start + rows documents, summed as longs as they may overflow
+    long size = (long) rb.getSortSpec().getOffset() + rb.getSortSpec().getCount();
+    return params.getBool(ShardParams.DISTRIB_STREAMING_MERGE, false)
+        && rb.getMergeStrategies() == null
+        && !params.getBool(ShardParams.SHARDS_CACHE, false)
+        && size > 0 && size <= Integer.MAX_VALUE;
+  }
+
   protected boolean addFL(StringBuilder fl, String field, boolean additionalAdded) {
     if (additionalAdded) fl.append(",");
     fl.append(field);
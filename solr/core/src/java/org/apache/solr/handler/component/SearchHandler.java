@@ -23,7 +23,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.lucene.index.ExitableDirectoryReader;
 import org.apache.solr.client.solrj.SolrServerException;
@@ -33,6 +36,7 @@ import org.apache.solr.common.SolrException;
 import org.apache.solr.common.params.CommonParams;
 import org.apache.solr.common.params.ModifiableSolrParams;
 import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.common.params.SolrParams;
 import org.apache.solr.common.util.NamedList;
 import org.apache.solr.common.util.SimpleOrderedMap;
 import org.apache.solr.core.CloseHook;
@@ -42,6 +46,7 @@ import org.apache.solr.core.SolrCore;
 import org.apache.solr.handler.RequestHandlerBase;
 import org.apache.solr.request.SolrQueryRequest;
 import org.apache.solr.response.SolrQueryResponse;
+import org.apache.solr.search.SolrIndexSearcher;
 import org.apache.solr.search.SolrQueryTimeoutImpl;
 import org.apache.solr.search.facet.FacetModule;
 import org.apache.solr.security.AuthorizationContext;
@@ -73,6 +78,8 @@ public class SearchHandler extends RequestHandlerBase implements SolrCoreAware ,
   private ShardHandlerFactory shardHandlerFactory ;
   private PluginInfo shfInfo;
   private SolrCore core;
+  // the shard requests being executed with an id, to cancel them
+  private final Map<String,AtomicBoolean> cancellableShardRequests = new ConcurrentHashMap<>();
 
   protected List<String> getDefaultComponents()
   {
@@ -247,8 +254,69 @@ public class SearchHandler extends RequestHandlerBase implements SolrCoreAware ,
     return shardHandler;
   }
   
+  /**
+   * Adds the version of the searcher to the response of a shard request, if the coordinator caches it,
+   * and returns true if it already has the response of this searcher, see {@link ShardParams#SHARDS_CACHE}.
+   */
+  private boolean isCachedByCoordinator(SolrQueryRequest req, SolrQueryResponse rsp) {
+    SolrParams params = req.getParams();
+    NamedList<Object> header = rsp.getResponseHeader();
+    if (header == null || !params.getBool(ShardParams.IS_SHARD, false) || !params.getBool(ShardParams.SHARDS_CACHE, false)) {
+      return false;
+    }
+    String searcherVersion = req.getCore().getName() + ":" + req.getSearcher().getOpenNanoTime();
+    header.add(SolrQueryResponse.RESPONSE_HEADER_SEARCHER_VERSION_KEY, searcherVersion);
+    if (searcherVersion.equals(params.get(ShardParams.SHARDS_CACHE_VERSION))) {
+      header.add(SolrQueryResponse.RESPONSE_HEADER_NOT_MODIFIED_KEY, Boolean.TRUE);
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public void handleRequestBody(SolrQueryRequest req, SolrQueryResponse rsp) throws Exception
+  {
+    final SolrParams params = req.getParams();
+    final String cancelId = params.get(ShardParams.SHARD_CANCEL);
+    if (cancelId != null) {
+      // the request may have completed already
+      AtomicBoolean cancelled = cancellableShardRequests.get(cancelId);
+      if (cancelled != null) {
+        cancelled.set(true);
+      }
+      rsp.add("cancelled", cancelled != null);
+      return;
+    }
+
+    final String shardRequestId = params.get(ShardParams.SHARD_REQUEST_ID);
+    if (shardRequestId == null || !params.getBool(ShardParams.IS_SHARD, false)) {
+      handleSearch(req, rsp);
+      return;
+    }
+    AtomicBoolean cancelled = new AtomicBoolean();
+    req.getContext().put(SolrIndexSearcher.CANCELLED, cancelled);
+    cancellableShardRequests.put(shardRequestId, cancelled);
+    try {
+      handleSearch(req, rsp);
+    } finally {
+      cancellableShardRequests.remove(shardRequestId);
+    }
+  }
+
+  /** Returns true if the request was cancelled, and then adds that its results are partial. */
+  private static boolean isCancelled(ResponseBuilder rb) {
+    AtomicBoolean cancelled = (AtomicBoolean) rb.req.getContext().get(SolrIndexSearcher.CANCELLED);
+    if (cancelled == null || !cancelled.get()) {
+      return false;
+    }
+    NamedList<Object> header = rb.rsp.getResponseHeader();
+    if (header != null && header.get(SolrQueryResponse.RESPONSE_HEADER_PARTIAL_RESULTS_KEY) == null) {
+      header.add(SolrQueryResponse.RESPONSE_HEADER_PARTIAL_RESULTS_KEY, Boolean.TRUE);
+    }
+    return true;
+  }
+
+  private void handleSearch(SolrQueryRequest req, SolrQueryResponse rsp) throws Exception
   {
     List<SearchComponent> components  = getComponents();
     ResponseBuilder rb = new ResponseBuilder(req, rsp, components);
@@ -265,6 +333,10 @@ public class SearchHandler extends RequestHandlerBase implements SolrCoreAware ,
     final RTimerTree timer = rb.isDebug() ? req.getRequestTimer() : null;
 
     final ShardHandler shardHandler1 = getAndPrepShardHandler(req, rb); // creates a ShardHandler object only if it's needed
+
+    if (!rb.isDistrib && isCachedByCoordinator(req, rsp)) {
+      return;
+    }
     
     if (timer == null) {
       // non-debugging prepare phase
@@ -295,6 +367,9 @@ public class SearchHandler extends RequestHandlerBase implements SolrCoreAware ,
         if(!rb.isDebug()) {
           // Process
           for( SearchComponent c : components ) {
+            if (isCancelled(rb)) {
+              break;
+            }
             c.process(rb);
           }
         }
@@ -302,6 +377,9 @@ public class SearchHandler extends RequestHandlerBase implements SolrCoreAware ,
           // Process
           RTimerTree subt = timer.sub( "process" );
           for( SearchComponent c : components ) {
+            if (isCancelled(rb)) {
+              break;
+            }
             rb.setTimer( subt.sub( c.getName() ) );
             c.process(rb);
             rb.getTimer().stop();
@@ -329,6 +407,10 @@ public class SearchHandler extends RequestHandlerBase implements SolrCoreAware ,
       } finally {
         SolrQueryTimeoutImpl.reset();
       }
+      if (rb.requestInfo != null && rb.requestInfo.isNOWUsed() && rsp.getResponseHeader() != null) {
+        // the response does not only depend on the searcher, so the coordinator must not cache it
+        rsp.getResponseHeader().remove(SolrQueryResponse.RESPONSE_HEADER_SEARCHER_VERSION_KEY);
+      }
     } else {
       // a distributed request
 
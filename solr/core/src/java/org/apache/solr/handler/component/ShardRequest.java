@@ -16,10 +16,12 @@
  */
 package org.apache.solr.handler.component;
 
+import org.apache.solr.client.solrj.ResponseParser;
 import org.apache.solr.common.params.ModifiableSolrParams;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 
 // todo... when finalized make accessors
@@ -49,6 +51,8 @@ public class ShardRequest {
 
   public ModifiableSolrParams params;
 
+  /** creates the parser of the response of a shard, the default binary one is used if null */
+  public Function<String,ResponseParser> responseParser;
 
   /** list of responses... filled out by framework */
   public List<ShardResponse> responses = new ArrayList<>();
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import org.apache.solr.common.util.ExecutorUtil;
+import org.apache.solr.common.util.StrUtils;
+import org.apache.solr.util.ConcurrentLRUCache;
+import org.apache.solr.util.DefaultSolrThreadFactory;
+
+/**
+ * Decides when to send a duplicate of a request to another replica of a shard, from the recent latencies of the
+ * shard: a request which is not answered within a percentile of them is hedged, and the first response is used.
+ * This bounds the latency added by a replica that is slow, for instance because of garbage collection, to
+ * that percentile, at the cost of sending that proportion of requests twice.
+ */
+class ShardRequestHedging {
+
+  // the latencies of a shard are only used once there are enough of them
+  static final int MIN_SAMPLES = 20;
+  // computing a percentile of the latencies of a shard copies them, so it is only done this often
+  private static final long DELAY_UPDATE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final double quantile;
+  private final Random r;
+  private final ConcurrentLRUCache<String,ShardLatency> latencies;
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  /** The hedged requests, and those that were answered first by the duplicate. */
+  final Meter hedged = new Meter();
+  final Meter wins = new Meter();
+
+  private static final class ShardLatency {
+    final Histogram histogram = new Histogram(new ExponentiallyDecayingReservoir());
+    volatile long delayNanos = -1;
+    volatile long updatedNanos;
+  }
+
+  /**
+   * @param percentile the percentile of the latencies of a shard after which its requests are hedged
+   * @param size the maximum number of shards whose latencies are kept
+   */
+  ShardRequestHedging(float percentile, int size, Random r) {
+    this.quantile = percentile / 100.0;
+    this.r = r;
+    this.latencies = new ConcurrentLRUCache<>(size, (int) (size * 0.9));
+    this.scheduler = (ScheduledThreadPoolExecutor) Executors.newScheduledThreadPool(1,
+        new DefaultSolrThreadFactory("hedgedShardRequests"));
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /** The key of the latencies of a shard, which does not depend on the order of its replicas. */
+  static String getKey(List<String> urls) {
+    List<String> sortedUrls = new ArrayList<>(urls);
+    Collections.sort(sortedUrls);
+    return StrUtils.join(sortedUrls, '|');
+  }
+
+  /**
+   * Returns the time after which a request to the shard is hedged, or -1 if not enough of its latencies are known.
+   */
+  long getDelayNanos(String key) {
+    ShardLatency latency = latencies.get(key);
+    if (latency == null || latency.histogram.getCount() < MIN_SAMPLES) {
+      return -1;
+    }
+    long now = System.nanoTime();
+    if (latency.delayNanos < 0 || now - latency.updatedNanos > DELAY_UPDATE_NANOS) {
+      latency.delayNanos = (long) latency.histogram.getSnapshot().getValue(quantile);
+      latency.updatedNanos = now;
+    }
+    return latency.delayNanos;
+  }
+
+  /** Records the time it took to get the response of a shard. */
+  void record(String key, long nanos) {
+    ShardLatency latency = latencies.get(key);
+    if (latency == null) {
+      latency = new ShardLatency();
+      latencies.put(key, latency);
+    }
+    latency.histogram.update(nanos);
+  }
+
+  ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+    return scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** Returns an id for a shard request, to cancel it. */
+  String newRequestId() {
+    return Long.toHexString(r.nextLong());
+  }
+
+  void close() {
+    // the pending hedges are not needed anymore
+    scheduler.shutdownNow();
+    ExecutorUtil.awaitTermination(scheduler);
+    latencies.destroy();
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.common.params.SolrParams;
+import org.apache.solr.common.util.JavaBinCodec;
+import org.apache.solr.common.util.NamedList;
+import org.apache.solr.response.SolrQueryResponse;
+import org.apache.solr.util.ConcurrentLRUCache;
+
+/**
+ * Caches the responses of shards at the coordinator of distributed requests with {@link ShardParams#SHARDS_CACHE}.
+ * A response is used again without asking the shard for {@link ShardParams#SHARDS_CACHE_MAX_AGE}, and then only if
+ * the shard replies that its searcher did not change since, without executing the request again. Shards do not
+ * return the version of their searcher when the response depends on {@link CommonParams#NOW}, which is not part of
+ * the key, so that such responses are not cached.
+ * <p>
+ * Responses are kept in javabin format, so that the components merging them get their own copy.
+ */
+class ShardResultCache {
+
+  // these vary between identical requests, or are set by the shard handler
+  private static final List<String> IGNORED_PARAMS = Arrays.asList(CommonParams.NOW, CommonParams.REQUEST_ID,
+      CommonParams.WT, CommonParams.VERSION, ShardParams.SHARD_URL, ShardParams.SHARDS_CACHE_VERSION,
+      ShardParams.SHARDS_CACHE_MAX_AGE);
+
+  private final ConcurrentLRUCache<String,Entry> cache;
+
+  final AtomicLong hits = new AtomicLong();
+  final AtomicLong validations = new AtomicLong();
+  final AtomicLong misses = new AtomicLong();
+
+  ShardResultCache(int size) {
+    cache = new ConcurrentLRUCache<>(size, (int) (size * 0.9));
+  }
+
+  /** A response of a shard, and the version of the searcher that computed it. */
+  static final class Entry {
+    final String shardAddress;
+    final String searcherVersion;
+    final byte[] response;
+    // when the shard last confirmed that its searcher was not changed since
+    volatile long validatedNanos;
+
+    Entry(String shardAddress, String searcherVersion, byte[] response) {
+      this.shardAddress = shardAddress;
+      this.searcherVersion = searcherVersion;
+      this.response = response;
+      this.validatedNanos = System.nanoTime();
+    }
+
+    boolean isFresh(long maxAgeMs) {
+      return System.nanoTime() - validatedNanos < TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    NamedList<Object> getResponse() throws IOException {
+      try (JavaBinCodec codec = new JavaBinCodec()) {
+        return (NamedList<Object>) codec.unmarshal(response);
+      }
+    }
+  }
+
+  /**
+   * The key of the responses of a shard, which does not depend on the order of its replicas. It includes the user
+   * which sent the request, since the response may depend on the documents the user is allowed to see.
+   */
+  static String getKey(List<String> urls, SolrParams params, Principal principal) {
+    List<String> sortedUrls = new ArrayList<>(urls);
+    Collections.sort(sortedUrls);
+    List<String> names = new ArrayList<>();
+    for (Iterator<String> it = params.getParameterNamesIterator(); it.hasNext(); ) {
+      String name = it.next();
+      if (!IGNORED_PARAMS.contains(name)) {
+        names.add(name);
+      }
+    }
+    Collections.sort(names);
+    StringBuilder key = new StringBuilder();
+    if (principal != null && principal.getName() != null) {
+      key.append(principal.getName().length()).append(':').append(principal.getName());
+    }
+    key.append(sortedUrls);
+    for (String name : names) {
+      key.append('&').append(name).append('=').append(Arrays.toString(params.getParams(name)));
+    }
+    return key.toString();
+  }
+
+  Entry get(String key) {
+    return cache.get(key);
+  }
+
+  /**
+   * Returns the response to use for a shard response, which is the cached one when the shard replied that its
+   * searcher did not change, and caches the response otherwise if it is complete.
+   */
+  NamedList<Object> update(String key, Entry cached, NamedList<Object> response, String shardAddress)
+      throws IOException {
+    NamedList<?> header = (NamedList<?>) response.get("responseHeader");
+    if (header == null) {
+      return response;
+    }
+    if (cached != null && Boolean.TRUE.equals(header.get(SolrQueryResponse.RESPONSE_HEADER_NOT_MODIFIED_KEY))) {
+      validations.incrementAndGet();
+      cached.validatedNanos = System.nanoTime();
+      return cached.getResponse();
+    }
+    misses.incrementAndGet();
+    Object searcherVersion = header.get(SolrQueryResponse.RESPONSE_HEADER_SEARCHER_VERSION_KEY);
+    if (searcherVersion != null && header.get(SolrQueryResponse.RESPONSE_HEADER_PARTIAL_RESULTS_KEY) == null) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (JavaBinCodec codec = new JavaBinCodec()) {
+        codec.marshal(response, bytes);
+      }
+      cache.put(key, new Entry(shardAddress, searcherVersion.toString(), bytes.toByteArray()));
+    }
+    return response;
+  }
+
+  void close() {
+    cache.destroy();
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.solr.client.solrj.ResponseParser;
+import org.apache.solr.client.solrj.impl.BinaryResponseParser;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.util.DataInputInputStream;
+import org.apache.solr.common.util.JavaBinCodec;
+import org.apache.solr.common.util.NamedList;
+import org.apache.solr.common.util.SimpleOrderedMap;
+import org.apache.solr.schema.IndexSchema;
+import org.apache.solr.search.SortSpec;
+
+/**
+ * Parses the responses of the shards to a {@link ShardRequest#PURPOSE_GET_TOP_IDS} request while they are
+ * received, and drops the documents which cannot be among the top ones of the merged results instead of keeping
+ * them until {@link QueryComponent#mergeIds(ResponseBuilder, ShardRequest)}.
+ * <p>
+ * A document is dropped when it is not better than <code>start + rows</code> documents of the responses which
+ * were parsed before, in the order of {@link ShardFieldSortedHitQueue}.  This needs the shards to send the sort
+ * values before the documents; the sort values of the documents which are kept are then compacted, so that the
+ * parsed response has the same structure as if the shard had only returned these documents.
+ */
+class StreamingTopIdsMerge {
+
+  private final QueryComponent queryComponent;
+  private final SortSpec sortSpec;
+  private final IndexSchema schema;
+  private final String uniqueKeyFieldName;
+  private final int size;
+
+  // the best documents of the responses parsed so far, only accessed while synchronized on this
+  private final ShardFieldSortedHitQueue threshold;
+  private final Set<Object> thresholdIds = new HashSet<>();
+  // the shards whose documents are in the threshold, as duplicate requests may be sent to a shard
+  private final Set<String> mergedShards = new HashSet<>();
+
+  final AtomicLong droppedDocs = new AtomicLong();
+
+  StreamingTopIdsMerge(QueryComponent queryComponent, ResponseBuilder rb) {
+    this.queryComponent = queryComponent;
+    this.sortSpec = rb.getSortSpec();
+    this.schema = rb.req.getSchema();
+    this.uniqueKeyFieldName = schema.getUniqueKeyField().getName();
+    this.size = sortSpec.getOffset() + sortSpec.getCount();
+
+    Sort sort = sortSpec.getSort();
+    SortField[] sortFields = sort != null ? sort.getSort() : new SortField[]{SortField.FIELD_SCORE};
+    this.threshold = new ShardFieldSortedHitQueue(sortFields, size, rb.req.getSearcher());
+  }
+
+  /** Returns the parser of the responses of a shard. */
+  ResponseParser getParser(String shard) {
+    return new BinaryResponseParser() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public NamedList<Object> processResponse(InputStream body, String encoding) {
+        try (JavaBinCodec codec = new ShardResponseCodec(shard)) {
+          return (NamedList<Object>) codec.unmarshal(body);
+        } catch (IOException e) {
+          throw new SolrException(SolrException.ErrorCode.SERVER_ERROR, "parsing error", e);
+        }
+      }
+    };
+  }
+
+  private synchronized boolean isCompetitive(ShardDoc shardDoc) {
+    if (threshold.size() < size || thresholdIds.contains(shardDoc.id)) {
+      // mergeIds decides which of the duplicates of a document is used
+      return true;
+    }
+    if (mergedShards.contains(shardDoc.shard)) {
+      // the documents of another response of the shard are not comparable by their order in the shard
+      return true;
+    }
+    return threshold.lessThan(threshold.top(), shardDoc);
+  }
+
+  private synchronized void merge(String shard, SolrDocumentList docs, NamedList unmarshalledSortValues) {
+    if (!mergedShards.add(shard)) {
+      return;
+    }
+    for (int i = 0; i < docs.size(); i++) {
+      ShardDoc shardDoc = newShardDoc(shard, docs.get(i), i, unmarshalledSortValues);
+      if (thresholdIds.add(shardDoc.id)) {
+        threshold.insertWithOverflow(shardDoc);
+      }
+    }
+  }
+
+  private ShardDoc newShardDoc(String shard, SolrDocument doc, int orderInShard, NamedList sortFieldValues) {
+    ShardDoc shardDoc = new ShardDoc();
+    shardDoc.id = doc.getFieldValue(uniqueKeyFieldName);
+    shardDoc.shard = shard;
+    shardDoc.orderInShard = orderInShard;
+    Object scoreObj = doc.getFieldValue("score");
+    if (scoreObj != null) {
+      if (scoreObj instanceof String) {
+        shardDoc.score = Float.parseFloat((String) scoreObj);
+      } else {
+        shardDoc.score = (Float) scoreObj;
+      }
+    }
+    shardDoc.sortFieldValues = sortFieldValues;
+    return shardDoc;
+  }
+
+  /** Keeps the values at the given positions of each list of sort values. */
+  private static NamedList<Object> retain(NamedList<?> sortFieldValues, int[] positions, int count) {
+    NamedList<Object> retained = new NamedList<>(sortFieldValues.size());
+    for (int i = 0; i < sortFieldValues.size(); i++) {
+      List<?> values = (List<?>) sortFieldValues.getVal(i);
+      List<Object> retainedValues = new ArrayList<>(count);
+      for (int j = 0; j < count; j++) {
+        retainedValues.add(values.get(positions[j]));
+      }
+      retained.add(sortFieldValues.getName(i), retainedValues);
+    }
+    return retained;
+  }
+
+  private class ShardResponseCodec extends JavaBinCodec {
+    private final String shard;
+    private boolean topLevel = true;
+    private boolean readingResponse;
+
+    private NamedList sortFieldValues;
+    private NamedList unmarshalledSortFieldValues;
+    private SolrDocumentList docs;
+    // the positions in the response of the shard of the documents which are kept
+    private int[] positions;
+
+    ShardResponseCodec(String shard) {
+      this.shard = shard;
+    }
+
+    @Override
+    public SimpleOrderedMap<Object> readOrderedMap(DataInputInputStream dis) throws IOException {
+      if (!topLevel) {
+        return super.readOrderedMap(dis);
+      }
+      topLevel = false;
+      int sz = readSize(dis);
+      SimpleOrderedMap<Object> response = new SimpleOrderedMap<>(sz);
+      for (int i = 0; i < sz; i++) {
+        String name = (String) readVal(dis);
+        readingResponse = "response".equals(name);
+        Object val = readVal(dis);
+        readingResponse = false;
+        if ("sort_values".equals(name) && val instanceof NamedList) {
+          sortFieldValues = (NamedList) val;
+          unmarshalledSortFieldValues = queryComponent.unmarshalSortValues(sortSpec, sortFieldValues, schema);
+        }
+        response.add(name, val);
+      }
+      if (docs != null && unmarshalledSortFieldValues != null) {
+        finish(response);
+      }
+      return response;
+    }
+
+    @Override
+    public NamedList<Object> readNamedList(DataInputInputStream dis) throws IOException {
+      // the response of a shard is an ordered map
+      topLevel = false;
+      return super.readNamedList(dis);
+    }
+
+    @Override
+    public SolrDocumentList readSolrDocumentList(DataInputInputStream dis) throws IOException {
+      if (!readingResponse) {
+        return super.readSolrDocumentList(dis);
+      }
+      // the documents may have lists of documents too
+      readingResponse = false;
+
+      SolrDocumentList solrDocs = new SolrDocumentList();
+      List list = (List) readVal(dis);
+      solrDocs.setNumFound((Long) list.get(0));
+      solrDocs.setStart((Long) list.get(1));
+      solrDocs.setMaxScore((Float) list.get(2));
+
+      tagByte = dis.readByte();
+      if ((tagByte >>> 5) != (ARR >>> 5)) {
+        throw new IOException("doclist must have an array");
+      }
+      int sz = readSize(dis);
+      positions = new int[sz];
+      for (int i = 0; i < sz; i++) {
+        SolrDocument doc = (SolrDocument) readVal(dis);
+        // without sort values, the shard sent them after the documents and all of them are kept
+        if (unmarshalledSortFieldValues == null
+            || isCompetitive(newShardDoc(shard, doc, i, unmarshalledSortFieldValues))) {
+          positions[solrDocs.size()] = i;
+          solrDocs.add(doc);
+        }
+      }
+      droppedDocs.addAndGet(sz - solrDocs.size());
+      docs = solrDocs;
+      return solrDocs;
+    }
+
+    private void finish(SimpleOrderedMap<Object> response) {
+      NamedList retainedSortFieldValues = unmarshalledSortFieldValues;
+      if (docs.size() < positions.length) {
+        response.setVal(response.indexOf("sort_values", 0), retain(sortFieldValues, positions, docs.size()));
+        retainedSortFieldValues = retain(unmarshalledSortFieldValues, positions, docs.size());
+      }
+      // only once the response is fully parsed, as a failed one is not merged
+      merge(shard, docs, retainedSortFieldValues);
+    }
+  }
+}
@@ -67,6 +67,7 @@ import org.apache.solr.search.DocList;
 import org.apache.solr.search.DocSet;
 import org.apache.solr.search.DocSlice;
 import org.apache.solr.search.QParser;
+import org.apache.solr.search.RoaringDocSet;
 import org.apache.solr.search.SolrIndexSearcher;
 import org.apache.solr.search.SolrReturnFields;
 import org.apache.solr.search.SyntaxError;
@@ -327,6 +328,8 @@ public class TaggerRequestHandler extends RequestHandlerBase {
       //note: before Solr 4.7 we could call docSet.getBits() but no longer.
       if (docSet instanceof BitDocSet) {
         docBits = ((BitDocSet)docSet).getBits();
+      } else if (docSet instanceof RoaringDocSet) {
+        docBits = ((RoaringDocSet)docSet).toBitDocSet().getBits();
       } else {
         docBits = new Bits() {
 
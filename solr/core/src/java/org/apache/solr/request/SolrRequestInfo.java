@@ -114,6 +114,11 @@ public class SolrRequestInfo {
     return now;
   }
 
+  /** Whether {@link #getNOW()} was called, e.g. because the request uses date math relative to NOW. */
+  public boolean isNOWUsed() {
+    return now != null;
+  }
+
   /** The TimeZone specified by the request, or UTC if none was specified. */
   public TimeZone getClientTimeZone() {
     if (tz == null)  {
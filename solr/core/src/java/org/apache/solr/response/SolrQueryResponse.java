@@ -68,6 +68,8 @@ public class SolrQueryResponse {
   public static final String NAME = "response";
   public static final String RESPONSE_HEADER_PARTIAL_RESULTS_KEY = "partialResults";
   public static final String RESPONSE_HEADER_SEGMENT_TERMINATED_EARLY_KEY = "segmentTerminatedEarly";
+  public static final String RESPONSE_HEADER_SEARCHER_VERSION_KEY = "searcherVersion";
+  public static final String RESPONSE_HEADER_NOT_MODIFIED_KEY = "notModified";
   private static final String RESPONSE_HEADER_KEY = "responseHeader";
   private static final String RESPONSE_KEY = "response";
 
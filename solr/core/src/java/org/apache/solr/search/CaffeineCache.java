@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.metrics.MetricsMap;
+import org.apache.solr.metrics.SolrMetricManager;
+
+/**
+ * SolrCache based on the <a href="https://github.com/ben-manes/caffeine">Caffeine</a> library,
+ * which uses the W-TinyLFU eviction policy: a small LRU admission window in front of a
+ * segmented LRU main space, with a frequency sketch deciding whether an entry that is evicted
+ * from the window should replace the victim of the main space. This gives better hit ratios
+ * than LRU on workloads that mix recency and frequency, such as filter and query result
+ * caches.
+ * <p>
+ * Reads do not take any lock. The bookkeeping of the eviction policy is buffered and replayed
+ * in batches, either by the calling threads or, if <code>cleanupThread</code> is true, by the
+ * common {@link ForkJoinPool}.
+ * <p>
+ * The cache is bounded by <code>size</code> entries, or by <code>maxRamMB</code> if set, in
+ * which case the values must implement {@link Accountable}.
+ *
+ * @see org.apache.solr.search.SolrCache
+ */
+public class CaffeineCache<K, V> extends SolrCacheBase implements SolrCache<K, V>, Accountable, RemovalListener<K, V> {
+
+  private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(CaffeineCache.class);
+
+  /** Approximate memory usage of the cache structures per entry: node, table slot and frequency sketch. */
+  static final long RAM_BYTES_PER_ENTRY = RamUsageEstimator.NUM_BYTES_OBJECT_HEADER
+      + 6 * RamUsageEstimator.NUM_BYTES_OBJECT_REF // key, value, previous, next, table slot x2
+      + 2 * Long.BYTES; // sketch, access time
+
+  /* An instance of this class will be shared across multiple instances
+   * of a CaffeineCache at the same time.  Make sure everything is thread safe.
+   */
+  private static class CumulativeStats {
+    LongAdder lookups = new LongAdder();
+    LongAdder hits = new LongAdder();
+    LongAdder inserts = new LongAdder();
+    LongAdder evictions = new LongAdder();
+  }
+
+  private CumulativeStats stats;
+
+  // per instance stats
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder inserts = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private long warmupTime = 0;
+
+  private Cache<K,V> cache;
+  private int limit;
+  private long maxRamBytes = Long.MAX_VALUE;
+  private int showItems = 0;
+
+  private String description = "Caffeine Cache";
+  private MetricsMap cacheMap;
+  private Set<String> metricNames = ConcurrentHashMap.newKeySet();
+  private MetricRegistry registry;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Object init(Map args, Object persistence, CacheRegenerator regenerator) {
+    super.init(args, regenerator);
+    String str = (String) args.get("size");
+    limit = str == null ? 1024 : Integer.parseInt(str);
+    str = (String) args.get("initialSize");
+    final int initialSize = Math.min(str == null ? 1024 : Integer.parseInt(str), limit);
+    str = (String) args.get("maxRamMB");
+    maxRamBytes = str == null ? Long.MAX_VALUE : (long) (Double.parseDouble(str) * 1024L * 1024L);
+    str = (String) args.get("cleanupThread");
+    final boolean cleanupThread = str == null ? false : Boolean.parseBoolean(str);
+    str = (String) args.get("showItems");
+    showItems = str == null ? 0 : Integer.parseInt(str);
+
+    final Executor executor = cleanupThread ? ForkJoinPool.commonPool() : Runnable::run;
+    Caffeine builder = Caffeine.newBuilder()
+        .initialCapacity(initialSize)
+        .executor(executor)
+        .removalListener(this);
+    if (maxRamBytes != Long.MAX_VALUE) {
+      builder.maximumWeight(maxRamBytes).weigher((k, v) -> (int) Math.min(Integer.MAX_VALUE, ramBytesUsed(k, v)));
+    } else {
+      builder.maximumSize(limit);
+    }
+    cache = builder.build();
+    description = generateDescription(initialSize, cleanupThread);
+
+    if (persistence == null) {
+      // must be the first time a cache of this type is being created
+      persistence = new CumulativeStats();
+    }
+    stats = (CumulativeStats) persistence;
+    return persistence;
+  }
+
+  private String generateDescription(int initialSize, boolean cleanupThread) {
+    String description = "Caffeine Cache(";
+    if (maxRamBytes != Long.MAX_VALUE) {
+      description += "maxRamMB=" + (maxRamBytes / 1024L / 1024L);
+    } else {
+      description += "maxSize=" + limit;
+    }
+    description += ", initialSize=" + initialSize + ", cleanupThread=" + cleanupThread;
+    if (isAutowarmingOn()) {
+      description += ", " + getAutowarmDescription();
+    }
+    description += ')';
+    return description;
+  }
+
+  private long ramBytesUsed(Object key, Object value) {
+    long keySize = LRUCache.DEFAULT_RAM_BYTES_USED;
+    if (key instanceof Accountable) {
+      keySize = ((Accountable) key).ramBytesUsed();
+    }
+    long valueSize = 0;
+    if (value instanceof Accountable) {
+      valueSize = ((Accountable) value).ramBytesUsed();
+    } else if (value != null) {
+      throw new SolrException(SolrException.ErrorCode.SERVER_ERROR, "Cache: "
+          + getName() + " is configured with maxRamMB=" + RamUsageEstimator.humanReadableUnits(maxRamBytes)
+          + " but its values do not implement org.apache.lucene.util.Accountable");
+    }
+    return keySize + valueSize + RAM_BYTES_PER_ENTRY;
+  }
+
+  @Override
+  public void onRemoval(K key, V value, RemovalCause cause) {
+    if (cause.wasEvicted()) {
+      evictions.increment();
+      stats.evictions.increment();
+    }
+  }
+
+  @Override
+  public int size() {
+    return (int) cache.estimatedSize();
+  }
+
+  @Override
+  public V put(K key, V value) {
+    if (getState() == State.LIVE) {
+      stats.inserts.increment();
+    }
+    inserts.increment();
+    return cache.asMap().put(key, value);
+  }
+
+  @Override
+  public V get(K key) {
+    V val = cache.getIfPresent(key);
+    if (getState() == State.LIVE) {
+      // only increment lookups and hits if we are live.
+      lookups.increment();
+      stats.lookups.increment();
+      if (val != null) {
+        hits.increment();
+        stats.hits.increment();
+      }
+    }
+    return val;
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void warm(SolrIndexSearcher searcher, SolrCache<K,V> old) {
+    if (regenerator == null) return;
+    long warmingStartTime = System.nanoTime();
+    CaffeineCache<K,V> other = (CaffeineCache<K,V>) old;
+
+    // warm entries
+    if (isAutowarmingOn()) {
+      int sz = autowarm.getWarmCount(other.size());
+      Map<K,V> hottest = other.eviction().hottest(sz);
+      // regenerate from the least to the most frequently used entries so that
+      // the most valuable ones are also the most recent ones in the new cache.
+      List<Map.Entry<K,V>> items = new ArrayList<>(hottest.entrySet());
+      Collections.reverse(items);
+      regenerateItems(searcher, this, old, items);
+    }
+
+    warmupTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - warmingStartTime, TimeUnit.NANOSECONDS);
+  }
+
+  private Eviction<K,V> eviction() {
+    return cache.policy().eviction().get();
+  }
+
+  @Override
+  public void close() {
+    cache.invalidateAll();
+    cache.cleanUp();
+  }
+
+  @Override
+  public long ramBytesUsed() {
+    if (maxRamBytes != Long.MAX_VALUE) {
+      return BASE_RAM_BYTES_USED + eviction().weightedSize().getAsLong();
+    }
+    return BASE_RAM_BYTES_USED + cache.estimatedSize() * RAM_BYTES_PER_ENTRY;
+  }
+
+  //////////////////////// SolrInfoBean methods //////////////////////
+
+  @Override
+  public String getName() {
+    return CaffeineCache.class.getName();
+  }
+
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  @Override
+  public Set<String> getMetricNames() {
+    return metricNames;
+  }
+
+  @Override
+  public void initializeMetrics(SolrMetricManager manager, String registryName, String tag, String scope) {
+    registry = manager.registry(registryName);
+    cacheMap = new MetricsMap((detailed, map) -> {
+      if (cache != null) {
+        long lookups = this.lookups.sum();
+        long hits = this.hits.sum();
+        map.put("lookups", lookups);
+        map.put("hits", hits);
+        map.put("hitratio", calcHitRatio(lookups, hits));
+        map.put("inserts", inserts.sum());
+        map.put("evictions", evictions.sum());
+        map.put("size", cache.estimatedSize());
+        if (maxRamBytes != Long.MAX_VALUE) {
+          map.put("maxRamMB", maxRamBytes / 1024L / 1024L);
+        }
+        map.put("ramBytesUsed", ramBytesUsed());
+        map.put("warmupTime", warmupTime);
+        map.put("warmupCount", warmupCount);
+        map.put("warmupSkipped", warmupSkipped);
+
+        long clookups = stats.lookups.sum();
+        long chits = stats.hits.sum();
+        map.put("cumulative_lookups", clookups);
+        map.put("cumulative_hits", chits);
+        map.put("cumulative_hitratio", calcHitRatio(clookups, chits));
+        map.put("cumulative_inserts", stats.inserts.sum());
+        map.put("cumulative_evictions", stats.evictions.sum());
+
+        if (detailed && showItems != 0) {
+          Map<K,V> items = eviction().hottest(showItems == -1 ? Integer.MAX_VALUE : showItems);
+          for (Map.Entry<K,V> e : items.entrySet()) {
+            map.put("item_" + e.getKey(), e.getValue().toString());
+          }
+        }
+      }
+    });
+    manager.registerGauge(this, registryName, cacheMap, tag, true, scope, getCategory().toString());
+  }
+
+  // for unit tests only
+  MetricsMap getMetricsMap() {
+    return cacheMap;
+  }
+
+  @Override
+  public MetricRegistry getMetricRegistry() {
+    return registry;
+  }
+
+  @Override
+  public String toString() {
+    return name() + (cacheMap != null ? cacheMap.getValue().toString() : "");
+  }
+}
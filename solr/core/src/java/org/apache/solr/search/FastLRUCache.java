@@ -17,7 +17,6 @@
 package org.apache.solr.search;
 
 import com.codahale.metrics.MetricRegistry;
-import org.apache.solr.common.SolrException;
 import org.apache.solr.metrics.MetricsMap;
 import org.apache.solr.metrics.SolrMetricManager;
 import org.apache.solr.util.ConcurrentLRUCache;
@@ -25,6 +24,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.List;
 import java.util.Map;
@@ -175,29 +176,19 @@ public class FastLRUCache<K, V> extends SolrCacheBase implements SolrCache<K,V>
   }
 
   @Override
-  public void warm(SolrIndexSearcher searcher, SolrCache old) {
+  public void warm(SolrIndexSearcher searcher, SolrCache<K,V> old) {
     if (regenerator == null) return;
     long warmingStartTime = System.nanoTime();
-    FastLRUCache other = (FastLRUCache) old;
+    FastLRUCache<K,V> other = (FastLRUCache<K,V>) old;
     // warm entries
     if (isAutowarmingOn()) {
       int sz = autowarm.getWarmCount(other.size());
-      Map items = other.cache.getLatestAccessedItems(sz);
-      Map.Entry[] itemsArr = new Map.Entry[items.size()];
-      int counter = 0;
-      for (Object mapEntry : items.entrySet()) {
-        itemsArr[counter++] = (Map.Entry) mapEntry;
-      }
-      for (int i = itemsArr.length - 1; i >= 0; i--) {
-        try {
-          boolean continueRegen = regenerator.regenerateItem(searcher,
-                  this, old, itemsArr[i].getKey(), itemsArr[i].getValue());
-          if (!continueRegen) break;
-        }
-        catch (Exception e) {
-          SolrException.log(log, "Error during auto-warming of key:" + itemsArr[i].getKey(), e);
-        }
-      }
+      Map<K,V> items = other.cache.getLatestAccessedItems(sz);
+      // autowarm from the oldest to the newest entries so that the ordering will be
+      // correct in the new cache.
+      List<Map.Entry<K,V>> itemsList = new ArrayList<>(items.entrySet());
+      Collections.reverse(itemsList);
+      regenerateItems(searcher, this, old, itemsList);
     }
     warmupTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - warmingStartTime, TimeUnit.NANOSECONDS);
   }
@@ -261,6 +252,8 @@ public class FastLRUCache<K, V> extends SolrCacheBase implements SolrCache<K,V>
         map.put("size", size);
 
         map.put("warmupTime", warmupTime);
+        map.put("warmupCount", warmupCount);
+        map.put("warmupSkipped", warmupSkipped);
         map.put("cumulative_lookups", clookups);
         map.put("cumulative_hits", chits);
         map.put("cumulative_hitratio", calcHitRatio(clookups, chits));
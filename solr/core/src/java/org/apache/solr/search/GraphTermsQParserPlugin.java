@@ -334,7 +334,8 @@ public class GraphTermsQParserPlugin extends QParserPlugin {
 
         @Override
         public boolean isCacheable(LeafReaderContext ctx) {
-          return true;
+          // the terms that match in a segment depend on their docFreq in the whole index
+          return false;
         }
 
       };
@@ -629,7 +630,8 @@ abstract class PointSetQuery extends Query implements DocSetProducer {
 
       @Override
       public boolean isCacheable(LeafReaderContext ctx) {
-        return true;
+        // the points that match in a segment depend on their count in the whole index
+        return false;
       }
     };
   }
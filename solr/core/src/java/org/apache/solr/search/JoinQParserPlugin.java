@@ -461,6 +461,8 @@ class JoinQuery extends Query {
               } else {
                 if (toTermSet instanceof BitDocSet) {
                   resultBits = ((BitDocSet)toTermSet).bits.clone();
+                } else if (toTermSet instanceof RoaringDocSet) {
+                  resultBits = ((RoaringDocSet)toTermSet).toBitDocSet().getBits();
                 } else {
                   resultList.add(toTermSet);
                 }
@@ -17,6 +17,8 @@
 package org.apache.solr.search;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +27,6 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import com.codahale.metrics.MetricRegistry;
-import org.apache.solr.common.SolrException;
 import org.apache.solr.metrics.MetricsMap;
 import org.apache.solr.metrics.SolrMetricManager;
 import org.apache.solr.util.ConcurrentLFUCache;
@@ -55,6 +56,8 @@ public class LFUCache<K, V> implements SolrCache<K, V> {
   private List<ConcurrentLFUCache.Stats> statsList;
 
   private long warmupTime = 0;
+  private int warmupCount = 0;
+  private int warmupSkipped = 0;
 
   private String name;
   private int autowarmCount;
@@ -177,26 +180,19 @@ public class LFUCache<K, V> implements SolrCache<K, V> {
   public void warm(SolrIndexSearcher searcher, SolrCache old) {
     if (regenerator == null) return;
     long warmingStartTime = System.nanoTime();
-    LFUCache other = (LFUCache) old;
+    LFUCache<K,V> other = (LFUCache<K,V>) old;
     // warm entries
     if (autowarmCount != 0) {
       int sz = other.size();
       if (autowarmCount != -1) sz = Math.min(sz, autowarmCount);
-      Map items = other.cache.getMostUsedItems(sz);
-      Map.Entry[] itemsArr = new Map.Entry[items.size()];
-      int counter = 0;
-      for (Object mapEntry : items.entrySet()) {
-        itemsArr[counter++] = (Map.Entry) mapEntry;
-      }
-      for (int i = itemsArr.length - 1; i >= 0; i--) {
-        try {
-          boolean continueRegen = regenerator.regenerateItem(searcher,
-              this, old, itemsArr[i].getKey(), itemsArr[i].getValue());
-          if (!continueRegen) break;
-        } catch (Exception e) {
-          SolrException.log(log, "Error during auto-warming of key:" + itemsArr[i].getKey(), e);
-        }
-      }
+      Map<K,V> items = other.cache.getMostUsedItems(sz);
+      // regenerate from the least to the most used entries so that the most
+      // used ones are also the most recent ones in the new cache.
+      List<Map.Entry<K,V>> itemsList = new ArrayList<>(items.entrySet());
+      Collections.reverse(itemsList);
+      int[] counts = SolrCacheBase.regenerateItems(searcher, regenerator, name(), this, old, itemsList);
+      warmupCount = counts[0];
+      warmupSkipped = counts[1];
     }
     warmupTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - warmingStartTime, TimeUnit.NANOSECONDS);
   }
@@ -257,6 +253,8 @@ public class LFUCache<K, V> implements SolrCache<K, V> {
         map.put("size", size);
 
         map.put("warmupTime", warmupTime);
+        map.put("warmupCount", warmupCount);
+        map.put("warmupSkipped", warmupSkipped);
         map.put("timeDecay", timeDecay);
 
         long clookups = 0;
@@ -17,11 +17,14 @@
 package org.apache.solr.search;
 
 import java.lang.invoke.MethodHandles;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -267,15 +270,14 @@ public class LRUCache<K,V> extends SolrCacheBase implements SolrCache<K,V>, Acco
 
     // warm entries
     if (isAutowarmingOn()) {
-      Object[] keys,vals = null;
+      List<Map.Entry<K,V>> items;
 
       // Don't do the autowarming in the synchronized block, just pull out the keys and values.
       synchronized (other.map) {
         
         int sz = autowarm.getWarmCount(other.map.size());
         
-        keys = new Object[sz];
-        vals = new Object[sz];
+        items = new ArrayList<>(sz);
 
         Iterator<Map.Entry<K, V>> iter = other.map.entrySet().iterator();
 
@@ -287,22 +289,13 @@ public class LRUCache<K,V> extends SolrCacheBase implements SolrCache<K,V>, Acco
 
         for (int i=0; i<sz; i++) {
           Map.Entry<K,V> entry = iter.next();
-          keys[i]=entry.getKey();
-          vals[i]=entry.getValue();
+          items.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
         }
       }
 
       // autowarm from the oldest to the newest entries so that the ordering will be
       // correct in the new cache.
-      for (int i=0; i<keys.length; i++) {
-        try {
-          boolean continueRegen = regenerator.regenerateItem(searcher, this, old, keys[i], vals[i]);
-          if (!continueRegen) break;
-        }
-        catch (Exception e) {
-          SolrException.log(log,"Error during auto-warming of key:" + keys[i], e);
-        }
-      }
+      regenerateItems(searcher, this, old, items);
     }
 
     warmupTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - warmingStartTime, TimeUnit.NANOSECONDS);
@@ -352,6 +345,8 @@ public class LRUCache<K,V> extends SolrCacheBase implements SolrCache<K,V>, Acco
         }
       }
       res.put("warmupTime", warmupTime);
+      res.put("warmupCount", warmupCount);
+      res.put("warmupSkipped", warmupSkipped);
 
       long clookups = stats.lookups.longValue();
       long chits = stats.hits.longValue();
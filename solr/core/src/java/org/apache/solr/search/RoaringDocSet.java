@@ -0,0 +1,883 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitUtil;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * <code>RoaringDocSet</code> represents an immutable set of Lucene Document Ids
+ * using the <a href="http://roaringbitmap.org/">roaring bitmap</a> layout, like
+ * {@link org.apache.lucene.util.RoaringDocIdSet}: the doc id space is split into
+ * blocks of 65536 docs, empty blocks take no memory, blocks with up to 4096 docs
+ * store the sorted low 16 bits of their docs, and denser blocks store a bitmap.
+ * <p>
+ * Unlike a {@link BitDocSet}, the memory usage depends on the number and the
+ * clustering of the documents rather than on maxDoc, which makes it a good fit
+ * for caching sets that are too large for a {@link SortedIntDocSet}, but sparse
+ * or clustered enough to not need a bit per document, see {@link #compress}.
+ * Intersections, unions and differences with other <code>RoaringDocSet</code>s and
+ * with <code>BitDocSet</code>s are computed block by block.
+ */
+public final class RoaringDocSet extends DocSetBase {
+  private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(RoaringDocSet.class);
+
+  static final int BLOCK_SHIFT = 16;
+  static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+  static final int BLOCK_MASK = BLOCK_SIZE - 1;
+  static final int BLOCK_WORDS = BLOCK_SIZE >>> 6;
+  /** Blocks that have more docs than that are stored as bitmaps, since a bitmap would take less memory. */
+  static final int MAX_ARRAY_LENGTH = 1 << 12;
+
+  /** Per block, the sorted low 16 bits of the docs if the block is sparse, null otherwise. chars are unsigned. */
+  private final char[][] arrays;
+  /** Per block, the bits of the docs if the block is dense, null otherwise. */
+  private final long[][] bitmaps;
+  private final int numBits;
+  private final int size;
+  private final long ramBytesUsed;
+
+  private RoaringDocSet(char[][] arrays, long[][] bitmaps, int numBits, int size) {
+    this.arrays = arrays;
+    this.bitmaps = bitmaps;
+    this.numBits = numBits;
+    this.size = size;
+    long ramBytesUsed = BASE_RAM_BYTES_USED + 2 * RamUsageEstimator.shallowSizeOf(arrays);
+    for (int block = 0; block < arrays.length; block++) {
+      if (arrays[block] != null) {
+        ramBytesUsed += RamUsageEstimator.sizeOf(arrays[block]);
+      } else if (bitmaps[block] != null) {
+        ramBytesUsed += RamUsageEstimator.sizeOf(bitmaps[block]);
+      }
+    }
+    this.ramBytesUsed = ramBytesUsed;
+  }
+
+  /** Returns a <code>RoaringDocSet</code> that has the same documents as the given bits. */
+  public static RoaringDocSet fromBits(FixedBitSet bits) {
+    return fromBits(bits, blockCardinalities(bits));
+  }
+
+  private static RoaringDocSet fromBits(FixedBitSet bits, int[] cardinalities) {
+    final long[] words = bits.getBits();
+    final Builder builder = new Builder(bits.length());
+    for (int block = 0; block < cardinalities.length; block++) {
+      final int cardinality = cardinalities[block];
+      final int from = block << 10;
+      if (cardinality == 0) {
+        continue;
+      } else if (cardinality <= MAX_ARRAY_LENGTH) {
+        builder.addArray(block, toArray(words, from, cardinality));
+      } else {
+        final long[] bitmap = new long[BLOCK_WORDS];
+        System.arraycopy(words, from, bitmap, 0, Math.min(BLOCK_WORDS, words.length - from));
+        builder.addBitmap(block, bitmap, cardinality);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a <code>RoaringDocSet</code> that has the same documents as the given set if
+   * it takes at most half the memory of the set, or the given set otherwise. Since operations
+   * on sparse blocks are slower than on bits, only sets that are sparse or clustered enough
+   * are converted.
+   */
+  public static DocSet compress(BitDocSet set) {
+    final FixedBitSet bits = set.getBits();
+    final int[] cardinalities = blockCardinalities(bits);
+    long ramBytesUsed = BASE_RAM_BYTES_USED + 2 * RamUsageEstimator.alignObjectSize(
+        RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) RamUsageEstimator.NUM_BYTES_OBJECT_REF * cardinalities.length);
+    for (int cardinality : cardinalities) {
+      if (cardinality == 0) {
+        continue;
+      } else if (cardinality <= MAX_ARRAY_LENGTH) {
+        ramBytesUsed += RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + ((long) cardinality << 1));
+      } else {
+        ramBytesUsed += RamUsageEstimator.alignObjectSize(RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + ((long) BLOCK_WORDS << 3));
+      }
+    }
+    if (ramBytesUsed > set.ramBytesUsed() >>> 1) {
+      return set;
+    }
+    return fromBits(bits, cardinalities);
+  }
+
+  private static int[] blockCardinalities(FixedBitSet bits) {
+    final long[] words = bits.getBits();
+    final int numWords = Math.min(words.length, FixedBitSet.bits2words(bits.length()));
+    final int[] cardinalities = new int[blockCount(bits.length())];
+    for (int block = 0; block < cardinalities.length; block++) {
+      final int from = block << 10;
+      cardinalities[block] = (int) BitUtil.pop_array(words, from, Math.min(BLOCK_WORDS, numWords - from));
+    }
+    return cardinalities;
+  }
+
+  private static int blockCount(int numBits) {
+    return (int) (((long) numBits + BLOCK_MASK) >>> BLOCK_SHIFT);
+  }
+
+  /** Returns the low 16 bits of the <code>cardinality</code> docs whose bits start at <code>words[from]</code>. */
+  private static char[] toArray(long[] words, int from, int cardinality) {
+    final char[] array = new char[cardinality];
+    final int to = Math.min(from + BLOCK_WORDS, words.length);
+    int length = 0;
+    for (int i = from; i < to; i++) {
+      long word = words[i];
+      while (word != 0) {
+        array[length++] = (char) (((i - from) << 6) | Long.numberOfTrailingZeros(word));
+        word &= word - 1;
+      }
+    }
+    assert length == cardinality;
+    return array;
+  }
+
+  /** Returns the first set bit of the bitmap of a block that is greater than or equal to <code>index</code>, or -1. */
+  private static int nextSetBit(long[] bitmap, int index) {
+    int i = index >>> 6;
+    if (i >= BLOCK_WORDS) {
+      return -1;
+    }
+    long word = bitmap[i] >>> index;
+    if (word != 0) {
+      return index + Long.numberOfTrailingZeros(word);
+    }
+    while (++i < BLOCK_WORDS) {
+      word = bitmap[i];
+      if (word != 0) {
+        return (i << 6) + Long.numberOfTrailingZeros(word);
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the bit of the low 16 bits <code>low</code> in the block of <code>words</code> that starts at <code>offset</code>. */
+  private static boolean get(long[] words, int offset, int low) {
+    final int i = offset + (low >>> 6);
+    return i < words.length && (words[i] & (1L << low)) != 0;
+  }
+
+  private static long word(long[] words, int offset, int i) {
+    return offset + i < words.length ? words[offset + i] : 0L;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean exists(int doc) {
+    final int block = doc >>> BLOCK_SHIFT;
+    if (block >= arrays.length) {
+      return false;
+    }
+    final char[] array = arrays[block];
+    if (array != null) {
+      return Arrays.binarySearch(array, (char) doc) >= 0;
+    }
+    final long[] bitmap = bitmaps[block];
+    return bitmap != null && get(bitmap, 0, doc & BLOCK_MASK);
+  }
+
+  @Override
+  public DocIterator iterator() {
+    return new DocIterator() {
+      private final RoaringIterator iter = new RoaringIterator();
+      private int pos = iter.nextDoc();
+
+      @Override
+      public boolean hasNext() {
+        return pos != DocIdSetIterator.NO_MORE_DOCS;
+      }
+
+      @Override
+      public Integer next() {
+        return nextDoc();
+      }
+
+      @Override
+      public int nextDoc() {
+        int old = pos;
+        pos = iter.nextDoc();
+        return old;
+      }
+
+      @Override
+      public float score() {
+        return 0.0f;
+      }
+    };
+  }
+
+  /** Iterates over the docs of this set, in order. */
+  private final class RoaringIterator extends DocIdSetIterator {
+    private int doc = -1;
+    private int block = -1;
+    private int blockBase;
+    private char[] array;
+    private int index;
+    private long[] bitmap;
+
+    @Override
+    public int docID() {
+      return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+      if (array != null) {
+        if (++index < array.length) {
+          return doc = blockBase | array[index];
+        }
+      } else if (bitmap != null) {
+        final int low = nextSetBit(bitmap, (doc & BLOCK_MASK) + 1);
+        if (low != -1) {
+          return doc = blockBase | low;
+        }
+      }
+      return firstDoc(block + 1);
+    }
+
+    @Override
+    public int advance(int target) {
+      final int targetBlock = target >>> BLOCK_SHIFT;
+      if (targetBlock != block && firstDoc(targetBlock) >= target) {
+        return doc;
+      }
+      // we are now on the block of the target, before the target
+      final int low = target & BLOCK_MASK;
+      if (array != null) {
+        int i = Arrays.binarySearch(array, index, array.length, (char) low);
+        if (i < 0) {
+          i = -1 - i;
+        }
+        if (i < array.length) {
+          index = i;
+          return doc = blockBase | array[i];
+        }
+      } else if (bitmap != null) {
+        final int next = nextSetBit(bitmap, low);
+        if (next != -1) {
+          return doc = blockBase | next;
+        }
+      }
+      return firstDoc(block + 1);
+    }
+
+    /** Moves to the first doc of the first non-empty block that is at or after the given block. */
+    private int firstDoc(int fromBlock) {
+      for (block = fromBlock; block < arrays.length; block++) {
+        blockBase = block << BLOCK_SHIFT;
+        if (arrays[block] != null) {
+          array = arrays[block];
+          bitmap = null;
+          index = 0;
+          return doc = blockBase | array[0];
+        } else if (bitmaps[block] != null) {
+          array = null;
+          bitmap = bitmaps[block];
+          return doc = blockBase | nextSetBit(bitmap, 0);
+        }
+      }
+      array = null;
+      bitmap = null;
+      return doc = NO_MORE_DOCS;
+    }
+
+    @Override
+    public long cost() {
+      return size;
+    }
+  }
+
+  /**
+   * Returns a {@link BitDocSet} that has the same documents as this set, for the consumers
+   * that need random access to the bits of the set.
+   */
+  public BitDocSet toBitDocSet() {
+    return new BitDocSet(getBits(), size);
+  }
+
+  @Override
+  protected FixedBitSet getBits() {
+    final FixedBitSet bits = new FixedBitSet(numBits);
+    final long[] words = bits.getBits();
+    for (int block = 0; block < arrays.length; block++) {
+      final int base = block << BLOCK_SHIFT;
+      if (arrays[block] != null) {
+        for (char low : arrays[block]) {
+          bits.set(base | low);
+        }
+      } else if (bitmaps[block] != null) {
+        final int from = block << 10;
+        System.arraycopy(bitmaps[block], 0, words, from, Math.min(BLOCK_WORDS, words.length - from));
+      }
+    }
+    return bits;
+  }
+
+  @Override
+  public int intersectionSize(DocSet other) {
+    if (other instanceof RoaringDocSet) {
+      final RoaringDocSet o = (RoaringDocSet) other;
+      return intersectionCount(o.arrays, o.bitmaps, null, false);
+    } else if (other instanceof BitDocSet) {
+      return intersectionCount(null, null, ((BitDocSet) other).getBits().getBits(), false);
+    }
+    int count = 0;
+    for (DocIterator iter = other.iterator(); iter.hasNext();) {
+      if (exists(iter.nextDoc())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public boolean intersects(DocSet other) {
+    if (other instanceof RoaringDocSet) {
+      final RoaringDocSet o = (RoaringDocSet) other;
+      return intersectionCount(o.arrays, o.bitmaps, null, true) > 0;
+    } else if (other instanceof BitDocSet) {
+      return intersectionCount(null, null, ((BitDocSet) other).getBits().getBits(), true) > 0;
+    }
+    for (DocIterator iter = other.iterator(); iter.hasNext();) {
+      if (exists(iter.nextDoc())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Counts the docs that this set has in common with either the blocks of another
+   * <code>RoaringDocSet</code>, or the bits <code>otherWords</code> of a <code>BitDocSet</code>.
+   * If <code>any</code> is true, returns as soon as a block has docs in common.
+   */
+  private int intersectionCount(char[][] otherArrays, long[][] otherBitmaps, long[] otherWords, boolean any) {
+    int count = 0;
+    for (int block = 0; block < arrays.length; block++) {
+      final char[] array = arrays[block];
+      final long[] bitmap = bitmaps[block];
+      if (array == null && bitmap == null) {
+        continue;
+      }
+      char[] otherArray = null;
+      long[] otherBitmap = null;
+      int offset = 0;
+      if (otherWords != null) {
+        offset = block << 10;
+        if (offset >= otherWords.length) break;
+        otherBitmap = otherWords;
+      } else {
+        if (block >= otherArrays.length) break;
+        otherArray = otherArrays[block];
+        otherBitmap = otherBitmaps[block];
+      }
+
+      if (array != null) {
+        if (otherArray != null) {
+          count += intersectionCount(array, otherArray);
+        } else if (otherBitmap != null) {
+          count += intersectionCount(array, otherBitmap, offset);
+        }
+      } else {
+        if (otherArray != null) {
+          count += intersectionCount(otherArray, bitmap, 0);
+        } else if (otherBitmap != null) {
+          for (int i = 0; i < BLOCK_WORDS; i++) {
+            count += Long.bitCount(bitmap[i] & word(otherBitmap, offset, i));
+          }
+        }
+      }
+      if (any && count > 0) {
+        break;
+      }
+    }
+    return count;
+  }
+
+  private static int intersectionCount(char[] a, char[] b) {
+    int count = 0;
+    for (int i = 0, j = 0; i < a.length && j < b.length;) {
+      if (a[i] < b[j]) {
+        i++;
+      } else if (a[i] > b[j]) {
+        j++;
+      } else {
+        count++;
+        i++;
+        j++;
+      }
+    }
+    return count;
+  }
+
+  private static int intersectionCount(char[] array, long[] words, int offset) {
+    int count = 0;
+    for (char low : array) {
+      if (get(words, offset, low)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public DocSet intersection(DocSet other) {
+    if (other instanceof RoaringDocSet) {
+      final RoaringDocSet o = (RoaringDocSet) other;
+      return intersection(o.arrays, o.bitmaps, null);
+    } else if (other instanceof BitDocSet) {
+      return intersection(null, null, ((BitDocSet) other).getBits().getBits());
+    }
+    // the other set is smaller, iterate over it
+    int[] docs = new int[Math.min(size, other.size())];
+    int length = 0;
+    boolean sorted = true;
+    for (DocIterator iter = other.iterator(); iter.hasNext() && length < docs.length;) {
+      final int doc = iter.nextDoc();
+      if (exists(doc)) {
+        sorted &= length == 0 || docs[length - 1] < doc;
+        docs[length++] = doc;
+      }
+    }
+    if (!sorted) {
+      Arrays.sort(docs, 0, length);
+    }
+    return new SortedIntDocSet(docs, length);
+  }
+
+  private RoaringDocSet intersection(char[][] otherArrays, long[][] otherBitmaps, long[] otherWords) {
+    final Builder builder = new Builder(numBits);
+    for (int block = 0; block < arrays.length; block++) {
+      final char[] array = arrays[block];
+      final long[] bitmap = bitmaps[block];
+      if (array == null && bitmap == null) {
+        continue;
+      }
+      char[] otherArray = null;
+      long[] otherBitmap = null;
+      int offset = 0;
+      if (otherWords != null) {
+        offset = block << 10;
+        if (offset >= otherWords.length) break;
+        otherBitmap = otherWords;
+      } else {
+        if (block >= otherArrays.length) break;
+        otherArray = otherArrays[block];
+        otherBitmap = otherBitmaps[block];
+      }
+
+      final int base = block << BLOCK_SHIFT;
+      if (array != null) {
+        if (otherArray != null) {
+          for (int i = 0, j = 0; i < array.length && j < otherArray.length;) {
+            if (array[i] < otherArray[j]) {
+              i++;
+            } else if (array[i] > otherArray[j]) {
+              j++;
+            } else {
+              builder.add(base | array[i]);
+              i++;
+              j++;
+            }
+          }
+        } else if (otherBitmap != null) {
+          for (char low : array) {
+            if (get(otherBitmap, offset, low)) {
+              builder.add(base | low);
+            }
+          }
+        }
+      } else {
+        if (otherArray != null) {
+          for (char low : otherArray) {
+            if (get(bitmap, 0, low)) {
+              builder.add(base | low);
+            }
+          }
+        } else if (otherBitmap != null) {
+          final long[] result = new long[BLOCK_WORDS];
+          int cardinality = 0;
+          for (int i = 0; i < BLOCK_WORDS; i++) {
+            result[i] = bitmap[i] & word(otherBitmap, offset, i);
+            cardinality += Long.bitCount(result[i]);
+          }
+          builder.addBitmap(block, result, cardinality);
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public DocSet andNot(DocSet other) {
+    if (other instanceof RoaringDocSet) {
+      final RoaringDocSet o = (RoaringDocSet) other;
+      return andNot(o.arrays, o.bitmaps, null);
+    } else if (other instanceof BitDocSet) {
+      return andNot(null, null, ((BitDocSet) other).getBits().getBits());
+    }
+    final Builder builder = new Builder(numBits);
+    for (DocIterator iter = iterator(); iter.hasNext();) {
+      final int doc = iter.nextDoc();
+      if (!other.exists(doc)) {
+        builder.add(doc);
+      }
+    }
+    return builder.build();
+  }
+
+  private RoaringDocSet andNot(char[][] otherArrays, long[][] otherBitmaps, long[] otherWords) {
+    final Builder builder = new Builder(numBits);
+    for (int block = 0; block < arrays.length; block++) {
+      final char[] array = arrays[block];
+      final long[] bitmap = bitmaps[block];
+      if (array == null && bitmap == null) {
+        continue;
+      }
+      char[] otherArray = null;
+      long[] otherBitmap = null;
+      int offset = 0;
+      if (otherWords != null) {
+        offset = block << 10;
+        otherBitmap = offset < otherWords.length ? otherWords : null;
+      } else if (block < otherArrays.length) {
+        otherArray = otherArrays[block];
+        otherBitmap = otherBitmaps[block];
+      }
+
+      final int base = block << BLOCK_SHIFT;
+      if (array != null) {
+        if (otherArray != null) {
+          int j = 0;
+          for (char low : array) {
+            while (j < otherArray.length && otherArray[j] < low) {
+              j++;
+            }
+            if (j == otherArray.length || otherArray[j] != low) {
+              builder.add(base | low);
+            }
+          }
+        } else if (otherBitmap != null) {
+          for (char low : array) {
+            if (get(otherBitmap, offset, low) == false) {
+              builder.add(base | low);
+            }
+          }
+        } else {
+          // blocks are immutable, they can be shared
+          builder.addArray(block, array);
+        }
+      } else {
+        if (otherArray != null) {
+          final long[] result = bitmap.clone();
+          for (char low : otherArray) {
+            result[low >>> 6] &= ~(1L << low);
+          }
+          builder.addBitmap(block, result, (int) BitUtil.pop_array(result, 0, BLOCK_WORDS));
+        } else if (otherBitmap != null) {
+          final long[] result = new long[BLOCK_WORDS];
+          int cardinality = 0;
+          for (int i = 0; i < BLOCK_WORDS; i++) {
+            result[i] = bitmap[i] & ~word(otherBitmap, offset, i);
+            cardinality += Long.bitCount(result[i]);
+          }
+          builder.addBitmap(block, result, cardinality);
+        } else {
+          builder.addBitmap(block, bitmap, (int) BitUtil.pop_array(bitmap, 0, BLOCK_WORDS));
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public DocSet union(DocSet other) {
+    if (other instanceof RoaringDocSet) {
+      return union((RoaringDocSet) other);
+    }
+    FixedBitSet newbits = getBits();
+    if (other instanceof BitDocSet) {
+      final FixedBitSet otherBits = ((BitDocSet) other).getBits();
+      newbits = FixedBitSet.ensureCapacity(newbits, otherBits.length());
+      newbits.or(otherBits);
+    } else {
+      for (DocIterator iter = other.iterator(); iter.hasNext();) {
+        final int doc = iter.nextDoc();
+        newbits = FixedBitSet.ensureCapacity(newbits, doc);
+        newbits.set(doc);
+      }
+    }
+    return new BitDocSet(newbits);
+  }
+
+  private RoaringDocSet union(RoaringDocSet other) {
+    final Builder builder = new Builder(Math.max(numBits, other.numBits));
+    final int numBlocks = Math.max(arrays.length, other.arrays.length);
+    for (int block = 0; block < numBlocks; block++) {
+      final char[] array = block < arrays.length ? arrays[block] : null;
+      final long[] bitmap = block < bitmaps.length ? bitmaps[block] : null;
+      final char[] otherArray = block < other.arrays.length ? other.arrays[block] : null;
+      final long[] otherBitmap = block < other.bitmaps.length ? other.bitmaps[block] : null;
+      final int base = block << BLOCK_SHIFT;
+
+      if (array == null && bitmap == null) {
+        if (otherArray != null) {
+          builder.addArray(block, otherArray);
+        } else if (otherBitmap != null) {
+          builder.addBitmap(block, otherBitmap, (int) BitUtil.pop_array(otherBitmap, 0, BLOCK_WORDS));
+        }
+      } else if (otherArray == null && otherBitmap == null) {
+        if (array != null) {
+          builder.addArray(block, array);
+        } else {
+          builder.addBitmap(block, bitmap, (int) BitUtil.pop_array(bitmap, 0, BLOCK_WORDS));
+        }
+      } else if (array != null && otherArray != null) {
+        int i = 0, j = 0;
+        while (i < array.length && j < otherArray.length) {
+          if (array[i] < otherArray[j]) {
+            builder.add(base | array[i++]);
+          } else if (array[i] > otherArray[j]) {
+            builder.add(base | otherArray[j++]);
+          } else {
+            builder.add(base | array[i]);
+            i++;
+            j++;
+          }
+        }
+        while (i < array.length) {
+          builder.add(base | array[i++]);
+        }
+        while (j < otherArray.length) {
+          builder.add(base | otherArray[j++]);
+        }
+      } else {
+        final long[] result;
+        if (bitmap != null && otherBitmap != null) {
+          result = new long[BLOCK_WORDS];
+          for (int i = 0; i < BLOCK_WORDS; i++) {
+            result[i] = bitmap[i] | otherBitmap[i];
+          }
+        } else {
+          result = (bitmap != null ? bitmap : otherBitmap).clone();
+          for (char low : array != null ? array : otherArray) {
+            result[low >>> 6] |= 1L << low;
+          }
+        }
+        builder.addBitmap(block, result, (int) BitUtil.pop_array(result, 0, BLOCK_WORDS));
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public int unionSize(DocSet other) {
+    return size + other.size() - intersectionSize(other);
+  }
+
+  @Override
+  public RoaringDocSet clone() {
+    // immutable
+    return this;
+  }
+
+  @Override
+  public Filter getTopFilter() {
+    return new Filter() {
+      final RoaringDocSet set = RoaringDocSet.this;
+
+      @Override
+      public DocIdSet getDocIdSet(final LeafReaderContext context, final Bits acceptDocs) {
+        LeafReader reader = context.reader();
+        // all Solr DocSets that are used as filters only include live docs
+        final Bits acceptDocs2 = acceptDocs == null ? null : (reader.getLiveDocs() == acceptDocs ? null : acceptDocs);
+
+        final int base = context.docBase;
+        final int max = base + reader.maxDoc();   // one past the max doc in this segment.
+
+        return BitsFilteredDocIdSet.wrap(new DocIdSet() {
+          @Override
+          public DocIdSetIterator iterator() {
+            return new DocIdSetIterator() {
+              final RoaringIterator iter = new RoaringIterator();
+              int adjustedDoc = -1;
+
+              @Override
+              public int docID() {
+                return adjustedDoc;
+              }
+
+              @Override
+              public int nextDoc() {
+                return adjust(adjustedDoc == -1 ? iter.advance(base) : iter.nextDoc());
+              }
+
+              @Override
+              public int advance(int target) {
+                if (target == NO_MORE_DOCS) return adjustedDoc = NO_MORE_DOCS;
+                return adjust(iter.advance(target + base));
+              }
+
+              private int adjust(int doc) {
+                return adjustedDoc = doc < max ? doc - base : NO_MORE_DOCS;
+              }
+
+              @Override
+              public long cost() {
+                return Math.min(size, max - base);
+              }
+            };
+          }
+
+          @Override
+          public long ramBytesUsed() {
+            return set.ramBytesUsed();
+          }
+
+          @Override
+          public Bits bits() {
+            // sparse filters should not use random access
+            return null;
+          }
+
+        }, context.isTopLevel ? acceptDocs : acceptDocs2);
+      }
+
+      @Override
+      public String toString(String field) {
+        return "RoaringDocSetTopFilter";
+      }
+
+      @Override
+      public boolean equals(Object other) {
+        return sameClassAs(other) && set == getClass().cast(other).set;
+      }
+
+      @Override
+      public int hashCode() {
+        return classHash() * 31 + System.identityHashCode(set);
+      }
+    };
+  }
+
+  @Override
+  public long ramBytesUsed() {
+    return ramBytesUsed;
+  }
+
+  @Override
+  public Collection<Accountable> getChildResources() {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Builds a <code>RoaringDocSet</code> from docs or whole blocks that are added in order.
+   */
+  private static final class Builder {
+    private final int numBits;
+    private final char[][] arrays;
+    private final long[][] bitmaps;
+    private int size;
+
+    // the block that is being built doc by doc
+    private int block = -1;
+    private final char[] buffer = new char[MAX_ARRAY_LENGTH];
+    private long[] bitmap;
+    private int length;
+
+    Builder(int numBits) {
+      this.numBits = numBits;
+      final int numBlocks = blockCount(numBits);
+      this.arrays = new char[numBlocks][];
+      this.bitmaps = new long[numBlocks][];
+    }
+
+    void add(int doc) {
+      final int docBlock = doc >>> BLOCK_SHIFT;
+      if (docBlock != block) {
+        flush();
+        block = docBlock;
+      }
+      if (bitmap != null) {
+        bitmap[(doc & BLOCK_MASK) >>> 6] |= 1L << doc;
+      } else if (length < MAX_ARRAY_LENGTH) {
+        buffer[length] = (char) doc;
+      } else {
+        bitmap = new long[BLOCK_WORDS];
+        for (char low : buffer) {
+          bitmap[low >>> 6] |= 1L << low;
+        }
+        bitmap[(doc & BLOCK_MASK) >>> 6] |= 1L << doc;
+      }
+      length++;
+    }
+
+    void addArray(int block, char[] array) {
+      flush();
+      arrays[block] = array;
+      size += array.length;
+    }
+
+    void addBitmap(int block, long[] bitmap, int cardinality) {
+      flush();
+      if (cardinality == 0) {
+        return;
+      } else if (cardinality <= MAX_ARRAY_LENGTH) {
+        arrays[block] = toArray(bitmap, 0, cardinality);
+      } else {
+        bitmaps[block] = bitmap;
+      }
+      size += cardinality;
+    }
+
+    private void flush() {
+      if (length > 0) {
+        if (bitmap != null) {
+          bitmaps[block] = bitmap;
+        } else {
+          arrays[block] = Arrays.copyOf(buffer, length);
+        }
+        size += length;
+      }
+      block = -1;
+      bitmap = null;
+      length = 0;
+    }
+
+    RoaringDocSet build() {
+      flush();
+      return new RoaringDocSet(arrays, bitmaps, numBits, size);
+    }
+  }
+}
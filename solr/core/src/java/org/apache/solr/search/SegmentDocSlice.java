@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.util.List;
+
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * A {@link DocSlice} that also records the segments of the searcher it was computed with,
+ * and the number of documents that matched in each of them. This lets the queryResultCache
+ * of a new searcher compute it by only searching the segments that are new or changed, see
+ * <code>incrementalQueryResultWarming</code>.
+ */
+final class SegmentDocSlice extends DocSlice {
+
+  /** Returned by {@link #docValuesGen} when the generation of doc values updates is not known. */
+  static final long UNKNOWN_DOC_VALUES_GEN = Long.MIN_VALUE;
+
+  /** The core cache keys of the segments, which are the same as long as their doc IDs are, or null. */
+  final IndexReader.CacheKey[] coreKeys;
+  /** The reader cache keys of the segments, which also change with deletes and doc values updates, or null. */
+  final IndexReader.CacheKey[] readerKeys;
+  final long[] docValuesGens;
+  final int[] docBases;
+  final int[] hitCounts;
+
+  SegmentDocSlice(DocSlice slice, List<LeafReaderContext> leaves, int[] hitCounts) {
+    super(slice.offset, slice.len, slice.docs, slice.scores, slice.matches, slice.maxScore);
+    assert hitCounts.length == leaves.size();
+    this.coreKeys = new IndexReader.CacheKey[leaves.size()];
+    this.readerKeys = new IndexReader.CacheKey[leaves.size()];
+    this.docValuesGens = new long[leaves.size()];
+    this.docBases = new int[leaves.size()];
+    for (LeafReaderContext leaf : leaves) {
+      coreKeys[leaf.ord] = coreKey(leaf.reader());
+      readerKeys[leaf.ord] = readerKey(leaf.reader());
+      docValuesGens[leaf.ord] = docValuesGen(leaf.reader());
+      docBases[leaf.ord] = leaf.docBase;
+    }
+    this.hitCounts = hitCounts;
+  }
+
+  static IndexReader.CacheKey coreKey(LeafReader reader) {
+    IndexReader.CacheHelper cacheHelper = reader.getCoreCacheHelper();
+    return cacheHelper == null ? null : cacheHelper.getKey();
+  }
+
+  static IndexReader.CacheKey readerKey(LeafReader reader) {
+    IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+    return cacheHelper == null ? null : cacheHelper.getKey();
+  }
+
+  /** Returns the generation of the doc values updates of a segment, which change the values of its documents. */
+  static long docValuesGen(LeafReader reader) {
+    reader = FilterLeafReader.unwrap(reader);
+    if (reader instanceof SegmentReader) {
+      return ((SegmentReader) reader).getSegmentInfo().getDocValuesGen();
+    }
+    return UNKNOWN_DOC_VALUES_GEN;
+  }
+
+  @Override
+  public long ramBytesUsed() {
+    return super.ramBytesUsed() + RamUsageEstimator.shallowSizeOf(coreKeys) + RamUsageEstimator.shallowSizeOf(readerKeys)
+        + RamUsageEstimator.sizeOf(docValuesGens) + RamUsageEstimator.sizeOf(docBases) + RamUsageEstimator.sizeOf(hitCounts);
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSet;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitDocIdSet;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.RoaringDocIdSet;
+import org.apache.solr.core.SolrInfoBean;
+import org.apache.solr.metrics.MetricsMap;
+import org.apache.solr.metrics.SolrMetricManager;
+import org.apache.solr.metrics.SolrMetricProducer;
+
+/**
+ * A cache of the documents that match filters, per segment, that is shared by all the
+ * searchers of a core. Like Lucene's <code>LRUQueryCache</code>, entries are keyed on the
+ * core cache key of segments and ignore deleted documents, so they remain valid across
+ * commits for as long as their segment exists: when a new searcher is opened, the
+ * filterCache is autowarmed by only computing the filters on the new segments, which is
+ * what makes filter caching effective with frequent soft commits.
+ * <p>
+ * Entries of a segment are dropped when the segment is closed, or evicted with the
+ * W-TinyLFU policy of Caffeine once the cache holds <code>size</code> entries, or
+ * <code>maxRamMB</code> if set.
+ */
+public class SegmentFilterCache implements SolrInfoBean, SolrMetricProducer, Accountable {
+
+  /** Approximate memory usage of an entry, besides its documents. */
+  static final long RAM_BYTES_PER_ENTRY = CaffeineCache.RAM_BYTES_PER_ENTRY
+      + RamUsageEstimator.shallowSizeOfInstance(Key.class) + LRUCache.DEFAULT_RAM_BYTES_USED;
+
+  private static final class Key {
+    final IndexReader.CacheKey coreKey;
+    final Query query;
+    final int hashCode;
+
+    Key(IndexReader.CacheKey coreKey, Query query) {
+      this.coreKey = coreKey;
+      this.query = query;
+      this.hashCode = 31 * coreKey.hashCode() + query.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof Key == false) return false;
+      Key other = (Key) obj;
+      return coreKey == other.coreKey && query.equals(other.query);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private final Cache<Key, DocIdSet> cache;
+  private final int size;
+  private final long maxRamBytes;
+  // segments that we registered a closed listener on
+  private final Set<IndexReader.CacheKey> coreKeys = ConcurrentHashMap.newKeySet();
+
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder inserts = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private MetricsMap metricsMap;
+  private MetricRegistry registry;
+  private Set<String> metricNames = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param size the maximum number of entries, ignored if <code>maxRamBytes</code> is positive
+   * @param maxRamBytes the maximum memory used by the entries, or -1 to only bound the number of entries
+   */
+  @SuppressWarnings("unchecked")
+  public SegmentFilterCache(int size, long maxRamBytes) {
+    this.size = size;
+    this.maxRamBytes = maxRamBytes;
+    Caffeine builder = Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .removalListener((Object key, Object value, RemovalCause cause) -> {
+          if (cause.wasEvicted()) {
+            evictions.increment();
+          }
+        });
+    if (maxRamBytes > 0) {
+      builder.maximumWeight(maxRamBytes)
+          .weigher((Object key, Object value) -> (int) Math.min(Integer.MAX_VALUE, ramBytesUsed((DocIdSet) value)));
+    } else {
+      builder.maximumSize(size);
+    }
+    cache = builder.build();
+  }
+
+  private static long ramBytesUsed(DocIdSet docs) {
+    return RAM_BYTES_PER_ENTRY + docs.ramBytesUsed();
+  }
+
+  /**
+   * Returns the documents that match a positive query, computing it only on the segments
+   * that do not have a cache entry for this query yet.
+   */
+  public DocSet getDocSet(SolrIndexSearcher searcher, Query query) throws IOException {
+    final Weight weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+    final DocSetCollector collector = new DocSetCollector(searcher.maxDoc());
+    for (LeafReaderContext leaf : searcher.getTopReaderContext().leaves()) {
+      final DocIdSet docs = getDocIdSet(weight, query, leaf);
+      final DocIdSetIterator iterator = docs == null ? null : docs.iterator();
+      if (iterator == null) {
+        continue;
+      }
+      final LeafCollector leafCollector = collector.getLeafCollector(leaf);
+      final Bits liveDocs = leaf.reader().getLiveDocs();
+      for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+        if (liveDocs == null || liveDocs.get(doc)) {
+          leafCollector.collect(doc);
+        }
+      }
+    }
+    return DocSetUtil.getDocSet(collector, searcher);
+  }
+
+  /** Returns the documents of a segment that match the weight, including deleted ones, or null if none match. */
+  private DocIdSet getDocIdSet(Weight weight, Query query, LeafReaderContext leaf) throws IOException {
+    final IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+    if (cacheHelper == null || weight.isCacheable(leaf) == false) {
+      return computeDocIdSet(weight, leaf);
+    }
+    final IndexReader.CacheKey coreKey = cacheHelper.getKey();
+    final Key key = new Key(coreKey, query);
+    lookups.increment();
+    DocIdSet docs = cache.getIfPresent(key);
+    if (docs != null) {
+      hits.increment();
+      return docs;
+    }
+    docs = computeDocIdSet(weight, leaf);
+    if (docs == null) {
+      docs = DocIdSet.EMPTY;
+    }
+    if (coreKeys.add(coreKey)) {
+      cacheHelper.addClosedListener(this::onClose);
+    }
+    cache.put(key, docs);
+    inserts.increment();
+    return docs;
+  }
+
+  private static DocIdSet computeDocIdSet(Weight weight, LeafReaderContext leaf) throws IOException {
+    final BulkScorer scorer = weight.bulkScorer(leaf);
+    if (scorer == null) {
+      return null;
+    }
+    final int maxDoc = leaf.reader().maxDoc();
+    if (scorer.cost() * 100 >= maxDoc) {
+      // dense, like LRUQueryCache
+      final FixedBitSet bits = new FixedBitSet(maxDoc);
+      final long[] cardinality = new long[1];
+      scorer.score(new LeafCollector() {
+        @Override
+        public void setScorer(Scorable scorer) {}
+
+        @Override
+        public void collect(int doc) {
+          cardinality[0]++;
+          bits.set(doc);
+        }
+      }, null);
+      return new BitDocIdSet(bits, cardinality[0]);
+    } else {
+      final RoaringDocIdSet.Builder builder = new RoaringDocIdSet.Builder(maxDoc);
+      scorer.score(new LeafCollector() {
+        @Override
+        public void setScorer(Scorable scorer) {}
+
+        @Override
+        public void collect(int doc) {
+          builder.add(doc);
+        }
+      }, null);
+      return builder.build();
+    }
+  }
+
+  private void onClose(IndexReader.CacheKey coreKey) {
+    coreKeys.remove(coreKey);
+    cache.asMap().keySet().removeIf(key -> key.coreKey == coreKey);
+  }
+
+  /** Removes all the entries. */
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  /** Returns the number of entries. */
+  public long size() {
+    return cache.estimatedSize();
+  }
+
+  @Override
+  public long ramBytesUsed() {
+    if (maxRamBytes > 0) {
+      return cache.policy().eviction().get().weightedSize().getAsLong();
+    }
+    long ramBytesUsed = 0;
+    for (DocIdSet docs : cache.asMap().values()) {
+      ramBytesUsed += ramBytesUsed(docs);
+    }
+    return ramBytesUsed;
+  }
+
+  //////////////////////// SolrInfoBean methods //////////////////////
+
+  @Override
+  public String getName() {
+    return SegmentFilterCache.class.getName();
+  }
+
+  @Override
+  public String getDescription() {
+    return "Per segment filter cache(" + (maxRamBytes > 0 ? "maxRamMB=" + (maxRamBytes >> 20) : "maxSize=" + size) + ")";
+  }
+
+  @Override
+  public Category getCategory() {
+    return Category.CACHE;
+  }
+
+  @Override
+  public Set<String> getMetricNames() {
+    return metricNames;
+  }
+
+  @Override
+  public MetricRegistry getMetricRegistry() {
+    return registry;
+  }
+
+  @Override
+  public void initializeMetrics(SolrMetricManager manager, String registryName, String tag, String scope) {
+    registry = manager.registry(registryName);
+    metricsMap = new MetricsMap((detailed, map) -> {
+      long lookups = this.lookups.sum();
+      long hits = this.hits.sum();
+      map.put("lookups", lookups);
+      map.put("hits", hits);
+      map.put("hitratio", SolrCacheBase.calcHitRatio(lookups, hits));
+      map.put("inserts", inserts.sum());
+      map.put("evictions", evictions.sum());
+      map.put("size", size());
+      map.put("segments", coreKeys.size());
+      map.put("ramBytesUsed", ramBytesUsed());
+    });
+    manager.registerGauge(this, registryName, metricsMap, tag, true, "segmentFilterCache", Category.CACHE.toString(), scope);
+  }
+
+  // for unit tests only
+  MetricsMap getMetricsMap() {
+    return metricsMap;
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+}
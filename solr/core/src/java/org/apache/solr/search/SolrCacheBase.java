@@ -16,13 +16,20 @@
  */
 package org.apache.solr.search;
 
+import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.solr.common.SolrException;
 import org.apache.solr.core.SolrCore;
 import org.apache.solr.core.SolrInfoBean.Category;
 import org.apache.solr.search.SolrCache.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.solr.common.params.CommonParams.NAME;
 
@@ -30,8 +37,15 @@ import static org.apache.solr.common.params.CommonParams.NAME;
  * Common base class of reusable functionality for SolrCaches
  */
 public abstract class SolrCacheBase {
-   
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
   protected CacheRegenerator regenerator;
+
+  /** Number of entries that were regenerated by the last call to {@link #regenerateItems}. */
+  protected volatile int warmupCount;
+
+  /** Number of entries that were not regenerated by the last call to {@link #regenerateItems} because autowarming ran out of time. */
+  protected volatile int warmupSkipped;
   
   private State state;
   
@@ -133,5 +147,81 @@ public abstract class SolrCacheBase {
     return this.name;
   }
 
+  /**
+   * Regenerates the given entries of <code>oldCache</code> into <code>newCache</code>
+   * using the {@link CacheRegenerator} of this cache, see
+   * {@link #regenerateItems(SolrIndexSearcher, CacheRegenerator, String, SolrCache, SolrCache, List)}.
+   * <p>
+   * The workers insert the entries in any order, so the regenerated entries are then inserted again
+   * from the least to the most valuable one, for the new cache to evict them in the same order as
+   * the old one.
+   */
+  protected <K,V> void regenerateItems(SolrIndexSearcher searcher, SolrCache<K,V> newCache, SolrCache<K,V> oldCache,
+                                       List<Map.Entry<K,V>> items) {
+    final int[] counts = regenerateItems(searcher, regenerator, name(), newCache, oldCache, items);
+    warmupCount = counts[0];
+    warmupSkipped = counts[1];
+    if (searcher != null) {
+      for (Map.Entry<K,V> item : items) {
+        final V value = newCache.get(item.getKey());
+        if (value != null) {
+          newCache.put(item.getKey(), value);
+        }
+      }
+    }
+  }
+
+  /**
+   * Regenerates the given entries of <code>oldCache</code> into <code>newCache</code>. The entries
+   * are given in the order they should be inserted in the new cache, from the least to the most
+   * valuable one.
+   * <p>
+   * The entries are taken in order from a shared queue by the warming workers of the searcher, see
+   * {@link SolrIndexSearcher#runWarmingWorkers(Runnable)}. When <code>autowarmTimeAllowed</code> is
+   * set, they are taken from the most valuable one instead, so that the entries which are skipped
+   * once autowarming runs out of time are the least valuable ones.
+   *
+   * @return the number of regenerated entries, and the number of entries that were skipped because
+   * autowarming ran out of time
+   */
+  static <K,V> int[] regenerateItems(SolrIndexSearcher searcher, CacheRegenerator regenerator, String name,
+                                     SolrCache<K,V> newCache, SolrCache<K,V> oldCache, List<Map.Entry<K,V>> items) {
+    final int size = items.size();
+    final boolean mostValuableFirst = searcher != null && searcher.hasAutowarmTimeAllowed();
+    final AtomicInteger next = new AtomicInteger();
+    final AtomicInteger taken = new AtomicInteger();
+    final AtomicInteger warmed = new AtomicInteger();
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicBoolean outOfTime = new AtomicBoolean();
+    final Runnable worker = () -> {
+      while (stop.get() == false) {
+        if (searcher != null && searcher.isAutowarmTimeExceeded()) {
+          outOfTime.set(true);
+          stop.set(true);
+          break;
+        }
+        final int i = next.getAndIncrement();
+        if (i >= size) {
+          break;
+        }
+        taken.incrementAndGet();
+        final Map.Entry<K,V> item = items.get(mostValuableFirst ? size - 1 - i : i);
+        try {
+          boolean continueRegen = regenerator.regenerateItem(searcher, newCache, oldCache, item.getKey(), item.getValue());
+          warmed.incrementAndGet();
+          if (!continueRegen) stop.set(true);
+        } catch (Exception e) {
+          SolrException.log(log, "Error during auto-warming of " + name + " key:" + item.getKey(), e);
+        }
+      }
+    };
+    if (searcher == null) {
+      worker.run();
+    } else {
+      searcher.runWarmingWorkers(worker);
+    }
+    return new int[] { warmed.get(), outOfTime.get() ? size - taken.get() : 0 };
+  }
+
 }
 
@@ -30,7 +30,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -45,6 +51,7 @@ import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.MultiPostingsEnum;
 import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.index.StoredFieldVisitor;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermStates;
@@ -93,6 +100,11 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
 
   public static final String STATS_SOURCE = "org.apache.solr.stats_source";
   public static final String STATISTICS_KEY = "searcher";
+  /**
+   * The key of an {@link AtomicBoolean} in the context of a request, which stops collecting the hits of its searches
+   * once it is set, so that they return partial results. It is set when the request is cancelled.
+   */
+  public static final String CANCELLED = "org.apache.solr.search.cancelled";
   // These should *only* be used for debugging or monitoring purposes
   public static final AtomicLong numOpens = new AtomicLong();
   public static final AtomicLong numCloses = new AtomicLong();
@@ -108,17 +120,25 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
   private final long openNanoTime = System.nanoTime();
   private Date registerTime;
   private long warmupTime = 0;
+  private volatile ExecutorService autowarmExecutor;
+  private volatile int autowarmThreads = 1;
+  private volatile long autowarmStartTime;
+  private volatile long autowarmTimeAllowedNanos = -1;
   private final DirectoryReader reader;
   private final boolean closeReader;
 
   private final int queryResultWindowSize;
   private final int queryResultMaxDocsCached;
   private final boolean useFilterForSortedQuery;
+  private final boolean incrementalQueryResultWarming;
 
   private final boolean cachingEnabled;
   private final SolrCache<Query,DocSet> filterCache;
+  private final SegmentFilterCache segmentFilterCache;  // shared by the searchers of the core, may be null
   private final SolrCache<QueryResultKey,DocList> queryResultCache;
   private final SolrCache<String,UnInvertedField> fieldValueCache;
+  // uninverted fields built for this searcher that hold direct memory, released when it is closed
+  private final Map<String,UnInvertedField> offHeapFields = new ConcurrentHashMap<>();
 
   // map of generic caches - not synchronized since it's read-only after the constructor.
   private final Map<String,SolrCache> cacheMap;
@@ -165,7 +185,11 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
    * for dealing with options specified in the QueryCommand.
    */
   private void buildAndRunCollectorChain(QueryResult qr, Query query, Collector collector, QueryCommand cmd,
-      DelegatingCollector postFilter) throws IOException {
+      DelegatingCollector postFilter, int[] hitCounts) throws IOException {
+
+    if (hitCounts != null) {
+      collector = new HitCountsCollector(collector, hitCounts);
+    }
 
     EarlyTerminatingSortingCollector earlyTerminatingSortingCollector = null;
     if (cmd.getSegmentTerminateEarly()) {
@@ -191,6 +215,12 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       collector = new TimeLimitingCollector(collector, TimeLimitingCollector.getGlobalCounter(), timeAllowed);
     }
 
+    final SolrRequestInfo reqInfo = SolrRequestInfo.getRequestInfo();
+    final AtomicBoolean cancelled = reqInfo == null ? null : (AtomicBoolean) reqInfo.getReq().getContext().get(CANCELLED);
+    if (cancelled != null) {
+      collector = new CancellableCollector(collector, cancelled);
+    }
+
     if (postFilter != null) {
       postFilter.setLastDelegate(collector);
       collector = postFilter;
@@ -201,6 +231,9 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     } catch (TimeLimitingCollector.TimeExceededException | ExitableDirectoryReader.ExitingReaderException x) {
       log.warn("Query: [{}]; {}", query, x.getMessage());
       qr.setPartialResults(true);
+    } catch (SearchCancelledException x) {
+      log.debug("Query: [{}]; {}", query, x.getMessage());
+      qr.setPartialResults(true);
     } catch (EarlyTerminatingCollectorException etce) {
       if (collector instanceof DelegatingCollector) {
         ((DelegatingCollector) collector).finish();
@@ -260,6 +293,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     this.queryResultWindowSize = solrConfig.queryResultWindowSize;
     this.queryResultMaxDocsCached = solrConfig.queryResultMaxDocsCached;
     this.useFilterForSortedQuery = solrConfig.useFilterForSortedQuery;
+    this.incrementalQueryResultWarming = solrConfig.incrementalQueryResultWarming;
 
     this.docFetcher = new SolrDocumentFetcher(this, solrConfig, enableCache);
 
@@ -271,6 +305,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       if (fieldValueCache != null) clist.add(fieldValueCache);
       filterCache = solrConfig.filterCacheConfig == null ? null : solrConfig.filterCacheConfig.newInstance();
       if (filterCache != null) clist.add(filterCache);
+      segmentFilterCache = core.getSegmentFilterCache();
       queryResultCache = solrConfig.queryResultCacheConfig == null ? null
           : solrConfig.queryResultCacheConfig.newInstance();
       if (queryResultCache != null) clist.add(queryResultCache);
@@ -293,6 +328,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       cacheList = clist.toArray(new SolrCache[clist.size()]);
     } else {
       this.filterCache = null;
+      this.segmentFilterCache = null;
       this.queryResultCache = null;
       this.fieldValueCache = null;
       this.cacheMap = NO_GENERIC_CACHES;
@@ -473,6 +509,11 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       cache.close();
     }
 
+    for (UnInvertedField uif : offHeapFields.values()) {
+      uif.decRef();
+    }
+    offHeapFields.clear();
+
     if (releaseDirectory) {
       directoryFactory.release(getIndexReader().directory());
     }
@@ -533,6 +574,14 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
         public boolean regenerateItem(SolrIndexSearcher newSearcher, SolrCache newCache, SolrCache oldCache,
             Object oldKey, Object oldVal) throws IOException {
           QueryResultKey key = (QueryResultKey) oldKey;
+          if (oldVal instanceof SegmentDocSlice) {
+            DocList docList = newSearcher.getDocListIncrementally(key, (SegmentDocSlice) oldVal);
+            if (docList != null) {
+              newCache.put(key, docList);
+              return true;
+            }
+          }
+
           int nDocs = 1;
           // request 1 doc and let caching round up to the next window size...
           // unless the window size is <=1, in which case we will pick
@@ -626,6 +675,19 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     return fieldValueCache;
   }
 
+  /**
+   * Holds the reference of the creator of an uninverted field whose term ords are in direct memory,
+   * and releases it when this searcher is closed, or when another one is built for the same field
+   * because the first one was evicted from the fieldValueCache.
+   * expert: internal API, subject to change
+   */
+  public void registerOffHeapField(String field, UnInvertedField uif) {
+    final UnInvertedField old = offHeapFields.put(field, uif);
+    if (old != null) {
+      old.decRef();
+    }
+  }
+
   /** Returns a weighted sort according to this searcher */
   public Sort weightSort(Sort sort) throws IOException {
     return (sort != null) ? sort.rewrite(this) : null;
@@ -727,7 +789,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     // or OS disk cache.
     if (optionalAnswer != null) {
       if (filterCache != null) {
-        filterCache.put(query, optionalAnswer);
+        filterCache.put(query, compressForCache(optionalAnswer));
       }
       return;
     }
@@ -752,11 +814,23 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     return new BitDocSet(bs, answer.size());
   }
 
+  /**
+   * Returns the representation of a set to put in the filterCache: sets that are sparse or
+   * clustered enough are stored as a {@link RoaringDocSet} to fit more of them in the cache.
+   */
+  private static DocSet compressForCache(DocSet set) {
+    return set instanceof BitDocSet ? RoaringDocSet.compress((BitDocSet) set) : set;
+  }
+
   public BitDocSet getDocSetBits(Query q) throws IOException {
     DocSet answer = getDocSet(q);
     if (answer instanceof BitDocSet) {
       return (BitDocSet) answer;
     }
+    if (answer instanceof RoaringDocSet) {
+      // the cached entry stays compressed, or it would be compressed again by the next getDocSet
+      return ((RoaringDocSet) answer).toBitDocSet();
+    }
     BitDocSet answerBits = makeBitDocSet(answer);
     if (filterCache != null) {
       filterCache.put(q, answerBits);
@@ -796,12 +870,12 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       }
     }
 
-    DocSet absAnswer = getDocSetNC(absQ, null);
+    DocSet absAnswer = getDocSetNCForCache(absQ);
     DocSet answer = positive ? absAnswer : getLiveDocSet().andNot(absAnswer);
 
     if (filterCache != null) {
       // cache negative queries as positive
-      filterCache.put(absQ, absAnswer);
+      filterCache.put(absQ, compressForCache(absAnswer));
     }
 
     return answer;
@@ -814,8 +888,8 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       answer = filterCache.get(q);
       if (answer != null) return answer;
     }
-    answer = getDocSetNC(q, null);
-    if (filterCache != null) filterCache.put(q, answer);
+    answer = getDocSetNCForCache(q);
+    if (filterCache != null) filterCache.put(q, compressForCache(answer));
     return answer;
   }
 
@@ -1166,7 +1240,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     }
 
     if (useCache) {
-      filterCache.put(key, result);
+      filterCache.put(key, compressForCache(result));
     }
 
     return result;
@@ -1177,6 +1251,14 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     return DocSetUtil.createDocSet(this, query, filter);
   }
 
+  // query must be positive and cacheable, only computes it on new segments if there is a segmentFilterCache
+  private DocSet getDocSetNCForCache(Query query) throws IOException {
+    if (segmentFilterCache != null && !(query instanceof DocSetProducer)) {
+      return segmentFilterCache.getDocSet(this, query);
+    }
+    return getDocSetNC(query, null);
+  }
+
   /**
    * Returns the set of document ids matching both the query and the filter. This method is cache-aware and attempts to
    * retrieve the answer from the cache if possible. If the answer was not cached, it may have been inserted into the
@@ -1209,8 +1291,8 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     if (filterCache != null) {
       first = filterCache.get(absQ);
       if (first == null) {
-        first = getDocSetNC(absQ, null);
-        filterCache.put(absQ, first);
+        first = getDocSetNCForCache(absQ);
+        filterCache.put(absQ, compressForCache(first));
       }
       return positive ? first.intersection(filter) : filter.andNot(first);
     }
@@ -1308,6 +1390,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     if (maxDocRequested < 0 || maxDocRequested > maxDoc()) maxDocRequested = maxDoc();
     int supersetMaxDoc = maxDocRequested;
     DocList superset = null;
+    int[] hitCounts = null;
 
     int flags = cmd.getFlags();
     Query q = cmd.getQuery();
@@ -1410,14 +1493,19 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
       sortDocSet(qr, cmd);
     } else {
       // do it the normal way...
+      if (key != null && incrementalQueryResultWarming && cmd.getCursorMark() == null
+          && isIncrementallyWarmable(q, cmd.getFilterList(), cmd.getSort(), flags)) {
+        // record the number of hits per segment, so that the cache entry can be warmed incrementally
+        hitCounts = new int[leafContexts.size()];
+      }
       if ((flags & GET_DOCSET) != 0) {
         // this currently conflates returning the docset for the base query vs
         // the base query and all filters.
-        DocSet qDocSet = getDocListAndSetNC(qr, cmd);
+        DocSet qDocSet = getDocListAndSetNC(qr, cmd, hitCounts);
         // cache the docSet matching the query w/o filtering
-        if (qDocSet != null && filterCache != null && !qr.isPartialResults()) filterCache.put(cmd.getQuery(), qDocSet);
+        if (qDocSet != null && filterCache != null && !qr.isPartialResults()) filterCache.put(cmd.getQuery(), compressForCache(qDocSet));
       } else {
-        getDocListNC(qr, cmd);
+        getDocListNC(qr, cmd, hitCounts);
       }
       assert null != out.docList : "docList is null";
     }
@@ -1445,6 +1533,9 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     // lastly, put the superset in the cache if the size is less than or equal
     // to queryResultMaxDocsCached
     if (key != null && superset.size() <= queryResultMaxDocsCached && !qr.isPartialResults()) {
+      if (hitCounts != null && superset instanceof DocSlice) {
+        superset = new SegmentDocSlice((DocSlice) superset, leafContexts, hitCounts);
+      }
       queryResultCache.put(key, superset);
     }
   }
@@ -1522,7 +1613,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     }
   }
 
-  private void getDocListNC(QueryResult qr, QueryCommand cmd) throws IOException {
+  private void getDocListNC(QueryResult qr, QueryCommand cmd, int[] hitCounts) throws IOException {
     int len = cmd.getSupersetMaxDoc();
     int last = len;
     if (last < 0 || last > maxDoc()) last = maxDoc();
@@ -1584,7 +1675,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
         };
       }
 
-      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter);
+      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter, hitCounts);
 
       nDocsReturned = 0;
       ids = new int[nDocsReturned];
@@ -1601,7 +1692,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
         maxScoreCollector = new MaxScoreCollector();
         collector = MultiCollector.wrap(topCollector, maxScoreCollector);
       }
-      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter);
+      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter, hitCounts);
 
       totalHits = topCollector.getTotalHits();
       TopDocs topDocs = topCollector.topDocs(0, len);
@@ -1628,7 +1719,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
 
   // any DocSet returned is for the query only, without any filtering... that way it may
   // be cached if desired.
-  private DocSet getDocListAndSetNC(QueryResult qr, QueryCommand cmd) throws IOException {
+  private DocSet getDocListAndSetNC(QueryResult qr, QueryCommand cmd, int[] hitCounts) throws IOException {
     int len = cmd.getSupersetMaxDoc();
     int last = len;
     if (last < 0 || last > maxDoc()) last = maxDoc();
@@ -1683,7 +1774,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
         collector = MultiCollector.wrap(setCollector, topScoreCollector);
       }
 
-      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter);
+      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter, hitCounts);
 
       set = DocSetUtil.getDocSet(setCollector, this);
 
@@ -1708,7 +1799,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
 
       Collector collector = MultiCollector.wrap(collectors);
 
-      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter);
+      buildAndRunCollectorChain(qr, query, collector, cmd, pf.postFilter, hitCounts);
 
       set = DocSetUtil.getDocSet(setCollector, this);
 
@@ -1745,6 +1836,193 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     return pf.filter == null && pf.postFilter == null ? qr.getDocSet() : null;
   }
 
+  /**
+   * Whether the results of a query can be computed from the results of a previous searcher, which
+   * requires the order of the documents not to depend on the rest of the index: scores, custom
+   * sorts and sorts on functions are not supported, nor are post filters.
+   */
+  private static boolean isIncrementallyWarmable(Query query, List<Query> filters, Sort sort, int flags) {
+    if (sort == null || query instanceof RankQuery
+        || (flags & (GET_SCORES | TERMINATE_EARLY | SEGMENT_TERMINATE_EARLY)) != 0) {
+      return false;
+    }
+    for (SortField sf : sort.getSort()) {
+      // custom comparators, like the random sort, may order a document differently in a new searcher
+      SortField.Type type = sf.getType();
+      if (type == SortField.Type.SCORE || type == SortField.Type.CUSTOM || type == SortField.Type.REWRITEABLE
+          || (sf.getClass() != SortField.class
+          && !(sf instanceof SortedSetSortField) && !(sf instanceof SortedNumericSortField))) {
+        return false;
+      }
+    }
+    if (filters != null) {
+      for (Query filter : filters) {
+        // see getProcessedFilter
+        if (filter instanceof PostFilter && !((ExtendedQuery) filter).getCache()
+            && ((ExtendedQuery) filter).getCost() >= 100) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the results of a query from its results on a previous searcher, by only searching
+   * the segments that are new or that have changed since then, and reusing the cached hits and
+   * number of matches of the other segments. This requires the query and the filters to be
+   * cacheable on these segments, see {@link Weight#isCacheable(LeafReaderContext)}.
+   *
+   * @return the results, or null if they could not be computed incrementally
+   */
+  private DocList getDocListIncrementally(QueryResultKey key, SegmentDocSlice oldList) throws IOException {
+    if (!isIncrementallyWarmable(key.query, key.filters, key.sort, key.nc_flags)) {
+      return null;
+    }
+    int len = Math.max(queryResultWindowSize, oldList.size());
+    if (len > maxDoc()) len = maxDoc();
+    if (len <= 0 || len > queryResultMaxDocsCached) {
+      return null;
+    }
+
+    // the segments whose documents have the same IDs and sort values as before
+    final Map<IndexReader.CacheKey,Integer> oldOrds = new HashMap<>();
+    for (int i = 0; i < oldList.coreKeys.length; i++) {
+      if (oldList.coreKeys[i] != null && oldList.docValuesGens[i] != SegmentDocSlice.UNKNOWN_DOC_VALUES_GEN) {
+        oldOrds.put(oldList.coreKeys[i], i);
+      }
+    }
+    final int[] newOrds = new int[oldList.coreKeys.length];
+    Arrays.fill(newOrds, -1);
+    // the segments that did not change at all, whose hits are not searched again
+    final boolean[] unchanged = new boolean[leafContexts.size()];
+    final int[] hitCounts = new int[leafContexts.size()];
+    for (LeafReaderContext leaf : leafContexts) {
+      Integer oldOrd = oldOrds.get(SegmentDocSlice.coreKey(leaf.reader()));
+      if (oldOrd != null && oldList.docValuesGens[oldOrd] == SegmentDocSlice.docValuesGen(leaf.reader())) {
+        newOrds[oldOrd] = leaf.ord;
+        if (oldList.readerKeys[oldOrd] != null
+            && oldList.readerKeys[oldOrd] == SegmentDocSlice.readerKey(leaf.reader())) {
+          unchanged[leaf.ord] = true;
+          hitCounts[leaf.ord] = oldList.hitCounts[oldOrd];
+        }
+      }
+    }
+
+    // queries whose matches in a segment depend on the other segments, like joins, must be executed again
+    if (!isCacheable(key.query, unchanged)) {
+      return null;
+    }
+    if (key.filters != null) {
+      for (Query filter : key.filters) {
+        if (!isCacheable(filter, unchanged)) {
+          return null;
+        }
+      }
+    }
+
+    // the cached hits that are still in the index, per segment
+    final int[][] knownDocs = new int[leafContexts.size()][];
+    final int[] numKnownDocs = new int[leafContexts.size()];
+    int numKnown = 0;
+    for (DocIterator it = oldList.iterator(); it.hasNext();) {
+      int oldDoc = it.nextDoc();
+      int oldOrd = ReaderUtil.subIndex(oldDoc, oldList.docBases);
+      int ord = newOrds[oldOrd];
+      if (ord < 0) {
+        continue;
+      }
+      int doc = oldDoc - oldList.docBases[oldOrd];
+      Bits liveDocs = leafContexts.get(ord).reader().getLiveDocs();
+      if (liveDocs == null || liveDocs.get(doc)) {
+        if (knownDocs[ord] == null) {
+          knownDocs[ord] = new int[oldList.size()];
+        }
+        knownDocs[ord][numKnownDocs[ord]++] = doc;
+        numKnown++;
+      }
+    }
+    // whether some hits of unchanged segments are not known
+    boolean truncated = false;
+    for (int ord = 0; ord < knownDocs.length; ord++) {
+      if (unchanged[ord]) {
+        truncated |= numKnownDocs[ord] < hitCounts[ord];
+      }
+      if (knownDocs[ord] != null) {
+        Arrays.sort(knownDocs[ord], 0, numKnownDocs[ord]);
+      }
+    }
+
+    final QueryCommand cmd = new QueryCommand().setQuery(key.query).setFilterList(key.filters).setSort(key.sort);
+    Query query = QueryUtils.makeQueryable(key.query);
+    final ProcessedFilter pf = getProcessedFilter(null, key.filters);
+    if (pf.filter != null) {
+      query = new BooleanQuery.Builder().add(query, Occur.MUST).add(pf.filter, Occur.FILTER).build();
+    }
+    final TopDocsCollector topCollector = buildTopDocsCollector(len, cmd);
+    final Weight weight = createWeight(rewrite(query), topCollector.scoreMode(), 1f);
+    final Collector collector = new HitCountsCollector(topCollector, hitCounts);
+    final CachedHitScorable scorer = new CachedHitScorable();
+    for (LeafReaderContext leaf : leafContexts) {
+      if (!unchanged[leaf.ord]) {
+        // a new segment, or one with new deletes or doc values updates
+        search(Collections.singletonList(leaf), weight, collector);
+      } else if (numKnownDocs[leaf.ord] > 0) {
+        LeafCollector leafCollector = topCollector.getLeafCollector(leaf);
+        leafCollector.setScorer(scorer);
+        for (int i = 0; i < numKnownDocs[leaf.ord]; i++) {
+          scorer.doc = knownDocs[leaf.ord][i];
+          leafCollector.collect(scorer.doc);
+        }
+      }
+    }
+
+    final ScoreDoc[] scoreDocs = topCollector.topDocs(0, len).scoreDocs;
+    int nDocs = scoreDocs.length;
+    if (truncated) {
+      // the hits of unchanged segments that were not cached rank after all the cached ones, so the
+      // results are only known up to the last cached hit, unless other hits pushed one out of them
+      int numFound = 0;
+      int last = -1;
+      for (int i = 0; i < scoreDocs.length; i++) {
+        int ord = ReaderUtil.subIndex(scoreDocs[i].doc, leafContexts);
+        if (knownDocs[ord] != null && Arrays.binarySearch(knownDocs[ord], 0, numKnownDocs[ord],
+            scoreDocs[i].doc - leafContexts.get(ord).docBase) >= 0) {
+          numFound++;
+          last = i;
+        }
+      }
+      if (numFound == numKnown) {
+        nDocs = last + 1;
+      }
+      if (nDocs < Math.min(len, oldList.size())) {
+        return null;
+      }
+    }
+
+    final int[] ids = new int[nDocs];
+    for (int i = 0; i < nDocs; i++) {
+      ids[i] = scoreDocs[i].doc;
+    }
+    long totalHits = 0;
+    for (int hitCount : hitCounts) {
+      totalHits += hitCount;
+    }
+    final float maxScore = totalHits > 0 ? Float.NaN : 0.0f;
+    return new SegmentDocSlice(new DocSlice(0, nDocs, ids, null, totalHits, maxScore), leafContexts, hitCounts);
+  }
+
+  /** Whether the matches of a query in the given segments only depend on these segments. */
+  private boolean isCacheable(Query query, boolean[] leaves) throws IOException {
+    final Weight weight = createWeight(rewrite(QueryUtils.makeQueryable(query)), ScoreMode.COMPLETE_NO_SCORES, 1f);
+    for (LeafReaderContext leaf : leafContexts) {
+      if (leaves[leaf.ord] && !weight.isCacheable(leaf)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns documents matching both <code>query</code> and <code>filter</code> and sorted by <code>sort</code>. FUTURE:
    * The returned DocList may be retrieved from a cache.
@@ -2014,7 +2292,7 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     }
 
     // bit of a hack to tell if a set is sorted - do it better in the future.
-    boolean inOrder = set instanceof BitDocSet || set instanceof SortedIntDocSet;
+    boolean inOrder = set instanceof BitDocSet || set instanceof SortedIntDocSet || set instanceof RoaringDocSet;
 
     TopDocsCollector topCollector = buildTopDocsCollector(nDocs, cmd);
 
@@ -2137,46 +2415,160 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
 
   /**
    * Warm this searcher based on an old one (primarily for auto-cache warming).
+   * <p>
+   * When <code>autowarmThreads</code> is greater than 1, the fieldValueCache and filterCache
+   * are still warmed first, but the remaining caches are then warmed concurrently, and the
+   * entries of each cache are regenerated concurrently, by the warming thread and by the
+   * autowarm executor of the core, see {@link #runWarmingWorkers(Runnable)}. When
+   * <code>autowarmTimeAllowed</code> is set, entries and caches that have not been warmed once
+   * this time has elapsed are skipped.
    */
   public void warm(SolrIndexSearcher old) {
-    // Make sure this is first! filters can help queryResults execute!
     long warmingStartTime = System.nanoTime();
-    // warm the caches in order...
+    final SolrConfig solrConfig = core.getSolrConfig();
+    autowarmTimeAllowedNanos = solrConfig.autowarmTimeAllowed < 0 ? -1
+        : TimeUnit.NANOSECONDS.convert(solrConfig.autowarmTimeAllowed, TimeUnit.MILLISECONDS);
+    autowarmStartTime = warmingStartTime;
+    autowarmThreads = Math.max(1, solrConfig.autowarmThreads);
+    final ExecutorService executor = autowarmThreads > 1 ? core.getAutowarmExecutor() : null;
+    if (executor == null || cacheList.length == 0) {
+      // warm the caches in order...
+      for (int i = 0; i < cacheList.length; i++) {
+        warmCache(old, i);
+      }
+    } else {
+      // don't let the worker threads inherit the request of whoever triggered this searcher
+      SolrRequestInfo.clearRequestInfo();
+      autowarmExecutor = executor;
+      try {
+        final List<Integer> otherCaches = new ArrayList<>(cacheList.length);
+        for (int i = 0; i < cacheList.length; i++) {
+          // Make sure this is first! filters can help queryResults execute!
+          if (cacheList[i] == fieldValueCache || cacheList[i] == filterCache) {
+            warmCache(old, i);
+          } else {
+            otherCaches.add(i);
+          }
+        }
+        final AtomicInteger next = new AtomicInteger();
+        runWarmingWorkers(() -> {
+          for (int i = next.getAndIncrement(); i < otherCaches.size(); i = next.getAndIncrement()) {
+            warmCache(old, otherCaches.get(i));
+          }
+        });
+      } finally {
+        autowarmExecutor = null;
+      }
+    }
+    warmupTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - warmingStartTime, TimeUnit.NANOSECONDS);
+  }
+
+  private void warmCache(SolrIndexSearcher old, int i) {
+    if (isAutowarmTimeExceeded()) {
+      log.warn("autowarming of [{}] skipped for [{}], autowarmTimeAllowed exceeded", cacheList[i].name(), this);
+      return;
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("autowarming [{}] from [{}]\n\t{}", this, old, old.cacheList[i]);
+    }
+
+    runWithWarmingRequest(() -> cacheList[i].warm(this, old.cacheList[i]));
+
+    if (log.isDebugEnabled()) {
+      log.debug("autowarming result for [{}]\n\t{}", this, cacheList[i]);
+    }
+  }
+
+  /**
+   * Runs the given task with a warming request that uses this searcher
+   * set on the current thread.
+   */
+  void runWithWarmingRequest(Runnable task) {
     ModifiableSolrParams params = new ModifiableSolrParams();
     params.add("warming", "true");
-    for (int i = 0; i < cacheList.length; i++) {
-      if (log.isDebugEnabled()) {
-        log.debug("autowarming [{}] from [{}]\n\t{}", this, old, old.cacheList[i]);
+    final SolrQueryRequest req = new LocalSolrQueryRequest(core, params) {
+      @Override
+      public SolrIndexSearcher getSearcher() {
+        return SolrIndexSearcher.this;
       }
 
-      final SolrQueryRequest req = new LocalSolrQueryRequest(core, params) {
-        @Override
-        public SolrIndexSearcher getSearcher() {
-          return SolrIndexSearcher.this;
-        }
-
-        @Override
-        public void close() {}
-      };
+      @Override
+      public void close() {}
+    };
 
-      final SolrQueryResponse rsp = new SolrQueryResponse();
-      SolrRequestInfo.clearRequestInfo();
-      SolrRequestInfo.setRequestInfo(new SolrRequestInfo(req, rsp));
+    final SolrQueryResponse rsp = new SolrQueryResponse();
+    SolrRequestInfo.clearRequestInfo();
+    SolrRequestInfo.setRequestInfo(new SolrRequestInfo(req, rsp));
+    try {
+      task.run();
+    } finally {
       try {
-        cacheList[i].warm(this, old.cacheList[i]);
+        req.close();
       } finally {
-        try {
-          req.close();
-        } finally {
-          SolrRequestInfo.clearRequestInfo();
-        }
+        SolrRequestInfo.clearRequestInfo();
       }
+    }
+  }
 
-      if (log.isDebugEnabled()) {
-        log.debug("autowarming result for [{}]\n\t{}", this, cacheList[i]);
+  /**
+   * Runs the given worker on the calling thread and, while this searcher is being warmed with
+   * more than one <code>autowarmThreads</code>, on up to <code>autowarmThreads - 1</code> threads
+   * of the autowarm executor of the core, each with its own warming request. The worker is expected
+   * to take its work from a queue that it shares with the other workers until it is empty, so that
+   * the work is done in the order of the queue.
+   * <p>
+   * Returns once all workers are done. Since the calling thread only returns from the worker once
+   * the queue is empty, the workers which did not start by then are cancelled rather than waited
+   * for, so that workers can run workers of their own without waiting for busy executor threads.
+   */
+  void runWarmingWorkers(Runnable worker) {
+    final ExecutorService executor = autowarmExecutor;
+    final List<AtomicBoolean> helpersStarted = new ArrayList<>();
+    final List<Future<?>> helpers = new ArrayList<>();
+    if (executor != null) {
+      try {
+        for (int i = 1; i < autowarmThreads; i++) {
+          final AtomicBoolean started = new AtomicBoolean();
+          helpers.add(executor.submit(() -> {
+            if (started.compareAndSet(false, true)) {
+              runWithWarmingRequest(worker);
+            }
+          }));
+          helpersStarted.add(started);
+        }
+      } catch (RejectedExecutionException e) {
+        // the core is closing, do the work on the calling thread
       }
     }
-    warmupTime = TimeUnit.MILLISECONDS.convert(System.nanoTime() - warmingStartTime, TimeUnit.NANOSECONDS);
+    try {
+      worker.run();
+    } finally {
+      for (int i = 0; i < helpers.size(); i++) {
+        if (helpersStarted.get(i).compareAndSet(false, true)) {
+          // it did not start, and would only find an empty queue
+          helpers.get(i).cancel(false);
+          continue;
+        }
+        try {
+          helpers.get(i).get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        } catch (ExecutionException e) {
+          SolrException.log(log, "Error during autowarming of " + this, e.getCause());
+        }
+      }
+    }
+  }
+
+  /** Returns true if <code>autowarmTimeAllowed</code> is set. */
+  boolean hasAutowarmTimeAllowed() {
+    return autowarmTimeAllowedNanos >= 0;
+  }
+
+  /** Returns true if autowarming has been running for longer than <code>autowarmTimeAllowed</code>. */
+  boolean isAutowarmTimeExceeded() {
+    return autowarmTimeAllowedNanos >= 0 && System.nanoTime() - autowarmStartTime > autowarmTimeAllowedNanos;
   }
 
   /**
@@ -2456,4 +2848,80 @@ public class SolrIndexSearcher extends IndexSearcher implements Closeable, SolrI
     }
   }
 
+  /** Counts the hits per segment. */
+  private static class HitCountsCollector extends FilterCollector {
+    private final int[] hitCounts;
+
+    HitCountsCollector(Collector in, int[] hitCounts) {
+      super(in);
+      this.hitCounts = hitCounts;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+      final int ord = context.ord;
+      return new FilterLeafCollector(super.getLeafCollector(context)) {
+        @Override
+        public void collect(int doc) throws IOException {
+          hitCounts[ord]++;
+          super.collect(doc);
+        }
+      };
+    }
+  }
+
+  /** Stops collecting hits once the request is cancelled, see {@link #CANCELLED}. */
+  private static class CancellableCollector extends FilterCollector {
+    private final AtomicBoolean cancelled;
+
+    CancellableCollector(Collector in, AtomicBoolean cancelled) {
+      super(in);
+      this.cancelled = cancelled;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+      checkCancelled(cancelled);
+      return new FilterLeafCollector(super.getLeafCollector(context)) {
+        int count;
+
+        @Override
+        public void collect(int doc) throws IOException {
+          // checking the flag of every hit would be a volatile read in the hot loop
+          if ((++count & 0xff) == 0) {
+            checkCancelled(cancelled);
+          }
+          super.collect(doc);
+        }
+      };
+    }
+
+    private static void checkCancelled(AtomicBoolean cancelled) {
+      if (cancelled.get()) {
+        throw new SearchCancelledException();
+      }
+    }
+  }
+
+  /** Thrown to stop collecting the hits of a cancelled request. */
+  private static final class SearchCancelledException extends RuntimeException {
+    SearchCancelledException() {
+      super("The request was cancelled", null, false, false);
+    }
+  }
+
+  /** A scorer to collect cached hits with. */
+  private static final class CachedHitScorable extends Scorable {
+    int doc = -1;
+
+    @Override
+    public int docID() {
+      return doc;
+    }
+
+    @Override
+    public float score() {
+      return 0f;
+    }
+  }
 }
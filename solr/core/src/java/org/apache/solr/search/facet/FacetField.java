@@ -70,6 +70,9 @@ abstract class FacetRequestSorted extends FacetRequest {
 
 public class FacetField extends FacetRequestSorted {
   public static final int DEFAULT_FACET_LIMIT = 10;
+  public static final double DEFAULT_MAX_ERROR = 0.0001;
+  /** The key of the maximum overestimation of the count of buckets, with method=approx */
+  public static final String APPROX_ERROR = "error";
   String field;
   boolean missing;
   boolean allBuckets;   // show cumulative stats across all buckets (this can be different than non-bucketed stats across all docs because of multi-valued docs)
@@ -81,6 +84,12 @@ public class FacetField extends FacetRequestSorted {
   // experimental - force perSeg collection when using dv method, currently for testing purposes only.
   Boolean perSeg;
 
+  // the maximum number of threads to count segments with, or one per segment if negative. 0 and 1 only use the request thread.
+  int threads;
+
+  // method=approx: the maximum overestimation of counts, as a fraction of the number of values counted
+  double maxError = DEFAULT_MAX_ERROR;
+
   {
     // defaults for FacetRequestSorted
     mincount = 1;
@@ -91,6 +100,7 @@ public class FacetField extends FacetRequestSorted {
     DV,  // DocValues, collect into ordinal array
     UIF, // UnInvertedField, collect into ordinal array
     DVHASH, // DocValues, collect into hash
+    APPROX, // DocValues, count the most frequent values in a hash of bounded size
     ENUM, // TermsEnum then intersect DocSet (stream-able)
     STREAM, // presently equivalent to ENUM
     SMART,
@@ -102,6 +112,7 @@ public class FacetField extends FacetRequestSorted {
         case "dv": return DV;
         case "uif": return UIF;
         case "dvhash": return DVHASH;
+        case "approx": return APPROX;
         case "enum": return ENUM;
         case "stream": return STREAM; // TODO replace with enum?
         case "smart": return SMART;
@@ -143,6 +154,10 @@ public class FacetField extends FacetRequestSorted {
       }
     }
 
+    if (method == FacetMethod.APPROX) {
+      return new FacetFieldProcessorByHashDV(fcontext, this, sf);
+    }
+
     // TODO auto-pick ENUM/STREAM SOLR-9351 when index asc and DocSet cardinality is *not* much smaller than term cardinality
     if (method == FacetMethod.ENUM) {// at the moment these two are the same
       method = FacetMethod.STREAM;
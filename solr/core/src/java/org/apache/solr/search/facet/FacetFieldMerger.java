@@ -192,6 +192,15 @@ public class FacetFieldMerger extends FacetRequestSortedMerger<FacetField> {
     return refinement;
   }
 
+  @Override
+  FacetMerger createFacetMerger(String key, Object val) {
+    if (freq.method == FacetField.FacetMethod.APPROX && FacetField.APPROX_ERROR.equals(key)) {
+      // the errors of the counts of each shard add up
+      return new FacetLongMerger();
+    }
+    return super.createFacetMerger(key, val);
+  }
+
   private static class FacetNumBucketsMerger extends FacetMerger {
     long sumBuckets;
     long shardsMissingSum;
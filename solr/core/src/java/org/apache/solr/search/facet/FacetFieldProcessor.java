@@ -27,6 +27,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -34,6 +37,7 @@ import java.util.function.IntFunction;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.PriorityQueue;
+import org.apache.solr.common.SolrException;
 import org.apache.solr.common.util.SimpleOrderedMap;
 import org.apache.solr.schema.FieldType;
 import org.apache.solr.schema.SchemaField;
@@ -72,7 +76,9 @@ abstract class FacetFieldProcessor extends FacetProcessor<FacetField> {
     super(fcontext, freq);
     this.sf = sf;
     this.effectiveMincount = (int)(fcontext.isShard() ? Math.min(1 , freq.mincount) : freq.mincount);
-    this.singlePassSlotAccCollection = (freq.limit == -1 && freq.subFacets.size() == 0);
+    // approx counts reuse the slots of the least frequent values, so stats must be computed on the domains of buckets
+    this.singlePassSlotAccCollection = (freq.limit == -1 && freq.subFacets.size() == 0
+        && freq.method != FacetField.FacetMethod.APPROX);
 
     if ( null == freq.prelim_sort ) {
       // If the user has not specified any preliminary sort, then things are very simple.
@@ -200,9 +206,9 @@ abstract class FacetFieldProcessor extends FacetProcessor<FacetField> {
       // TODO: END: why can't we just call createAccs here ?
       if (accs.length == 1) {
         collectAcc = accs[0];
-      } else {
+      } else if (accs.length > 1) {
         collectAcc = new MultiAcc(fcontext, accs);
-      }
+      } // else only counts are needed, which can then be collected per segment
 
       if (sortAcc == null) {
         sortAcc = accMap.get(sort.sortVariable);
@@ -679,6 +685,79 @@ abstract class FacetFieldProcessor extends FacetProcessor<FacetField> {
     }
   }
 
+  /** Counts the values of the documents of a group of segments, on one of the threads of {@link #countInParallel}. */
+  interface SegmentsCounter<T> {
+    T count(List<LeafReaderContext> group) throws IOException;
+  }
+
+  /**
+   * Returns true if the request asked for counts to be collected with several threads, and the index
+   * has several segments to split between them.
+   */
+  boolean isParallel(List<LeafReaderContext> leaves) {
+    return (freq.threads < 0 || freq.threads > 1) && leaves.size() > 1;
+  }
+
+  /**
+   * Splits segments in groups with about the same number of documents, one per thread up to
+   * {@link FacetField#threads} (or one per segment if negative), and counts each group on the executor
+   * also used by <code>facet.threads</code>, except the first one which is counted by the calling thread.
+   * The results are returned in the order of the groups.
+   */
+  <T> List<T> countInParallel(List<LeafReaderContext> leaves, SegmentsCounter<T> counter) throws IOException {
+    int numGroups = freq.threads < 0 ? leaves.size() : Math.min(freq.threads, leaves.size());
+    List<List<LeafReaderContext>> groups = new ArrayList<>(numGroups);
+    long[] groupDocs = new long[numGroups];
+    for (int i = 0; i < numGroups; i++) {
+      groups.add(new ArrayList<>());
+    }
+    // biggest segments first, each to the group with the fewest documents so far
+    List<LeafReaderContext> bySize = new ArrayList<>(leaves);
+    bySize.sort((a, b) -> Integer.compare(b.reader().maxDoc(), a.reader().maxDoc()));
+    for (LeafReaderContext leaf : bySize) {
+      int smallest = 0;
+      for (int i = 1; i < numGroups; i++) {
+        if (groupDocs[i] < groupDocs[smallest]) smallest = i;
+      }
+      groups.get(smallest).add(leaf);
+      groupDocs[smallest] += leaf.reader().maxDoc();
+    }
+
+    Executor executor = fcontext.req.getCore().getCoreContainer().getUpdateShardHandler().getUpdateExecutor();
+    List<FutureTask<T>> futures = new ArrayList<>(numGroups - 1);
+    try {
+      for (List<LeafReaderContext> group : groups.subList(1, numGroups)) {
+        FutureTask<T> future = new FutureTask<>(() -> counter.count(group));
+        futures.add(future);
+        executor.execute(future);
+      }
+      List<T> results = new ArrayList<>(numGroups);
+      results.add(counter.count(groups.get(0)));
+      for (FutureTask<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolrException(SolrException.ErrorCode.SERVER_ERROR,
+          "Interrupted while counting field " + sf.getName(), e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new SolrException(SolrException.ErrorCode.SERVER_ERROR,
+          "Error while counting field " + sf.getName(), cause);
+    } finally {
+      // no interrupts, which would close the channels of NIOFSDirectory
+      for (FutureTask<T> future : futures) {
+        future.cancel(false);
+      }
+    }
+  }
+
   static class MultiAcc extends SlotAcc {
     final SlotAcc[] subAccs;
 
@@ -701,6 +780,13 @@ abstract class FacetFieldProcessor extends FacetProcessor<FacetField> {
       }
     }
 
+    @Override
+    public void collect(int[] docs, int[] slots, int count, IntFunction<SlotContext> slotContext) throws IOException {
+      for (SlotAcc acc : subAccs) {
+        acc.collect(docs, slots, count, slotContext);
+      }
+    }
+
     @Override
     public int compare(int slotA, int slotB) {
       throw new UnsupportedOperationException();
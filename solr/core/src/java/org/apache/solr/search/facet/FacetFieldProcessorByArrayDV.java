@@ -19,8 +19,10 @@ package org.apache.solr.search.facet;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.OrdinalMap;
@@ -28,24 +30,42 @@ import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.DocIdSet;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.apache.lucene.util.UnicodeUtil;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.schema.SchemaField;
 import org.apache.solr.search.Filter;
+import org.apache.solr.search.SolrCache;
 import org.apache.solr.uninverting.FieldCacheImpl;
 
 /**
  * Grabs values from {@link DocValues}.
  */
 class FacetFieldProcessorByArrayDV extends FacetFieldProcessorByArray {
+  /**
+   * The name of the user cache of the counts of the terms of segments for the root domain of requests, which
+   * avoids recounting the segments that did not change when the same request is repeated.
+   * implementation detail subject to change
+   */
+  public static final String CACHE_NAME = "perSegFacet";
+
   static boolean unwrap_singleValued_multiDv = true;  // only set to false for test coverage
 
   boolean multiValuedField;
   SortedSetDocValues si;  // only used for term lookups (for both single and multi-valued)
   OrdinalMap ordinalMap = null; // maps per-segment ords to global ords
 
+  @SuppressWarnings("rawtypes")
+  SolrCache segCountsCache; // only set when counting the root domain of a request
+  Weight baseWeight;  // of fcontext.baseQuery, if segCountsCache is set
+  SlotAcc.Batch batch;  // buffers the documents to collect in collectAcc, when it is the only accumulator
+
   FacetFieldProcessorByArrayDV(FacetContext fcontext, FacetField freq, SchemaField sf) {
     super(fcontext, freq, sf);
     multiValuedField = sf.multiValued() || sf.getType().multiValuedFieldCache();
@@ -119,7 +139,43 @@ class FacetFieldProcessorByArrayDV extends FacetFieldProcessorByArray {
     if (freq.perSeg != null) accumSeg = canDoPerSeg && freq.perSeg;  // internal - override perSeg heuristic
 
     final List<LeafReaderContext> leaves = fcontext.searcher.getIndexReader().leaves();
+
+    if (canDoPerSeg && fcontext.baseQuery != null) {
+      segCountsCache = fcontext.searcher.getCache(CACHE_NAME);
+      if (segCountsCache != null) {
+        baseWeight = fcontext.searcher.createWeight(fcontext.searcher.rewrite(fcontext.baseQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+      }
+    }
+
+    if (canDoPerSeg && isParallel(leaves)) {
+      final boolean accumSegFinal = accumSeg;
+      // each thread counts its segments into its own array, which are then merged into countAcc
+      List<int[]> results = countInParallel(leaves, group -> {
+        Filter groupFilter = fcontext.base.getTopFilter();
+        CountSlotArrAcc counts = new CountSlotArrAcc(fcontext, nTerms);
+        SegCounter counter = new SegCounter(counts);
+        for (LeafReaderContext subCtx : group) {
+          DocIdSetIterator disi = groupFilter.getDocIdSet(subCtx, null).iterator();
+          LongValues toGlobal = ordinalMap == null ? null : ordinalMap.getGlobalOrds(subCtx.ord);
+          collectSegment(subCtx, disi, toGlobal, counter, accumSegFinal);
+        }
+        return counts.result;
+      });
+      for (int[] counts : results) {
+        for (int slot = 0; slot < counts.length; slot++) {
+          if (counts[slot] > 0) {
+            countAcc.incrementCount(slot, counts[slot]);
+          }
+        }
+      }
+      return;
+    }
+
     Filter filter = fcontext.base.getTopFilter();
+    SegCounter counter = canDoPerSeg ? new SegCounter(countAcc) : null;
+    if (collectAcc != null && allBucketsAcc == null) {
+      batch = new SlotAcc.Batch(new SlotAcc[] {collectAcc}, slotContext);
+    }
 
     for (int subIdx = 0; subIdx < leaves.size(); subIdx++) {
       LeafReaderContext subCtx = leaves.get(subIdx);
@@ -129,52 +185,79 @@ class FacetFieldProcessorByArrayDV extends FacetFieldProcessorByArray {
       DocIdSet dis = filter.getDocIdSet(subCtx, null); // solr docsets already exclude any deleted docs
       DocIdSetIterator disi = dis.iterator();
 
-      SortedDocValues singleDv = null;
-      SortedSetDocValues multiDv = null;
-      if (multiValuedField) {
-        // TODO: get sub from multi?
-        multiDv = subCtx.reader().getSortedSetDocValues(sf.getName());
-        if (multiDv == null) {
-          multiDv = DocValues.emptySortedSet();
-        }
-        // some codecs may optimize SortedSet storage for single-valued fields
-        // this will be null if this is not a wrapped single valued docvalues.
-        if (unwrap_singleValued_multiDv) {
-          singleDv = DocValues.unwrapSingleton(multiDv);
-        }
-      } else {
-        singleDv = subCtx.reader().getSortedDocValues(sf.getName());
-        if (singleDv == null) {
-          singleDv = DocValues.emptySorted();
-        }
+      LongValues toGlobal = ordinalMap == null ? null : ordinalMap.getGlobalOrds(subIdx);
+
+      collectSegment(subCtx, disi, toGlobal, (accumSeg || toGlobal != null || segCountsCache != null) ? counter : null, accumSeg);
+    }
+  }
+
+  /**
+   * Collects the documents of a segment, or only counts them with the given counter if not null, in which case
+   * the counts of the segment may come from {@link #CACHE_NAME}.
+   */
+  @SuppressWarnings("unchecked")
+  private void collectSegment(LeafReaderContext subCtx, DocIdSetIterator disi, LongValues toGlobal,
+                              SegCounter counter, boolean accumSeg) throws IOException {
+    SegCountsKey cacheKey = counter == null ? null : getCacheKey(subCtx);
+    SegCounts cached = null;
+    if (cacheKey != null) {
+      cached = (SegCounts) segCountsCache.get(cacheKey);
+      if (cached != null) {
+        counter.add(cached, toGlobal);
+        return;
       }
+    }
 
-      LongValues toGlobal = ordinalMap == null ? null : ordinalMap.getGlobalOrds(subIdx);
+    SortedDocValues singleDv = null;
+    SortedSetDocValues multiDv = null;
+    if (multiValuedField) {
+      // TODO: get sub from multi?
+      multiDv = subCtx.reader().getSortedSetDocValues(sf.getName());
+      if (multiDv == null) {
+        multiDv = DocValues.emptySortedSet();
+      }
+      // some codecs may optimize SortedSet storage for single-valued fields
+      // this will be null if this is not a wrapped single valued docvalues.
+      if (unwrap_singleValued_multiDv) {
+        singleDv = DocValues.unwrapSingleton(multiDv);
+      }
+    } else {
+      singleDv = subCtx.reader().getSortedDocValues(sf.getName());
+      if (singleDv == null) {
+        singleDv = DocValues.emptySorted();
+      }
+    }
 
-      if (singleDv != null) {
-        if (accumSeg) {
-          collectPerSeg(singleDv, disi, toGlobal);
-        } else {
-          if (canDoPerSeg && toGlobal != null) {
-            collectCounts(singleDv, disi, toGlobal);
-          } else {
-            collectDocs(singleDv, disi, toGlobal);
-          }
-        }
+    if (cacheKey != null) {
+      cached = singleDv != null ? counter.countSegment(singleDv, disi) : counter.countSegment(multiDv, disi);
+      segCountsCache.put(cacheKey, cached);
+      counter.add(cached, toGlobal);
+    } else if (singleDv != null) {
+      if (counter != null) {
+        counter.count(singleDv, disi, toGlobal, accumSeg);
       } else {
-        if (accumSeg) {
-          collectPerSeg(multiDv, disi, toGlobal);
-        } else {
-          if (canDoPerSeg && toGlobal != null) {
-            collectCounts(multiDv, disi, toGlobal);
-          } else {
-            collectDocs(multiDv, disi, toGlobal);
-          }
-        }
+        collectDocs(singleDv, disi, toGlobal);
+      }
+    } else {
+      if (counter != null) {
+        counter.count(multiDv, disi, toGlobal, accumSeg);
+      } else {
+        collectDocs(multiDv, disi, toGlobal);
       }
     }
+    if (batch != null) {
+      batch.flush(); // before moving to the next segment
+    }
+  }
 
-    reuse = null;  // better GC
+  /** Returns the key of the cached counts of a segment, or null if they can't be cached. */
+  private SegCountsKey getCacheKey(LeafReaderContext subCtx) throws IOException {
+    if (segCountsCache == null || !baseWeight.isCacheable(subCtx)) {
+      return null;
+    }
+    // the reader key rather than the core key, since the documents of the domain exclude deleted ones
+    IndexReader.CacheHelper cacheHelper = subCtx.reader().getReaderCacheHelper();
+    return cacheHelper == null ? null : new SegCountsKey(sf.getName(), fcontext.baseQuery, cacheHelper.getKey());
   }
 
   @Override
@@ -182,157 +265,286 @@ class FacetFieldProcessorByArrayDV extends FacetFieldProcessorByArray {
     return si.lookupOrd(ord);
   }
 
-  private void collectPerSeg(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
-    int segMax = singleDv.getValueCount() + 1;
-    final int[] counts = getCountArr( segMax );
-
-    /** alternate trial implementations
-     // ord
-     // FieldUtil.visitOrds(singleDv, disi,  (doc,ord)->{counts[ord+1]++;} );
-
-    FieldUtil.OrdValues ordValues = FieldUtil.getOrdValues(singleDv, disi);
-    while (ordValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
-      counts[ ordValues.getOrd() + 1]++;
-    }
-     **/
-
-
-    // calculate segment-local counts
+  private void collectDocs(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
     int doc;
-    if (singleDv instanceof FieldCacheImpl.SortedDocValuesImpl.Iter) {
-      FieldCacheImpl.SortedDocValuesImpl.Iter fc = (FieldCacheImpl.SortedDocValuesImpl.Iter) singleDv;
-      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-        counts[fc.getOrd(doc) + 1]++;
-      }
-    } else {
-      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-        if (singleDv.advanceExact(doc)) {
-          counts[singleDv.ordValue() + 1]++;
-        }
-      }
-    }
-
-    // convert segment-local counts to global counts
-    for (int i=1; i<segMax; i++) {
-      int segCount = counts[i];
-      if (segCount > 0) {
-        int slot = toGlobal == null ? (i - 1) : (int) toGlobal.get(i - 1);
-        countAcc.incrementCount(slot, segCount);
+    while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+      if (singleDv.advanceExact(doc)) {
+        int segOrd = singleDv.ordValue();
+        collect(doc, segOrd, toGlobal);
       }
     }
   }
 
-  private void collectPerSeg(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
-    int segMax = (int)multiDv.getValueCount();
-    final int[] counts = getCountArr( segMax );
-
+  private void collectDocs(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
     int doc;
     while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
       if (multiDv.advanceExact(doc)) {
         for(;;) {
           int segOrd = (int)multiDv.nextOrd();
           if (segOrd < 0) break;
-          counts[segOrd]++;
+          collect(doc, segOrd, toGlobal);
         }
       }
     }
+  }
 
-    for (int i=0; i<segMax; i++) {
-      int segCount = counts[i];
-      if (segCount > 0) {
-        int slot = toGlobal == null ? (i) : (int) toGlobal.get(i);
-        countAcc.incrementCount(slot, segCount);
+  private void collect(int doc, int segOrd, LongValues toGlobal) throws IOException {
+    int ord = (toGlobal != null && segOrd >= 0) ? (int)toGlobal.get(segOrd) : segOrd;
+
+    int arrIdx = ord - startTermIndex;
+    if (arrIdx >= 0 && arrIdx < nTerms) {
+      countAcc.incrementCount(arrIdx, 1);
+      if (batch != null) {
+        batch.add(doc, arrIdx);
+        return;
+      }
+      if (collectAcc != null) {
+        collectAcc.collect(doc, arrIdx, slotContext);
+      }
+      if (allBucketsAcc != null) {
+        allBucketsAcc.collect(doc, arrIdx, slotContext);
       }
     }
   }
 
-  private int[] reuse;
-  private int[] getCountArr(int maxNeeded) {
-    if (reuse == null) {
-      // make the count array large enough for any segment
-      // FUTURE: (optionally) directly use the array of the CountAcc for an optimized index..
-      reuse = new int[(int) si.getValueCount() + 1];
-    } else {
-      Arrays.fill(reuse, 0, maxNeeded, 0);
+  /**
+   * Counts the values of the documents of segments when only counts are needed over the full range of terms,
+   * so that the counts of global ords can be accumulated per segment. Not thread safe.
+   */
+  private class SegCounter {
+    final CountSlotAcc target;
+
+    SegCounter(CountSlotAcc target) {
+      this.target = target;
     }
-    return reuse;
-  }
 
-  private void collectDocs(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
-    int doc;
-    while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-      if (singleDv.advanceExact(doc)) {
-        int segOrd = singleDv.ordValue();
-        collect(doc, segOrd, toGlobal);
+    void count(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal, boolean accumSeg) throws IOException {
+      if (accumSeg) {
+        collectPerSeg(singleDv, disi, toGlobal);
+      } else {
+        collectCounts(singleDv, disi, toGlobal);
       }
     }
-  }
 
-  private void collectCounts(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
-    int doc;
-    if (singleDv instanceof FieldCacheImpl.SortedDocValuesImpl.Iter) {
+    void count(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal, boolean accumSeg) throws IOException {
+      if (accumSeg) {
+        collectPerSeg(multiDv, disi, toGlobal);
+      } else {
+        collectCounts(multiDv, disi, toGlobal);
+      }
+    }
 
-      FieldCacheImpl.SortedDocValuesImpl.Iter fc = (FieldCacheImpl.SortedDocValuesImpl.Iter)singleDv;
-      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-        int segOrd = fc.getOrd(doc);
-        if (segOrd < 0) continue;
-        int ord = (int)toGlobal.get(segOrd);
-        countAcc.incrementCount(ord, 1);
+    /** Counts the documents of a segment, keyed on segment ords. */
+    SegCounts countSegment(SortedDocValues singleDv, DocIdSetIterator disi) throws IOException {
+      int segMax = singleDv.getValueCount() + 1;
+      int[] counts = countLocal(singleDv, disi, segMax);
+      return SegCounts.of(counts, 1, segMax);
+    }
+
+    /** Counts the documents of a segment, keyed on segment ords. */
+    SegCounts countSegment(SortedSetDocValues multiDv, DocIdSetIterator disi) throws IOException {
+      int segMax = (int)multiDv.getValueCount();
+      int[] counts = countLocal(multiDv, disi, segMax);
+      return SegCounts.of(counts, 0, segMax);
+    }
+
+    /** Adds counts keyed on segment ords. */
+    void add(SegCounts segCounts, LongValues toGlobal) {
+      for (int i=0; i<segCounts.ords.length; i++) {
+        int segOrd = segCounts.ords[i];
+        int slot = toGlobal == null ? segOrd : (int) toGlobal.get(segOrd);
+        target.incrementCount(slot, segCounts.counts[i]);
       }
+    }
 
-    } else {
+    private void collectPerSeg(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
+      int segMax = singleDv.getValueCount() + 1;
+      final int[] counts = countLocal(singleDv, disi, segMax);
 
+      // convert segment-local counts to global counts
+      for (int i=1; i<segMax; i++) {
+        int segCount = counts[i];
+        if (segCount > 0) {
+          int slot = toGlobal == null ? (i - 1) : (int) toGlobal.get(i - 1);
+          target.incrementCount(slot, segCount);
+        }
+      }
+    }
+
+    /** Returns the segment-local counts, at index segOrd+1 so that documents without a value are counted at 0. */
+    private int[] countLocal(SortedDocValues singleDv, DocIdSetIterator disi, int segMax) throws IOException {
+      final int[] counts = getCountArr( segMax );
+
+      /** alternate trial implementations
+       // ord
+       // FieldUtil.visitOrds(singleDv, disi,  (doc,ord)->{counts[ord+1]++;} );
+
+      FieldUtil.OrdValues ordValues = FieldUtil.getOrdValues(singleDv, disi);
+      while (ordValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+        counts[ ordValues.getOrd() + 1]++;
+      }
+       **/
+
+
+      // calculate segment-local counts
+      int doc;
+      if (singleDv instanceof FieldCacheImpl.SortedDocValuesImpl.Iter) {
+        FieldCacheImpl.SortedDocValuesImpl.Iter fc = (FieldCacheImpl.SortedDocValuesImpl.Iter) singleDv;
+        while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+          counts[fc.getOrd(doc) + 1]++;
+        }
+      } else {
+        while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+          if (singleDv.advanceExact(doc)) {
+            counts[singleDv.ordValue() + 1]++;
+          }
+        }
+      }
+      return counts;
+    }
+
+    private void collectPerSeg(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
+      int segMax = (int)multiDv.getValueCount();
+      final int[] counts = countLocal(multiDv, disi, segMax);
+
+      for (int i=0; i<segMax; i++) {
+        int segCount = counts[i];
+        if (segCount > 0) {
+          int slot = toGlobal == null ? (i) : (int) toGlobal.get(i);
+          target.incrementCount(slot, segCount);
+        }
+      }
+    }
+
+    /** Returns the segment-local counts, at index segOrd. */
+    private int[] countLocal(SortedSetDocValues multiDv, DocIdSetIterator disi, int segMax) throws IOException {
+      final int[] counts = getCountArr( segMax );
+
+      int doc;
       while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-        if (singleDv.advanceExact(doc)) {
-          int segOrd = singleDv.ordValue();
-          int ord = (int) toGlobal.get(segOrd);
-          countAcc.incrementCount(ord, 1);
+        if (multiDv.advanceExact(doc)) {
+          for(;;) {
+            int segOrd = (int)multiDv.nextOrd();
+            if (segOrd < 0) break;
+            counts[segOrd]++;
+          }
         }
       }
+      return counts;
+    }
 
+    private int[] reuse;
+    private int[] getCountArr(int maxNeeded) {
+      if (reuse == null) {
+        // make the count array large enough for any segment
+        // FUTURE: (optionally) directly use the array of the CountAcc for an optimized index..
+        reuse = new int[(int) si.getValueCount() + 1];
+      } else {
+        Arrays.fill(reuse, 0, maxNeeded, 0);
+      }
+      return reuse;
     }
-  }
 
-  private void collectDocs(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
-    int doc;
-    while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-      if (multiDv.advanceExact(doc)) {
-        for(;;) {
-          int segOrd = (int)multiDv.nextOrd();
-          if (segOrd < 0) break;
-          collect(doc, segOrd, toGlobal);
+    private void collectCounts(SortedDocValues singleDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
+      int doc;
+      if (singleDv instanceof FieldCacheImpl.SortedDocValuesImpl.Iter) {
+
+        FieldCacheImpl.SortedDocValuesImpl.Iter fc = (FieldCacheImpl.SortedDocValuesImpl.Iter)singleDv;
+        while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+          int segOrd = fc.getOrd(doc);
+          if (segOrd < 0) continue;
+          int ord = toGlobal == null ? segOrd : (int) toGlobal.get(segOrd);
+          target.incrementCount(ord, 1);
         }
+
+      } else {
+
+        while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+          if (singleDv.advanceExact(doc)) {
+            int segOrd = singleDv.ordValue();
+            int ord = toGlobal == null ? segOrd : (int) toGlobal.get(segOrd);
+            target.incrementCount(ord, 1);
+          }
+        }
+
       }
     }
-  }
 
-  private void collectCounts(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
-    int doc;
-    while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
-      if (multiDv.advanceExact(doc)) {
-        for(;;) {
-          int segOrd = (int)multiDv.nextOrd();
-          if (segOrd < 0) break;
-          int ord = (int)toGlobal.get(segOrd);
-          countAcc.incrementCount(ord, 1);
+    private void collectCounts(SortedSetDocValues multiDv, DocIdSetIterator disi, LongValues toGlobal) throws IOException {
+      int doc;
+      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+        if (multiDv.advanceExact(doc)) {
+          for(;;) {
+            int segOrd = (int)multiDv.nextOrd();
+            if (segOrd < 0) break;
+            int ord = toGlobal == null ? segOrd : (int) toGlobal.get(segOrd);
+            target.incrementCount(ord, 1);
+          }
         }
       }
     }
   }
 
-  private void collect(int doc, int segOrd, LongValues toGlobal) throws IOException {
-    int ord = (toGlobal != null && segOrd >= 0) ? (int)toGlobal.get(segOrd) : segOrd;
+  /** Key of {@link SegCounts} in {@link #CACHE_NAME}. */
+  static final class SegCountsKey {
+    final String field;
+    final Query baseQuery;
+    final IndexReader.CacheKey readerKey;
+    final int hashCode;
+
+    SegCountsKey(String field, Query baseQuery, IndexReader.CacheKey readerKey) {
+      this.field = field;
+      this.baseQuery = baseQuery;
+      this.readerKey = readerKey;
+      this.hashCode = Objects.hash(field, baseQuery, readerKey);
+    }
 
-    int arrIdx = ord - startTermIndex;
-    if (arrIdx >= 0 && arrIdx < nTerms) {
-      countAcc.incrementCount(arrIdx, 1);
-      if (collectAcc != null) {
-        collectAcc.collect(doc, arrIdx, slotContext);
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof SegCountsKey == false) return false;
+      SegCountsKey other = (SegCountsKey) obj;
+      return readerKey == other.readerKey && field.equals(other.field) && baseQuery.equals(other.baseQuery);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /** The non-zero counts of the terms of a segment, by segment ord. */
+  static final class SegCounts implements Accountable {
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(SegCounts.class);
+
+    final int[] ords;
+    final int[] counts;
+
+    SegCounts(int[] ords, int[] counts) {
+      this.ords = ords;
+      this.counts = counts;
+    }
+
+    /** Returns the non-zero counts from <code>start</code> (ord 0) to <code>end</code> of an array of counts. */
+    static SegCounts of(int[] localCounts, int start, int end) {
+      int size = 0;
+      for (int i = start; i < end; i++) {
+        if (localCounts[i] > 0) size++;
       }
-      if (allBucketsAcc != null) {
-        allBucketsAcc.collect(doc, arrIdx, slotContext);
+      int[] ords = new int[size];
+      int[] counts = new int[size];
+      int n = 0;
+      for (int i = start; i < end; i++) {
+        if (localCounts[i] > 0) {
+          ords[n] = i - start;
+          counts[n++] = localCounts[i];
+        }
       }
+      return new SegCounts(ords, counts);
     }
-  }
 
+    @Override
+    public long ramBytesUsed() {
+      return BASE_RAM_BYTES_USED + RamUsageEstimator.sizeOf(ords) + RamUsageEstimator.sizeOf(counts);
+    }
+  }
 }
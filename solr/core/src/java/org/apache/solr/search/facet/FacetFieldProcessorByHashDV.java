@@ -18,8 +18,11 @@ package org.apache.solr.search.facet;
 
 import java.io.IOException;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.IntFunction;
 
+import com.carrotsearch.hppc.LongIntHashMap;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
@@ -28,8 +31,10 @@ import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BitUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LongValues;
@@ -37,11 +42,13 @@ import org.apache.solr.common.SolrException;
 import org.apache.solr.common.util.SimpleOrderedMap;
 import org.apache.solr.schema.SchemaField;
 import org.apache.solr.search.DocSetUtil;
+import org.apache.solr.search.Filter;
 import org.apache.solr.search.facet.SlotAcc.SlotContext;
 
 /**
  * Facets numbers into a hash table.  The number is either a raw numeric DocValues value, or
- * a term global ordinal integer.
+ * a term global ordinal integer.  With method=approx, the table has a bounded size and only
+ * keeps the most frequent numbers, see {@link SpaceSavingCounts}.
  * Limitations:
  * <ul>
  *   <li>doesn't handle prefix, but could easily be added</li>
@@ -89,6 +96,11 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
 
     /** returns the slot */
     int add(long val) {
+      return add(val, 1);
+    }
+
+    /** returns the slot */
+    int add(long val, int inc) {
       if (cardinality >= threshold) {
         rehash();
       }
@@ -97,13 +109,13 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
       for (int slot = h & (vals.length-1);  ;slot = (slot + ((h>>7)|1)) & (vals.length-1)) {
         int count = counts[slot];
         if (count == 0) {
-          counts[slot] = 1;
+          counts[slot] = inc;
           vals[slot] = val;
           cardinality++;
           return slot;
         } else if (vals[slot] == val) {
           // val is already in the set
-          counts[slot] = count + 1;
+          counts[slot] = count + inc;
           return slot;
         }
       }
@@ -145,6 +157,108 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
 
   }
 
+  /**
+   * Counts the most frequent values with the Space-Saving algorithm of Metwally et al.: once all of its slots are
+   * used, a value that isn't in the table replaces the value with the lowest count and gets that count plus one.
+   * Counts are then overestimated, by at most the count of the replaced value which is kept as their error, and by
+   * at most the number of counted values divided by the number of slots. Any value whose count is greater than
+   * that is in the table.
+   */
+  private static class SpaceSavingCounts extends LongCounts {
+    final int maxSlots;
+    final LongIntHashMap valToSlot = new LongIntHashMap();
+    int[] errors;
+    int[] heap;  // the used slots, as a min heap on their counts
+    int[] heapIndex;  // the index of slots in the heap
+
+    /** sz must be a power of two */
+    SpaceSavingCounts(int sz, int maxSlots) {
+      super(Math.min(sz, maxSlots));
+      this.maxSlots = maxSlots;
+      threshold = vals.length;
+      errors = new int[vals.length];
+      heap = new int[vals.length];
+      heapIndex = new int[vals.length];
+    }
+
+    @Override
+    int add(long val, int inc) {
+      int slot = valToSlot.getOrDefault(val, -1);
+      if (slot >= 0) {
+        counts[slot] += inc;
+        siftDown(heapIndex[slot]);
+        return slot;
+      }
+
+      if (cardinality < maxSlots) {
+        if (cardinality >= threshold) {
+          rehash();
+        }
+        slot = cardinality++;
+        vals[slot] = val;
+        counts[slot] = inc;
+        heap[slot] = slot;
+        heapIndex[slot] = slot;
+        siftUp(slot);
+      } else {
+        // replace the value with the lowest count
+        slot = heap[0];
+        valToSlot.remove(vals[slot]);
+        vals[slot] = val;
+        errors[slot] = counts[slot];
+        counts[slot] += inc;
+        siftDown(0);
+      }
+      valToSlot.put(val, slot);
+      return slot;
+    }
+
+    private void siftUp(int i) {
+      int slot = heap[i];
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (counts[heap[parent]] <= counts[slot]) break;
+        heap[i] = heap[parent];
+        heapIndex[heap[i]] = i;
+        i = parent;
+      }
+      heap[i] = slot;
+      heapIndex[slot] = i;
+    }
+
+    private void siftDown(int i) {
+      int slot = heap[i];
+      for (;;) {
+        int child = 2 * i + 1;
+        if (child >= cardinality) break;
+        if (child + 1 < cardinality && counts[heap[child + 1]] < counts[heap[child]]) child++;
+        if (counts[slot] <= counts[heap[child]]) break;
+        heap[i] = heap[child];
+        heapIndex[heap[i]] = i;
+        i = child;
+      }
+      heap[i] = slot;
+      heapIndex[slot] = i;
+    }
+
+    /** Grows the arrays, up to maxSlots.  Slots don't change since they are allocated in order. */
+    @Override
+    protected void rehash() {
+      int newCapacity = Math.min(vals.length << 1, maxSlots);
+      int[] mapping = new int[vals.length];
+      for (int i = 0; i < mapping.length; i++) {
+        mapping[i] = i;
+      }
+      vals = Arrays.copyOf(vals, newCapacity);
+      counts = Arrays.copyOf(counts, newCapacity);
+      errors = Arrays.copyOf(errors, newCapacity);
+      heap = Arrays.copyOf(heap, newCapacity);
+      heapIndex = Arrays.copyOf(heapIndex, newCapacity);
+      threshold = newCapacity;
+      oldToNewMapping = mapping;
+    }
+  }
+
   /** A hack instance of Calc for Term ordinals in DocValues. */
   // TODO consider making FacetRangeProcessor.Calc facet top level; then less of a hack?
   private class TermOrdCalc extends FacetRangeProcessor.Calc {
@@ -199,6 +313,20 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
       throw new SolrException(SolrException.ErrorCode.BAD_REQUEST,
           getClass()+" doesn't support prefix"); // yet, but it could
     }
+    if (freq.method == FacetField.FacetMethod.APPROX) {
+      if (!FacetRequest.FacetSort.COUNT_DESC.equals(sort)) {
+        throw new SolrException(SolrException.ErrorCode.BAD_REQUEST,
+            "method approx only supports sorting by count desc (or using it as prelim_sort)");
+      }
+      if (freq.allBuckets || freq.numBuckets) {
+        throw new SolrException(SolrException.ErrorCode.BAD_REQUEST,
+            "method approx doesn't support allBuckets or numBuckets");
+      }
+      if (freq.getFacetStats().containsKey(FacetField.APPROX_ERROR) || freq.getSubFacets().containsKey(FacetField.APPROX_ERROR)) {
+        throw new SolrException(SolrException.ErrorCode.BAD_REQUEST,
+            "method approx returns the error of counts as '" + FacetField.APPROX_ERROR + "', which can't be a facet or stat name");
+      }
+    }
     FieldInfo fieldInfo = fcontext.searcher.getFieldInfos().fieldInfo(sf.getName());
     if (fieldInfo != null &&
         fieldInfo.getDocValuesType() != DocValuesType.NUMERIC &&
@@ -232,14 +360,27 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
     // size smaller tables so that no resize will be necessary
     int currHashSize = BitUtil.nextHighestPowerOfTwo((int) (possibleValues * (1 / LongCounts.LOAD_FACTOR) + 1));
     currHashSize = Math.min(currHashSize, MAXIMUM_STARTING_TABLE_SIZE);
-    table = new LongCounts(currHashSize) {
-      @Override
-      protected void rehash() {
-        super.rehash();
-        doRehash(this);
-        oldToNewMapping = null; // allow for gc
-      }
-    };
+    if (freq.method == FacetField.FacetMethod.APPROX) {
+      // enough slots for the buckets to return even if the error is large
+      long maxSlots = Math.max((long) Math.ceil(1 / freq.maxError), freq.limit < 0 ? 0 : freq.offset + freq.limit);
+      table = new SpaceSavingCounts(currHashSize, (int) Math.min(maxSlots, ArrayUtil.MAX_ARRAY_LENGTH)) {
+        @Override
+        protected void rehash() {
+          super.rehash();
+          doRehash(this);
+          oldToNewMapping = null; // allow for gc
+        }
+      };
+    } else {
+      table = new LongCounts(currHashSize) {
+        @Override
+        protected void rehash() {
+          super.rehash();
+          doRehash(this);
+          oldToNewMapping = null; // allow for gc
+        }
+      };
+    }
 
     // note: these methods/phases align with FacetFieldProcessorByArray's
 
@@ -325,6 +466,39 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
     // we set the countAcc & indexAcc first so generic ones won't be created for us.
     super.createCollectAcc(fcontext.base.size(), numSlots);
 
+    if (table instanceof SpaceSavingCounts) {
+      // collectAcc is only used to return the errors of counts, since slots can be reused for other values
+      assert collectAcc == null;
+      collectAcc = new SlotAcc(fcontext) {
+        {
+          key = FacetField.APPROX_ERROR;
+        }
+
+        @Override
+        public void collect(int doc, int slot, IntFunction<SlotContext> slotContext) throws IOException {
+        }
+
+        @Override
+        public int compare(int slotA, int slotB) {
+          return Integer.compare(((SpaceSavingCounts) table).errors[slotA], ((SpaceSavingCounts) table).errors[slotB]);
+        }
+
+        @Override
+        public Object getValue(int slotNum) {
+          return ((SpaceSavingCounts) table).errors[slotNum];
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public void resize(Resizer resizer) {
+          // backed by the table
+        }
+      };
+    }
+
     if (freq.allBuckets) {
       allBucketsAcc = new SpecialSlotAcc(fcontext, collectAcc, allBucketsSlot, otherAccs, 0);
     }
@@ -343,6 +517,10 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
         }
       };
 
+      if (countInParallel(globalDocValues)) {
+        return;
+      }
+
       DocSetUtil.collectSortedDocSet(fcontext.base, fcontext.searcher.getIndexReader(), new SimpleCollector() {
           SortedDocValues docValues = globalDocValues; // this segment/leaf. NN
           LongValues toGlobal = LongValues.IDENTITY; // this segment to global ordinal. NN
@@ -370,6 +548,10 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
 
     } else { // Numeric:
 
+      if (countInParallel(null)) {
+        return;
+      }
+
       if (sf.multiValued()) {
         DocSetUtil.collectSortedDocSet(fcontext.base, fcontext.searcher.getIndexReader(), new SimpleCollector() {
           SortedNumericDocValues values = null; //NN
@@ -421,6 +603,76 @@ class FacetFieldProcessorByHashDV extends FacetFieldProcessor {
     }
   }
 
+  /**
+   * Counts the values in tables of their own on several threads, and merges them into {@link #table}, if only counts
+   * are needed and the request asked for it.
+   *
+   * @param globalDocValues the doc values of the whole index for strings, or null for numbers
+   * @return false if the values should be collected on the request thread instead
+   */
+  private boolean countInParallel(SortedDocValues globalDocValues) throws IOException {
+    final List<LeafReaderContext> leaves = fcontext.searcher.getIndexReader().leaves();
+    if (collectAcc != null || allBucketsAcc != null || !isParallel(leaves)) {
+      return false;
+    }
+    List<LongCounts> results = countInParallel(leaves, group -> {
+      Filter groupFilter = fcontext.base.getTopFilter();
+      LongCounts counts = new LongCounts(table.numSlots());
+      for (LeafReaderContext ctx : group) {
+        DocIdSetIterator disi = groupFilter.getDocIdSet(ctx, null).iterator(); // solr docsets already exclude any deleted docs
+        countSegment(ctx, disi, globalDocValues, counts);
+      }
+      return counts;
+    });
+    for (LongCounts counts : results) {
+      for (int i = 0; i < counts.numSlots(); i++) {
+        if (counts.counts[i] > 0) {
+          table.add(counts.vals[i], counts.counts[i]);
+        }
+      }
+    }
+    return true;
+  }
+
+  private void countSegment(LeafReaderContext ctx, DocIdSetIterator disi, SortedDocValues globalDocValues,
+                            LongCounts counts) throws IOException {
+    int doc;
+    if (globalDocValues != null) {
+      SortedDocValues docValues = DocValues.getSorted(ctx.reader(), sf.getName());
+      LongValues toGlobal = LongValues.IDENTITY;
+      if (globalDocValues instanceof MultiDocValues.MultiSortedDocValues) {
+        toGlobal = ((MultiDocValues.MultiSortedDocValues) globalDocValues).mapping.getGlobalOrds(ctx.ord);
+      }
+      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+        if (docValues.advanceExact(doc)) {
+          counts.add(toGlobal.get(docValues.ordValue()));
+        }
+      }
+    } else if (sf.multiValued()) {
+      SortedNumericDocValues values = DocValues.getSortedNumeric(ctx.reader(), sf.getName());
+      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+        if (values.advanceExact(doc)) {
+          long l = values.nextValue();
+          counts.add(l);
+          for (int i = 1; i < values.docValueCount(); i++) {
+            long lnew = values.nextValue();
+            if (lnew != l) { // don't double-count duplicate values
+              counts.add(lnew);
+            }
+            l = lnew;
+          }
+        }
+      }
+    } else {
+      NumericDocValues values = DocValues.getNumeric(ctx.reader(), sf.getName());
+      while ((doc = disi.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+        if (values.advanceExact(doc)) {
+          counts.add(values.longValue());
+        }
+      }
+    }
+  }
+
   private void collectValFirstPhase(int segDoc, long val) throws IOException {
     int slot = table.add(val); // this can trigger a rehash
 
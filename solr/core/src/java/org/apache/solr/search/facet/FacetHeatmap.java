@@ -50,6 +50,7 @@ import org.apache.solr.schema.SpatialRecursivePrefixTreeFieldType;
 import org.apache.solr.search.BitDocSet;
 import org.apache.solr.search.DocIterator;
 import org.apache.solr.search.DocSet;
+import org.apache.solr.search.RoaringDocSet;
 import org.apache.solr.search.SolrIndexSearcher;
 import org.apache.solr.util.DistanceUnits;
 import org.apache.solr.util.SpatialUtils;
@@ -261,6 +262,8 @@ public class FacetHeatmap extends FacetRequest {
         return new Bits.MatchNoBits(searcher.maxDoc()); // can speedup things a lot
       } else if (docSet instanceof BitDocSet) {
         return ((BitDocSet) docSet).getBits();
+      } else if (docSet instanceof RoaringDocSet) {
+        return ((RoaringDocSet) docSet).toBitDocSet().getBits();
       } else {
         // TODO DocSetBase.getBits ought to be at DocSet level?  Though it doesn't know maxDoc but it could?
         FixedBitSet bits = new FixedBitSet(searcher.maxDoc());
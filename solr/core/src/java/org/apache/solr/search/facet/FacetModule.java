@@ -23,6 +23,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
 import org.apache.solr.client.solrj.SolrResponse;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.params.CommonParams;
@@ -36,6 +39,8 @@ import org.apache.solr.handler.component.ResponseBuilder;
 import org.apache.solr.handler.component.SearchComponent;
 import org.apache.solr.handler.component.ShardRequest;
 import org.apache.solr.handler.component.ShardResponse;
+import org.apache.solr.response.SolrQueryResponse;
+import org.apache.solr.search.PostFilter;
 import org.apache.solr.search.QueryContext;
 import org.noggit.CharArr;
 import org.noggit.JSONWriter;
@@ -119,6 +124,7 @@ public class FacetModule extends SearchComponent {
 
     FacetContext fcontext = new FacetContext();
     fcontext.base = rb.getResults().docSet;
+    fcontext.baseQuery = getBaseQuery(rb);
     fcontext.req = rb.req;
     fcontext.searcher = rb.req.getSearcher();
     fcontext.qcontext = QueryContext.newContext(fcontext.searcher);
@@ -141,6 +147,29 @@ public class FacetModule extends SearchComponent {
   }
 
 
+  /**
+   * Returns a query that matches the documents of the DocSet of the results, or null if they
+   * were not only selected by the main query and filters, which the per segment facet counts
+   * of FacetFieldProcessorByArrayDV are cached on.
+   */
+  private static Query getBaseQuery(ResponseBuilder rb) {
+    if (rb.getQuery() == null || rb.grouping()
+        || Boolean.TRUE.equals(rb.rsp.getResponseHeader().get(SolrQueryResponse.RESPONSE_HEADER_PARTIAL_RESULTS_KEY))) {
+      return null;
+    }
+    BooleanQuery.Builder builder = new BooleanQuery.Builder();
+    builder.add(rb.getQuery(), BooleanClause.Occur.FILTER);
+    if (rb.getFilters() != null) {
+      for (Query filter : rb.getFilters()) {
+        if (filter instanceof PostFilter && ((PostFilter) filter).getCost() >= 100 && !((PostFilter) filter).getCache()) {
+          return null; // post filters can depend on all the matching documents
+        }
+        builder.add(filter, BooleanClause.Occur.FILTER);
+      }
+    }
+    return builder.build();
+  }
+
   private void clearFaceting(List<ShardRequest> outgoing) {
     // turn off faceting for requests not marked as being for faceting refinements
     for (ShardRequest sreq : outgoing) {
@@ -137,6 +137,7 @@ public abstract class FacetProcessor<FacetRequestT extends FacetRequest>  {
 
   private void handleDomainChanges() throws IOException {
     if (freq.domain == null) return;
+    fcontext.baseQuery = null;
 
     if (null != freq.domain.explicitQueries) {
       try {
@@ -347,6 +348,7 @@ public abstract class FacetProcessor<FacetRequestT extends FacetRequest>  {
     
     final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
     final Iterator<LeafReaderContext> ctxIt = leaves.iterator();
+    final SlotAcc.Batch batch = new SlotAcc.Batch(accs, slotContext);
     LeafReaderContext ctx = null;
     int segBase = 0;
     int segMax;
@@ -365,11 +367,13 @@ public abstract class FacetProcessor<FacetRequestT extends FacetRequest>  {
           adjustedMax = segBase + segMax;
         } while (doc >= adjustedMax);
         assert doc >= ctx.docBase;
+        batch.flush();
         setNextReader(ctx);
       }
       count++;
-      collect(doc - segBase, slot, slotContext);  // per-seg collectors
+      batch.add(doc - segBase, slot);  // per-seg collectors
     }
+    batch.flush();
     return count;
   }
 
@@ -435,6 +435,7 @@ class FacetContext {
   SolrIndexSearcher searcher;
   Query filter;  // TODO: keep track of as a DocSet or as a Query?
   DocSet base;
+  Query baseQuery;  // matches the documents of base from each segment independently, or null if unknown
   FacetContext parent;
   int flags;
   FacetDebugInfo debugInfo;
@@ -460,6 +461,7 @@ class FacetContext {
     ctx.parent = this;
     ctx.base = domain;
     ctx.filter = filter;
+    ctx.baseQuery = (filter == null && domain == base) ? baseQuery : null;
 
     // carry over from parent
     ctx.flags = flags;
@@ -947,6 +949,14 @@ class FacetFieldParser extends FacetParser<FacetField> {
       facet.refine = FacetField.RefineMethod.fromObj(m.get("refine"));
 
       facet.perSeg = (Boolean)m.get("perSeg");
+      facet.threads = (int)getLong(m, "threads", facet.threads);
+      Double maxError = getDoubleOrNull(m, "maxError", false);
+      if (maxError != null) {
+        if (!(maxError > 0 && maxError <= 1)) {
+          throw err("Expected a value greater than 0 and at most 1 for param 'maxError' but got " + maxError);
+        }
+        facet.maxError = maxError;
+      }
 
       // facet.sort may depend on a facet stat...
       // should we be parsing / validating this here, or in the execution environment?
@@ -153,6 +153,24 @@ public class MinMaxAgg extends SimpleAggValueSource {
       }
     }
 
+    @Override
+    public void collect(int[] docs, int[] slots, int count, IntFunction<SlotContext> slotContext) throws IOException {
+      if (fieldValues == null) {
+        super.collect(docs, slots, count, slotContext);
+        return;
+      }
+      final int num = fieldValues.readDoubles(currentReaderContext, docs, slots, count);
+      final double[] vals = fieldValues.doubles;
+      final int[] valSlots = fieldValues.slots;
+      for (int i = 0; i < num; i++) {
+        double val = vals[i];
+        double currVal = result[valSlots[i]];
+        if (Double.compare(val, currVal) * minmax < 0 || Double.isNaN(currVal)) {
+          result[valSlots[i]] = val;
+        }
+      }
+    }
+
     @Override
     public Object getValue(int slot) {
       double val = result[slot];
@@ -185,6 +203,27 @@ public class MinMaxAgg extends SimpleAggValueSource {
       }
     }
 
+    @Override
+    public void collect(int[] docs, int[] slots, int count, IntFunction<SlotContext> slotContext) throws IOException {
+      if (fieldValues == null || !fieldValues.isIntegral()) {
+        super.collect(docs, slots, count, slotContext);
+        return;
+      }
+      final int num = fieldValues.readLongs(currentReaderContext, docs, slots, count);
+      final long[] vals = fieldValues.longs;
+      final int[] valSlots = fieldValues.slots;
+      for (int i = 0; i < num; i++) {
+        long val = vals[i];
+        int slot = valSlots[i];
+        if (!exists.get(slot)) {
+          exists.set(slot);
+          result[slot] = val;
+        } else if (Long.compare(val, result[slot]) * minmax < 0) {
+          result[slot] = val;
+        }
+      }
+    }
+
     @Override
     public Object getValue(int slot) {
       long val = result[slot];
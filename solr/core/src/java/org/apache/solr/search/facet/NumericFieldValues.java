@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search.facet;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.queries.function.ValueSource;
+import org.apache.lucene.queries.function.valuesource.DoubleFieldSource;
+import org.apache.lucene.queries.function.valuesource.FieldCacheSource;
+import org.apache.lucene.queries.function.valuesource.FloatFieldSource;
+import org.apache.lucene.queries.function.valuesource.IntFieldSource;
+import org.apache.lucene.queries.function.valuesource.LongFieldSource;
+
+/**
+ * Reads the values of a single-valued numeric field straight from the {@link NumericDocValues} of a segment,
+ * for the accumulators that collect batches of documents with {@link SlotAcc#collect(int[],int[],int,java.util.function.IntFunction)}.
+ * A batch is read in a single loop over the doc values, instead of going through the
+ * {@link org.apache.lucene.queries.function.FunctionValues} of the field twice per document
+ * (once for the value, and once more to know if the document has one).
+ */
+final class NumericFieldValues {
+  private enum Type {INT, LONG, FLOAT, DOUBLE}
+
+  private final String field;
+  private final Type type;
+
+  /** The slots of the documents of the last batch read that have a value */
+  final int[] slots = new int[SlotAcc.BATCH_SIZE];
+  /** The values of the last batch read by {@link #readLongs} */
+  final long[] longs = new long[SlotAcc.BATCH_SIZE];
+  /** The values of the last batch read by {@link #readDoubles} */
+  final double[] doubles = new double[SlotAcc.BATCH_SIZE];
+
+  private LeafReaderContext readerContext;
+  private NumericDocValues docValues;
+  private int lastDoc; // the last document of the last batch read
+
+  private NumericFieldValues(String field, Type type) {
+    this.field = field;
+    this.type = type;
+  }
+
+  /**
+   * Returns the reader of the values of the given source, or null if it is not the source of a single-valued
+   * numeric field.
+   */
+  static NumericFieldValues create(ValueSource vs) {
+    // exact classes only: the multi-valued and date sources extend them
+    final Class<?> clazz = vs.getClass();
+    final Type type;
+    if (clazz == IntFieldSource.class) {
+      type = Type.INT;
+    } else if (clazz == LongFieldSource.class) {
+      type = Type.LONG;
+    } else if (clazz == FloatFieldSource.class) {
+      type = Type.FLOAT;
+    } else if (clazz == DoubleFieldSource.class) {
+      type = Type.DOUBLE;
+    } else {
+      return null;
+    }
+    return new NumericFieldValues(((FieldCacheSource) vs).getField(), type);
+  }
+
+  /** Whether the values of the field are integers, which can be read with {@link #readLongs} */
+  boolean isIntegral() {
+    return type == Type.INT || type == Type.LONG;
+  }
+
+  /**
+   * Reads the values of the given documents of a segment, in increasing order, in {@link #longs} and their
+   * slots in {@link #slots}.  The field must be {@link #isIntegral integral}.
+   *
+   * @return the number of the documents that have a value
+   */
+  int readLongs(LeafReaderContext ctx, int[] docs, int[] docSlots, int count) throws IOException {
+    assert isIntegral();
+    final int num = read(ctx, docs, docSlots, count);
+    if (type == Type.INT) {
+      for (int i = 0; i < num; i++) {
+        longs[i] = (int) longs[i];
+      }
+    }
+    return num;
+  }
+
+  /**
+   * Reads the values of the given documents of a segment, in increasing order, in {@link #doubles} and their
+   * slots in {@link #slots}.
+   *
+   * @return the number of the documents that have a value
+   */
+  int readDoubles(LeafReaderContext ctx, int[] docs, int[] docSlots, int count) throws IOException {
+    final int num = read(ctx, docs, docSlots, count);
+    for (int i = 0; i < num; i++) {
+      doubles[i] = toDouble(longs[i]);
+    }
+    return num;
+  }
+
+  private double toDouble(long bits) {
+    switch (type) {
+      case INT: return (int) bits;
+      case LONG: return bits;
+      case FLOAT: return Float.intBitsToFloat((int) bits);
+      default: return Double.longBitsToDouble(bits);
+    }
+  }
+
+  /** Reads the raw values of the documents in {@link #longs} */
+  private int read(LeafReaderContext ctx, int[] docs, int[] docSlots, int count) throws IOException {
+    if (count == 0) return 0;
+    if (ctx != readerContext || docs[0] < lastDoc) {
+      // a new segment, or the same one again (when an accumulator is reused), so the iterator can't be advanced
+      readerContext = ctx;
+      docValues = DocValues.getNumeric(ctx.reader(), field);
+      lastDoc = -1;
+    }
+    final NumericDocValues docValues = this.docValues;
+    int num = 0;
+    int valueDoc = docValues.docID();
+    for (int i = 0; i < count; i++) {
+      final int doc = docs[i];
+      if (valueDoc < doc) {
+        valueDoc = docValues.advance(doc);
+      }
+      if (valueDoc == doc) { // a document is repeated when it has several values of a multi-valued facet field
+        longs[num] = docValues.longValue();
+        slots[num++] = docSlots[i];
+      }
+    }
+    lastDoc = docs[count - 1];
+    return num;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search.facet;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.solr.search.CacheRegenerator;
+import org.apache.solr.search.SolrCache;
+import org.apache.solr.search.SolrIndexSearcher;
+
+/**
+ * Cache regenerator of the {@link FacetFieldProcessorByArrayDV#CACHE_NAME} cache, which populates the new cache
+ * with the counts of the segments that the new searcher still has, and drops the others.
+ */
+public class SegCountsRegenerator implements CacheRegenerator {
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Override
+  public boolean regenerateItem(SolrIndexSearcher newSearcher, SolrCache newCache, SolrCache oldCache, Object oldKey, Object oldVal) {
+    if (oldKey instanceof FacetFieldProcessorByArrayDV.SegCountsKey
+        && hasReader(newSearcher, ((FacetFieldProcessorByArrayDV.SegCountsKey) oldKey).readerKey)) {
+      newCache.put(oldKey, oldVal);
+    }
+    return true;
+  }
+
+  private static boolean hasReader(SolrIndexSearcher searcher, IndexReader.CacheKey readerKey) {
+    for (LeafReaderContext leaf : searcher.getTopReaderContext().leaves()) {
+      IndexReader.CacheHelper cacheHelper = leaf.reader().getReaderCacheHelper();
+      if (cacheHelper != null && cacheHelper.getKey() == readerKey) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
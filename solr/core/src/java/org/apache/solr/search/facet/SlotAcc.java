@@ -43,6 +43,9 @@ import org.apache.solr.search.SolrIndexSearcher;
  * Sometimes there doesn't need to be a slot distinction, in which case there is just one nominal slot.
  */
 public abstract class SlotAcc implements Closeable {
+  /** The maximum number of documents that are collected at once by {@link #collect(int[],int[],int,IntFunction)} */
+  static final int BATCH_SIZE = 128;
+
   String key; // todo...
   protected final FacetContext fcontext;
   protected LeafReaderContext currentReaderContext;
@@ -82,7 +85,25 @@ public abstract class SlotAcc implements Closeable {
   public abstract void collect(int doc, int slot, IntFunction<SlotContext> slotContext) throws IOException;
 
   /**
-   * Bulk collection of all documents in a slot.  The default implementation calls {@link #collect(int,int,IntFunction)}
+   * Collects a batch of documents of the current segment, in increasing order, each in its own slot.
+   * The default implementation calls {@link #collect(int,int,IntFunction)} for each document, accumulators
+   * of the values of a numeric field override it to read the values of the whole batch at once.
+   *
+   * @param docs Single Segment docIds, in increasing order (a document is repeated for each of its slots)
+   * @param slots The slot number to collect each document in
+   * @param count The number of documents to collect
+   * @param slotContext A callback that can be used for Accumulators that would like additional info
+   *        about a slot -- the {@link SlotContext} returned is only valid for the duration of the
+   *        <code>collect()</code> call.
+   */
+  public void collect(int[] docs, int[] slots, int count, IntFunction<SlotContext> slotContext) throws IOException {
+    for (int i = 0; i < count; i++) {
+      collect(docs[i], slots[i], slotContext);
+    }
+  }
+
+  /**
+   * Bulk collection of all documents in a slot.  The default implementation calls {@link #collect(int[],int[],int,IntFunction)}
    *
    * @param docs (global) Documents to collect
    * @param slot The slot number to collect these documents in
@@ -94,6 +115,7 @@ public abstract class SlotAcc implements Closeable {
   public int collect(DocSet docs, int slot, IntFunction<SlotContext> slotContext) throws IOException {
     int count = 0;
     SolrIndexSearcher searcher = fcontext.searcher;
+    final Batch batch = new Batch(new SlotAcc[] {this}, slotContext);
 
     final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
     final Iterator<LeafReaderContext> ctxIt = leaves.iterator();
@@ -115,11 +137,13 @@ public abstract class SlotAcc implements Closeable {
           adjustedMax = segBase + segMax;
         } while (doc >= adjustedMax);
         assert doc >= ctx.docBase;
+        batch.flush();
         setNextReader(ctx);
       }
       count++;
-      collect(doc - segBase, slot, slotContext); // per-seg collectors
+      batch.add(doc - segBase, slot); // per-seg collectors
     }
+    batch.flush();
     return count;
   }
 
@@ -236,6 +260,40 @@ public abstract class SlotAcc implements Closeable {
 
   } // end class Resizer
 
+  /**
+   * Buffers documents of a segment and their slots, to collect them with
+   * {@link #collect(int[],int[],int,IntFunction)} once {@link #BATCH_SIZE} are buffered.
+   * {@link #flush} must be called before moving to the next segment.
+   */
+  static final class Batch {
+    final SlotAcc[] accs;
+    final IntFunction<SlotContext> slotContext;
+    final int[] docs = new int[BATCH_SIZE];
+    final int[] slots = new int[BATCH_SIZE];
+    int count;
+
+    Batch(SlotAcc[] accs, IntFunction<SlotContext> slotContext) {
+      this.accs = accs;
+      this.slotContext = slotContext;
+    }
+
+    void add(int doc, int slot) throws IOException {
+      docs[count] = doc;
+      slots[count] = slot;
+      if (++count == BATCH_SIZE) {
+        flush();
+      }
+    }
+
+    void flush() throws IOException {
+      if (count == 0) return;
+      for (SlotAcc acc : accs) {
+        acc.collect(docs, slots, count, slotContext);
+      }
+      count = 0;
+    }
+  }
+
   /**
    * Incapsulates information about the current slot, for Accumulators that may want 
    * additional info during collection.
@@ -256,10 +314,12 @@ public abstract class SlotAcc implements Closeable {
 abstract class FuncSlotAcc extends SlotAcc {
   protected final ValueSource valueSource;
   protected FunctionValues values;
+  final NumericFieldValues fieldValues; // to read batches of values, null if valueSource isn't a numeric field
 
   public FuncSlotAcc(ValueSource values, FacetContext fcontext, int numSlots) {
     super(fcontext);
     this.valueSource = values;
+    this.fieldValues = NumericFieldValues.create(values);
   }
 
   @Override
@@ -390,6 +450,20 @@ class SumSlotAcc extends DoubleFuncSlotAcc {
     double val = values.doubleVal(doc); // todo: worth trying to share this value across multiple stats that need it?
     result[slotNum] += val;
   }
+
+  @Override
+  public void collect(int[] docs, int[] slots, int count, IntFunction<SlotContext> slotContext) throws IOException {
+    if (fieldValues == null) {
+      super.collect(docs, slots, count, slotContext);
+      return;
+    }
+    final int num = fieldValues.readDoubles(currentReaderContext, docs, slots, count);
+    final double[] vals = fieldValues.doubles;
+    final int[] valSlots = fieldValues.slots;
+    for (int i = 0; i < num; i++) {
+      result[valSlots[i]] += vals[i]; // documents without a value would add 0
+    }
+  }
 }
 
 class SumsqSlotAcc extends DoubleFuncSlotAcc {
@@ -431,6 +505,21 @@ class AvgSlotAcc extends DoubleFuncSlotAcc {
     }
   }
 
+  @Override
+  public void collect(int[] docs, int[] slots, int count, IntFunction<SlotContext> slotContext) throws IOException {
+    if (fieldValues == null) {
+      super.collect(docs, slots, count, slotContext);
+      return;
+    }
+    final int num = fieldValues.readDoubles(currentReaderContext, docs, slots, count);
+    final double[] vals = fieldValues.doubles;
+    final int[] valSlots = fieldValues.slots;
+    for (int i = 0; i < num; i++) {
+      result[valSlots[i]] += vals[i];
+      counts[valSlots[i]] += 1;
+    }
+  }
+
   private double avg(double tot, int count) {
     return count == 0 ? 0 : tot / count; // returns 0 instead of NaN.. todo - make configurable? if NaN, we need to
                                          // handle comparisons though...
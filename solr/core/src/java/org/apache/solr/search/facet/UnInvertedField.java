@@ -19,6 +19,7 @@ package org.apache.solr.search.facet;
 import java.io.Closeable;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -37,11 +38,13 @@ import org.apache.lucene.util.FixedBitSet;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrException.ErrorCode;
 import org.apache.solr.index.SlowCompositeReaderWrapper;
+import org.apache.solr.request.SolrRequestInfo;
 import org.apache.solr.schema.FieldType;
 import org.apache.solr.schema.TrieField;
 import org.apache.solr.search.BitDocSet;
 import org.apache.solr.search.DocIterator;
 import org.apache.solr.search.DocSet;
+import org.apache.solr.search.RoaringDocSet;
 import org.apache.solr.search.SolrCache;
 import org.apache.solr.search.SolrIndexSearcher;
 import org.apache.solr.search.facet.SlotAcc.SlotContext;
@@ -187,7 +190,8 @@ public class UnInvertedField extends DocTermOrds {
         // the threshold even when the index is very
         // small.
         searcher.maxDoc()/20 + 2,
-        DEFAULT_INDEX_INTERVAL_BITS);
+        DEFAULT_INDEX_INTERVAL_BITS,
+        searcher.getCore().getSolrConfig().uninvertedFieldOffHeap);
 
     assert TestInjection.injectUIFOutOfMemoryError();
 
@@ -202,9 +206,9 @@ public class UnInvertedField extends DocTermOrds {
       throw new SolrException(SolrException.ErrorCode.BAD_REQUEST, ise);
     }
     if (tnums != null) {
-      for(byte[] target : tnums) {
-        if (target != null && target.length > (1<<24)*.9) {
-          log.warn("Approaching too many values for UnInvertedField faceting on field '"+field+"' : bucket size=" + target.length);
+      for(ByteBuffer target : tnums) {
+        if (target != null && target.capacity() > (1<<24)*.9) {
+          log.warn("Approaching too many values for UnInvertedField faceting on field '"+field+"' : bucket size=" + target.capacity());
         }
       }
     }
@@ -270,12 +274,12 @@ public class UnInvertedField extends DocTermOrds {
         if ((code & 0x80000000)!=0) {
           int pos = code & 0x7fffffff;
           int whichArray = (doc >>> 16) & 0xff;
-          byte[] arr = tnums[whichArray];
+          ByteBuffer arr = tnums[whichArray];
           int tnum = 0;
           for(;;) {
             int delta = 0;
             for(;;) {
-              byte b = arr[pos++];
+              byte b = arr.get(pos++);
               delta = (delta << 7) | (b & 0x7f);
               if ((b & 0x80) == 0) break;
             }
@@ -326,10 +330,13 @@ public class UnInvertedField extends DocTermOrds {
 
     final int[] index = this.index;
 
-    boolean doNegative = baseSize > maxDoc >> 1 && termInstances > 0 && docs instanceof BitDocSet;
+    boolean doNegative = baseSize > maxDoc >> 1 && termInstances > 0
+        && (docs instanceof BitDocSet || docs instanceof RoaringDocSet);
 
     if (doNegative) {
-      FixedBitSet bs = ((BitDocSet) docs).getBits().clone();
+      FixedBitSet bs = docs instanceof BitDocSet
+          ? ((BitDocSet) docs).getBits().clone()
+          : ((RoaringDocSet) docs).toBitDocSet().getBits();
       bs.flip(0, maxDoc);
       // TODO: when iterator across negative elements is available, use that
       // instead of creating a new bitset and inverting.
@@ -356,12 +363,12 @@ public class UnInvertedField extends DocTermOrds {
         if ((code & 0x80000000)!=0) {
           int pos = code & 0x7fffffff;
           int whichArray = (doc >>> 16) & 0xff;
-          byte[] arr = tnums[whichArray];
+          ByteBuffer arr = tnums[whichArray];
           int tnum = 0;
           for (; ; ) {
             int delta = 0;
             for (; ; ) {
-              byte b = arr[pos++];
+              byte b = arr.get(pos++);
               delta = (delta << 7) | (b & 0x7f);
               if ((b & 0x80) == 0) break;
             }
@@ -480,12 +487,12 @@ public class UnInvertedField extends DocTermOrds {
         if ((code & 0x80000000)!=0) {
           int pos = code & 0x7fffffff;
           int whichArray = (doc >>> 16) & 0xff;
-          byte[] arr = tnums[whichArray];
+          ByteBuffer arr = tnums[whichArray];
           int tnum = 0;
           for(;;) {
             int delta = 0;
             for(;;) {
-              byte b = arr[pos++];
+              byte b = arr.get(pos++);
               delta = (delta << 7) | (b & 0x7f);
               if ((b & 0x80) == 0) break;
             }
@@ -548,6 +555,7 @@ public class UnInvertedField extends DocTermOrds {
     final long indexSize = indexedTermsArray == null ? 0 : (8+8+8+8+(indexedTermsArray.length<<3)+sizeOfIndexedStrings); // assume 8 byte references?
     return "{field=" + field
         + ",memSize="+memSize()
+        + ",offHeapSize="+offHeapBytesUsed()
         + ",tindexSize="+indexSize
         + ",time="+total_time
         + ",phase1="+phase1_time
@@ -562,11 +570,20 @@ public class UnInvertedField extends DocTermOrds {
   //////////////////////////// caching /////////////////////////////
   //////////////////////////////////////////////////////////////////
 
+  /**
+   * Returns the uninverted field of the searcher, from its fieldValueCache if possible.
+   * If its term ords are held in direct memory, a reference is taken for the current request,
+   * so that they are not freed before the request ends.
+   */
   @SuppressWarnings("unchecked")
   public static UnInvertedField getUnInvertedField(String field, SolrIndexSearcher searcher) throws IOException {
     SolrCache cache = searcher.getFieldValueCache();
     if (cache == null) {
-      return new UnInvertedField(field, searcher);
+      UnInvertedField uif = acquire(new UnInvertedField(field, searcher));
+      if (uif.offHeap) {
+        searcher.registerOffHeapField(field, uif);
+      }
+      return uif;
     }
 
     Boolean doWait = false;
@@ -581,7 +598,7 @@ public class UnInvertedField extends DocTermOrds {
         cache.put(field, uifPlaceholder);
       } else {
         if (val != uifPlaceholder) {
-          return (UnInvertedField) val;
+          return acquire((UnInvertedField) val);
         }
         doWait = true; // Someone else has put the place holder in, wait for that to complete.
       }
@@ -594,7 +611,7 @@ public class UnInvertedField extends DocTermOrds {
             if (val instanceof Throwable) {
               rethrowAsSolrException(field, (Throwable) val);
             } else {
-              return (UnInvertedField) val;
+              return acquire((UnInvertedField) val);
             }
           }
           cache.wait();
@@ -615,8 +632,24 @@ public class UnInvertedField extends DocTermOrds {
       rethrowAsSolrException(field, e);
     }
     synchronized (cache) {
+      if (uif.offHeap) {
+        // under the lock, so that a previous one evicted from the cache is not released while it is acquired
+        searcher.registerOffHeapField(field, uif);
+      }
       cache.put(field, uif); // Note, this cleverly replaces the placeholder.
       cache.notifyAll();
+      return acquire(uif);
+    }
+  }
+
+  // takes a reference released at the end of the current request if the term ords are in direct memory
+  private static UnInvertedField acquire(UnInvertedField uif) {
+    if (uif.offHeap) {
+      final SolrRequestInfo requestInfo = SolrRequestInfo.getRequestInfo();
+      if (requestInfo != null) {
+        uif.incRef();
+        requestInfo.addCloseHook(uif::decRef);
+      }
     }
     return uif;
   }
@@ -626,7 +659,7 @@ public class UnInvertedField extends DocTermOrds {
             "Exception occurs during uninverting "+field, e);
   }
 
-  // Returns null if not already populated
+  // Returns null if not already populated, does not take a reference
   @SuppressWarnings({"rawtypes", "unchecked"})
   public static UnInvertedField checkUnInvertedField(String field, SolrIndexSearcher searcher) throws IOException {
     SolrCache cache = searcher.getFieldValueCache();
@@ -279,7 +279,8 @@ public class GraphQuery extends Query {
 
     @Override
     public boolean isCacheable(LeafReaderContext ctx) {
-      return true;
+      // the docs that match in a segment depend on the traversal of the whole index
+      return false;
     }
 
     @Override
@@ -236,7 +236,11 @@ public class PKIAuthenticationPlugin extends AuthenticationPlugin implements Htt
         }
         if (!cores.getAuthenticationPlugin().interceptInternodeRequest(request)) {
           log.debug("{} secures this internode request", this.getClass().getSimpleName());
-          generateToken().ifPresent(s -> request.header(HEADER, myNodeName + " " + s));
+          // requests sent again to another replica are queued by a thread of the client, which has no request info
+          Object principal = request.getAttributes().get(Http2SolrClient.REQ_PRINCIPAL_KEY);
+          Optional<String> token = getRequestInfo() == null && principal instanceof Principal
+              ? generateToken(((Principal) principal).getName()) : generateToken();
+          token.ifPresent(s -> request.header(HEADER, myNodeName + " " + s));
         } else {
           log.debug("{} secures this internode request", cores.getAuthenticationPlugin().getClass().getSimpleName());
         }
@@ -275,7 +279,6 @@ public class PKIAuthenticationPlugin extends AuthenticationPlugin implements Htt
     }
   }
 
-  @SuppressForbidden(reason = "Needs currentTimeMillis to set current time in header")
   private Optional<String> generateToken() {
     SolrRequestInfo reqInfo = getRequestInfo();
     String usr;
@@ -299,6 +302,11 @@ public class PKIAuthenticationPlugin extends AuthenticationPlugin implements Htt
       usr = "$"; //special name to denote the user is the node itself
     }
 
+    return generateToken(usr);
+  }
+
+  @SuppressForbidden(reason = "Needs currentTimeMillis to set current time in header")
+  private Optional<String> generateToken(String usr) {
     String s = usr + " " + System.currentTimeMillis();
 
     byte[] payload = s.getBytes(UTF_8);
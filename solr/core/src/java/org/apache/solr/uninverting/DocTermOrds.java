@@ -17,10 +17,18 @@
 package org.apache.solr.uninverting;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.index.DocValues;
@@ -38,6 +46,7 @@ import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PagedBytes;
 import org.apache.lucene.util.StringHelper;
+import org.apache.solr.common.util.SuppressForbidden;
 
 /**
  * This class enables fast access to multiple term ords for
@@ -119,6 +128,10 @@ public class DocTermOrds implements Accountable {
   /** Every 128th term is indexed, by default. */
   public final static int DEFAULT_INDEX_INTERVAL_BITS = 7; // decrease to a low number like 2 for testing
 
+  // frees a direct ByteBuffer without waiting for it to be garbage collected, null if not supported
+  private static final MethodHandle INVOKE_CLEANER = AccessController.doPrivileged(
+      (PrivilegedAction<MethodHandle>) DocTermOrds::lookupInvokeCleaner);
+
   private int indexIntervalBits;
   private int indexIntervalMask;
   private int indexInterval;
@@ -145,8 +158,16 @@ public class DocTermOrds implements Accountable {
   /** Holds the per-document ords or a pointer to the ords. */
   protected int[] index;
 
-  /** Holds term ords for documents. */
-  protected byte[][] tnums = new byte[256][];
+  /**
+   * Whether the term ords of documents that do not fit in {@link #index} are held in direct memory
+   * rather than on the heap. They are then freed when the last reference is released with {@link #decRef()}.
+   */
+  protected final boolean offHeap;
+
+  private final AtomicInteger refCount = new AtomicInteger(1);
+
+  /** Holds term ords for documents, on the heap or in direct memory. */
+  protected ByteBuffer[] tnums = new ByteBuffer[256];
 
   /** Total bytes (sum of term lengths) for all indexed terms.*/
   protected long sizeOfIndexedStrings;
@@ -174,7 +195,7 @@ public class DocTermOrds implements Accountable {
   protected boolean checkForDocValues = true;
 
   // TODO: Why is indexedTermsArray not part of this?
-  /** Returns total bytes used. */
+  /** Returns total bytes used on the heap. */
   @Override
   public long ramBytesUsed() {
     // can cache the mem size since it shouldn't change
@@ -182,8 +203,8 @@ public class DocTermOrds implements Accountable {
     long sz = 8*8 + 32; // local fields
     if (index != null) sz += index.length * 4;
     if (tnums!=null) {
-      for (byte[] arr : tnums)
-        if (arr != null) sz += arr.length;
+      for (ByteBuffer arr : tnums)
+        if (arr != null && !arr.isDirect()) sz += arr.capacity();
     }
     if (indexedTermsArray != null) {
       // assume 8 byte references?
@@ -193,6 +214,50 @@ public class DocTermOrds implements Accountable {
     return sz;
   }
 
+  /** Returns the bytes used in direct memory, which is 0 once they are freed. */
+  public long offHeapBytesUsed() {
+    long sz = 0;
+    final ByteBuffer[] tnums = this.tnums;
+    if (tnums!=null) {
+      for (ByteBuffer arr : tnums)
+        if (arr != null && arr.isDirect()) sz += arr.capacity();
+    }
+    return sz;
+  }
+
+  /**
+   * Takes a reference, which must be released with {@link #decRef()}.
+   * @throws IllegalStateException if the last reference was already released
+   */
+  public void incRef() {
+    int count;
+    do {
+      count = refCount.get();
+      if (count <= 0) {
+        throw new IllegalStateException("the term ords of field '" + field + "' were already freed");
+      }
+    } while (!refCount.compareAndSet(count, count + 1));
+  }
+
+  /**
+   * Releases a reference. The creator holds the first one, and once the last one is released the
+   * term ords held in direct memory, if any, are freed, after which this must not be used anymore.
+   */
+  public void decRef() {
+    final int count = refCount.decrementAndGet();
+    if (count == 0 && offHeap) {
+      final ByteBuffer[] tnums = this.tnums;
+      this.tnums = null;
+      if (tnums != null) {
+        for (ByteBuffer arr : tnums) {
+          if (arr != null) free(arr);
+        }
+      }
+    } else if (count < 0) {
+      throw new IllegalStateException("too many decRef calls for the term ords of field '" + field + "'");
+    }
+  }
+
   /** Inverts all terms. */
   public DocTermOrds(LeafReader reader, Bits liveDocs, String field) throws IOException {
     this(reader, liveDocs, field, null, Integer.MAX_VALUE);
@@ -224,8 +289,16 @@ public class DocTermOrds implements Accountable {
   /** Subclass inits w/ this, but be sure you then call
    *  uninvert, only once */
   protected DocTermOrds(String field, int maxTermDocFreq, int indexIntervalBits) {
+    this(field, maxTermDocFreq, indexIntervalBits, false);
+  }
+
+  /** Subclass inits w/ this, but be sure you then call
+   *  uninvert, only once.  If offHeap is true, the term ords
+   *  are held in direct memory, freed by {@link #decRef()} */
+  protected DocTermOrds(String field, int maxTermDocFreq, int indexIntervalBits, boolean offHeap) {
     //System.out.println("DTO init field=" + field + " maxTDFreq=" + maxTermDocFreq);
     this.field = field;
+    this.offHeap = offHeap;
     this.maxTermDocFreq = maxTermDocFreq;
     this.indexIntervalBits = indexIntervalBits;
     indexIntervalMask = 0xffffffff >>> (32-indexIntervalBits);
@@ -468,70 +541,105 @@ public class DocTermOrds implements Accountable {
       //
       // transform intermediate form into the final form, building a single byte[]
       // at a time, and releasing the intermediate byte[]s as we go to avoid
-      // increasing the memory footprint.
+      // increasing the memory footprint.  When the final form is off-heap, it is
+      // built in a direct scratch buffer reused by all passes instead of a byte[].
       //
 
-      for (int pass = 0; pass<256; pass++) {
-        byte[] target = tnums[pass];
-        int pos=0;  // end in target;
-        if (target != null) {
-          pos = target.length;
-        } else {
-          target = new byte[4096];
-        }
+      byte[] target = null;
+      ByteBuffer scratch = null;
+      try {
+        for (int pass = 0; pass<256; pass++) {
+          int pos=0;  // end in target;
+          if (offHeap) {
+            if (scratch == null) {
+              scratch = ByteBuffer.allocateDirect(4096);
+            }
+          } else {
+            target = new byte[4096];
+          }
 
-        // loop over documents, 0x00ppxxxx, 0x01ppxxxx, 0x02ppxxxx
-        // where pp is the pass (which array we are building), and xx is all values.
-        // each pass shares the same byte[] for termNumber lists.
-        for (int docbase = pass<<16; docbase<maxDoc; docbase+=(1<<24)) {
-          int lim = Math.min(docbase + (1<<16), maxDoc);
-          for (int doc=docbase; doc<lim; doc++) {
-            //System.out.println("  pass=" + pass + " process docID=" + doc);
-            int val = index[doc];
-            if ((val & 0x80000000) != 0) {
-              int len = val & 0x7fffffff;
-              //System.out.println("    ptr pos=" + pos);
-              //index[doc] = (pos<<8)|1; // change index to point to start of array
-              index[doc] = pos | 0x80000000; // change index to point to start of array
-              byte[] arr = bytes[doc];
-              /*
-              for(byte b : arr) {
-                //System.out.println("      b=" + Integer.toHexString((int) b));
-              }
-              */
-              bytes[doc] = null;        // IMPORTANT: allow GC to avoid OOM
-              if (target.length <= pos + len) {
-                int newlen = target.length;
-                while (newlen <= pos + len) {
-                  if ((newlen<<=1) < 0) { // Double until overflow
-                    newlen = Integer.MAX_VALUE - 16; // ArrayList.MAX_ARRAY_SIZE says 8. We double that to be sure
-                    if (newlen <= pos + len) {
-                      throw new IllegalStateException(
-                          "Too many terms (> Integer.MAX_VALUE-16) to uninvert field '" + field + "'");
+          // loop over documents, 0x00ppxxxx, 0x01ppxxxx, 0x02ppxxxx
+          // where pp is the pass (which array we are building), and xx is all values.
+          // each pass shares the same byte[] for termNumber lists.
+          for (int docbase = pass<<16; docbase<maxDoc; docbase+=(1<<24)) {
+            int lim = Math.min(docbase + (1<<16), maxDoc);
+            for (int doc=docbase; doc<lim; doc++) {
+              //System.out.println("  pass=" + pass + " process docID=" + doc);
+              int val = index[doc];
+              if ((val & 0x80000000) != 0) {
+                int len = val & 0x7fffffff;
+                //System.out.println("    ptr pos=" + pos);
+                //index[doc] = (pos<<8)|1; // change index to point to start of array
+                index[doc] = pos | 0x80000000; // change index to point to start of array
+                byte[] arr = bytes[doc];
+                /*
+                for(byte b : arr) {
+                  //System.out.println("      b=" + Integer.toHexString((int) b));
+                }
+                */
+                bytes[doc] = null;        // IMPORTANT: allow GC to avoid OOM
+                int length = offHeap ? scratch.capacity() : target.length;
+                if (length <= pos + len) {
+                  int newlen = length;
+                  while (newlen <= pos + len) {
+                    if ((newlen<<=1) < 0) { // Double until overflow
+                      newlen = Integer.MAX_VALUE - 16; // ArrayList.MAX_ARRAY_SIZE says 8. We double that to be sure
+                      if (newlen <= pos + len) {
+                        throw new IllegalStateException(
+                            "Too many terms (> Integer.MAX_VALUE-16) to uninvert field '" + field + "'");
+                      }
                     }
                   }
+                  if (offHeap) {
+                    ByteBuffer newscratch = ByteBuffer.allocateDirect(newlen);
+                    scratch.position(0);
+                    scratch.limit(pos);
+                    newscratch.put(scratch);
+                    free(scratch);
+                    scratch = newscratch;
+                  } else {
+                    byte[] newtarget = new byte[newlen];
+                    System.arraycopy(target, 0, newtarget, 0, pos);
+                    target = newtarget;
+                  }
+                }
+                if (offHeap) {
+                  scratch.position(pos);
+                  scratch.put(arr, 0, len);
+                  scratch.put((byte) 0); // terminator, the scratch buffer is reused
+                } else {
+                  System.arraycopy(arr, 0, target, pos, len);
                 }
-                byte[] newtarget = new byte[newlen];
-                System.arraycopy(target, 0, newtarget, 0, pos);
-                target = newtarget;
+                pos += len + 1;  // skip single byte at end and leave it 0 for terminator
               }
-              System.arraycopy(arr, 0, target, pos, len);
-              pos += len + 1;  // skip single byte at end and leave it 0 for terminator
             }
           }
-        }
 
-        // shrink array
-        if (pos < target.length) {
-          byte[] newtarget = new byte[pos];
-          System.arraycopy(target, 0, newtarget, 0, pos);
-          target = newtarget;
-        }
-        
-        tnums[pass] = target;
+          if (offHeap) {
+            // copy to a buffer of the exact size
+            ByteBuffer buffer = ByteBuffer.allocateDirect(pos);
+            scratch.position(0);
+            scratch.limit(pos);
+            buffer.put(scratch);
+            scratch.clear();
+            tnums[pass] = buffer;
+          } else {
+            // shrink array
+            if (pos < target.length) {
+              byte[] newtarget = new byte[pos];
+              System.arraycopy(target, 0, newtarget, 0, pos);
+              target = newtarget;
+            }
+            tnums[pass] = ByteBuffer.wrap(target);
+          }
 
-        if ((pass << 16) > maxDoc)
-          break;
+          if ((pass << 16) > maxDoc)
+            break;
+        }
+      } finally {
+        if (scratch != null) {
+          free(scratch);
+        }
       }
 
     }
@@ -770,7 +878,7 @@ public class DocTermOrds implements Accountable {
     private int doc = -1;
     private int tnum;
     private int upto;
-    private byte[] arr;
+    private ByteBuffer arr;
     
     Iterator(LeafReader reader) throws IOException {
       this.reader = reader;
@@ -817,7 +925,7 @@ public class DocTermOrds implements Accountable {
         for(;;) {
           int delta = 0;
           for(;;) {
-            byte b = arr[upto++];
+            byte b = arr.get(upto++);
             delta = (delta << 7) | (b & 0x7f);
             //System.out.println("    cycle: upto=" + upto + " delta=" + delta + " b=" + b);
             if ((b & 0x80) == 0) break;
@@ -927,4 +1035,28 @@ public class DocTermOrds implements Accountable {
       }
     }
   }
+
+  @SuppressForbidden(reason = "Needs access to sun.misc.Unsafe to free direct memory before garbage collection")
+  private static MethodHandle lookupInvokeCleaner() {
+    try {
+      final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      final MethodHandle invokeCleaner = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+          MethodType.methodType(void.class, ByteBuffer.class));
+      final Field f = unsafeClass.getDeclaredField("theUnsafe");
+      f.setAccessible(true);
+      return invokeCleaner.bindTo(f.get(null));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null; // the direct memory is then freed by the garbage collector
+    }
+  }
+
+  private static void free(ByteBuffer buffer) {
+    if (INVOKE_CLEANER != null) {
+      try {
+        INVOKE_CLEANER.invokeExact(buffer);
+      } catch (Throwable t) {
+        throw new IllegalStateException("Unable to free direct memory", t);
+      }
+    }
+  }
 }
@@ -390,6 +390,7 @@ public class CdcrTransactionLog extends TransactionLog {
       os = Channels.newOutputStream(channel);
       fos = new FastOutputStream(os, new byte[65536], 0);
       fos.setWritten(start);    // reflect that we aren't starting at the beginning
+      flushedSize = start;
     } catch (IOException e) {
       throw new SolrException(SolrException.ErrorCode.SERVER_ERROR, e);
     }
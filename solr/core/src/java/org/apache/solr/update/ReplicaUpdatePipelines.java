@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.update;
+
+import java.io.Closeable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.apache.solr.client.solrj.impl.Http2SolrClient;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.ModifiableSolrParams;
+import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.common.util.ExecutorUtil;
+import org.apache.solr.common.util.NamedList;
+import org.apache.solr.common.util.SolrjNamedThreadFactory;
+import org.apache.solr.metrics.MetricsMap;
+import org.apache.solr.update.processor.DistributedUpdateProcessor.DistribPhase;
+import org.apache.solr.update.processor.DistributingUpdateProcessorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Forwards the updates of the leaders of this node to their replicas in batches, which coalesce the updates of
+ * all of the concurrent requests to a replica, instead of streaming the updates of each request separately.
+ * <p>
+ * The updates to a replica are queued, and sent as soon as fewer than a maximum number of batches are in flight
+ * to it, so a batch is as large as the updates which were queued while the previous ones were processed, up to a
+ * maximum size: an update is not delayed when a replica keeps up, and the batches grow when it does not.  With
+ * several batches in flight, a replica may apply the updates of a batch before those of a previous one, which the
+ * versions of the updates resolve like any other reordering.
+ */
+public class ReplicaUpdatePipelines implements Closeable {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final Http2SolrClient httpClient;
+  private final int batchSize;
+  private final int maxBatchesInFlight;
+  private final ExecutorService executor = ExecutorUtil.newMDCAwareCachedThreadPool(
+      new SolrjNamedThreadFactory("replicaUpdatePipeline"));
+  private final Map<String,Pipeline> pipelines = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /**
+   * @param batchSize the maximum number of updates sent to a replica in a request
+   * @param maxBatchesInFlight the maximum number of requests sent to a replica that are not answered yet
+   */
+  public ReplicaUpdatePipelines(Http2SolrClient httpClient, int batchSize, int maxBatchesInFlight) {
+    this.httpClient = httpClient;
+    this.batchSize = batchSize;
+    this.maxBatchesInFlight = Math.max(1, maxBatchesInFlight);
+  }
+
+  /**
+   * Whether an update request can be coalesced with others: only the adds and deletes by id that leaders forward
+   * to their replicas are, as other requests may fail or wait for reasons specific to them.
+   */
+  static boolean canPipeline(SolrCmdDistributor.Req req) {
+    UpdateRequest uReq = req.uReq;
+    if (req.synchronous || uReq.getParams() == null || uReq.getAction() != null
+        || (uReq.getDeleteQuery() != null && !uReq.getDeleteQuery().isEmpty())) {
+      return false;
+    }
+    boolean adds = uReq.getDocumentsMap() != null && !uReq.getDocumentsMap().isEmpty();
+    boolean deletes = uReq.getDeleteByIdMap() != null && !uReq.getDeleteByIdMap().isEmpty();
+    return adds != deletes && DistribPhase.FROMLEADER.toString().equals(
+        uReq.getParams().get(DistributingUpdateProcessorFactory.DISTRIB_UPDATE_PARAM));
+  }
+
+  /**
+   * Queues an update request to a replica, waiting for space in the queue if the replica lags behind.
+   *
+   * @param listener notified once the batch including the request is answered, by a thread of the http client
+   */
+  public void submit(SolrCmdDistributor.Req req, AsyncListener<NamedList<Object>> listener)
+      throws InterruptedException {
+    if (closed) {
+      listener.onFailure(new SolrException(SolrException.ErrorCode.SERVICE_UNAVAILABLE,
+          "Replica update pipelines are closed"));
+      return;
+    }
+    Pipeline pipeline = pipelines.computeIfAbsent(req.node.getUrl(), Pipeline::new);
+    pipeline.offer(new Item(req, listener));
+  }
+
+  /** The statistics of the pipeline of each replica. */
+  MetricsMap getMetricsMap() {
+    return new MetricsMap((detailed, map) -> {
+      for (Pipeline pipeline : pipelines.values()) {
+        map.put(pipeline.url, pipeline.getStats());
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    // the senders may wait for a batch in flight to be answered
+    executor.shutdownNow();
+    ExecutorUtil.shutdownAndAwaitTermination(executor);
+    // the requests in flight are aborted by the http client
+    for (Pipeline pipeline : pipelines.values()) {
+      pipeline.failQueued();
+    }
+  }
+
+  private static class Item {
+    final SolrCmdDistributor.Req req;
+    final AsyncListener<NamedList<Object>> listener;
+    // the distributor may reuse the params for its next updates while this one is queued
+    final ModifiableSolrParams params;
+    final NamedList<Object> paramsList;
+    final long queuedNanos = System.nanoTime();
+
+    Item(SolrCmdDistributor.Req req, AsyncListener<NamedList<Object>> listener) {
+      this.req = req;
+      this.listener = listener;
+      this.params = new ModifiableSolrParams(req.uReq.getParams());
+      this.paramsList = params.toNamedList();
+    }
+
+    boolean isDelete() {
+      return req.uReq.getDeleteByIdMap() != null;
+    }
+
+    /** Whether the update can be sent to the replica in the same request as another. */
+    boolean canBatchWith(Item other) {
+      UpdateRequest uReq = req.uReq;
+      UpdateRequest otherReq = other.req.uReq;
+      return isDelete() == other.isDelete()
+          && Objects.equals(uReq.getCommitWithin(), otherReq.getCommitWithin())
+          && Objects.equals(uReq.getUserPrincipal(), otherReq.getUserPrincipal())
+          && paramsList.equals(other.paramsList);
+    }
+  }
+
+  private class Pipeline {
+    final String url;
+    final BlockingQueue<Item> queue;
+    final Semaphore batchesInFlight = new Semaphore(maxBatchesInFlight);
+    final AtomicBoolean sending = new AtomicBoolean();
+    // the time from queuing an update to its acknowledgement by the replica
+    final Timer lag = new Timer();
+    final Counter batches = new Counter();
+    final Counter failures = new Counter();
+
+    Pipeline(String url) {
+      this.url = url;
+      this.queue = new LinkedBlockingQueue<>(2 * batchSize);
+    }
+
+    void offer(Item item) throws InterruptedException {
+      queue.put(item);
+      startSending();
+    }
+
+    private void startSending() {
+      if (!closed && !queue.isEmpty() && sending.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::send);
+        } catch (RejectedExecutionException e) {
+          // closed meanwhile
+          sending.set(false);
+          failQueued();
+        }
+      }
+    }
+
+    void failQueued() {
+      Item item;
+      while ((item = queue.poll()) != null) {
+        item.listener.onFailure(new SolrException(SolrException.ErrorCode.SERVICE_UNAVAILABLE,
+            "Replica update pipelines are closed"));
+      }
+    }
+
+    private void send() {
+      try {
+        while (!closed) {
+          batchesInFlight.acquire();
+          List<Item> batch = pollBatch();
+          if (batch.isEmpty()) {
+            batchesInFlight.release();
+            break;
+          }
+          sendBatch(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        sending.set(false);
+      }
+      // an update may have been queued after the queue was found empty
+      startSending();
+    }
+
+    private List<Item> pollBatch() {
+      List<Item> batch = new ArrayList<>();
+      Item first = queue.poll();
+      if (first == null) {
+        return batch;
+      }
+      batch.add(first);
+      // this is the only thread polling the queue
+      Item next;
+      while (batch.size() < batchSize && (next = queue.peek()) != null && first.canBatchWith(next)) {
+        batch.add(queue.poll());
+      }
+      return batch;
+    }
+
+    private void sendBatch(List<Item> batch) {
+      UpdateRequest uReq = newBatchRequest(batch);
+      batches.inc();
+      try {
+        httpClient.asyncRequest(uReq, null, new AsyncListener<NamedList<Object>>() {
+          @Override
+          public void onSuccess(NamedList<Object> result) {
+            batchesInFlight.release();
+            long now = System.nanoTime();
+            for (Item item : batch) {
+              lag.update(now - item.queuedNanos, TimeUnit.NANOSECONDS);
+              item.listener.onSuccess(result);
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            batchesInFlight.release();
+            failures.inc();
+            for (Item item : batch) {
+              item.listener.onFailure(throwable);
+            }
+          }
+        });
+      } catch (Exception e) {
+        log.warn("Failed to send a batch of {} updates to {}", batch.size(), url, e);
+        batchesInFlight.release();
+        failures.inc();
+        for (Item item : batch) {
+          item.listener.onFailure(e);
+        }
+      }
+    }
+
+    private UpdateRequest newBatchRequest(List<Item> batch) {
+      UpdateRequest first = batch.get(0).req.uReq;
+      UpdateRequest uReq = new UpdateRequest();
+      uReq.setParams(new ModifiableSolrParams(batch.get(0).params));
+      uReq.setCommitWithin(first.getCommitWithin());
+      uReq.setUserPrincipal(first.getUserPrincipal());
+      uReq.setBasePath(url);
+      for (Item item : batch) {
+        UpdateRequest itemReq = item.req.uReq;
+        if (itemReq.getDocumentsMap() != null) {
+          for (Map.Entry<SolrInputDocument,Map<String,Object>> entry : itemReq.getDocumentsMap().entrySet()) {
+            Map<String,Object> docParams = entry.getValue() == null ? new HashMap<>() : entry.getValue();
+            uReq.add(entry.getKey(), (Integer) docParams.get(UpdateRequest.COMMIT_WITHIN),
+                (Boolean) docParams.get(UpdateRequest.OVERWRITE));
+          }
+        }
+        if (itemReq.getDeleteByIdMap() != null) {
+          for (Map.Entry<String,Map<String,Object>> entry : itemReq.getDeleteByIdMap().entrySet()) {
+            Map<String,Object> deleteParams = entry.getValue() == null ? new HashMap<>() : entry.getValue();
+            uReq.deleteById(entry.getKey(), (String) deleteParams.get(ShardParams._ROUTE_),
+                (Long) deleteParams.get(UpdateRequest.VER));
+          }
+        }
+      }
+      if (batch.get(batch.size() - 1).req.uReq.isLastDocInBatch()) {
+        uReq.lastDocInBatch();
+      }
+      return uReq;
+    }
+
+    Map<String,Object> getStats() {
+      Map<String,Object> stats = new HashMap<>();
+      stats.put("queued", queue.size());
+      stats.put("batchesInFlight", maxBatchesInFlight - batchesInFlight.availablePermits());
+      stats.put("batches", batches.getCount());
+      stats.put("updates", lag.getCount());
+      stats.put("failedBatches", failures.getCount());
+      Snapshot snapshot = lag.getSnapshot();
+      stats.put("meanLagMs", TimeUnit.NANOSECONDS.toMillis((long) snapshot.getMean()));
+      stats.put("p95LagMs", TimeUnit.NANOSECONDS.toMillis((long) snapshot.get95thPercentile()));
+      stats.put("maxLagMs", TimeUnit.NANOSECONDS.toMillis(snapshot.getMax()));
+      return stats;
+    }
+  }
+}
@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 
@@ -40,6 +41,7 @@ import org.apache.solr.client.solrj.impl.BinaryResponseParser;
 import org.apache.solr.client.solrj.impl.ConcurrentUpdateSolrClient;
 import org.apache.solr.client.solrj.request.AbstractUpdateRequest;
 import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.cloud.ZkCoreNodeProps;
 import org.apache.solr.common.cloud.ZkStateReader;
@@ -69,6 +71,13 @@ public class SolrCmdDistributor implements Closeable {
   
   private final CompletionService<Object> completionService;
   private final Set<Future<Object>> pending = new HashSet<>();
+
+  private final ReplicaUpdatePipelines pipelines;
+  // the number of requests submitted to the pipelines which are not answered yet, guarded by pipelinedLock
+  private int pipelined;
+  private final Object pipelinedLock = new Object();
+  // the replicas which acknowledged a request submitted to the pipelines
+  private final Set<String> pipelinedNodes = ConcurrentHashMap.newKeySet();
   
   public static interface AbortCheck {
     public boolean abortCheck();
@@ -77,12 +86,19 @@ public class SolrCmdDistributor implements Closeable {
   public SolrCmdDistributor(UpdateShardHandler updateShardHandler) {
     this.clients = new StreamingSolrClients(updateShardHandler);
     this.completionService = new ExecutorCompletionService<>(updateShardHandler.getUpdateExecutor());
+    this.pipelines = updateShardHandler.getReplicaUpdatePipelines();
   }
   
   /* For tests only */
   SolrCmdDistributor(StreamingSolrClients clients, int retryPause) {
+    this(clients, retryPause, null);
+  }
+
+  /* For tests only */
+  SolrCmdDistributor(StreamingSolrClients clients, int retryPause, ReplicaUpdatePipelines pipelines) {
     this.clients = clients;
     this.retryPause = retryPause;
+    this.pipelines = pipelines;
     completionService = new ExecutorCompletionService<>(clients.getUpdateExecutor());
   }
   
@@ -256,6 +272,19 @@ public class SolrCmdDistributor implements Closeable {
 
   public void blockAndDoRetries() {
     clients.blockUntilFinished();
+
+    // wait for the requests submitted to the pipelines, which report their errors like the streaming clients
+    synchronized (pipelinedLock) {
+      while (pipelined > 0) {
+        try {
+          pipelinedLock.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          log.error("blockAndDoRetries interrupted", e);
+          break;
+        }
+      }
+    }
     
     // wait for any async commits to complete
     while (pending != null && pending.size() > 0) {
@@ -311,6 +340,11 @@ public class SolrCmdDistributor implements Closeable {
           + req.retries + " " + req.cmd + " params:" + req.uReq.getParams());
     }
     
+    if (!isCommit && pipelines != null && ReplicaUpdatePipelines.canPipeline(req)) {
+      submitToPipeline(req);
+      return;
+    }
+
     if (isCommit) {
       // a commit using ConncurrentUpdateSolrServer is not async,
       // so we make it async to prevent commits from happening
@@ -324,6 +358,57 @@ public class SolrCmdDistributor implements Closeable {
     }
   }
   
+  private void submitToPipeline(final Req req) {
+    synchronized (pipelinedLock) {
+      pipelined++;
+    }
+    try {
+      pipelines.submit(req, new AsyncListener<NamedList<Object>>() {
+        @Override
+        public void onSuccess(NamedList<Object> result) {
+          // the achieved replication factor counts a replica once, like a request streamed to it
+          if (pipelinedNodes.add(req.node.getUrl())) {
+            req.trackRequestResult(null, null, true);
+          }
+          pipelinedDone();
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+          SolrException.log(log, throwable);
+          Error error = new Error();
+          error.e = throwable instanceof Exception ? (Exception) throwable
+              : new SolrException(SolrException.ErrorCode.SERVER_ERROR, throwable);
+          error.req = req;
+          if (throwable instanceof SolrException) {
+            error.statusCode = ((SolrException) throwable).code();
+          }
+          errors.add(error);
+          if (!req.shouldRetry(error)) {
+            // only track the error if we are not retrying the request
+            req.trackRequestResult(null, null, false);
+          }
+          pipelinedDone();
+        }
+      });
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      Error error = new Error();
+      error.e = e;
+      error.req = req;
+      errors.add(error);
+      pipelinedDone();
+    }
+  }
+
+  private void pipelinedDone() {
+    synchronized (pipelinedLock) {
+      if (--pipelined == 0) {
+        pipelinedLock.notifyAll();
+      }
+    }
+  }
+
   private void doRequest(final Req req) {
     try {
       SolrClient solrClient = clients.getSolrClient(req);
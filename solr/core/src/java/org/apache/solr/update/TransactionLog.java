@@ -34,7 +34,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.lucene.util.BytesRef;
 import org.apache.solr.common.SolrException;
@@ -77,12 +79,25 @@ public class TransactionLog implements Closeable {
   FileChannel channel;
   OutputStream os;
   FastOutputStream fos;    // all accesses to this stream should be synchronized on "this" (The TransactionLog)
+  // the size of the log when its buffer was last flushed: the records before it can be read from the channel
+  // without synchronizing on the log, since the log is only appended to and the buffer is flushed between records
+  volatile long flushedSize;
   int numRecords;
   boolean isBuffer;
 
   protected volatile boolean deleteOnClose = true;  // we can delete old tlogs since they are currently only used for real-time-get (and in the future, recovery)
 
   AtomicInteger refcount = new AtomicInteger(1);
+
+  // the fsyncs are shared by the concurrent calls to finish(FSYNC), see sync(long)
+  private final Object syncLock = new Object();
+  private long syncedSize;        // guarded by syncLock
+  private boolean syncing;        // guarded by syncLock
+  private int syncWaiters;        // guarded by syncLock
+  private boolean lastSyncShared; // guarded by syncLock
+  volatile long groupSyncMaxDelayNanos;
+  volatile Runnable testing_syncHook;  // called before each fsync which other callers may wait for
+  final AtomicLong syncCount = new AtomicLong();
   Map<String,Integer> globalStringMap = new HashMap<>();
   List<String> globalStringList = new ArrayList<>();
 
@@ -168,6 +183,7 @@ public class TransactionLog implements Closeable {
           assert channel.position() == start;
           fos.setWritten(start);    // reflect that we aren't starting at the beginning
           assert fos.size() == channel.size();
+          flushedSize = start;
         } else {
           addGlobalStrings(globalStrings);
         }
@@ -217,6 +233,7 @@ public class TransactionLog implements Closeable {
     synchronized (this) {
       fos.flush();
       size = fos.size();
+      flushedSize = size;
     }
 
     // the end of the file should have the end message (added during a commit) plus a 4 byte size
@@ -471,6 +488,7 @@ public class TransactionLog implements Closeable {
 
         fos.flush();  // flush since this will be the last record in a log fill
         assert fos.size() == channel.size();
+        flushedSize = fos.size();
 
         return pos;
       } catch (IOException e) {
@@ -480,24 +498,24 @@ public class TransactionLog implements Closeable {
   }
 
 
-  /* This method is thread safe */
+  /** Flushes the buffer to the channel, while synchronized on the log. */
+  private void flushBuffer() throws IOException {
+    fos.flushBuffer();
+    flushedSize = fos.size();
+  }
 
+  /* This method is thread safe */
   public Object lookup(long pos) {
     // A negative position can result from a log replay (which does not re-log, but does
     // update the version map.  This is OK since the node won't be ACTIVE when this happens.
     if (pos < 0) return null;
 
     try {
-      // make sure any unflushed buffer has been flushed
-      synchronized (this) {
-        // TODO: optimize this by keeping track of what we have flushed up to
-        fos.flushBuffer();
-        /***
-         System.out.println("###flushBuffer to " + fos.size() + " raf.length()=" + raf.length() + " pos="+pos);
-        if (fos.size() != raf.length() || pos >= fos.size() ) {
-          throw new RuntimeException("ERROR" + "###flushBuffer to " + fos.size() + " raf.length()=" + raf.length() + " pos="+pos);
+      // make sure the record has been flushed, the older ones are read without synchronizing with the writers
+      if (pos >= flushedSize) {
+        synchronized (this) {
+          flushBuffer();
         }
-        ***/
       }
 
       ChannelFastInputStream fis = new ChannelFastInputStream(channel, pos);
@@ -541,15 +559,17 @@ public class TransactionLog implements Closeable {
   public void finish(UpdateLog.SyncLevel syncLevel) {
     if (syncLevel == UpdateLog.SyncLevel.NONE) return;
     try {
+      long size;
       synchronized (this) {
-        fos.flushBuffer();
+        flushBuffer();
+        size = fos.size();
       }
 
       if (syncLevel == UpdateLog.SyncLevel.FSYNC) {
         // Since fsync is outside of synchronized block, we can end up with a partial
         // last record on power failure (which is OK, and does not represent an error...
         // we just need to be aware of it when reading).
-        raf.getFD().sync();
+        sync(size);
       }
 
     } catch (IOException e) {
@@ -557,6 +577,76 @@ public class TransactionLog implements Closeable {
     }
   }
 
+  /**
+   * Makes the log durable up to the given size at least.  Only one fsync is issued at a time: the callers which
+   * flushed their records while it runs wait for it to complete, and one of them then issues an fsync which makes
+   * the records of all of them durable.  If the previous fsync was shared, the next one is delayed by up to
+   * {@link #groupSyncMaxDelayNanos} to let the concurrent updates append their records to the log first.
+   */
+  private void sync(long size) throws IOException {
+    boolean delay = false;
+    boolean interrupted = false;
+    synchronized (syncLock) {
+      syncWaiters++;
+      try {
+        while (syncing && syncedSize < size) {
+          syncLock.wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        interrupted = true;
+      } finally {
+        syncWaiters--;
+      }
+      if (syncedSize >= size) {
+        return;
+      }
+      if (!interrupted) {
+        syncing = true;
+        delay = lastSyncShared && groupSyncMaxDelayNanos > 0;
+      }
+    }
+
+    if (interrupted) {
+      // sync on our own rather than waiting, without the lock so that the other callers can still wait
+      raf.getFD().sync();
+      syncCount.incrementAndGet();
+      synchronized (syncLock) {
+        syncedSize = Math.max(syncedSize, size);
+      }
+      return;
+    }
+
+    boolean success = false;
+    long syncSize = size;
+    try {
+      if (delay) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(groupSyncMaxDelayNanos);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      synchronized (this) {
+        flushBuffer();
+        syncSize = fos.size();
+      }
+      if (testing_syncHook != null) testing_syncHook.run();
+      raf.getFD().sync();
+      syncCount.incrementAndGet();
+      success = true;
+    } finally {
+      synchronized (syncLock) {
+        syncing = false;
+        if (success) {
+          syncedSize = Math.max(syncedSize, syncSize);
+          lastSyncShared = syncWaiters > 0;
+        }
+        syncLock.notifyAll();
+      }
+    }
+  }
+
   public void close() {
     try {
       if (debug) {
@@ -646,16 +736,19 @@ public class TransactionLog implements Closeable {
     public Object next() throws IOException, InterruptedException {
       long pos = fis.position();
 
-      synchronized (TransactionLog.this) {
-        if (trace) {
-          log.trace("Reading log record.  pos="+pos+" currentSize="+fos.size());
-        }
+      // the records which were flushed already are read without synchronizing with the writers
+      if (pos >= flushedSize) {
+        synchronized (TransactionLog.this) {
+          if (trace) {
+            log.trace("Reading log record.  pos="+pos+" currentSize="+fos.size());
+          }
 
-        if (pos >= fos.size()) {
-          return null;
-        }
+          if (pos >= fos.size()) {
+            return null;
+          }
 
-        fos.flushBuffer();
+          flushBuffer();
+        }
       }
 
       if (pos == 0) {
@@ -785,7 +878,7 @@ public class TransactionLog implements Closeable {
 
       long sz;
       synchronized (TransactionLog.this) {
-        fos.flushBuffer();
+        flushBuffer();
         sz = fos.size();
         assert sz == channel.size();
       }
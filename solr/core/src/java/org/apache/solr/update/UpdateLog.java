@@ -240,6 +240,8 @@ public class UpdateLog implements PluginInfoInitialized, SolrMetricProducer {
   protected VersionInfo versionInfo;
 
   protected SyncLevel defaultSyncLevel = SyncLevel.FLUSH;
+  // how long an fsync may be delayed to be shared by more concurrent updates, see TransactionLog#finish
+  protected int groupSyncMaxDelayMs;
 
   volatile UpdateHandler uhandler;    // a core reload can change this reference!
   protected volatile boolean cancelApplyBufferUpdate;
@@ -326,6 +328,10 @@ public class UpdateLog implements PluginInfoInitialized, SolrMetricProducer {
     return numVersionBuckets;
   }
 
+  public int getGroupSyncMaxDelayMs() {
+    return groupSyncMaxDelayMs;
+  }
+
   protected static int objToInt(Object obj, int def) {
     if (obj != null) {
       return Integer.parseInt(obj.toString());
@@ -344,9 +350,13 @@ public class UpdateLog implements PluginInfoInitialized, SolrMetricProducer {
     if (numVersionBuckets <= 0)
       throw new SolrException(SolrException.ErrorCode.SERVER_ERROR,
           "Number of version buckets must be greater than 0!");
+    groupSyncMaxDelayMs = objToInt(info.initArgs.get("groupSyncMaxDelayMs"), 0);
+    if (groupSyncMaxDelayMs < 0)
+      throw new SolrException(SolrException.ErrorCode.SERVER_ERROR,
+          "groupSyncMaxDelayMs must not be negative!");
 
-    log.info("Initializing UpdateLog: dataDir={} defaultSyncLevel={} numRecordsToKeep={} maxNumLogsToKeep={} numVersionBuckets={}",
-        dataDir, defaultSyncLevel, numRecordsToKeep, maxNumLogsToKeep, numVersionBuckets);
+    log.info("Initializing UpdateLog: dataDir={} defaultSyncLevel={} numRecordsToKeep={} maxNumLogsToKeep={} numVersionBuckets={} groupSyncMaxDelayMs={}",
+        dataDir, defaultSyncLevel, numRecordsToKeep, maxNumLogsToKeep, numVersionBuckets, groupSyncMaxDelayMs);
   }
 
   /* Note, when this is called, uhandler is not completely constructed.
@@ -1327,6 +1337,7 @@ public class UpdateLog implements PluginInfoInitialized, SolrMetricProducer {
     if (tlog == null) {
       String newLogName = String.format(Locale.ROOT, LOG_FILENAME_PATTERN, TLOG_NAME, id);
       tlog = newTransactionLog(new File(tlogDir, newLogName), globalStrings, false);
+      tlog.groupSyncMaxDelayNanos = TimeUnit.MILLISECONDS.toNanos(groupSyncMaxDelayMs);
     }
   }
 
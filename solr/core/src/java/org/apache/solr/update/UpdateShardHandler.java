@@ -88,6 +88,7 @@ public class UpdateShardHandler implements SolrMetricProducer, SolrInfoBean {
 
   private final InstrumentedHttpListenerFactory updateHttpListenerFactory;
 
+  private final ReplicaUpdatePipelines replicaUpdatePipelines;
 
   private final Set<String> metricNames = ConcurrentHashMap.newKeySet();
   private MetricRegistry registry;
@@ -137,6 +138,13 @@ public class UpdateShardHandler implements SolrMetricProducer, SolrInfoBean {
     queryParams.add(DistributingUpdateProcessorFactory.DISTRIB_UPDATE_PARAM);
     updateOnlyClient.setQueryParams(queryParams);
 
+    if (cfg != null && cfg.getDistributedUpdateBatchSize() > 0) {
+      replicaUpdatePipelines = new ReplicaUpdatePipelines(updateOnlyClient, cfg.getDistributedUpdateBatchSize(),
+          cfg.getDistributedUpdateMaxBatchesInFlight());
+    } else {
+      replicaUpdatePipelines = null;
+    }
+
     ThreadFactory recoveryThreadFactory = new SolrjNamedThreadFactory("recoveryExecutor");
     if (cfg != null && cfg.getMaxRecoveryThreads() > 0) {
       log.debug("Creating recoveryExecutor with pool size {}", cfg.getMaxRecoveryThreads());
@@ -188,6 +196,10 @@ public class UpdateShardHandler implements SolrMetricProducer, SolrInfoBean {
         SolrMetricManager.mkName("updateOnlyExecutor", expandedScope, "threadPool"));
     recoveryExecutor = MetricUtils.instrumentedExecutorService(recoveryExecutor, this, registry,
         SolrMetricManager.mkName("recoveryExecutor", expandedScope, "threadPool"));
+    if (replicaUpdatePipelines != null) {
+      manager.registerGauge(this, registryName, replicaUpdatePipelines.getMetricsMap(), tag, true,
+          "replicaUpdatePipelines", expandedScope);
+    }
   }
 
   @Override
@@ -219,6 +231,14 @@ public class UpdateShardHandler implements SolrMetricProducer, SolrInfoBean {
   public Http2SolrClient getUpdateOnlyHttpClient() {
     return updateOnlyClient;
   }
+
+  /**
+   * @return the pipelines batching the updates forwarded by leaders to their replicas, or null if the updates are
+   *         streamed to the replicas request by request
+   */
+  public ReplicaUpdatePipelines getReplicaUpdatePipelines() {
+    return replicaUpdatePipelines;
+  }
   
   // don't introduce a bug, this client is for recovery ops only!
   public HttpClient getRecoveryOnlyHttpClient() {
@@ -253,6 +273,7 @@ public class UpdateShardHandler implements SolrMetricProducer, SolrInfoBean {
 
   public void close() {
     try {
+      IOUtils.closeQuietly(replicaUpdatePipelines);
       // do not interrupt, do not interrupt
       ExecutorUtil.shutdownAndAwaitTermination(updateExecutor);
       ExecutorUtil.shutdownAndAwaitTermination(recoveryExecutor);
@@ -22,6 +22,8 @@ public class UpdateShardHandlerConfig {
 
   public static final String DEFAULT_METRICNAMESTRATEGY = "queryLessURLAndMethod";
   public static final int DEFAULT_MAXRECOVERYTHREADS = -1;
+  public static final int DEFAULT_DISTRIBUPDATEBATCHSIZE = 0;
+  public static final int DEFAULT_DISTRIBUPDATEMAXBATCHESINFLIGHT = 2;
 
   public static final UpdateShardHandlerConfig DEFAULT
       = new UpdateShardHandlerConfig(HttpClientUtil.DEFAULT_MAXCONNECTIONS, HttpClientUtil.DEFAULT_MAXCONNECTIONSPERHOST,
@@ -40,14 +42,27 @@ public class UpdateShardHandlerConfig {
 
   private final int maxRecoveryThreads;
 
+  private final int distributedUpdateBatchSize;
+
+  private final int distributedUpdateMaxBatchesInFlight;
+
   public UpdateShardHandlerConfig(int maxUpdateConnections, int maxUpdateConnectionsPerHost, int distributedSocketTimeout, int distributedConnectionTimeout,
                                   String metricNameStrategy, int maxRecoveryThreads) {
+    this(maxUpdateConnections, maxUpdateConnectionsPerHost, distributedSocketTimeout, distributedConnectionTimeout,
+        metricNameStrategy, maxRecoveryThreads, DEFAULT_DISTRIBUPDATEBATCHSIZE, DEFAULT_DISTRIBUPDATEMAXBATCHESINFLIGHT);
+  }
+
+  public UpdateShardHandlerConfig(int maxUpdateConnections, int maxUpdateConnectionsPerHost, int distributedSocketTimeout, int distributedConnectionTimeout,
+                                  String metricNameStrategy, int maxRecoveryThreads,
+                                  int distributedUpdateBatchSize, int distributedUpdateMaxBatchesInFlight) {
     this.maxUpdateConnections = maxUpdateConnections;
     this.maxUpdateConnectionsPerHost = maxUpdateConnectionsPerHost;
     this.distributedSocketTimeout = distributedSocketTimeout;
     this.distributedConnectionTimeout = distributedConnectionTimeout;
     this.metricNameStrategy = metricNameStrategy;
     this.maxRecoveryThreads = maxRecoveryThreads;
+    this.distributedUpdateBatchSize = distributedUpdateBatchSize;
+    this.distributedUpdateMaxBatchesInFlight = distributedUpdateMaxBatchesInFlight;
   }
 
   public int getMaxUpdateConnectionsPerHost() {
@@ -73,4 +88,17 @@ public class UpdateShardHandlerConfig {
   public int getMaxRecoveryThreads() {
     return maxRecoveryThreads;
   }
+
+  /**
+   * The maximum number of updates of concurrent requests that a leader forwards to a replica in a single batch,
+   * or 0 to stream the updates of each request to its replicas separately.
+   */
+  public int getDistributedUpdateBatchSize() {
+    return distributedUpdateBatchSize;
+  }
+
+  /** The maximum number of batches of updates sent to a replica that it did not acknowledge yet. */
+  public int getDistributedUpdateMaxBatchesInFlight() {
+    return distributedUpdateMaxBatchesInFlight;
+  }
 }
@@ -17,6 +17,7 @@
 package org.apache.solr.update;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -36,13 +37,24 @@ public class VersionBucket {
   private final Lock lock = new ReentrantLock(true);
   private final Condition condition = lock.newCondition();
 
-  public long highest;
+  private static final AtomicLongFieldUpdater<VersionBucket> HIGHEST =
+      AtomicLongFieldUpdater.newUpdater(VersionBucket.class, "highest");
+
+  // updated with compare-and-set, since the buckets are seeded without their lock
+  public volatile long highest;
 
   public void updateHighest(long val) {
-    if (highest != 0) {
-      highest = Math.max(highest, Math.abs(val));
+    long version = Math.abs(val);
+    long current;
+    while ((current = highest) != 0 && current < version && !HIGHEST.compareAndSet(this, current, version)) {
+      // another thread changed it meanwhile
     }
   }
+
+  /** Raises the highest version of the bucket to the given one, even if it is unknown yet. */
+  public void seedHighest(long val) {
+    HIGHEST.accumulateAndGet(this, val, Math::max);
+  }
   
   public int getLockTimeoutMs() {
     return lockTimeoutMs;
@@ -19,6 +19,7 @@ package org.apache.solr.update;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -160,32 +161,23 @@ public class VersionInfo {
   // that times are somewhat synchronized in the cluster).
   // Good if we want to relax some constraints to scale down to where only one node may be
   // up at a time.  Possibly harder to detect missing messages (because versions are not contiguous).
-  private long vclock;
-  private final Object clockSync = new Object();
+  // This is a hybrid logical clock: the physical time is in the high bits, and the low 20 bits count the versions
+  // generated within the same millisecond, or while the physical time lags behind the clock.  It is updated with
+  // compare-and-set, so that the indexing threads do not serialize on it.
+  private final AtomicLong vclock = new AtomicLong();
 
   @SuppressForbidden(reason = "need currentTimeMillis just for getting realistic version stamps, does not assume monotonicity")
   public long getNewClock() {
-    synchronized (clockSync) {
-      long time = System.currentTimeMillis();
-      long result = time << 20;
-      if (result <= vclock) {
-        result = vclock + 1;
-      }
-      vclock = result;
-      return vclock;
-    }
+    long time = System.currentTimeMillis() << 20;
+    return vclock.updateAndGet(clock -> Math.max(time, clock + 1));
   }
 
   public long getOldClock() {
-    synchronized (clockSync) {
-      return vclock;
-    }
+    return vclock.get();
   }
 
   public void updateClock(long clock) {
-    synchronized (clockSync) {
-      vclock = Math.max(vclock, clock);
-    }
+    vclock.accumulateAndGet(clock, Math::max);
   }
 
 
@@ -270,10 +262,7 @@ public class VersionInfo {
   public void seedBucketsWithHighestVersion(long highestVersion) {
     for (int i=0; i<buckets.length; i++) {
       // should not happen, but in case other threads are calling updateHighest on the version bucket
-      synchronized (buckets[i]) {
-        if (buckets[i].highest < highestVersion)
-          buckets[i].highest = highestVersion;
-      }
+      buckets[i].seedHighest(highestVersion);
     }
   }
 
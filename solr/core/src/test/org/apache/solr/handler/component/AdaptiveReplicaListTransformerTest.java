@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.util.LuceneTestCase;
+import org.apache.solr.common.cloud.Replica;
+import org.apache.solr.common.cloud.ZkStateReader;
+import org.apache.solr.common.util.NamedList;
+import org.junit.Test;
+
+public class AdaptiveReplicaListTransformerTest extends LuceneTestCase {
+
+  private final AdaptiveReplicaListTransformer transformer = new AdaptiveReplicaListTransformer(random());
+
+  private static final String SLOW = "http://host1:8983/solr/collection1_shard1_replica_n1";
+  private static final String FAST = "http://host2:8983/solr/collection1_shard1_replica_n2";
+  private static final String UNKNOWN = "http://host3:8983/solr/collection1_shard1_replica_n3";
+
+  private static NamedList<Object> response(int qTime) {
+    NamedList<Object> header = new NamedList<>();
+    header.add("status", 0);
+    header.add("QTime", qTime);
+    NamedList<Object> response = new NamedList<>();
+    response.add("responseHeader", header);
+    return response;
+  }
+
+  private void respond(String url, int qTime, long responseMs) {
+    transformer.onRequest(url);
+    transformer.onResponse(url, url, response(qTime), TimeUnit.MILLISECONDS.toNanos(responseMs));
+  }
+
+  @Test
+  public void testGetNode() {
+    assertEquals("host1:8983", AdaptiveReplicaListTransformer.getNode(SLOW));
+    assertEquals("host1:8983", AdaptiveReplicaListTransformer.getNode("host1:8983/solr/collection1"));
+    assertEquals("host1:8983", AdaptiveReplicaListTransformer.getNode("https://host1:8983"));
+    Map<String,Object> props = new HashMap<>();
+    props.put(ZkStateReader.BASE_URL_PROP, "http://host1:8983/solr");
+    props.put(ZkStateReader.CORE_NAME_PROP, "collection1_shard1_replica_n1");
+    assertEquals("host1:8983", AdaptiveReplicaListTransformer.getNode(new Replica("core_node1", props)));
+    assertNull(AdaptiveReplicaListTransformer.getNode(new Replica("core_node1", new HashMap<>())));
+    assertNull(AdaptiveReplicaListTransformer.getNode(42));
+  }
+
+  @Test
+  public void testPrefersFasterNodes() {
+    for (int i = 0; i < 10; i++) {
+      respond(SLOW, 90, 100);
+      respond(FAST, 5, 10);
+    }
+    for (int i = 0; i < 10; i++) {
+      List<String> urls = new ArrayList<>(Arrays.asList(SLOW, FAST, UNKNOWN));
+      transformer.transform(urls);
+      // nodes without statistics are tried first
+      assertEquals(Arrays.asList(UNKNOWN, FAST, SLOW), urls);
+    }
+  }
+
+  @Test
+  public void testPrefersLessOutstandingRequests() {
+    for (int i = 0; i < 10; i++) {
+      respond(SLOW, 5, 10);
+      respond(FAST, 5, 10);
+    }
+    // the requests sent to a node which are not answered yet make it slower
+    for (int i = 0; i < 3; i++) {
+      transformer.onRequest(SLOW);
+    }
+    List<String> urls = new ArrayList<>(Arrays.asList(SLOW, FAST));
+    transformer.transform(urls);
+    assertEquals(Arrays.asList(FAST, SLOW), urls);
+
+    for (int i = 0; i < 3; i++) {
+      transformer.onResponse(SLOW, null, null, 0);
+    }
+    assertEquals(0, transformer.getStats("host1:8983", false).outstanding.get());
+  }
+
+  @Test
+  public void testStalledNodeWithOutstandingRequests() {
+    AdaptiveReplicaListTransformer.NodeStats stalled = transformer.getStats("host1:8983", true);
+    AdaptiveReplicaListTransformer.NodeStats fast = transformer.getStats("host2:8983", true);
+    long start = System.nanoTime();
+    stalled.update(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(5), start);
+    long now = start + 2 * AdaptiveReplicaListTransformer.EXPIRATION_NANOS;
+    fast.update(TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(5), now);
+    for (int i = 0; i < 3; i++) {
+      stalled.outstanding.incrementAndGet();
+    }
+    // the statistics of the stalled node expired, but it did not answer the requests sent to it
+    assertTrue(stalled.score(now) > fast.score(now));
+
+    // it is tried again once they complete
+    stalled.outstanding.set(0);
+    assertEquals(0, stalled.score(now), 0);
+    assertTrue(stalled.score(now) < fast.score(now));
+
+    // a node which never answered is not preferred either while requests to it are outstanding
+    for (int i = 0; i < 3; i++) {
+      transformer.onRequest(UNKNOWN);
+    }
+    respond(FAST, 5, 10);
+    List<String> urls = new ArrayList<>(Arrays.asList(UNKNOWN, FAST));
+    transformer.transform(urls);
+    assertEquals(Arrays.asList(FAST, UNKNOWN), urls);
+  }
+
+  @Test
+  public void testTransformKeepsChoices() {
+    List<String> urls = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      String url = "http://host" + i + ":8983/solr/core";
+      urls.add(url);
+      if (random().nextBoolean()) {
+        respond(url, random().nextInt(100), random().nextInt(200));
+      }
+    }
+    List<String> transformed = new ArrayList<>(urls);
+    transformer.transform(transformed);
+    assertEquals(new HashSet<>(urls), new HashSet<>(transformed));
+  }
+}
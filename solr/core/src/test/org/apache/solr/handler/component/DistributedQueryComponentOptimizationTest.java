@@ -32,6 +32,7 @@ import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.cloud.SolrCloudTestCase;
 import org.apache.solr.common.cloud.DocCollection;
 import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ModifiableSolrParams;
 import org.apache.solr.common.params.ShardParams;
 import org.apache.solr.common.util.SimpleOrderedMap;
 import org.apache.solr.common.util.StrUtils;
@@ -136,6 +137,54 @@ public class DistributedQueryComponentOptimizationTest extends SolrCloudTestCase
 
   }
 
+  @Test
+  public void testDistribSinglePassMaxRows() throws Exception {
+    // few enough rows are fetched in a single pass
+    QueryResponse rsp = queryWithAsserts("q", "*:*", "fl", "id,test_sS", "sort", "payload asc", "rows", "5",
+        ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, "10");
+    assertFieldValues(rsp.getResults(), id, "7", "1", "6", "4", "2");
+    assertFieldValues(rsp.getResults(), "test_sS", "27", "21", "26", "24", "22");
+    queryWithAsserts("q", "*:*", "fl", "id,test_sS", "sort", "payload asc", "start", "5", "rows", "5",
+        ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, "10");
+    queryWithAsserts("q", "*:*", "fl", "*,score", "sort", "payload desc", "rows", "10",
+        ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, "10");
+
+    // but not more of them, as shards would return all of their fields
+    queryWithAsserts("q", "*:*", "fl", "id,test_sS", "sort", "payload asc", "start", "6", "rows", "5",
+        ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, "10");
+    queryWithAsserts("q", "*:*", "fl", "id,test_sS", "sort", "payload asc", "rows", "20",
+        ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, "10");
+
+    QueryResponse twoPassRsp = cluster.getSolrClient().query(COLLECTION,
+        new SolrQuery("q", "*:*", "fl", "id,test_sS,score", "sort", "payload desc", "start", "3", "rows", "4"));
+    rsp = cluster.getSolrClient().query(COLLECTION,
+        new SolrQuery("q", "*:*", "fl", "id,test_sS,score", "sort", "payload desc", "start", "3", "rows", "4",
+            ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS, "10"));
+    compareResponses(rsp, twoPassRsp);
+  }
+
+  @Test
+  public void testStreamingMerge() throws Exception {
+    String[][] queries = {
+        {"q", "*:*", "fl", "id,test_sS,score", "sort", "payload asc", "rows", "3"},
+        {"q", "*:*", "fl", "id", "sort", "payload desc", "start", "4", "rows", "3"},
+        {"q", "text:a text:d", "fl", "id,score", "rows", "2"},
+        {"q", "*:*", "fl", "id,test_sS", "sort", "id desc", "rows", "5", "distrib.singlePass", "true"},
+        {"q", "*:*", "fl", "id", "sort", "payload asc", "rows", "20"}
+    };
+    for (String[] query : queries) {
+      QueryResponse rsp = cluster.getSolrClient().query(COLLECTION, params(query));
+      ModifiableSolrParams streamingParams = params(query);
+      streamingParams.set(ShardParams.DISTRIB_STREAMING_MERGE, true);
+      compareResponses(cluster.getSolrClient().query(COLLECTION, streamingParams), rsp);
+    }
+
+    QueryResponse rsp = cluster.getSolrClient().query(COLLECTION, new SolrQuery("q", "*:*", "fl", "id",
+        "sort", "payload asc", "start", "1", "rows", "3", ShardParams.DISTRIB_STREAMING_MERGE, "true"));
+    assertFieldValues(rsp.getResults(), id, "1", "6", "4");
+    assertEquals(14, rsp.getResults().getNumFound());
+  }
+
   @Test
   public void testOptimizations() throws Exception {
 
@@ -232,6 +281,9 @@ public class DistributedQueryComponentOptimizationTest extends SolrCloudTestCase
     int numRequests = getNumRequests(requests);
 
     boolean distribSinglePass = false;
+    int start = 0;
+    int rows = 10;
+    int singlePassMaxRows = 0;
 
     Set<String> fls = new HashSet<>();
     Set<String> sortFields = new HashSet<>();
@@ -241,6 +293,15 @@ public class DistributedQueryComponentOptimizationTest extends SolrCloudTestCase
             numRequests == sliceCount);
         distribSinglePass = true;
       }
+      if (CommonParams.START.equals(q[i])) {
+        start = Integer.parseInt(q[i + 1]);
+      }
+      if (CommonParams.ROWS.equals(q[i])) {
+        rows = Integer.parseInt(q[i + 1]);
+      }
+      if (ShardParams.DISTRIB_SINGLE_PASS_MAX_ROWS.equals(q[i])) {
+        singlePassMaxRows = Integer.parseInt(q[i + 1]);
+      }
       if (CommonParams.FL.equals(q[i].toString())) {
         fls.addAll(StrUtils.splitSmart(q[i + 1].toString(), ','));
       }
@@ -251,6 +312,11 @@ public class DistributedQueryComponentOptimizationTest extends SolrCloudTestCase
       }
     }
 
+    if (start + rows <= singlePassMaxRows) {
+      assertEquals("distrib.singlePass.maxRows made more requests than number of shards", sliceCount, numRequests);
+      distribSinglePass = true;
+    }
+
     Set<String> idScoreFields = new HashSet<>(2);
     idScoreFields.add("id"); // id is always requested in GET_TOP_IDS phase
     // score is optional, requested only if sorted by score
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.embedded.JettySolrRunner;
+import org.apache.solr.client.solrj.request.CollectionAdminRequest;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.cloud.SolrCloudTestCase;
+import org.apache.solr.common.cloud.DocCollection;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.core.SolrCore;
+import org.apache.solr.request.LocalSolrQueryRequest;
+import org.apache.solr.request.SolrQueryRequest;
+import org.apache.solr.request.SolrRequestInfo;
+import org.apache.solr.response.SolrQueryResponse;
+import org.apache.solr.search.SolrIndexSearcher;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests hedging the requests to shards, with a percentile of their latencies so low that most of them are hedged,
+ * and cancelling the requests executed by a shard.
+ */
+public class TestHedgedShardRequests extends SolrCloudTestCase {
+
+  private static final String COLLECTION = "hedged";
+
+  private static SolrClient client;
+
+  @BeforeClass
+  public static void setupCluster() throws Exception {
+    configureCluster(2)
+        .withSolrXml(TEST_PATH().resolve("solr-hedgedrequests.xml"))
+        .addConfig("conf", configset("cloud-minimal"))
+        .configure();
+
+    CollectionAdminRequest.createCollection(COLLECTION, "conf", 2, 2)
+        .setMaxShardsPerNode(2)
+        .processAndWait(cluster.getSolrClient(), DEFAULT_TIMEOUT);
+    cluster.getSolrClient().waitForState(COLLECTION, DEFAULT_TIMEOUT, TimeUnit.SECONDS,
+        (n, c) -> DocCollection.isFullyActive(n, c, 2, 2));
+
+    UpdateRequest update = new UpdateRequest();
+    for (int i = 0; i < 20; i++) {
+      update.add(sdoc("id", Integer.toString(i)));
+    }
+    update.commit(cluster.getSolrClient(), COLLECTION);
+
+    client = getHttpSolrClient(cluster.getJettySolrRunner(0).getBaseUrl().toString() + "/" + COLLECTION);
+  }
+
+  @AfterClass
+  public static void closeClient() throws Exception {
+    if (client != null) {
+      client.close();
+      client = null;
+    }
+  }
+
+  private static long getHedgedRequests() {
+    long hedged = 0;
+    for (JettySolrRunner jetty : cluster.getJettySolrRunners()) {
+      ShardRequestHedging hedging =
+          ((HttpShardHandlerFactory) jetty.getCoreContainer().getShardHandlerFactory()).getShardRequestHedging();
+      hedged += hedging.hedged.getCount();
+      assertTrue(hedging.wins.getCount() <= hedging.hedged.getCount());
+    }
+    return hedged;
+  }
+
+  @Test
+  public void testHedgedRequests() throws Exception {
+    for (int i = 0; i < 3 * ShardRequestHedging.MIN_SAMPLES; i++) {
+      QueryResponse rsp = client.query(params("q", "*:*", "sort", "id asc", "fl", "id", "rows", "5"));
+      assertEquals(20, rsp.getResults().getNumFound());
+      assertEquals("0", rsp.getResults().get(0).getFieldValue("id"));
+      assertNull(rsp.getHeader().get(SolrQueryResponse.RESPONSE_HEADER_PARTIAL_RESULTS_KEY));
+    }
+    long hedged = getHedgedRequests();
+    assertTrue(hedged > 0);
+
+    for (int i = 0; i < 10; i++) {
+      QueryResponse rsp = client.query(params("q", "*:*", "rows", "0", ShardParams.SHARDS_HEDGE, "false"));
+      assertEquals(20, rsp.getResults().getNumFound());
+    }
+    assertEquals(hedged, getHedgedRequests());
+  }
+
+  @Test
+  public void testCancelledSearch() throws Exception {
+    // the request may not be executed anymore
+    QueryResponse rsp = client.query(params(ShardParams.SHARD_CANCEL, "unknown", ShardParams.IS_SHARD, "true",
+        CommonParams.DISTRIB, "false"));
+    assertEquals(Boolean.FALSE, rsp.getResponse().get("cancelled"));
+
+    SolrCore core = cluster.getJettySolrRunner(0).getCoreContainer().getCores().iterator().next();
+    SolrQueryRequest req = new LocalSolrQueryRequest(core, params("q", "*:*", CommonParams.DISTRIB, "false"));
+    req.getContext().put(SolrIndexSearcher.CANCELLED, new AtomicBoolean(true));
+    SolrQueryResponse queryRsp = new SolrQueryResponse();
+    SolrRequestInfo.setRequestInfo(new SolrRequestInfo(req, queryRsp));
+    try {
+      core.execute(core.getRequestHandler("/select"), req, queryRsp);
+    } finally {
+      SolrRequestInfo.clearRequestInfo();
+      req.close();
+    }
+    assertNull(queryRsp.getException());
+    assertEquals(Boolean.TRUE,
+        queryRsp.getResponseHeader().get(SolrQueryResponse.RESPONSE_HEADER_PARTIAL_RESULTS_KEY));
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.embedded.JettySolrRunner;
+import org.apache.solr.client.solrj.request.CollectionAdminRequest;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.cloud.SolrCloudTestCase;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.cloud.DocCollection;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.common.params.SolrParams;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests caching the responses of shards at the coordinator with {@link ShardParams#SHARDS_CACHE}.
+ */
+public class TestShardResultCache extends SolrCloudTestCase {
+
+  private static final String COLLECTION = "shardresultcache";
+
+  private static SolrClient client;
+
+  @BeforeClass
+  public static void setupCluster() throws Exception {
+    configureCluster(2)
+        .withSolrXml(TEST_PATH().resolve("solr-shardresultcache.xml"))
+        .addConfig("conf", configset("cloud-minimal"))
+        .configure();
+
+    CollectionAdminRequest.createCollection(COLLECTION, "conf", 2, 1)
+        .setMaxShardsPerNode(1)
+        .processAndWait(cluster.getSolrClient(), DEFAULT_TIMEOUT);
+    cluster.getSolrClient().waitForState(COLLECTION, DEFAULT_TIMEOUT, TimeUnit.SECONDS,
+        (n, c) -> DocCollection.isFullyActive(n, c, 2, 1));
+
+    UpdateRequest update = new UpdateRequest();
+    for (int i = 0; i < 20; i++) {
+      update.add(sdoc("id", Integer.toString(i), "cat_s", i % 2 == 0 ? "a" : "b"));
+    }
+    update.commit(cluster.getSolrClient(), COLLECTION);
+
+    // the coordinator is the node receiving the requests, which has a replica of the collection
+    client = getHttpSolrClient(cluster.getJettySolrRunner(0).getBaseUrl().toString() + "/" + COLLECTION);
+  }
+
+  @AfterClass
+  public static void closeClient() throws Exception {
+    if (client != null) {
+      client.close();
+      client = null;
+    }
+  }
+
+  private static long[] getStats() {
+    long[] stats = new long[3];
+    for (JettySolrRunner jetty : cluster.getJettySolrRunners()) {
+      ShardResultCache cache =
+          ((HttpShardHandlerFactory) jetty.getCoreContainer().getShardHandlerFactory()).getShardResultCache();
+      stats[0] += cache.hits.get();
+      stats[1] += cache.validations.get();
+      stats[2] += cache.misses.get();
+    }
+    return stats;
+  }
+
+  private static SolrDocumentList query(String maxAge) throws Exception {
+    QueryResponse rsp = client.query(params("q", "cat_s:a", "sort", "id asc", "rows", "20", "fl", "id",
+        ShardParams.SHARDS_CACHE, "true", ShardParams.SHARDS_CACHE_MAX_AGE, maxAge));
+    return rsp.getResults();
+  }
+
+  @Test
+  public void testCachedResponses() throws Exception {
+    SolrDocumentList first = query("60000");
+    assertEquals(10, first.getNumFound());
+    long[] before = getStats();
+    assertTrue(before[2] > 0);
+
+    // within the max age, the shards are not asked
+    SolrDocumentList cached = query("60000");
+    long[] after = getStats();
+    assertTrue(after[0] > before[0]);
+    assertEquals(before[1], after[1]);
+    assertEquals(before[2], after[2]);
+    assertEquals(first.toString(), cached.toString());
+
+    // without a max age, the shards reply that their searchers did not change
+    before = after;
+    SolrDocumentList validated = query("0");
+    after = getStats();
+    assertEquals(before[0], after[0]);
+    assertTrue(after[1] > before[1]);
+    assertEquals(before[2], after[2]);
+    assertEquals(first.toString(), validated.toString());
+
+    new UpdateRequest()
+        .add(sdoc("id", "100", "cat_s", "a"))
+        .commit(cluster.getSolrClient(), COLLECTION);
+
+    // the cached responses may be stale within their max age
+    assertEquals(10, query("60000").getNumFound());
+
+    // but are not used once a shard has a new searcher
+    before = getStats();
+    assertEquals(11, query("0").getNumFound());
+    after = getStats();
+    assertTrue(after[2] > before[2]);
+  }
+
+  @Test
+  public void testNowIsNotCached() throws Exception {
+    // matches all documents, but depends on the time of the request
+    String[] nowQuery = {"q", "cat_s:b", "fq", "{!frange l=0}ms(NOW)", "rows", "20", "fl", "id",
+        ShardParams.SHARDS_CACHE, "true", ShardParams.SHARDS_CACHE_MAX_AGE, "60000"};
+    assertEquals(10, client.query(params(nowQuery)).getResults().getNumFound());
+    long[] before = getStats();
+    assertEquals(10, client.query(params(nowQuery)).getResults().getNumFound());
+    long[] after = getStats();
+    assertEquals(before[0], after[0]);
+    assertEquals(before[1], after[1]);
+    assertTrue(after[2] > before[2]);
+  }
+
+  @Test
+  public void testKeyDependsOnUser() {
+    List<String> urls = Arrays.asList("http://host1:8983/solr/c1", "http://host2:8983/solr/c1");
+    SolrParams params = params("q", "*:*", CommonParams.NOW, "1000");
+    String key = ShardResultCache.getKey(urls, params, null);
+    // the time of the request and the order of the replicas do not matter
+    assertEquals(key, ShardResultCache.getKey(Arrays.asList(urls.get(1), urls.get(0)),
+        params("q", "*:*", CommonParams.NOW, "2000"), null));
+
+    Principal alice = () -> "alice";
+    Principal bob = () -> "bob";
+    assertNotEquals(key, ShardResultCache.getKey(urls, params, alice));
+    assertNotEquals(ShardResultCache.getKey(urls, params, alice), ShardResultCache.getKey(urls, params, bob));
+    assertEquals(ShardResultCache.getKey(urls, params, alice), ShardResultCache.getKey(urls, params, () -> "alice"));
+  }
+}
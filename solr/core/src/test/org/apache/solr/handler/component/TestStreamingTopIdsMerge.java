@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.handler.component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.solr.SolrTestCaseJ4;
+import org.apache.solr.client.solrj.response.SimpleSolrResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.params.ShardParams;
+import org.apache.solr.common.util.JavaBinCodec;
+import org.apache.solr.common.util.NamedList;
+import org.apache.solr.common.util.SimpleOrderedMap;
+import org.apache.solr.request.SolrQueryRequest;
+import org.apache.solr.response.SolrQueryResponse;
+import org.apache.solr.search.SortSpec;
+import org.apache.solr.search.SortSpecParsing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestStreamingTopIdsMerge extends SolrTestCaseJ4 {
+
+  private final QueryComponent queryComponent = new QueryComponent();
+  private SolrQueryRequest req;
+  private ResponseBuilder rb;
+  private StreamingTopIdsMerge merge;
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    initCore("solrconfig.xml", "schema.xml");
+  }
+
+  @Before
+  public void createMerge() {
+    req = req();
+    rb = new ResponseBuilder(req, new SolrQueryResponse(), Collections.singletonList(queryComponent));
+    SortSpec sortSpec = SortSpecParsing.parseSortSpec("id asc", req);
+    sortSpec.setOffset(1);
+    sortSpec.setCount(2);
+    rb.setSortSpec(sortSpec);
+    merge = new StreamingTopIdsMerge(queryComponent, rb);
+  }
+
+  @After
+  public void closeRequest() {
+    req.close();
+  }
+
+  /** The response of a shard to the top ids request, with its sort values before or after the documents. */
+  private static byte[] shardResponse(boolean sortValuesFirst, String... ids) throws Exception {
+    NamedList<Object> sortValues = new NamedList<>();
+    sortValues.add("id", ids);
+    SolrDocumentList docs = new SolrDocumentList();
+    docs.setNumFound(ids.length);
+    docs.setStart(0);
+    for (String id : ids) {
+      SolrDocument doc = new SolrDocument();
+      doc.setField("id", id);
+      docs.add(doc);
+    }
+    NamedList<Object> response = new SimpleOrderedMap<>();
+    response.add("responseHeader", new SimpleOrderedMap<>());
+    if (sortValuesFirst) {
+      response.add("sort_values", sortValues);
+    }
+    response.add("response", docs);
+    if (!sortValuesFirst) {
+      response.add("sort_values", sortValues);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JavaBinCodec codec = new JavaBinCodec()) {
+      codec.marshal(response, out);
+    }
+    return out.toByteArray();
+  }
+
+  private ShardResponse parse(String shard, byte[] body) {
+    NamedList<Object> response = merge.getParser(shard).processResponse(new ByteArrayInputStream(body), null);
+    SimpleSolrResponse solrResponse = new SimpleSolrResponse();
+    solrResponse.setResponse(response);
+    ShardResponse srsp = new ShardResponse();
+    srsp.setShard(shard);
+    srsp.setSolrResponse(solrResponse);
+    return srsp;
+  }
+
+  private static List<Object> getIds(ShardResponse srsp) {
+    List<Object> ids = new ArrayList<>();
+    for (SolrDocument doc : (SolrDocumentList) srsp.getSolrResponse().getResponse().get("response")) {
+      ids.add(doc.getFieldValue("id"));
+    }
+    return ids;
+  }
+
+  private static List<Object> getSortValues(ShardResponse srsp) {
+    NamedList<?> sortValues = (NamedList<?>) srsp.getSolrResponse().getResponse().get("sort_values");
+    return new ArrayList<>((List<?>) sortValues.get("id"));
+  }
+
+  private List<Object> mergeIds(ShardResponse... responses) {
+    ShardRequest sreq = new ShardRequest();
+    sreq.responses.addAll(Arrays.asList(responses));
+    queryComponent.mergeIds(rb, sreq);
+    List<Object> ids = new ArrayList<>();
+    rb.resultIds.values().stream()
+        .sorted((a, b) -> Integer.compare(a.positionInResponse, b.positionInResponse))
+        .forEach(doc -> ids.add(doc.id));
+    return ids;
+  }
+
+  @Test
+  public void testDropsDocumentsThatAreNotCompetitive() throws Exception {
+    ShardResponse shard1 = parse("shard1", shardResponse(true, "a", "c", "e", "g"));
+    assertEquals(Arrays.asList("a", "c", "e", "g"), getIds(shard1));
+
+    // start + rows = 3, so that documents after a, c and e are dropped
+    ShardResponse shard2 = parse("shard2", shardResponse(true, "b", "d", "f", "h"));
+    assertEquals(Arrays.asList("b", "d"), getIds(shard2));
+    assertEquals(Arrays.asList("b", "d"), getSortValues(shard2));
+    assertEquals(4L, ((SolrDocumentList) shard2.getSolrResponse().getResponse().get("response")).getNumFound());
+    assertEquals(2, merge.droppedDocs.get());
+
+    ShardResponse shard3 = parse("shard3", shardResponse(true, "bb", "x", "y"));
+    assertEquals(Arrays.asList("bb"), getIds(shard3));
+    assertEquals(4, merge.droppedDocs.get());
+
+    assertEquals(Arrays.asList("b", "bb"), mergeIds(shard1, shard2, shard3));
+    assertEquals(11, rb.getResponseDocs().getNumFound());
+  }
+
+  @Test
+  public void testKeepsDocumentsWithoutSortValuesFirst() throws Exception {
+    ShardResponse shard1 = parse("shard1", shardResponse(true, "a", "b", "c"));
+    ShardResponse shard2 = parse("shard2", shardResponse(false, "d", "e", "f"));
+    assertEquals(Arrays.asList("d", "e", "f"), getIds(shard2));
+    assertEquals(0, merge.droppedDocs.get());
+
+    // but they are merged once parsed
+    ShardResponse shard3 = parse("shard3", shardResponse(true, "g"));
+    assertEquals(Collections.emptyList(), getIds(shard3));
+    assertEquals(Arrays.asList("b", "c"), mergeIds(shard1, shard2, shard3));
+  }
+
+  @Test
+  public void testKeepsDocumentsOfAnotherResponseOfTheShard() throws Exception {
+    parse("shard1", shardResponse(true, "a", "b", "c", "d"));
+    // the response of another replica to a hedged request
+    ShardResponse shard1 = parse("shard1", shardResponse(true, "a", "b", "c", "d"));
+    assertEquals(Arrays.asList("a", "b", "c", "d"), getIds(shard1));
+    ShardResponse shard2 = parse("shard2", shardResponse(true, "b", "e"));
+    // duplicates are kept for mergeIds to choose
+    assertEquals(Arrays.asList("b"), getIds(shard2));
+    assertEquals(Arrays.asList("b", "c"), mergeIds(shard1, shard2));
+  }
+
+  @Test
+  public void testNoStreamingMergeWhenStartPlusRowsOverflows() {
+    try (SolrQueryRequest streamingReq = req(ShardParams.DISTRIB_STREAMING_MERGE, "true")) {
+      ResponseBuilder streamingRb = new ResponseBuilder(streamingReq, new SolrQueryResponse(),
+          Collections.singletonList(queryComponent));
+      SortSpec sortSpec = SortSpecParsing.parseSortSpec("id asc", streamingReq);
+      sortSpec.setOffset(10);
+      sortSpec.setCount(10);
+      streamingRb.setSortSpec(sortSpec);
+      assertTrue(queryComponent.isStreamingMerge(streamingRb));
+
+      sortSpec.setOffset(Integer.MAX_VALUE - 5);
+      assertFalse(queryComponent.isStreamingMerge(streamingRb));
+    }
+  }
+}
@@ -28,8 +28,11 @@ import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.util.BytesRef;
 import org.apache.solr.SolrTestCaseJ4;
 import org.apache.solr.common.params.FacetParams;
+import org.apache.solr.response.SolrQueryResponse;
+import org.apache.solr.search.facet.UnInvertedField;
 import org.apache.solr.uninverting.DocTermOrds;
 import org.junit.After;
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -41,9 +44,15 @@ public class TestFaceting extends SolrTestCaseJ4 {
   public static void beforeClass() throws Exception {
     // we need DVs on point fields to compute stats & facets
     if (Boolean.getBoolean(NUMERIC_POINTS_SYSPROP)) System.setProperty(NUMERIC_DOCVALUES_SYSPROP,"true");
+    System.setProperty("solr.tests.uninvertedFieldOffHeap", String.valueOf(random().nextBoolean()));
     initCore("solrconfig.xml","schema11.xml");
   }
 
+  @AfterClass
+  public static void afterClass() {
+    System.clearProperty("solr.tests.uninvertedFieldOffHeap");
+  }
+
   @Override
   public void setUp() throws Exception {
     super.setUp();
@@ -145,6 +154,37 @@ public class TestFaceting extends SolrTestCaseJ4 {
     // doTermEnum(DEFAULT_INDEX_INTERVAL * 3 + 3);    
   }
 
+  @Test
+  public void testUnInvertedFieldOffHeapIsFreed() throws Exception {
+    final boolean offHeap = h.getCore().getSolrConfig().uninvertedFieldOffHeap;
+    for (int i=0; i<100; i++) {
+      // enough values for the term ords of documents not to fit in the index
+      StringBuilder sb = new StringBuilder();
+      for (int j=0; j<10; j++) {
+        sb.append(t(i + j*100)).append(' ');
+      }
+      assertU(adoc("id", Integer.toString(i), "many_ws", sb.toString()));
+    }
+    assertU(commit());
+
+    req = lrf.makeRequest("q","*:*");
+    final UnInvertedField uif;
+    SolrRequestInfo.setRequestInfo(new SolrRequestInfo(req, new SolrQueryResponse()));
+    try {
+      uif = UnInvertedField.getUnInvertedField("many_ws", req.getSearcher());
+      assertEquals(offHeap, uif.offHeapBytesUsed() > 0);
+    } finally {
+      SolrRequestInfo.clearRequestInfo();
+    }
+    // still referenced by the searcher
+    assertEquals(offHeap, uif.offHeapBytesUsed() > 0);
+
+    close();
+    assertU(adoc("id", "100"));
+    assertU(commit()); // closes the searcher
+    assertEquals(0, uif.offHeapBytesUsed());
+  }
+
   @Test
   public void testFacets() throws Exception {
     StringBuilder sb = new StringBuilder();
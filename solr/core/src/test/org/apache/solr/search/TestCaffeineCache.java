@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.LuceneTestCase;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.TestUtil;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.metrics.SolrMetricManager;
+
+/**
+ * Test for <code>org.apache.solr.search.CaffeineCache</code>
+ */
+public class TestCaffeineCache extends LuceneTestCase {
+
+  SolrMetricManager metricManager = new SolrMetricManager();
+  String registry = TestUtil.randomSimpleString(random(), 2, 10);
+  String scope = TestUtil.randomSimpleString(random(), 2, 10);
+
+  private static Map<String,String> params(String... keyValues) {
+    Map<String,String> params = new HashMap<>();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      params.put(keyValues[i], keyValues[i + 1]);
+    }
+    return params;
+  }
+
+  public void testSimple() {
+    CaffeineCache<Integer, String> cache = new CaffeineCache<>();
+    cache.initializeMetrics(metricManager, registry, "foo", scope);
+    Object persistence = cache.init(params("size", "100", "initialSize", "10"), null, new NoOpRegenerator());
+    cache.setState(SolrCache.State.LIVE);
+    for (int i = 0; i < 200; i++) {
+      cache.put(i, Integer.toString(i));
+    }
+    assertTrue(cache.size() <= 100);
+    int found = 0;
+    for (int i = 0; i < 200; i++) {
+      if (cache.get(i) != null) {
+        found++;
+      }
+    }
+    assertEquals(cache.size(), found);
+
+    Map<String,Object> metrics = cache.getMetricsMap().getValue();
+    assertEquals(200L, metrics.get("lookups"));
+    assertEquals((long) found, metrics.get("hits"));
+    assertEquals(200L, metrics.get("inserts"));
+    assertEquals(200L - found, metrics.get("evictions"));
+    assertEquals(200L, metrics.get("cumulative_inserts"));
+
+    CaffeineCache<Integer, String> newCache = new CaffeineCache<>();
+    newCache.initializeMetrics(metricManager, registry, "foo", scope);
+    newCache.init(params("size", "100", "initialSize", "10"), persistence, new NoOpRegenerator());
+    newCache.setState(SolrCache.State.LIVE);
+    newCache.put(1000, "1000");
+    assertEquals("1000", newCache.get(1000));
+    metrics = newCache.getMetricsMap().getValue();
+    assertEquals(1L, metrics.get("lookups"));
+    assertEquals(201L, metrics.get("cumulative_lookups"));
+    assertEquals(201L, metrics.get("cumulative_inserts"));
+    cache.close();
+    newCache.close();
+  }
+
+  public void testFrequentEntriesAreKept() {
+    CaffeineCache<Integer, String> cache = new CaffeineCache<>();
+    cache.init(params("size", "100"), null, new NoOpRegenerator());
+    cache.setState(SolrCache.State.LIVE);
+    for (int i = 0; i < 50; i++) {
+      cache.put(i, Integer.toString(i));
+    }
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        assertNotNull(cache.get(i));
+      }
+    }
+    // a scan of entries that are only seen once must not flush the frequently used ones,
+    // as it would with an LRU policy
+    for (int i = 1000; i < 2000; i++) {
+      cache.put(i, Integer.toString(i));
+    }
+    int found = 0;
+    for (int i = 0; i < 50; i++) {
+      if (cache.get(i) != null) {
+        found++;
+      }
+    }
+    assertTrue("only " + found + " frequent entries were kept", found >= 45);
+    cache.close();
+  }
+
+  public void testAutowarm() {
+    CaffeineCache<Integer, String> cache = new CaffeineCache<>();
+    Map<String,String> params = params("size", "100", "autowarmCount", "10");
+    Object persistence = cache.init(params, null, new NoOpRegenerator());
+    cache.setState(SolrCache.State.LIVE);
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, Integer.toString(i));
+    }
+    for (int round = 0; round < 5; round++) {
+      for (int i = 50; i < 60; i++) {
+        assertNotNull(cache.get(i));
+      }
+    }
+
+    CaffeineCache<Integer, String> newCache = new CaffeineCache<>();
+    newCache.initializeMetrics(metricManager, registry, "foo", scope);
+    newCache.init(params, persistence, new NoOpRegenerator());
+    newCache.warm(null, cache);
+    newCache.setState(SolrCache.State.LIVE);
+    cache.close();
+    assertEquals(10, newCache.size());
+    for (int i = 50; i < 60; i++) {
+      assertEquals(Integer.toString(i), newCache.get(i));
+    }
+    Map<String,Object> metrics = newCache.getMetricsMap().getValue();
+    assertEquals(10, metrics.get("warmupCount"));
+    assertEquals(0, metrics.get("warmupSkipped"));
+    newCache.close();
+  }
+
+  public void testPercentageAutowarm() {
+    CaffeineCache<Integer, String> cache = new CaffeineCache<>();
+    Map<String,String> params = params("size", "100", "autowarmCount", "50%");
+    Object persistence = cache.init(params, null, new NoOpRegenerator());
+    cache.setState(SolrCache.State.LIVE);
+    for (int i = 0; i < 80; i++) {
+      cache.put(i, Integer.toString(i));
+    }
+
+    CaffeineCache<Integer, String> newCache = new CaffeineCache<>();
+    newCache.init(params, persistence, new NoOpRegenerator());
+    newCache.warm(null, cache);
+    newCache.setState(SolrCache.State.LIVE);
+    assertEquals(40, newCache.size());
+    for (int i = 0; i < 80; i++) {
+      String value = newCache.get(i);
+      if (value != null) {
+        assertEquals(cache.get(i), value);
+      }
+    }
+    cache.close();
+    newCache.close();
+  }
+
+  public void testMaxRamSize() {
+    CaffeineCache<Integer, Accountable> cache = new CaffeineCache<>();
+    cache.initializeMetrics(metricManager, registry, "foo", scope);
+    // 8 kB
+    cache.init(params("maxRamMB", String.valueOf(8d / 1024)), null, new NoOpRegenerator());
+    cache.setState(SolrCache.State.LIVE);
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, () -> 1024);
+    }
+    assertTrue(cache.size() < 8);
+    assertTrue(cache.ramBytesUsed() <= 8 * 1024 + RamUsageEstimator.shallowSizeOfInstance(CaffeineCache.class));
+    Map<String,Object> metrics = cache.getMetricsMap().getValue();
+    assertEquals(100L - cache.size(), metrics.get("evictions"));
+    cache.close();
+
+    CaffeineCache<Integer, String> cache2 = new CaffeineCache<>();
+    cache2.init(params("maxRamMB", "1"), null, new NoOpRegenerator());
+    expectThrows(SolrException.class, () -> cache2.put(1, "not accountable"));
+    cache2.close();
+  }
+}
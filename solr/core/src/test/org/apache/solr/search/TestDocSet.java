@@ -128,8 +128,12 @@ public class TestDocSet extends LuceneTestCase {
   }
 
 
+  public DocSet getRoaringDocSet(FixedBitSet bs) {
+    return RoaringDocSet.fromBits(bs);
+  }
+
   public DocSet getDocSet(FixedBitSet bs) {
-    switch(rand.nextInt(10)) {
+    switch(rand.nextInt(11)) {
       case 0: return getHashDocSet(bs);
 
       case 1: return getBitDocSet(bs);
@@ -143,6 +147,8 @@ public class TestDocSet extends LuceneTestCase {
       case 8: return getIntDocSet(bs);
 
       case 9: return getDocSlice(bs);
+
+      case 10: return getRoaringDocSet(bs);
     }
     return null;
   }
@@ -526,9 +532,11 @@ public class TestDocSet extends LuceneTestCase {
     FixedBitSet bs = getRandomSet(reader.maxDoc(), rand.nextInt(reader.maxDoc()+1));
     DocSet a = new BitDocSet(bs);
     DocSet b = getIntDocSet(bs);
+    DocSet c = getRoaringDocSet(bs);
 
     Filter fa = a.getTopFilter();
     Filter fb = b.getTopFilter();
+    Filter fc = c.getTopFilter();
 
     /* top level filters are no longer supported
     // test top-level
@@ -546,6 +554,7 @@ public class TestDocSet extends LuceneTestCase {
       da = fa.getDocIdSet(readerContext, null);
       db = fb.getDocIdSet(readerContext, null);
       doTestIteratorEqual(da, db);
+      doTestIteratorEqual(da, fc.getDocIdSet(readerContext, null));
     }  
 
     int nReaders = leaves.size();
@@ -555,6 +564,7 @@ public class TestDocSet extends LuceneTestCase {
       da = fa.getDocIdSet(readerContext, null);
       db = fb.getDocIdSet(readerContext, null);
       doTestIteratorEqual(da, db);
+      doTestIteratorEqual(da, fc.getDocIdSet(readerContext, null));
     }
   }
 
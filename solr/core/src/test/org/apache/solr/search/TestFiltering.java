@@ -101,6 +101,34 @@ public class TestFiltering extends SolrTestCaseJ4 {
     }
   }
 
+  @Test
+  public void testRoaringEntriesStayCompressed() throws Exception {
+    clearIndex();
+    for (int i=0; i<20; i++) {
+      assertU(adoc("id", Integer.toString(i), "val_i", Integer.toString(i)));
+    }
+    assertU(commit());
+
+    SolrQueryRequest req = req();
+    try {
+      SolrIndexSearcher searcher = req.getSearcher();
+      Query q = QParser.getParser("val_i:[0 TO 9]", null, req).getQuery();
+      FixedBitSet matches = new FixedBitSet(searcher.maxDoc());
+      for (DocIterator iter = searcher.getDocSetNC(q, null).iterator(); iter.hasNext();) {
+        matches.set(iter.nextDoc());
+      }
+      DocSet roaring = RoaringDocSet.fromBits(matches);
+      searcher.cacheDocSet(q, roaring, true);
+
+      BitDocSet bits = searcher.getDocSetBits(q);
+      assertEquals(roaring, bits);
+      assertSame(roaring, searcher.getFilterCache().get(q));
+      assertSame(roaring, searcher.getDocSet(q));
+    } finally {
+      req.close();
+    }
+  }
+
     public void testCaching() throws Exception {
     clearIndex();
     assertU(adoc("id","4", "val_i","1"));
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.Weight;
+import org.apache.solr.SolrTestCaseJ4;
+import org.apache.solr.index.NoMergePolicyFactory;
+import org.apache.solr.request.SolrQueryRequest;
+import org.apache.solr.schema.RandomSortField;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that queryResultCache entries are warmed by only searching the new segments when
+ * <code>incrementalQueryResultWarming</code> is enabled, and that their results are the
+ * same as when executing the query.
+ */
+public class TestIncrementalQueryResultWarming extends SolrTestCaseJ4 {
+
+  static final AtomicInteger searchedSegments = new AtomicInteger();
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    // segments must not be merged for the hits of a segment to be reused
+    systemSetPropertySolrTestsMergePolicyFactory(NoMergePolicyFactory.class.getName());
+    initCore("solrconfig-incrementalwarming.xml", "schema.xml");
+  }
+
+  @Before
+  public void resetIndex() throws Exception {
+    clearIndex();
+    assertU(commit());
+  }
+
+  /** Counts the segments it is searched on. */
+  static class SegmentCountingQuery extends Query {
+    final Query in;
+    final AtomicInteger counter;
+
+    SegmentCountingQuery(Query in) {
+      this(in, searchedSegments);
+    }
+
+    SegmentCountingQuery(Query in, AtomicInteger counter) {
+      this.in = in;
+      this.counter = counter;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+      return new FilterWeight(this, in.createWeight(searcher, scoreMode, boost)) {
+        @Override
+        public Scorer scorer(LeafReaderContext context) throws IOException {
+          counter.incrementAndGet();
+          return super.scorer(context);
+        }
+      };
+    }
+
+    @Override
+    public String toString(String field) {
+      return "counting(" + in.toString(field) + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return sameClassAs(other) && in.equals(((SegmentCountingQuery) other).in)
+          && counter == ((SegmentCountingQuery) other).counter;
+    }
+
+    @Override
+    public int hashCode() {
+      return classHash() ^ in.hashCode();
+    }
+  }
+
+  private static SortField sortField(String field, boolean reverse) {
+    return h.getCore().getLatestSchema().getField(field).getSortField(reverse);
+  }
+
+  private static QueryCommand command(Query query, List<Query> filters, Sort sort, int len) {
+    return new QueryCommand().setQuery(query).setFilterList(filters).setSort(sort).setLen(len)
+        .setFlags(SolrIndexSearcher.GET_DOCLIST);
+  }
+
+  /** Returns the ids and number of matches of a query, from the cache and by executing it. */
+  private static DocList[] search(QueryCommand cmd) throws IOException {
+    return h.getCore().withSearcher(searcher -> {
+      DocList cached = searcher.search(new QueryResult(), cmd).getDocList();
+      cmd.setFlags(SolrIndexSearcher.NO_CHECK_QCACHE | SolrIndexSearcher.NO_SET_QCACHE);
+      DocList executed = searcher.search(new QueryResult(), cmd).getDocList();
+      cmd.clearFlags(SolrIndexSearcher.NO_CHECK_QCACHE | SolrIndexSearcher.NO_SET_QCACHE);
+      return new DocList[] {cached, executed};
+    });
+  }
+
+  private static void assertSameResults(QueryCommand cmd) throws IOException {
+    DocList[] lists = search(cmd);
+    assertEquals(lists[1].matches(), lists[0].matches());
+    assertEquals(toList(lists[1]), toList(lists[0]));
+  }
+
+  private static List<Integer> toList(DocList docList) {
+    Integer[] docs = new Integer[docList.size()];
+    DocIterator it = docList.iterator();
+    for (int i = 0; i < docs.length; i++) {
+      docs[i] = it.nextDoc();
+    }
+    return Arrays.asList(docs);
+  }
+
+  private static Set<IndexReader.CacheKey> readerKeys() throws IOException {
+    return h.getCore().withSearcher(searcher -> {
+      Set<IndexReader.CacheKey> keys = new HashSet<>();
+      for (LeafReaderContext leaf : searcher.getTopReaderContext().leaves()) {
+        keys.add(leaf.reader().getReaderCacheHelper().getKey());
+      }
+      return keys;
+    });
+  }
+
+  @Test
+  public void testOnlyNewSegmentsAreSearched() throws Exception {
+    for (int i = 0; i < 60; i++) {
+      assertU(adoc("id", Integer.toString(i), "cat_s", i % 3 == 0 ? "a" : "b", "val_idv", Integer.toString(i % 17)));
+      if (i % 20 == 19) {
+        assertU(commit());
+      }
+    }
+    QueryCommand cmd = command(new SegmentCountingQuery(new TermQuery(new Term("cat_s", "b"))), null,
+        new Sort(sortField("val_idv", false)), 10);
+    assertSameResults(cmd);
+
+    Set<IndexReader.CacheKey> oldKeys = readerKeys();
+    searchedSegments.set(0);
+    assertU(adoc("id", "100", "cat_s", "b", "val_idv", "0"));
+    assertU(adoc("id", "101", "cat_s", "b", "val_idv", "100"));
+    assertU(commit());
+    Set<IndexReader.CacheKey> newKeys = readerKeys();
+    newKeys.removeAll(oldKeys);
+    assertEquals(newKeys.size(), searchedSegments.get());
+    assertSameResults(cmd);
+
+    // a segment with new deletes is searched again, but its cached hits still bound the unknown ones
+    oldKeys = readerKeys();
+    searchedSegments.set(0);
+    assertU(delI("16"));
+    assertU(commit());
+    newKeys = readerKeys();
+    newKeys.removeAll(oldKeys);
+    assertEquals(newKeys.size(), searchedSegments.get());
+    assertSameResults(cmd);
+  }
+
+  @Test
+  public void testRandomSortIsNotWarmedIncrementally() throws Exception {
+    for (int i = 0; i < 40; i++) {
+      assertU(adoc("id", Integer.toString(i), "cat_s", "b"));
+      if (i % 20 == 19) {
+        assertU(commit());
+      }
+    }
+    // the random order depends on the version of the index, so it changes with every commit
+    SortField randomSort = new RandomSortField().getSortField(h.getCore().getLatestSchema().getField("id"), false);
+    // entries of other tests may still be warmed, so this query counts on its own
+    AtomicInteger counter = new AtomicInteger();
+    QueryCommand cmd = command(new SegmentCountingQuery(new TermQuery(new Term("cat_s", "b")), counter), null,
+        new Sort(randomSort), 10);
+    assertSameResults(cmd);
+
+    counter.set(0);
+    assertU(adoc("id", "100", "cat_s", "b"));
+    assertU(commit());
+    // the whole index is searched again when warming the entry
+    assertEquals(readerKeys().size(), counter.get());
+    assertSameResults(cmd);
+  }
+
+  @Test
+  public void testJoinIsNotWarmedIncrementally() throws Exception {
+    for (int i = 0; i < 20; i++) {
+      assertU(adoc("id", Integer.toString(i), "cat_s", "parent", "val_idv", Integer.toString(i)));
+    }
+    assertU(adoc("id", "100", "cat_s", "child", "parent_s", "5"));
+    assertU(commit());
+    final Query join;
+    SolrQueryRequest req = req();
+    try {
+      join = QParser.getParser("{!join from=parent_s to=id}cat_s:child", req).getQuery();
+    } finally {
+      req.close();
+    }
+    List<QueryCommand> commands = Arrays.asList(
+        command(join, null, new Sort(sortField("val_idv", false)), 10),
+        command(new TermQuery(new Term("cat_s", "parent")), Collections.singletonList(join),
+            new Sort(sortField("val_idv", false)), 10));
+    for (QueryCommand cmd : commands) {
+      assertEquals(1, search(cmd)[0].matches());
+    }
+
+    // the join now also matches a parent in the first segment
+    assertU(adoc("id", "101", "cat_s", "child", "parent_s", "3"));
+    assertU(commit());
+    for (QueryCommand cmd : commands) {
+      assertEquals(2, search(cmd)[0].matches());
+      assertSameResults(cmd);
+    }
+  }
+
+  @Test
+  public void testRandomUpdates() throws Exception {
+    int numDocs = 0;
+    List<QueryCommand> commands = Arrays.asList(
+        command(new TermQuery(new Term("cat_s", "a")), null, new Sort(sortField("val_idv", false)), 10),
+        command(new TermQuery(new Term("cat_s", "b")), null, new Sort(sortField("val_idv", true)), 5),
+        command(new TermQuery(new Term("cat_s", "b")), Collections.singletonList(new TermQuery(new Term("tag_s", "x"))),
+            new Sort(sortField("val_idv", false), sortField("id", false)), 30),
+        command(new TermQuery(new Term("cat_s", "a")), null, Sort.INDEXORDER, 3));
+    for (int round = 0; round < 20; round++) {
+      int numAdds = random().nextInt(50);
+      for (int i = 0; i < numAdds; i++) {
+        assertU(adoc("id", Integer.toString(numDocs++), "cat_s", random().nextBoolean() ? "a" : "b",
+            "tag_s", random().nextBoolean() ? "x" : "y", "val_idv", Integer.toString(random().nextInt(100))));
+      }
+      int numDeletes = random().nextInt(5);
+      for (int i = 0; i < numDeletes && numDocs > 0; i++) {
+        assertU(delI(Integer.toString(random().nextInt(numDocs))));
+      }
+      assertU(commit());
+      for (QueryCommand cmd : commands) {
+        assertSameResults(cmd);
+      }
+    }
+  }
+}
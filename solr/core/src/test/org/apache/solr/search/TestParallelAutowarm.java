@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.solr.SolrTestCaseJ4;
+import org.apache.solr.request.SolrRequestInfo;
+import org.apache.solr.util.RefCounted;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that caches are warmed on several threads when <code>autowarmThreads</code>
+ * is set, and that warming stops when <code>autowarmTimeAllowed</code> is exceeded.
+ */
+public class TestParallelAutowarm extends SolrTestCaseJ4 {
+
+  private static final int TIME_ALLOWED_MS = 2000;
+
+  static final Set<String> regeneratingThreads = ConcurrentHashMap.newKeySet();
+  static volatile long regenerationSleepMs = 0;
+  static volatile boolean missingRequest = false;
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    System.setProperty("solr.autowarmTimeAllowed", Integer.toString(TIME_ALLOWED_MS));
+    initCore("solrconfig-autowarm.xml", "schema.xml");
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    System.clearProperty("solr.autowarmTimeAllowed");
+  }
+
+  @Before
+  public void reset() {
+    regeneratingThreads.clear();
+    regenerationSleepMs = 0;
+    missingRequest = false;
+  }
+
+  /** Puts entries as is in the new cache, and records which threads did it. */
+  public static class RecordingRegenerator implements CacheRegenerator {
+    @Override
+    public boolean regenerateItem(SolrIndexSearcher newSearcher, SolrCache newCache, SolrCache oldCache,
+                                  Object oldKey, Object oldVal) throws IOException {
+      SolrRequestInfo info = SolrRequestInfo.getRequestInfo();
+      if (info == null || info.getReq().getSearcher() != newSearcher) {
+        missingRequest = true;
+      }
+      regeneratingThreads.add(Thread.currentThread().getName());
+      if (regenerationSleepMs > 0) {
+        try {
+          Thread.sleep(regenerationSleepMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      newCache.put(oldKey, oldVal);
+      return true;
+    }
+  }
+
+  private void fillCacheAndCommit(int numEntries) throws IOException {
+    fillCacheAndCommit("recordingCache", numEntries);
+  }
+
+  /** Fills the given cache from key0, the least valuable entry, to the most valuable one, and opens a new searcher. */
+  private void fillCacheAndCommit(String cacheName, int numEntries) throws IOException {
+    h.getCore().withSearcher(searcher -> {
+      searcher.getCache(cacheName).clear();
+      for (int i = 0; i < numEntries; i++) {
+        searcher.cacheInsert(cacheName, "key" + i, "value" + i);
+      }
+      return null;
+    });
+    assertU(adoc("id", Integer.toString(random().nextInt())));
+    assertU(commit());
+  }
+
+  private Map<String,Object> recordingCacheMetrics() {
+    RefCounted<SolrIndexSearcher> ref = h.getCore().getSearcher();
+    try {
+      return ((LRUCache) ref.get().getCache("recordingCache")).getMetricsMap().getValue();
+    } finally {
+      ref.decref();
+    }
+  }
+
+  private static void assertWarmingThreads() {
+    assertFalse("regenerator ran without a warming request", missingRequest);
+    assertTrue(regeneratingThreads.toString(), regeneratingThreads.size() > 1);
+    for (String thread : regeneratingThreads) {
+      // the executor of the core helps the thread that warms the searcher
+      assertTrue(thread, thread.startsWith("autowarm") || thread.startsWith("searcherExecutor"));
+    }
+  }
+
+  @Test
+  public void testParallelWarming() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      assertU(adoc("id", Integer.toString(i), "name", "name" + (i % 3)));
+    }
+    assertU(commit());
+    assertQ(req("q", "*:*", "fq", "name:name0"), "//*[@numFound='4']");
+    assertQ(req("q", "*:*", "fq", "name:name1"), "//*[@numFound='3']");
+
+    regenerationSleepMs = 20;
+    fillCacheAndCommit(20);
+
+    Map<String,Object> metrics = recordingCacheMetrics();
+    assertEquals(20, metrics.get("size"));
+    assertEquals(20, metrics.get("warmupCount"));
+    assertEquals(0, metrics.get("warmupSkipped"));
+    assertWarmingThreads();
+
+    RefCounted<SolrIndexSearcher> ref = h.getCore().getSearcher();
+    try {
+      Map<String,Object> filterCacheMetrics = ((FastLRUCache) ref.get().getFilterCache()).getMetricsMap().getValue();
+      assertTrue(filterCacheMetrics.toString(), (Integer) filterCacheMetrics.get("warmupCount") >= 2);
+      assertEquals(0, filterCacheMetrics.get("warmupSkipped"));
+    } finally {
+      ref.decref();
+    }
+    assertQ(req("q", "*:*", "fq", "name:name0"), "//*[@numFound='4']");
+  }
+
+  @Test
+  public void testTimeAllowed() throws Exception {
+    final int numEntries = 40;
+    // 4 threads need 40 * 500 / 4 = 5 seconds to regenerate all entries
+    regenerationSleepMs = 500;
+    fillCacheAndCommit(numEntries);
+
+    Map<String,Object> metrics = recordingCacheMetrics();
+    int warmed = (Integer) metrics.get("warmupCount");
+    int skipped = (Integer) metrics.get("warmupSkipped");
+    assertTrue(metrics.toString(), skipped > 0);
+    assertEquals(metrics.toString(), numEntries, warmed + skipped);
+    assertEquals(warmed, metrics.get("size"));
+
+    // the most recently used entries are regenerated first
+    h.getCore().withSearcher(searcher -> {
+      SolrCache<Object,Object> cache = searcher.getCache("recordingCache");
+      for (int i = 0; i < numEntries; i++) {
+        assertEquals("key" + i, i >= numEntries - warmed, cache.get("key" + i) != null);
+      }
+      return null;
+    });
+  }
+
+  @Test
+  public void testEvictionOrderIsPreserved() throws Exception {
+    // the most valuable entries are regenerated first, on several threads
+    final int size = 512;
+    fillCacheAndCommit(size);
+    assertEquals(size, recordingCacheMetrics().get("warmupCount"));
+
+    final int numEvicted = 10;
+    h.getCore().withSearcher(searcher -> {
+      SolrCache<Object,Object> cache = searcher.getCache("recordingCache");
+      for (int i = 0; i < numEvicted; i++) {
+        cache.put("extra" + i, "value");
+      }
+      // the least valuable entries of the old cache are evicted first
+      for (int i = 0; i < size; i++) {
+        assertEquals("key" + i, i >= numEvicted, cache.get("key" + i) != null);
+      }
+      return null;
+    });
+  }
+
+  @Test
+  public void testParallelWarmingOfLFUCache() throws Exception {
+    regenerationSleepMs = 20;
+    fillCacheAndCommit("recordingLFUCache", 20);
+
+    RefCounted<SolrIndexSearcher> ref = h.getCore().getSearcher();
+    try {
+      Map<String,Object> metrics = ((LFUCache) ref.get().getCache("recordingLFUCache")).getMetricsMap().getValue();
+      assertEquals(20, ((Number) metrics.get("size")).intValue());
+      assertEquals(20, metrics.get("warmupCount"));
+      assertEquals(0, metrics.get("warmupSkipped"));
+    } finally {
+      ref.decref();
+    }
+    assertWarmingThreads();
+  }
+}
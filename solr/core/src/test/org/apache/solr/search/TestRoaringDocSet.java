@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.util.Random;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.LuceneTestCase;
+
+/**
+ * Test for <code>org.apache.solr.search.RoaringDocSet</code> on sets that span several
+ * blocks, with a mix of empty, sparse and dense blocks.
+ */
+public class TestRoaringDocSet extends LuceneTestCase {
+
+  /** Returns bits where each block of 65536 docs is either empty, sparse, dense or full. */
+  private static FixedBitSet randomBits(Random random, int maxDoc) {
+    FixedBitSet bits = new FixedBitSet(maxDoc);
+    for (int base = 0; base < maxDoc; base += RoaringDocSet.BLOCK_SIZE) {
+      int end = Math.min(base + RoaringDocSet.BLOCK_SIZE, maxDoc);
+      switch (random.nextInt(5)) {
+        case 0:
+          break;
+        case 1:
+          bits.set(base, end);
+          break;
+        case 2:
+          // around the limit between arrays and bitmaps
+          for (int i = RoaringDocSet.MAX_ARRAY_LENGTH - 2 + random.nextInt(5); i > 0; i--) {
+            bits.set(base + random.nextInt(end - base));
+          }
+          break;
+        default:
+          int numDocs = random.nextInt(random.nextBoolean() ? 100 : 20000);
+          for (int i = 0; i < numDocs; i++) {
+            bits.set(base + random.nextInt(end - base));
+          }
+      }
+    }
+    return bits;
+  }
+
+  private static int[] toArray(FixedBitSet bits) {
+    int[] docs = new int[bits.cardinality()];
+    BitSetIterator iter = new BitSetIterator(bits, 0);
+    for (int i = 0; i < docs.length; i++) {
+      docs[i] = iter.nextDoc();
+    }
+    return docs;
+  }
+
+  private DocSet randomDocSet(FixedBitSet bits) {
+    switch (random().nextInt(4)) {
+      case 0: return new BitDocSet(bits.clone());
+      case 1: return new SortedIntDocSet(toArray(bits));
+      case 2: return new HashDocSet(toArray(bits), 0, bits.cardinality());
+      default: return RoaringDocSet.fromBits(bits);
+    }
+  }
+
+  private static void assertSameDocs(FixedBitSet expected, DocSet actual) {
+    assertEquals(expected.cardinality(), actual.size());
+    if (actual instanceof HashDocSet) {
+      // does not iterate in order
+      assertEquals(new BitDocSet(expected), actual);
+      return;
+    }
+    DocIterator iter = actual.iterator();
+    for (int doc = expected.nextSetBit(0); doc != DocIdSetIterator.NO_MORE_DOCS;
+         doc = doc + 1 >= expected.length() ? DocIdSetIterator.NO_MORE_DOCS : expected.nextSetBit(doc + 1)) {
+      assertTrue(iter.hasNext());
+      assertEquals(doc, iter.nextDoc());
+    }
+    assertFalse(iter.hasNext());
+  }
+
+  public void testRandomOperations() {
+    for (int iter = 0; iter < 20; iter++) {
+      int maxDoc = 1 + random().nextInt(5 * RoaringDocSet.BLOCK_SIZE);
+      FixedBitSet bits1 = randomBits(random(), maxDoc);
+      FixedBitSet bits2 = randomBits(random(), maxDoc);
+      RoaringDocSet set1 = RoaringDocSet.fromBits(bits1);
+      DocSet set2 = randomDocSet(bits2);
+
+      assertSameDocs(bits1, set1);
+      assertEquals(new BitDocSet(bits1), set1);
+      for (int i = 0; i < 1000; i++) {
+        int doc = random().nextInt(maxDoc);
+        assertEquals(bits1.get(doc), set1.exists(doc));
+      }
+      assertFalse(set1.exists(maxDoc + RoaringDocSet.BLOCK_SIZE));
+      BitDocSet bitSet1 = set1.toBitDocSet();
+      assertEquals(maxDoc, bitSet1.getBits().length());
+      assertSameDocs(bits1, bitSet1);
+
+      FixedBitSet and = bits1.clone();
+      and.and(bits2);
+      FixedBitSet or = bits1.clone();
+      or.or(bits2);
+      FixedBitSet andNot = bits1.clone();
+      andNot.andNot(bits2);
+
+      assertSameDocs(and, set1.intersection(set2));
+      assertSameDocs(and, set2.intersection(set1));
+      assertSameDocs(or, set1.union(set2));
+      assertSameDocs(andNot, set1.andNot(set2));
+      assertEquals(and.cardinality(), set1.intersectionSize(set2));
+      assertEquals(and.cardinality(), set2.intersectionSize(set1));
+      assertEquals(and.cardinality() > 0, set1.intersects(set2));
+      assertEquals(and.cardinality() > 0, set2.intersects(set1));
+      assertEquals(or.cardinality(), set1.unionSize(set2));
+      assertEquals(andNot.cardinality(), set1.andNotSize(set2));
+      FixedBitSet otherAndNot = bits2.clone();
+      otherAndNot.andNot(bits1);
+      assertEquals(otherAndNot.cardinality(), set2.andNotSize(set1));
+    }
+  }
+
+  public void testCompress() {
+    int maxDoc = 10 * RoaringDocSet.BLOCK_SIZE;
+
+    // one doc in 16: stays a bit set
+    FixedBitSet dense = new FixedBitSet(maxDoc);
+    for (int doc = 0; doc < maxDoc; doc += 16) {
+      dense.set(doc);
+    }
+    BitDocSet denseSet = new BitDocSet(dense);
+    assertSame(denseSet, RoaringDocSet.compress(denseSet));
+
+    // the same docs, but all in one block: only takes one bitmap
+    FixedBitSet clustered = new FixedBitSet(maxDoc);
+    clustered.set(3 * RoaringDocSet.BLOCK_SIZE, 4 * RoaringDocSet.BLOCK_SIZE);
+    BitDocSet clusteredSet = new BitDocSet(clustered);
+    DocSet compressed = RoaringDocSet.compress(clusteredSet);
+    assertTrue(compressed instanceof RoaringDocSet);
+    assertEquals(clusteredSet, compressed);
+    assertTrue(compressed.ramBytesUsed() * 5 < clusteredSet.ramBytesUsed());
+
+    // one doc in 128
+    FixedBitSet sparse = new FixedBitSet(maxDoc);
+    for (int doc = 0; doc < maxDoc; doc += 128) {
+      sparse.set(doc);
+    }
+    BitDocSet sparseSet = new BitDocSet(sparse);
+    compressed = RoaringDocSet.compress(sparseSet);
+    assertTrue(compressed instanceof RoaringDocSet);
+    assertEquals(sparseSet, compressed);
+    assertTrue(compressed.ramBytesUsed() * 3 < sparseSet.ramBytesUsed());
+  }
+}
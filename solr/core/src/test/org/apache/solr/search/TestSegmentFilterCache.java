@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search;
+
+import java.util.Map;
+
+import org.apache.lucene.search.Query;
+import org.apache.solr.SolrTestCaseJ4;
+import org.apache.solr.index.NoMergePolicyFactory;
+import org.apache.solr.request.SolrQueryRequest;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests that filters are only computed on new segments when a searcher is opened, and
+ * that the per segment entries account for deleted documents.
+ */
+public class TestSegmentFilterCache extends SolrTestCaseJ4 {
+
+  @BeforeClass
+  public static void beforeClass() throws Exception {
+    // segments must not be merged for the cache entries of a segment to be reused
+    systemSetPropertySolrTestsMergePolicyFactory(NoMergePolicyFactory.class.getName());
+    initCore("solrconfig-segmentfiltercache.xml", "schema.xml");
+  }
+
+  @Before
+  public void resetIndex() throws Exception {
+    clearIndex();
+    assertU(commit());
+    // so that filters of other tests are not warmed
+    h.getCore().withSearcher(searcher -> {
+      searcher.getFilterCache().clear();
+      return null;
+    });
+    h.getCore().getSegmentFilterCache().clear();
+  }
+
+  private static long metric(String name) {
+    Map<String,Object> metrics = h.getCore().getSegmentFilterCache().getMetricsMap().getValue();
+    return ((Number) metrics.get(name)).longValue();
+  }
+
+  @Test
+  public void testReuseAcrossCommits() throws Exception {
+    for (int i = 0; i < 20; i++) {
+      assertU(adoc("id", Integer.toString(i), "cat_s", i % 2 == 0 ? "even" : "odd"));
+    }
+    assertU(commit());
+    assertJQ(req("q", "*:*", "fq", "cat_s:even"), "/response/numFound==10");
+    long segments = metric("size");
+    assertTrue(segments > 0);
+    long inserts = metric("inserts");
+    long hits = metric("hits");
+
+    // the new searcher warms its filterCache by only computing the filter on the new segment
+    assertU(adoc("id", "20", "cat_s", "even"));
+    assertU(commit());
+    assertTrue(metric("hits") - hits >= segments);
+    assertEquals(inserts + 1, metric("inserts"));
+    assertJQ(req("q", "*:*", "fq", "cat_s:even"), "/response/numFound==11");
+
+    // entries ignore deletes, which are applied when reading them
+    hits = metric("hits");
+    inserts = metric("inserts");
+    assertU(delI("0"));
+    assertU(delI("2"));
+    assertU(commit());
+    assertTrue(metric("hits") > hits);
+    assertEquals(inserts, metric("inserts"));
+    assertJQ(req("q", "*:*", "fq", "cat_s:even"), "/response/numFound==9");
+    assertJQ(req("q", "*:*", "fq", "-cat_s:even"), "/response/numFound==10");
+    assertJQ(req("q", "*:*", "fq", "cat_s:even", "fq", "id:(0 OR 4)"), "/response/numFound==1");
+  }
+
+  @Test
+  public void testNotCacheablePerSegment() throws Exception {
+    assertU(adoc("id", "1", "parent_s", "0"));
+    assertU(commit());
+    assertU(adoc("id", "2", "parent_s", "1"));
+    assertU(commit());
+
+    // the matches of joins in a segment depend on the other segments
+    assertJQ(req("q", "*:*", "fq", "{!graph from=id to=parent_s}id:2"), "/response/numFound==2");
+    assertJQ(req("q", "*:*", "fq", "{!join from=parent_s to=id}id:3"), "/response/numFound==0");
+    assertJQ(req("q", "*:*", "fq", "{!graph from=id to=parent_s}id:3"), "/response/numFound==0");
+    // now matches a document of the first segment
+    assertU(adoc("id", "3", "parent_s", "1"));
+    assertU(commit());
+    assertJQ(req("q", "*:*", "fq", "{!join from=parent_s to=id}id:3"), "/response/numFound==1");
+    assertJQ(req("q", "*:*", "fq", "{!graph from=id to=parent_s}id:3"), "/response/numFound==2");
+  }
+
+  @Test
+  public void testGraphTermsNotCacheablePerSegment() throws Exception {
+    assertU(adoc("id", "1", "cat_s", "a"));
+    assertU(commit());
+    final Query query;
+    SolrQueryRequest req = req();
+    try {
+      // graphTerms queries are only equal to themselves, so the same instance is searched again
+      query = QParser.getParser("{!graphTerms f=cat_s maxDocFreq=1}a,b", req).getQuery();
+    } finally {
+      req.close();
+    }
+    final SegmentFilterCache cache = h.getCore().getSegmentFilterCache();
+    h.getCore().withSearcher(searcher -> {
+      assertEquals(1, cache.getDocSet(searcher, query).size());
+      return null;
+    });
+
+    // the term of the first segment is now too frequent in the index to match
+    assertU(adoc("id", "2", "cat_s", "a"));
+    assertU(commit());
+    h.getCore().withSearcher(searcher -> {
+      assertEquals(0, cache.getDocSet(searcher, query).size());
+      return null;
+    });
+  }
+}
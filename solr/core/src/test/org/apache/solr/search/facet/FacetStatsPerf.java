@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search.facet;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.queries.function.ValueSource;
+import org.apache.lucene.queries.function.valuesource.DoubleFieldSource;
+import org.apache.lucene.queries.function.valuesource.LongFieldSource;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.solr.util.RTimer;
+
+/** Performance tester for the sum, avg, min and max accumulators of numeric fields,
+ * collected one document at a time through FunctionValues, or in batches read from
+ * the doc values of each segment.
+ * Use -Xbatch for more predictable results, and run such that the duration
+ * is at least 10 seconds for better accuracy.
+ *
+ * <pre>FacetStatsPerf [numDocs] [numSlots] [iter]</pre>
+ */
+public class FacetStatsPerf {
+
+  public static void main(String[] args) throws IOException {
+    int numDocs = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+    int numSlots = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int iter = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+    Random rand = new Random(0);
+    try (Directory dir = new ByteBuffersDirectory()) {
+      try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(null).setRAMBufferSizeMB(64))) {
+        for (int i = 0; i < numDocs; i++) {
+          Document doc = new Document();
+          if (rand.nextInt(10) != 0) { // some documents have no value
+            doc.add(new NumericDocValuesField("v_d", Double.doubleToRawLongBits(rand.nextDouble() * 1000)));
+            doc.add(new NumericDocValuesField("v_l", rand.nextInt(1000000)));
+          }
+          writer.addDocument(doc);
+        }
+      }
+
+      try (DirectoryReader reader = DirectoryReader.open(dir)) {
+        FacetContext fcontext = new FacetContext();
+        ValueSource doubles = new DoubleFieldSource("v_d");
+        ValueSource longs = new LongFieldSource("v_l");
+        System.out.println("docs=" + numDocs + " segments=" + reader.leaves().size() + " slots=" + numSlots);
+
+        for (String stat : new String[] {"sum", "avg", "min", "max", "min_long", "max_long", "all"}) {
+          SlotAcc[] perDocAccs = createAccs(stat, doubles, longs, fcontext, numSlots);
+          SlotAcc[] batchedAccs = createAccs(stat, doubles, longs, fcontext, numSlots);
+          SlotAcc perDoc = perDocAccs.length == 1 ? perDocAccs[0] : new FacetFieldProcessor.MultiAcc(fcontext, perDocAccs);
+          SlotAcc batched = batchedAccs.length == 1 ? batchedAccs[0] : new FacetFieldProcessor.MultiAcc(fcontext, batchedAccs);
+          double perDocMs = 0;
+          double batchedMs = 0;
+          for (int it = 0; it < iter; it++) {
+            perDoc.reset();
+            RTimer timer = new RTimer();
+            collectPerDoc(reader, perDoc, numSlots);
+            perDocMs += timer.getTime();
+
+            batched.reset();
+            timer = new RTimer();
+            collectBatched(reader, batched, numSlots);
+            batchedMs += timer.getTime();
+          }
+          for (int i = 0; i < perDocAccs.length; i++) {
+            for (int slot = 0; slot < numSlots; slot++) {
+              Object expected = perDocAccs[i].getValue(slot);
+              Object actual = batchedAccs[i].getValue(slot);
+              if (!String.valueOf(expected).equals(String.valueOf(actual))) {
+                throw new RuntimeException(stat + " differs in slot " + slot + ": " + expected + " != " + actual);
+              }
+            }
+          }
+          System.out.println(stat + ": perDoc=" + (long) (perDocMs / iter) + "ms batched=" + (long) (batchedMs / iter) + "ms");
+        }
+      }
+    }
+  }
+
+  static SlotAcc[] createAccs(String stat, ValueSource doubles, ValueSource longs, FacetContext fcontext, int numSlots) {
+    if ("all".equals(stat)) {
+      String[] stats = {"sum", "avg", "min", "max", "min_long", "max_long"};
+      SlotAcc[] accs = new SlotAcc[stats.length];
+      for (int i = 0; i < stats.length; i++) {
+        accs[i] = createAcc(stats[i], doubles, longs, fcontext, numSlots);
+      }
+      return accs;
+    }
+    return new SlotAcc[] {createAcc(stat, doubles, longs, fcontext, numSlots)};
+  }
+
+  static SlotAcc createAcc(String stat, ValueSource doubles, ValueSource longs, FacetContext fcontext, int numSlots) {
+    switch (stat) {
+      case "sum": return new SumSlotAcc(doubles, fcontext, numSlots);
+      case "avg": return new AvgSlotAcc(doubles, fcontext, numSlots);
+      case "min": return new MinMaxAgg("min", doubles).new DFuncAcc(doubles, fcontext, numSlots);
+      case "max": return new MinMaxAgg("max", doubles).new DFuncAcc(doubles, fcontext, numSlots);
+      case "min_long": return new MinMaxAgg("min", longs).new LFuncAcc(longs, fcontext, numSlots);
+      case "max_long": return new MinMaxAgg("max", longs).new LFuncAcc(longs, fcontext, numSlots);
+      default: throw new IllegalArgumentException(stat);
+    }
+  }
+
+  static void collectPerDoc(DirectoryReader reader, SlotAcc acc, int numSlots) throws IOException {
+    for (LeafReaderContext ctx : reader.leaves()) {
+      acc.setNextReader(ctx);
+      int maxDoc = ctx.reader().maxDoc();
+      for (int doc = 0; doc < maxDoc; doc++) {
+        acc.collect(doc, (ctx.docBase + doc) % numSlots, null);
+      }
+    }
+  }
+
+  static void collectBatched(DirectoryReader reader, SlotAcc acc, int numSlots) throws IOException {
+    SlotAcc.Batch batch = new SlotAcc.Batch(new SlotAcc[] {acc}, null);
+    for (LeafReaderContext ctx : reader.leaves()) {
+      acc.setNextReader(ctx);
+      int maxDoc = ctx.reader().maxDoc();
+      for (int doc = 0; doc < maxDoc; doc++) {
+        batch.add(doc, (ctx.docBase + doc) % numSlots);
+      }
+      batch.flush();
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search.facet;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+import org.apache.solr.SolrTestCaseHS;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the sum, avg, min and max of numeric fields, which are collected in batches of documents
+ * read from the doc values of each segment by {@link NumericFieldValues}.
+ */
+public class TestFacetNumericStats extends SolrTestCaseHS {
+  private static final int NUM_DOCS = 450;
+  private static final String[] FIELDS = {"n_i", "n_l", "n_f", "n_d"};
+
+  @BeforeClass
+  public static void beforeTests() throws Exception {
+    initCore("solrconfig.xml", "schema_latest.xml");
+  }
+
+  /** The value of a field of a document, or null if it has none. */
+  private static Number value(String field, int i) {
+    switch (field) {
+      case "n_i": return i % 5 == 0 ? null : (Number) (i % 13 - 6);
+      case "n_l": return i % 7 == 0 ? null : (Number) ((i % 17 - 8) * 1_000_000_000_000L);
+      case "n_f": return i % 5 == 0 ? null : (Number) ((i % 11) * 0.5f - 2);
+      case "n_d": return i % 7 == 0 ? null : (Number) ((i % 19) * 0.25 - 2);
+      default: throw new IllegalArgumentException(field);
+    }
+  }
+
+  private static String stats() {
+    StringBuilder sb = new StringBuilder();
+    for (String f : FIELDS) {
+      sb.append("sum_").append(f).append(":'sum(").append(f).append(")', ");
+      sb.append("avg_").append(f).append(":'avg(").append(f).append(")', ");
+      sb.append("min_").append(f).append(":'min(").append(f).append(")', ");
+      sb.append("max_").append(f).append(":'max(").append(f).append(")', ");
+    }
+    return sb.substring(0, sb.length() - 2);
+  }
+
+  /** The expected count and stats of the documents that match */
+  private static String expected(IntPredicate docs) {
+    int count = 0;
+    StringBuilder sb = new StringBuilder();
+    for (String f : FIELDS) {
+      boolean integral = f.equals("n_i") || f.equals("n_l");
+      double sum = 0;
+      int num = 0;
+      Number min = null;
+      Number max = null;
+      count = 0;
+      for (int i = 0; i < NUM_DOCS; i++) {
+        if (!docs.test(i)) continue;
+        count++;
+        Number val = value(f, i);
+        if (val == null) continue;
+        sum += val.doubleValue();
+        num++;
+        if (min == null || val.doubleValue() < min.doubleValue()) min = val;
+        if (max == null || val.doubleValue() > max.doubleValue()) max = val;
+      }
+      sb.append(", sum_").append(f).append(':').append(sum);
+      sb.append(", avg_").append(f).append(':').append(num == 0 ? 0.0 : sum / num);
+      sb.append(", min_").append(f).append(':').append(integral ? String.valueOf(min.longValue()) : String.valueOf(min.doubleValue()));
+      sb.append(", max_").append(f).append(':').append(integral ? String.valueOf(max.longValue()) : String.valueOf(max.doubleValue()));
+    }
+    return "count:" + count + sb;
+  }
+
+  @Test
+  public void testStatsOfNumericFields() throws Exception {
+    Client client = Client.localClient();
+    client.deleteByQuery("*:*", null);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      SolrInputDocument doc = sdoc("id", Integer.toString(i), "cat_s", "c" + (i % 3),
+          "tags_ss", Arrays.asList("a" + (i % 2), "b" + (i % 3)), "keep_s", i % 4 == 1 ? "n" : "y");
+      for (String f : FIELDS) {
+        Number val = value(f, i);
+        if (val != null) {
+          doc.addField(f, val);
+        }
+      }
+      client.add(doc, null);
+      if (i % 150 == 149) {
+        client.commit(); // several segments, with more documents than a batch
+      }
+    }
+
+    String stats = stats();
+    String facets = "{" + stats +
+        ", cat:{type:terms, field:cat_s, method:dv, limit:-1, sort:'index asc', facet:{" + stats + "}}" +
+        ", tags:{type:terms, field:tags_ss, method:dv, limit:-1, sort:'index asc', facet:{sum_n_d:'sum(n_d)'}}" +
+        ", sorted:{type:terms, field:tags_ss, method:dv, sort:'sum_n_d desc', limit:1, facet:{" + stats + "}}" +
+        ", q:{type:query, q:'cat_s:c1', facet:{" + stats + "}}" +
+        "}";
+
+    for (boolean filtered : new boolean[] {false, true}) {
+      IntPredicate base = filtered ? i -> i % 4 != 1 : i -> true;
+      StringBuilder tags = new StringBuilder();
+      String top = null; // the tag with the highest sum of n_d
+      IntPredicate topDocs = null;
+      double topSum = Double.NEGATIVE_INFINITY;
+      for (String tag : new String[] {"a0", "a1", "b0", "b1", "b2"}) {
+        int mod = tag.charAt(0) == 'a' ? 2 : 3;
+        int rem = tag.charAt(1) - '0';
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < NUM_DOCS; i++) {
+          if (base.test(i) && i % mod == rem) {
+            count++;
+            Number val = value("n_d", i);
+            sum += val == null ? 0 : val.doubleValue();
+          }
+        }
+        if (sum > topSum) {
+          topSum = sum;
+          top = tag;
+          topDocs = i -> i % mod == rem;
+        }
+        tags.append(tags.length() == 0 ? "" : ", ").append("{val:").append(tag).append(", count:").append(count)
+            .append(", sum_n_d:").append(sum).append('}');
+      }
+
+      IntPredicate inTop = topDocs;
+      client.testJQ(params("q", "*:*", "fq", filtered ? "keep_s:y" : "*:*", "rows", "0", "json.facet", facets)
+          , "facets=={ " + expected(base) +
+              ", cat:{buckets:[" +
+              "{val:c0, " + expected(i -> base.test(i) && i % 3 == 0) + "}, " +
+              "{val:c1, " + expected(i -> base.test(i) && i % 3 == 1) + "}, " +
+              "{val:c2, " + expected(i -> base.test(i) && i % 3 == 2) + "}]}" +
+              ", tags:{buckets:[" + tags + "]}" +
+              ", sorted:{buckets:[{val:" + top + ", " + expected(i -> base.test(i) && inTop.test(i)) + "}]}" +
+              ", q:{" + expected(i -> base.test(i) && i % 3 == 1) + "}" +
+              "}"
+      );
+    }
+  }
+}
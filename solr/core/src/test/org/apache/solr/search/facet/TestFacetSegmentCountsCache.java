@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.search.facet;
+
+import java.util.Arrays;
+
+import org.apache.solr.SolrTestCaseHS;
+import org.apache.solr.metrics.MetricsMap;
+import org.apache.solr.metrics.SolrMetricManager;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the {@link FacetFieldProcessorByArrayDV#CACHE_NAME} cache of the counts of segments of terms facets.
+ */
+public class TestFacetSegmentCountsCache extends SolrTestCaseHS {
+
+  @BeforeClass
+  public static void beforeTests() throws Exception {
+    initCore("solrconfig-perSegFacet.xml", "schema_latest.xml");
+  }
+
+  private static long cacheStat(String name) {
+    MetricsMap metrics = (MetricsMap) ((SolrMetricManager.GaugeWrapper<?>) h.getCore().getCoreMetricManager().getRegistry()
+        .getMetrics().get("CACHE.searcher." + FacetFieldProcessorByArrayDV.CACHE_NAME)).getGauge();
+    return ((Number) metrics.getValue().get(name)).longValue();
+  }
+
+  /** The counts of segments for the root domain are cached, and only the segments that changed are counted again. */
+  @Test
+  public void testSegmentCountsCache() throws Exception {
+    Client client = Client.localClient();
+    client.deleteByQuery("*:*", null);
+    for (int i = 0; i < 30; i++) {
+      client.add(sdoc("id", Integer.toString(i), "cat_s", "c" + (i % 3), "tags_ss", Arrays.asList("t" + (i % 2), "t" + (i % 5))), null);
+      if (i % 10 == 9) {
+        client.commit();
+      }
+    }
+
+    String facets = "{f1:{type:terms, field:cat_s, method:dv}, f2:{type:terms, field:tags_ss, method:dv, limit:2}}";
+    client.testJQ(params("q", "*:*", "rows", "0", "json.facet", facets)
+        , "facets=={ count:30" +
+            ", f1:{buckets:[{val:c0, count:10}, {val:c1, count:10}, {val:c2, count:10}]}" +
+            ", f2:{buckets:[{val:t0, count:18}, {val:t1, count:18}]}" +
+            "}"
+    );
+    long hits = cacheStat("cumulative_hits");
+    client.testJQ(params("q", "*:*", "rows", "0", "json.facet", facets)
+        , "facets=={ count:30" +
+            ", f1:{buckets:[{val:c0, count:10}, {val:c1, count:10}, {val:c2, count:10}]}" +
+            ", f2:{buckets:[{val:t0, count:18}, {val:t1, count:18}]}" +
+            "}"
+    );
+    assertTrue(cacheStat("cumulative_hits") > hits);
+
+    // new and changed segments are counted again
+    client.add(sdoc("id", "30", "cat_s", "c2", "tags_ss", "t1"), null);
+    client.add(sdoc("id", "31", "cat_s", "c2", "tags_ss", "t1"), null);
+    client.deleteByQuery("id:0", null);
+    client.commit();
+    client.testJQ(params("q", "*:*", "rows", "0", "json.facet", facets)
+        , "facets=={ count:31" +
+            ", f1:{buckets:[{val:c2, count:12}, {val:c1, count:10}, {val:c0, count:9}]}" +
+            ", f2:{buckets:[{val:t1, count:20}, {val:t0, count:17}]}" +
+            "}"
+    );
+    // with a different domain
+    client.testJQ(params("q", "*:*", "fq", "cat_s:c2", "rows", "0", "json.facet", facets)
+        , "facets=={ count:12" +
+            ", f1:{buckets:[{val:c2, count:12}]}" +
+            ", f2:{buckets:[{val:t1, count:8}, {val:t0, count:6}]}" +
+            "}"
+    );
+    // and with a domain that is not cached
+    client.testJQ(params("q", "*:*", "rows", "0", "json.facet",
+        "{f1:{type:terms, field:cat_s, method:dv, domain:{filter:'tags_ss:t0'}}}")
+        , "facets=={ count:31, f1:{buckets:[{val:c1, count:6}, {val:c2, count:6}, {val:c0, count:5}]}}"
+    );
+    assertTrue(cacheStat("size") > 0);
+
+    // the counts of segments that are closed are not carried over to new searchers
+    client.deleteByQuery("*:*", null);
+    client.commit();
+    assertEquals(0, cacheStat("size"));
+  }
+}
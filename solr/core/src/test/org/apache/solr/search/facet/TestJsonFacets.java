@@ -23,10 +23,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.lucene.util.LuceneTestCase;
 import org.apache.solr.JSONTestUtil;
@@ -42,6 +46,7 @@ import org.apache.solr.util.hll.HLL;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.noggit.ObjectBuilder;
 
 // Related tests:
 //   TestCloudJSONFacetJoinDomain for random field faceting tests with domain modifications
@@ -123,7 +128,9 @@ public class TestJsonFacets extends SolrTestCaseHS {
     }
     
     // wrap each enum val in an Object[] and return as Iterable
+    // (approx counts aren't exact, and only support a subset of the options: see testApprox)
     return () -> Arrays.stream(FacetField.FacetMethod.values())
+      .filter(it -> it != FacetField.FacetMethod.APPROX)
       .map(it -> new Object[]{it}).iterator();
   }
 
@@ -2808,6 +2815,132 @@ public class TestJsonFacets extends SolrTestCaseHS {
     }
   }
 
+  /** Counts with several threads must be the same as with the request thread only. */
+  public void testThreads() throws Exception {
+    Client client = Client.localClient();
+    client.deleteByQuery("*:*", null);
+    Random r = random();
+
+    // expected counts of cat_s, tags_ss, num_ld and nums_lds, for q=*:* and q=half_s:a
+    List<List<Map<Object,Integer>>> expected = new ArrayList<>();
+    for (int q = 0; q < 2; q++) {
+      List<Map<Object,Integer>> fieldCounts = new ArrayList<>();
+      for (int f = 0; f < 4; f++) {
+        fieldCounts.add(new TreeMap<>());
+      }
+      expected.add(fieldCounts);
+    }
+    int numDocs = atLeast(200);
+    int numHalf = 0;
+    for (int i = 0; i < numDocs; i++) {
+      boolean half = r.nextBoolean();
+      String cat = "c" + r.nextInt(10);
+      List<String> tags = new ArrayList<>(new TreeSet<>(Arrays.asList("t" + r.nextInt(5), "t" + r.nextInt(5))));
+      long num = r.nextInt(20);
+      List<Long> nums = new ArrayList<>(new TreeSet<>(Arrays.asList((long) r.nextInt(20), (long) r.nextInt(20))));
+      client.add(sdoc("id", Integer.toString(i), "half_s", half ? "a" : "b", "cat_s", cat, "tags_ss", tags,
+          "num_ld", num, "nums_lds", nums), null);
+      numHalf += half ? 1 : 0;
+      for (int q = 0; q < (half ? 2 : 1); q++) {
+        List<Map<Object,Integer>> fieldCounts = expected.get(q);
+        fieldCounts.get(0).merge(cat, 1, Integer::sum);
+        tags.forEach(tag -> fieldCounts.get(1).merge(tag, 1, Integer::sum));
+        fieldCounts.get(2).merge(num, 1, Integer::sum);
+        nums.forEach(n -> fieldCounts.get(3).merge(n, 1, Integer::sum));
+      }
+      if (r.nextInt(20) == 0) {
+        client.commit(); // more segments
+      }
+    }
+    client.commit();
+
+    String[] fields = {"cat_s", "tags_ss", "num_ld", "nums_lds"};
+    String[] queries = {"*:*", "half_s:a"};
+    for (String method : new String[] {"dv", "dvhash"}) {
+      for (int threads : new int[] {0, 1, 2, -1}) {
+        for (int q = 0; q < 2; q++) {
+          StringBuilder facets = new StringBuilder();
+          StringBuilder expectedFacets = new StringBuilder("facets=={count:" + (q == 0 ? numDocs : numHalf));
+          for (int f = 0; f < fields.length; f++) {
+            facets.append(f == 0 ? "{" : ",").append("f").append(f).append(":{type:terms, field:").append(fields[f])
+                .append(", limit:-1, sort:'index asc', method:").append(method).append(", threads:").append(threads).append("}");
+            expectedFacets.append(", f").append(f).append(":{buckets:[");
+            String sep = "";
+            for (Map.Entry<Object,Integer> entry : expected.get(q).get(f).entrySet()) {
+              Object val = entry.getKey() instanceof String ? "'" + entry.getKey() + "'" : entry.getKey();
+              expectedFacets.append(sep).append("{val:").append(val).append(", count:").append(entry.getValue()).append("}");
+              sep = ",";
+            }
+            expectedFacets.append("]}");
+          }
+          client.testJQ(params("q", queries[q], "rows", "0", "json.facet", facets.append("}").toString()),
+              expectedFacets.append("}").toString());
+        }
+      }
+    }
+  }
+
+  /** method:approx returns the exact top buckets when its error is small, and overestimates counts otherwise. */
+  @SuppressWarnings("unchecked")
+  public void testApprox() throws Exception {
+    Client client = Client.localClient();
+    client.deleteByQuery("*:*", null);
+
+    // 3 values with 40, 30 and 20 documents, and 30 values with one document
+    Map<String,Integer> expected = new HashMap<>();
+    List<String> cats = new ArrayList<>();
+    for (int i = 0; i < 90; i++) {
+      cats.add(i < 40 ? "A" : i < 70 ? "B" : "C");
+    }
+    for (int i = 0; i < 30; i++) {
+      cats.add("S" + i);
+    }
+    Collections.shuffle(cats, random());
+    for (int i = 0; i < cats.size(); i++) {
+      String cat = cats.get(i);
+      expected.merge(cat, 1, Integer::sum);
+      client.add(sdoc("id", Integer.toString(i), "cat_s", cat, "num_ld", cat.length() == 1 ? cat.charAt(0) - 'A' : 100 + i), null);
+      if (random().nextInt(30) == 0) {
+        client.commit();
+      }
+    }
+    client.commit();
+
+    // with the default error, there are more slots than values
+    client.testJQ(params("q", "*:*", "rows", "0", "json.facet", "{" +
+            "f1:{type:terms, field:cat_s, limit:2, method:approx}" +
+            ",f2:{type:terms, field:num_ld, limit:2, method:approx}" +
+            ",f3:{type:terms, field:cat_s, limit:2, method:approx, sort:'x desc', prelim_sort:'count desc', facet:{x:'max(num_ld)'}}" +
+            "}")
+        , "facets=={ count:120" +
+            ", f1:{buckets:[{val:A, count:40, error:0}, {val:B, count:30, error:0}]}" +
+            ", f2:{buckets:[{val:0, count:40, error:0}, {val:1, count:30, error:0}]}" +
+            ", f3:{buckets:[{val:B, count:30, error:0, x:1}, {val:A, count:40, error:0, x:0}]}" +
+            "}"
+    );
+
+    // with 10 slots, counts are overestimated by at most 120 / 10, but values with more documents are all counted
+    String response = JQ(req("q", "*:*", "rows", "0", "json.facet",
+        "{f1:{type:terms, field:cat_s, limit:3, method:approx, maxError:0.1}}"));
+    Map<String,Object> facets = (Map<String,Object>) ((Map<String,Object>) ObjectBuilder.fromJSON(response)).get("facets");
+    List<Map<String,Object>> buckets = (List<Map<String,Object>>) ((Map<String,Object>) facets.get("f1")).get("buckets");
+    assertEquals(3, buckets.size());
+    Set<Object> vals = new HashSet<>();
+    for (Map<String,Object> bucket : buckets) {
+      vals.add(bucket.get("val"));
+      long count = ((Number) bucket.get("count")).longValue();
+      long error = ((Number) bucket.get("error")).longValue();
+      int actual = expected.get(bucket.get("val"));
+      assertTrue(bucket.toString(), count >= actual && count - error <= actual && count - actual <= 12);
+    }
+    assertEquals(new HashSet<>(Arrays.asList("A", "B", "C")), vals);
+
+    assertQEx("approx can't sort by index", req("q", "*:*", "json.facet",
+        "{f1:{type:terms, field:cat_s, method:approx, sort:'index asc'}}"), SolrException.ErrorCode.BAD_REQUEST);
+    assertQEx("approx can't count all buckets", req("q", "*:*", "json.facet",
+        "{f1:{type:terms, field:cat_s, method:approx, allBuckets:true}}"), SolrException.ErrorCode.BAD_REQUEST);
+  }
+
   public void testTolerant() throws Exception {
     initServers();
     Client client = servers.getClient(random().nextInt());
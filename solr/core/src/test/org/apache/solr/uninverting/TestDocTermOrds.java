@@ -44,6 +44,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.index.TermsEnum.SeekStatus;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.LuceneTestCase;
@@ -136,6 +137,55 @@ public class TestDocTermOrds extends LuceneTestCase {
     dir.close();
   }
 
+  public void testOffHeap() throws Exception {
+    Directory dir = newDirectory();
+    final RandomIndexWriter w = new RandomIndexWriter(random(), dir);
+    final int numDocs = atLeast(300);
+    for (int id = 0; id < numDocs; id++) {
+      Document doc = new Document();
+      // enough terms for the ords of most documents not to fit in an int
+      final int numTerms = random().nextInt(10);
+      for (int i = 0; i < numTerms; i++) {
+        doc.add(new StringField("field", "t" + random().nextInt(1000), Field.Store.NO));
+      }
+      w.addDocument(doc);
+    }
+    final IndexReader r = w.getReader();
+    w.close();
+
+    final LeafReader ar = SlowCompositeReaderWrapper.wrap(r);
+    final DocTermOrds onHeap = new DocTermOrds(ar, ar.getLiveDocs(), "field");
+    final DocTermOrds offHeap = new DocTermOrds("field", Integer.MAX_VALUE, DocTermOrds.DEFAULT_INDEX_INTERVAL_BITS, true) {};
+    offHeap.uninvert(ar, ar.getLiveDocs(), null);
+    assertEquals(0, onHeap.offHeapBytesUsed());
+    assertTrue(offHeap.offHeapBytesUsed() > 0);
+    assertEquals(onHeap.ramBytesUsed(), offHeap.ramBytesUsed() + offHeap.offHeapBytesUsed());
+
+    SortedSetDocValues expected = onHeap.iterator(ar);
+    SortedSetDocValues actual = offHeap.iterator(ar);
+    for (int doc = expected.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = expected.nextDoc()) {
+      assertEquals(doc, actual.nextDoc());
+      long ord;
+      do {
+        ord = expected.nextOrd();
+        assertEquals(ord, actual.nextOrd());
+      } while (ord != SortedSetDocValues.NO_MORE_ORDS);
+    }
+    assertEquals(DocIdSetIterator.NO_MORE_DOCS, actual.nextDoc());
+
+    final long offHeapBytesUsed = offHeap.offHeapBytesUsed();
+    offHeap.incRef();
+    offHeap.decRef();
+    assertEquals(offHeapBytesUsed, offHeap.offHeapBytesUsed());
+    offHeap.decRef(); // the creator's reference
+    assertEquals(0, offHeap.offHeapBytesUsed());
+    expectThrows(IllegalStateException.class, offHeap::incRef);
+    expectThrows(IllegalStateException.class, offHeap::decRef);
+
+    r.close();
+    dir.close();
+  }
+
   public void testRandom() throws Exception {
     Directory dir = newDirectory();
 
@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.xml.parsers.ParserConfigurationException;
 import org.apache.solr.BaseDistributedSearchTestCase;
@@ -53,7 +54,9 @@ import org.apache.solr.update.SolrCmdDistributor.Node;
 import org.apache.solr.update.SolrCmdDistributor.StdNode;
 import org.apache.solr.update.processor.DistributedUpdateProcessor;
 import org.apache.solr.update.processor.DistributedUpdateProcessor.LeaderRequestReplicationTracker;
+import org.apache.solr.update.processor.DistributedUpdateProcessor.DistribPhase;
 import org.apache.solr.update.processor.DistributedUpdateProcessor.RollupRequestReplicationTracker;
+import org.apache.solr.update.processor.DistributingUpdateProcessorFactory;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -353,6 +356,7 @@ public class SolrCmdDistributorTest extends BaseDistributedSearchTestCase {
     testDeletes(false, false);
     testDeletes(true, true);
     testDeletes(true, false);
+    testPipelinedUpdates();
   }
   
   private void testDeletes(boolean dbq, boolean withFailures) throws Exception {
@@ -762,6 +766,60 @@ public class SolrCmdDistributorTest extends BaseDistributedSearchTestCase {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private void testPipelinedUpdates() throws Exception {
+    del("*:*");
+    List<Node> nodes = new ArrayList<>();
+    for (SolrClient c : clients.subList(0, 2)) {
+      ZkNodeProps nodeProps = new ZkNodeProps(ZkStateReader.BASE_URL_PROP,
+          ((HttpSolrClient) c).getBaseURL(), ZkStateReader.CORE_NAME_PROP, "");
+      nodes.add(new StdNode(new ZkCoreNodeProps(nodeProps)));
+    }
+    ModifiableSolrParams params = new ModifiableSolrParams();
+    params.set(DistributingUpdateProcessorFactory.DISTRIB_UPDATE_PARAM, DistribPhase.FROMLEADER.toString());
+    LeaderRequestReplicationTracker leaderTracker = new LeaderRequestReplicationTracker("shard1");
+
+    try (ReplicaUpdatePipelines pipelines = new ReplicaUpdatePipelines(updateShardHandler.getUpdateOnlyHttpClient(), 10, 2);
+         SolrCmdDistributor cmdDistrib = new SolrCmdDistributor(new StreamingSolrClients(updateShardHandler), 0, pipelines)) {
+      int firstId = id.get() + 1;
+      // newer than the delete by query above, like the versions assigned by a leader
+      long version = System.currentTimeMillis() << 20;
+      for (int i = 0; i < 100; i++) {
+        AddUpdateCommand cmd = new AddUpdateCommand(null);
+        cmd.solrDoc = sdoc("id", id.incrementAndGet(), "_version_", version++);
+        cmdDistrib.distribAdd(cmd, nodes, params, false, null, leaderTracker);
+      }
+      DeleteUpdateCommand dcmd = new DeleteUpdateCommand(null);
+      dcmd.id = Integer.toString(firstId);
+      dcmd.setVersion(-version);
+      cmdDistrib.distribDelete(dcmd, nodes, params, false, null, leaderTracker);
+
+      CommitUpdateCommand ccmd = new CommitUpdateCommand(null, false);
+      ModifiableSolrParams commitParams = new ModifiableSolrParams();
+      commitParams.set(DistributedUpdateProcessor.COMMIT_END_POINT, true);
+      cmdDistrib.distribCommit(ccmd, nodes, commitParams);
+      cmdDistrib.finish();
+
+      assertEquals(cmdDistrib.getErrors().toString(), 0, cmdDistrib.getErrors().size());
+      // the leader and each replica
+      assertEquals(3, leaderTracker.getAchievedRf());
+      for (SolrClient c : clients.subList(0, 2)) {
+        assertEquals(99, c.query(new SolrQuery("*:*")).getResults().getNumFound());
+      }
+
+      Map<String,Object> stats = pipelines.getMetricsMap().getValue();
+      assertEquals(stats.toString(), 2, stats.size());
+      for (Object pipelineStats : stats.values()) {
+        Map<String,Object> nodeStats = (Map<String,Object>) pipelineStats;
+        assertEquals(101L, nodeStats.get("updates"));
+        assertEquals(0, nodeStats.get("queued"));
+        assertEquals(0L, nodeStats.get("failedBatches"));
+        // deletes are not batched with adds
+        assertTrue(nodeStats.toString(), (Long) nodeStats.get("batches") >= 11);
+      }
+    }
+  }
+
   private void testRetryNodeAgainstBadAddress() throws SolrServerException, IOException {
     // Test RetryNode
     try (SolrCmdDistributor cmdDistrib = new SolrCmdDistributor(updateShardHandler)) {
@@ -20,7 +20,11 @@ package org.apache.solr.update;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.lucene.util.LuceneTestCase;
 import org.apache.solr.common.SolrInputDocument;
@@ -41,4 +45,112 @@ public class TransactionLogTest extends LuceneTestCase {
     }
   }
 
+  @Test
+  public void testSyncIsSkippedWhenAlreadyDurable() {
+    String tlogFileName = String.format(Locale.ROOT, UpdateLog.LOG_FILENAME_PATTERN, UpdateLog.TLOG_NAME, 0);
+    File logFile = new File(createTempDir().toFile(), tlogFileName);
+    try (TransactionLog transactionLog = new TransactionLog(logFile, new ArrayList<>())) {
+      transactionLog.write(newAddCommand("1"));
+      transactionLog.finish(UpdateLog.SyncLevel.FSYNC);
+      assertEquals(1, transactionLog.syncCount.get());
+
+      // nothing was appended since
+      transactionLog.finish(UpdateLog.SyncLevel.FSYNC);
+      assertEquals(1, transactionLog.syncCount.get());
+
+      transactionLog.write(newAddCommand("2"));
+      transactionLog.finish(UpdateLog.SyncLevel.FLUSH);
+      assertEquals(1, transactionLog.syncCount.get());
+      transactionLog.finish(UpdateLog.SyncLevel.FSYNC);
+      assertEquals(2, transactionLog.syncCount.get());
+    }
+  }
+
+  @Test
+  public void testConcurrentSyncsAreShared() throws Exception {
+    String tlogFileName = String.format(Locale.ROOT, UpdateLog.LOG_FILENAME_PATTERN, UpdateLog.TLOG_NAME, 0);
+    File logFile = new File(createTempDir().toFile(), tlogFileName);
+    int numThreads = 4;
+    int numUpdates = 50;
+    try (TransactionLog transactionLog = new TransactionLog(logFile, new ArrayList<>())) {
+      transactionLog.groupSyncMaxDelayNanos = TimeUnit.MILLISECONDS.toNanos(5);
+      List<Thread> threads = new ArrayList<>();
+      // the first fsync only runs once all the other threads wait for it, so that the next one is shared
+      AtomicBoolean first = new AtomicBoolean(true);
+      transactionLog.testing_syncHook = () -> {
+        if (first.getAndSet(false)) {
+          for (Thread thread : threads) {
+            while (thread != Thread.currentThread() && thread.getState() != Thread.State.WAITING) {
+              Thread.yield();
+            }
+          }
+        }
+      };
+      for (int t = 0; t < numThreads; t++) {
+        String prefix = Integer.toString(t);
+        Thread thread = new Thread(() -> {
+          for (int i = 0; i < numUpdates; i++) {
+            transactionLog.write(newAddCommand(prefix + "_" + i));
+            transactionLog.finish(UpdateLog.SyncLevel.FSYNC);
+          }
+        });
+        threads.add(thread);
+      }
+      for (Thread thread : threads) {
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      long syncCount = transactionLog.syncCount.get();
+      assertTrue(syncCount < numThreads * numUpdates);
+      // the header and the updates
+      assertEquals(1 + numThreads * numUpdates, transactionLog.numRecords());
+      // all of them are durable already
+      transactionLog.finish(UpdateLog.SyncLevel.FSYNC);
+      assertEquals(syncCount, transactionLog.syncCount.get());
+    }
+  }
+
+  @Test
+  public void testReadFlushedRecordsWithoutLocking() throws Exception {
+    String tlogFileName = String.format(Locale.ROOT, UpdateLog.LOG_FILENAME_PATTERN, UpdateLog.TLOG_NAME, 0);
+    File logFile = new File(createTempDir().toFile(), tlogFileName);
+    try (TransactionLog transactionLog = new TransactionLog(logFile, new ArrayList<>())) {
+      long pos1 = transactionLog.write(newAddCommand("1"));
+      long pos2 = transactionLog.write(newAddCommand("2"));
+      transactionLog.finish(UpdateLog.SyncLevel.FLUSH);
+      long pos3 = transactionLog.write(newAddCommand("3"));
+      assertTrue(pos3 >= transactionLog.flushedSize);
+
+      List<Object> ids = new ArrayList<>();
+      Thread reader = new Thread(() -> {
+        for (long pos : new long[] {pos2, pos1}) {
+          List<?> entry = (List<?>) transactionLog.lookup(pos);
+          ids.add(((SolrInputDocument) entry.get(entry.size() - 1)).getFieldValue("id"));
+        }
+      });
+      // the writers hold the lock of the log
+      synchronized (transactionLog) {
+        reader.start();
+        reader.join(TimeUnit.SECONDS.toMillis(30));
+        assertFalse("the reader is blocked by the writers", reader.isAlive());
+      }
+      assertEquals(Arrays.asList("2", "1"), ids);
+
+      // the last record is flushed on demand
+      List<?> entry = (List<?>) transactionLog.lookup(pos3);
+      assertEquals("3", ((SolrInputDocument) entry.get(entry.size() - 1)).getFieldValue("id"));
+      assertTrue(pos3 < transactionLog.flushedSize);
+    }
+  }
+
+  private static AddUpdateCommand newAddCommand(String id) {
+    AddUpdateCommand updateCommand = new AddUpdateCommand(null);
+    updateCommand.solrDoc = new SolrInputDocument();
+    updateCommand.solrDoc.addField("id", id);
+    return updateCommand;
+  }
+
 }
@@ -16,6 +16,11 @@
  */
 package org.apache.solr.update;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.apache.lucene.util.BytesRef;
 import org.apache.solr.SolrTestCaseJ4;
 import org.apache.solr.common.util.Hash;
@@ -56,6 +61,69 @@ public class VersionInfoTest extends SolrTestCaseJ4 {
     }
   }
 
+  @Test
+  public void testNewClockIsUniqueAndMonotonic() throws Exception {
+    initCore("solrconfig-tlog.xml", "schema-version-indexed.xml");
+    try (SolrQueryRequest r = req()) {
+      VersionInfo vInfo = r.getCore().getUpdateHandler().getUpdateLog().getVersionInfo();
+
+      // a clock ahead of the physical time, as received from another node
+      long ahead = vInfo.getNewClock() + (60_000L << 20);
+      vInfo.updateClock(ahead);
+      assertEquals(ahead, vInfo.getOldClock());
+      vInfo.updateClock(ahead - 1);
+      assertEquals(ahead, vInfo.getOldClock());
+      assertEquals(ahead + 1, vInfo.getNewClock());
+
+      int numThreads = 4;
+      int numVersions = 10000;
+      long[][] versions = new long[numThreads][numVersions];
+      List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < numThreads; t++) {
+        long[] threadVersions = versions[t];
+        Thread thread = new Thread(() -> {
+          for (int i = 0; i < numVersions; i++) {
+            threadVersions[i] = vInfo.getNewClock();
+          }
+        });
+        threads.add(thread);
+        thread.start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      Set<Long> allVersions = new HashSet<>();
+      for (long[] threadVersions : versions) {
+        for (int i = 0; i < numVersions; i++) {
+          assertTrue(threadVersions[i] > ahead);
+          if (i > 0) {
+            assertTrue(threadVersions[i] > threadVersions[i - 1]);
+          }
+          allVersions.add(threadVersions[i]);
+        }
+      }
+      assertEquals(numThreads * numVersions, allVersions.size());
+    } finally {
+      deleteCore();
+    }
+  }
+
+  @Test
+  public void testBucketHighest() {
+    VersionBucket bucket = new VersionBucket(0);
+    // the highest version of the bucket is unknown until it is seeded
+    bucket.updateHighest(5);
+    assertEquals(0, bucket.highest);
+    bucket.seedHighest(3);
+    assertEquals(3, bucket.highest);
+    bucket.updateHighest(-7);
+    assertEquals(7, bucket.highest);
+    bucket.updateHighest(6);
+    bucket.seedHighest(4);
+    assertEquals(7, bucket.highest);
+  }
+
   protected void testMaxVersionLogic(SolrQueryRequest req) throws Exception {
     UpdateHandler uhandler = req.getCore().getUpdateHandler();
     UpdateLog ulog = uhandler.getUpdateLog();
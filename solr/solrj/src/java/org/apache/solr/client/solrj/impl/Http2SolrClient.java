@@ -32,13 +32,16 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
@@ -52,6 +55,8 @@ import org.apache.solr.client.solrj.embedded.SSLConfig;
 import org.apache.solr.client.solrj.request.RequestWriter;
 import org.apache.solr.client.solrj.request.UpdateRequest;
 import org.apache.solr.client.solrj.request.V2Request;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.client.solrj.util.Cancellable;
 import org.apache.solr.client.solrj.util.ClientUtils;
 import org.apache.solr.client.solrj.util.Constants;
 import org.apache.solr.common.SolrException;
@@ -414,6 +419,73 @@ public class Http2SolrClient extends SolrClient {
     }
   }
 
+  /**
+   * Sends a request without waiting for its response, so that no thread is blocked while the server processes it.
+   * Once the headers of the response are received, a thread of the client parses the response as its content
+   * arrives, the same way as {@link #request(SolrRequest, String)} does, without buffering it as a whole.
+   *
+   * @param listener notified of the parsed response, or of the failure with the same exceptions as
+   *                 {@link #request(SolrRequest, String)} would throw
+   * @return a handle to abort the request
+   */
+  public Cancellable asyncRequest(SolrRequest solrRequest, String collection,
+                                  AsyncListener<NamedList<Object>> listener) throws IOException, SolrServerException {
+    Request req = makeRequest(solrRequest, collection);
+    final ResponseParser parser = solrRequest.getResponseParser() == null
+        ? this.parser: solrRequest.getResponseParser();
+    final AtomicBoolean parsing = new AtomicBoolean();
+
+    req.onRequestQueued(asyncTracker.queuedListener)
+        .onComplete(asyncTracker.completeListener).send(new InputStreamResponseListener() {
+
+      @Override
+      public void onHeaders(Response response) {
+        super.onHeaders(response);
+        parsing.set(true);
+        InputStream is = getInputStream();
+        try {
+          httpClient.getExecutor().execute(() -> {
+            assert ObjectReleaseTracker.track(is);
+            NamedList<Object> rsp;
+            try {
+              rsp = processErrorsAndResponse(response, parser, is, getEncoding(response), isV2ApiRequest(solrRequest));
+            } catch (Exception e) {
+              listener.onFailure(e);
+              return;
+            }
+            listener.onSuccess(rsp);
+          });
+        } catch (RejectedExecutionException e) {
+          response.abort(e);
+          listener.onFailure(wrapFailure(req, e));
+        }
+      }
+
+      @Override
+      public void onFailure(Response response, Throwable failure) {
+        super.onFailure(response, failure);
+        // once the headers are received, the failure is rather thrown to the parser by the stream of the response
+        if (!parsing.get()) {
+          listener.onFailure(wrapFailure(req, failure));
+        }
+      }
+    });
+    return () -> req.abort(new CancellationException("Request to " + req.getURI() + " was cancelled"));
+  }
+
+  private Exception wrapFailure(Request req, Throwable failure) {
+    if (failure instanceof ConnectException) {
+      return new SolrServerException("Server refused connection at: " + req.getURI(), failure);
+    }
+    if (failure instanceof SolrServerException) {
+      return (SolrServerException) failure;
+    } else if (failure instanceof IOException) {
+      return new SolrServerException(
+          "IOException occured when talking to server at: " + getBaseURL(), failure);
+    }
+    return new SolrServerException(failure.getMessage(), failure);
+  }
+
   private String getEncoding(Response response) {
     String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
     if (contentType != null) {
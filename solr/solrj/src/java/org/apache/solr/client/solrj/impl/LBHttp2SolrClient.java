@@ -16,9 +16,22 @@
  */
 package org.apache.solr.client.solrj.impl;
 
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.request.IsUpdateRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.client.solrj.util.Cancellable;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.util.NamedList;
+import org.slf4j.MDC;
+
+import static org.apache.solr.common.params.CommonParams.ADMIN_PATHS;
 
 /**
  * LBHttp2SolrClient or "LoadBalanced LBHttp2SolrClient" is a load balancing wrapper around
@@ -66,4 +79,154 @@ public class LBHttp2SolrClient extends LBSolrClient {
   protected SolrClient getClient(String baseUrl) {
     return httpClient;
   }
+
+  /**
+   * Sends the request like {@link #request(Req)}, but without blocking the calling thread: the next server is only
+   * tried once the previous one failed, from the thread that notified the failure. Failing servers are marked as
+   * zombies in the same way.
+   *
+   * @param listener notified of the response or of the failure of the last server tried
+   * @return a handle to abort the request, which is not sent to other servers after that
+   */
+  public Cancellable asyncReq(Req req, AsyncListener<Rsp> listener) {
+    AsyncReq asyncReq = new AsyncReq(req, listener);
+    asyncReq.tryNext(null);
+    return asyncReq;
+  }
+
+  private class AsyncReq implements Cancellable {
+    private final Req req;
+    private final AsyncListener<Rsp> listener;
+    private final boolean isNonRetryable;
+    // the live servers, followed by the zombies to try if all of them failed
+    private final List<String> servers = new ArrayList<>();
+    private final int numLiveServers;
+    private final long timeAllowedNano;
+    private final long timeOutTime;
+
+    // guarded by this
+    private int numServersTried;
+    private Cancellable current;
+    private boolean cancelled;
+
+    AsyncReq(Req req, AsyncListener<Rsp> listener) {
+      this.req = req;
+      this.listener = listener;
+      this.isNonRetryable = req.request instanceof IsUpdateRequest || ADMIN_PATHS.contains(req.request.getPath());
+      List<String> skipped = new ArrayList<>();
+      for (String serverStr : req.getServers()) {
+        serverStr = normalize(serverStr);
+        if (!zombieServers.containsKey(serverStr)) {
+          servers.add(serverStr);
+        } else if (skipped.size() < req.getNumDeadServersToTry()) {
+          skipped.add(serverStr);
+        }
+      }
+      this.numLiveServers = servers.size();
+      servers.addAll(skipped);
+      this.timeAllowedNano = getTimeAllowedInNanos(req.getRequest());
+      this.timeOutTime = System.nanoTime() + timeAllowedNano;
+    }
+
+    /** Sends the request to the next server, or notifies the listener if there is none left to try. */
+    void tryNext(Exception ex) {
+      String serverStr;
+      boolean isZombie;
+      int attempt;
+      synchronized (this) {
+        Integer numServersToTry = req.getNumServersToTry();
+        boolean timeAllowedExceeded = isTimeExceeded(timeAllowedNano, timeOutTime);
+        if (cancelled || numServersTried == servers.size() || timeAllowedExceeded
+            || (numServersToTry != null && numServersTried > numServersToTry)) {
+          serverStr = null;
+          if (!cancelled || ex == null) {
+            String message = timeAllowedExceeded
+                ? "Time allowed to handle this request exceeded" : "No live SolrServers available to handle this request";
+            ex = ex == null ? new SolrServerException(message)
+                : new SolrServerException(message + ":" + zombieServers.keySet(), ex);
+          }
+        } else {
+          serverStr = servers.get(numServersTried++);
+        }
+        isZombie = numServersTried > numLiveServers;
+        attempt = numServersTried;
+      }
+      if (serverStr == null) {
+        listener.onFailure(ex);
+        return;
+      }
+
+      try {
+        MDC.put("LBSolrClient.url", serverStr);
+        Cancellable cancellable = send(serverStr, isZombie);
+        synchronized (this) {
+          // unless the request already failed, and was sent to the next server
+          if (attempt == numServersTried) {
+            current = cancellable;
+            if (cancelled) {
+              cancellable.cancel();
+            }
+          }
+        }
+      } catch (IOException | SolrServerException e) {
+        // the request could not be written, so no other server would do better
+        listener.onFailure(e);
+      } finally {
+        MDC.remove("LBSolrClient.url");
+      }
+    }
+
+    private Cancellable send(String baseUrl, boolean isZombie) throws IOException, SolrServerException {
+      req.getRequest().setBasePath(baseUrl);
+      return httpClient.asyncRequest(req.getRequest(), null, new AsyncListener<NamedList<Object>>() {
+        @Override
+        public void onSuccess(NamedList<Object> result) {
+          if (isZombie) {
+            zombieServers.remove(baseUrl);
+          }
+          Rsp rsp = new Rsp();
+          rsp.server = baseUrl;
+          rsp.rsp = result;
+          listener.onSuccess(rsp);
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+          Exception e = throwable instanceof Exception ? (Exception) throwable : new SolrServerException(throwable);
+          if (isRetryable(e)) {
+            tryNext(isZombie ? e : addZombie(baseUrl, e));
+          } else {
+            if (isZombie && e instanceof SolrException) {
+              // Server is alive but the request was likely malformed or invalid
+              zombieServers.remove(baseUrl);
+            }
+            listener.onFailure(e);
+          }
+        }
+      });
+    }
+
+    /** The same as the failures that {@link #doRequest} retries on another server. */
+    private boolean isRetryable(Exception e) {
+      if (e instanceof SolrException) {
+        return !isNonRetryable && RETRY_CODES.contains(((SolrException) e).code());
+      } else if (e instanceof SolrServerException) {
+        Throwable rootCause = ((SolrServerException) e).getRootCause();
+        return rootCause instanceof ConnectException || (!isNonRetryable && rootCause instanceof IOException);
+      }
+      return false;
+    }
+
+    @Override
+    public void cancel() {
+      Cancellable cancellable;
+      synchronized (this) {
+        cancelled = true;
+        cancellable = current;
+      }
+      if (cancellable != null) {
+        cancellable.cancel();
+      }
+    }
+  }
 }
@@ -0,0 +1,31 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.solr.client.solrj.util;
+
+/**
+ * Listener of the outcome of an asynchronous request, which is notified exactly once, by a thread of the client.
+ * It must not block, since these threads are shared by all requests.
+ *
+ * @lucene.experimental
+ */
+public interface AsyncListener<T> {
+  /** Called with the parsed response of a successful request. */
+  void onSuccess(T result);
+
+  /** Called when the request failed, the response could not be parsed, or the request was cancelled. */
+  void onFailure(Throwable throwable);
+}
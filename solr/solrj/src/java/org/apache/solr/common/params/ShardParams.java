@@ -70,6 +70,39 @@ public interface ShardParams {
 
   /** Force a single-pass distributed query? (true/false) */
   String DISTRIB_SINGLE_PASS = "distrib.singlePass";
+
+  /**
+   * Use a single-pass distributed query when shards are asked for no more documents than this, i.e. start + rows
+   * or {@value #SHARDS_ROWS}.  Disabled when &lt;= 0, which is the default.
+   */
+  String DISTRIB_SINGLE_PASS_MAX_ROWS = "distrib.singlePass.maxRows";
+
+  /**
+   * Drop the documents of shard responses that cannot be among the top ones while the responses are parsed,
+   * instead of keeping all of them until they are merged? (true/false)
+   */
+  String DISTRIB_STREAMING_MERGE = "distrib.streamingMerge";
+
+  /** Cache the responses of shards at the coordinator, if it is configured with a cache? (true/false) */
+  String SHARDS_CACHE = "shards.cache";
+
+  /** For how many milliseconds a cached response of a shard is used without asking the shard if it changed. */
+  String SHARDS_CACHE_MAX_AGE = "shards.cache.maxAge";
+
+  /** The version of the searcher of the response that the coordinator has, set internally. */
+  String SHARDS_CACHE_VERSION = "shards.cache.version";
+
+  /**
+   * Whether to send a duplicate request to another replica of a shard that is slower to answer than usual, when
+   * the shard handler factory is configured for it. Defaults to true.
+   */
+  String SHARDS_HEDGE = "shards.hedge";
+
+  /** Identifies a shard request so that it can be cancelled with {@value #SHARD_CANCEL}, set internally. */
+  String SHARD_REQUEST_ID = "shard.requestId";
+
+  /** The id of a shard request to cancel, see {@value #SHARD_REQUEST_ID}. */
+  String SHARD_CANCEL = "shard.cancel";
   
   /**
    * Throw an error from search requests when the {@value #SHARDS_TOLERANT} param
@@ -21,10 +21,13 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import com.carrotsearch.randomizedtesting.annotations.ThreadLeakFilters;
@@ -40,8 +43,12 @@ import org.apache.solr.client.solrj.embedded.JettySolrRunner;
 import org.apache.solr.client.solrj.impl.Http2SolrClient;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
 import org.apache.solr.client.solrj.impl.LBHttp2SolrClient;
+import org.apache.solr.client.solrj.impl.LBSolrClient;
+import org.apache.solr.client.solrj.request.QueryRequest;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.client.solrj.response.SolrResponseBase;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.util.TimeSource;
 import org.apache.solr.util.TimeOut;
@@ -172,6 +179,59 @@ public class TestLBHttp2SolrClient extends SolrTestCaseJ4 {
     }
   }
 
+  public void testAsyncReq() throws Exception {
+    String[] s = new String[solr.length];
+    for (int i = 0; i < solr.length; i++) {
+      s[i] = solr[i].getUrl();
+    }
+    try (LBHttp2SolrClient client = getLBHttp2SolrClient(httpClient, s)) {
+      client.setAliveCheckInterval(500);
+
+      // Kill a server, requests are then sent to the next one
+      solr[1].jetty.stop();
+      solr[1].jetty = null;
+      Set<String> names = new HashSet<>();
+      for (int i = 0; i < s.length; i++) {
+        List<String> servers = new ArrayList<>();
+        for (int j = 0; j < s.length; j++) {
+          servers.add(s[(i + j) % s.length]);
+        }
+        LBSolrClient.Rsp rsp = asyncReq(client, new LBSolrClient.Req(new QueryRequest(new SolrQuery("*:*")), servers));
+        SolrDocumentList docs = (SolrDocumentList) rsp.getResponse().get("response");
+        assertEquals(10, docs.getNumFound());
+        assertFalse(rsp.getServer().equals(s[1]));
+        names.add(docs.get(0).getFieldValue("name").toString());
+      }
+      assertEquals(2, names.size());
+      assertFalse(names.contains("solr/collection11"));
+
+      // the killed server is a zombie now, and still down
+      LBSolrClient.Req req = new LBSolrClient.Req(new QueryRequest(new SolrQuery("*:*")), Collections.singletonList(s[1]));
+      SolrServerException e = expectThrows(SolrServerException.class, () -> asyncReq(client, req));
+      assertTrue(e.getMessage(), e.getMessage().startsWith("No live SolrServers available"));
+    }
+  }
+
+  private static LBSolrClient.Rsp asyncReq(LBHttp2SolrClient client, LBSolrClient.Req req) throws Exception {
+    CompletableFuture<LBSolrClient.Rsp> future = new CompletableFuture<>();
+    client.asyncReq(req, new AsyncListener<LBSolrClient.Rsp>() {
+      @Override
+      public void onSuccess(LBSolrClient.Rsp rsp) {
+        future.complete(rsp);
+      }
+
+      @Override
+      public void onFailure(Throwable throwable) {
+        future.completeExceptionally(throwable);
+      }
+    });
+    try {
+      return future.get(30, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      throw (Exception) e.getCause();
+    }
+  }
+
   private LBHttp2SolrClient getLBHttp2SolrClient(Http2SolrClient httpClient, String... s) {
     return new LBHttp2SolrClient(httpClient, s);
   }
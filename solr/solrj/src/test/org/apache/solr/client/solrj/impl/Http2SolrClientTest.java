@@ -31,6 +31,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.http.ParseException;
 import org.apache.solr.SolrJettyTestBase;
@@ -38,11 +42,15 @@ import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.embedded.JettyConfig;
+import org.apache.solr.client.solrj.request.QueryRequest;
 import org.apache.solr.client.solrj.request.RequestWriter;
 import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.client.solrj.util.AsyncListener;
+import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.util.NamedList;
 import org.apache.solr.common.util.SuppressForbidden;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.junit.BeforeClass;
@@ -497,6 +505,64 @@ public class Http2SolrClientTest extends SolrJettyTestBase {
 
   }
 
+  /** Async requests parse their responses as they arrive, and notify their listener once. */
+  @Test
+  public void testAsyncRequest() throws Exception {
+    final String collection1Url = jetty.getBaseUrl().toString() + "/collection1";
+    try (Http2SolrClient client = getHttp2SolrClient(collection1Url)) {
+      String name = String.join("", Collections.nCopies(100, "0123456789"));
+      for (int i = 0; i < 1000; i++) {
+        SolrInputDocument doc = new SolrInputDocument();
+        doc.addField("id", "async" + i);
+        doc.addField("name", name);
+        client.add(doc);
+      }
+      client.commit();
+
+      AtomicInteger notified = new AtomicInteger();
+      NamedList<Object> rsp = asyncRequest(client, new QueryRequest(new SolrQuery("id:async*").setRows(1000)), notified);
+      SolrDocumentList docs = (SolrDocumentList) rsp.get("response");
+      assertEquals(1000, docs.getNumFound());
+      assertEquals(1000, docs.size());
+      assertEquals(name, docs.get(0).getFieldValue("name"));
+      assertEquals(1, notified.get());
+    }
+
+    try (Http2SolrClient client = getHttp2SolrClient(jetty.getBaseUrl().toString() + "/debug/foo")) {
+      DebugServlet.setErrorCode(527);
+      AtomicInteger notified = new AtomicInteger();
+      SolrException e = expectThrows(SolrException.class,
+          () -> asyncRequest(client, new QueryRequest(new SolrQuery("foo")), notified));
+      assertEquals(527, e.code());
+      client.close(); // waits for the outstanding requests
+      assertEquals(1, notified.get());
+    } finally {
+      DebugServlet.clear();
+    }
+  }
+
+  private static NamedList<Object> asyncRequest(Http2SolrClient client, SolrRequest req, AtomicInteger notified) throws Exception {
+    CompletableFuture<NamedList<Object>> future = new CompletableFuture<>();
+    client.asyncRequest(req, null, new AsyncListener<NamedList<Object>>() {
+      @Override
+      public void onSuccess(NamedList<Object> result) {
+        notified.incrementAndGet();
+        future.complete(result);
+      }
+
+      @Override
+      public void onFailure(Throwable throwable) {
+        notified.incrementAndGet();
+        future.completeExceptionally(throwable);
+      }
+    });
+    try {
+      return future.get(30, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      throw (Exception) e.getCause();
+    }
+  }
+
   private Set<String> setOf(String... keys) {
     Set<String> set = new TreeSet<>();
     if (keys != null) {